@@ -27,6 +27,7 @@ pub(crate) enum ExpectedReturnType<'a> {
     ArrayOfBools,
     ArrayOfDoubleOrNull,
     FTAggregateReturnType,
+    FTAggregateCursorReturnType,
     FTSearchReturnType,
     FTProfileReturnType(&'a Option<ExpectedReturnType<'a>>),
     FTInfoReturnType,
@@ -951,6 +952,32 @@ pub(crate) fn convert_to_expected_type(
             )
                 .into()),
         },
+        ExpectedReturnType::FTAggregateCursorReturnType => match value {
+            /*
+            Response of FT.AGGREGATE with WITHCURSOR, and of FT.CURSOR READ:
+                1) results, as for FT.AGGREGATE
+                2) cursor id, 0 once the results are exhausted
+
+            Converting the results as for FT.AGGREGATE and keeping the cursor id.
+            */
+            Value::Array(mut array) if array.len() == 2 => {
+                let cursor = array.pop().unwrap_or(Value::Nil);
+                let results = array.pop().unwrap_or(Value::Nil);
+                Ok(Value::Array(vec![
+                    convert_to_expected_type(
+                        results,
+                        Some(ExpectedReturnType::FTAggregateReturnType),
+                    )?,
+                    cursor,
+                ]))
+            }
+            _ => Err((
+                ErrorKind::TypeError,
+                "Response couldn't be converted for FT.AGGREGATE with a cursor",
+                format!("(response was {:?})", get_value_type(&value)),
+            )
+                .into()),
+        },
         ExpectedReturnType::FTSearchReturnType => match value {
             /*
             Example of the response
@@ -1533,7 +1560,18 @@ pub(crate) fn expected_type_for_cmd(cmd: &Cmd) -> Option<ExpectedReturnType<'_>>
             key_type: &None,
             value_type: &None,
         }),
-        b"FT.AGGREGATE" => Some(ExpectedReturnType::FTAggregateReturnType),
+        b"FT.AGGREGATE" => {
+            // Only as the option right after the index and the query, where the client puts it, so
+            // that a query, alias or parameter value spelled WITHCURSOR is not mistaken for it
+            if cmd.arg_idx(3).is_some_and(|a| a.eq_ignore_ascii_case(b"WITHCURSOR")) {
+                Some(ExpectedReturnType::FTAggregateCursorReturnType)
+            } else {
+                Some(ExpectedReturnType::FTAggregateReturnType)
+            }
+        }
+        b"FT.CURSOR" if cmd.arg_idx(1).is_some_and(|a| a.eq_ignore_ascii_case(b"READ")) => {
+            Some(ExpectedReturnType::FTAggregateCursorReturnType)
+        }
         b"FT.SEARCH" => Some(ExpectedReturnType::FTSearchReturnType),
         // TODO replace with tuple
         b"FT.PROFILE" => Some(ExpectedReturnType::FTProfileReturnType(
@@ -1573,6 +1611,59 @@ pub(crate) fn get_value_type<'a>(value: &Value) -> &'a str {
 mod tests {
     use super::*;
 
+    #[test]
+    fn convert_ft_aggregate_with_cursor() {
+        assert!(matches!(
+            expected_type_for_cmd(
+                redis::cmd("FT.AGGREGATE").arg("idx").arg("*").arg("WITHCURSOR")
+            ),
+            Some(ExpectedReturnType::FTAggregateCursorReturnType)
+        ));
+        assert!(matches!(
+            expected_type_for_cmd(
+                redis::cmd("FT.AGGREGATE")
+                    .arg("idx")
+                    .arg("WITHCURSOR")
+                    .arg("PARAMS")
+                    .arg("2")
+                    .arg("name")
+                    .arg("WITHCURSOR")
+            ),
+            Some(ExpectedReturnType::FTAggregateReturnType)
+        ));
+        assert!(matches!(
+            expected_type_for_cmd(redis::cmd("FT.CURSOR").arg("READ").arg("idx").arg("42")),
+            Some(ExpectedReturnType::FTAggregateCursorReturnType)
+        ));
+        assert!(
+            expected_type_for_cmd(redis::cmd("FT.CURSOR").arg("DEL").arg("idx").arg("42")).is_none()
+        );
+
+        let response = Value::Array(vec![
+            Value::Array(vec![
+                Value::Int(1),
+                Value::Array(vec![
+                    Value::BulkString(b"condition".to_vec()),
+                    Value::BulkString(b"new".to_vec()),
+                ]),
+            ]),
+            Value::Int(42),
+        ]);
+        let converted =
+            convert_to_expected_type(response, Some(ExpectedReturnType::FTAggregateCursorReturnType))
+                .unwrap();
+        assert_eq!(
+            converted,
+            Value::Array(vec![
+                Value::Array(vec![Value::Map(vec![(
+                    Value::BulkString(b"condition".to_vec()),
+                    Value::BulkString(b"new".to_vec()),
+                )])]),
+                Value::Int(42),
+            ])
+        );
+    }
+
     #[test]
     fn xinfo_stream_expected_return_type() {
         assert!(matches!(
@@ -0,0 +1,84 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.benchmarks.jmh;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import glide.api.GlideClient;
+import glide.api.models.GlideString;
+import glide.api.models.configuration.GlideClientConfiguration;
+import glide.api.models.configuration.NodeAddress;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the client-side cost of a single <code>GET</code> round trip against a running server.
+ *
+ * <p>Run with the <code>gc</code> profiler (enabled by default in <code>build.gradle</code>) and
+ * compare <code>gc.alloc.rate.norm</code> (bytes allocated per GET) and the average latency between
+ * two builds of the client to measure the effect of a change on the response pipeline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GetBenchmark {
+
+    @Param("localhost")
+    public String host;
+
+    @Param("6379")
+    public int port;
+
+    @Param({"100", "4000"})
+    public int dataSize;
+
+    private static final String KEY = "glide-jmh-get";
+    private static final GlideString BINARY_KEY = GlideString.of(KEY);
+
+    private GlideClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        client =
+                GlideClient.createClient(
+                                GlideClientConfiguration.builder()
+                                        .address(NodeAddress.builder().host(host).port(port).build())
+                                        .build())
+                        .get(10, SECONDS);
+        StringBuilder value = new StringBuilder(dataSize);
+        for (int i = 0; i < dataSize; i++) {
+            value.append('0');
+        }
+        client.set(KEY, value.toString()).get();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.del(new String[] {KEY}).get();
+        client.close();
+    }
+
+    @Benchmark
+    public String get() throws Exception {
+        return client.get(KEY).get();
+    }
+
+    @Benchmark
+    public GlideString getBinary() throws Exception {
+        return client.get(BINARY_KEY).get();
+    }
+}
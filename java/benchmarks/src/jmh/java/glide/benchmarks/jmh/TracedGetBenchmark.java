@@ -0,0 +1,90 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.benchmarks.jmh;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import glide.api.GlideClient;
+import glide.api.OpenTelemetry;
+import glide.api.models.configuration.GlideClientConfiguration;
+import glide.api.models.configuration.NodeAddress;
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the throughput of <code>GET</code> with and without OpenTelemetry tracing, against a
+ * running server.
+ *
+ * <p><code>sampling</code> is either <code>off</code>, where OpenTelemetry is not initialized, or
+ * the sample percentage of traces, exported to a file in the temporary directory. OpenTelemetry can
+ * only be initialized once per process, so each value runs in its own fork. Several threads issue
+ * commands, so that contention in the sampling decision shows up in the results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+public class TracedGetBenchmark {
+
+    @Param("localhost")
+    public String host;
+
+    @Param("6379")
+    public int port;
+
+    @Param({"off", "1", "100"})
+    public String sampling;
+
+    private static final String KEY = "glide-jmh-traced-get";
+
+    private GlideClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if (!"off".equals(sampling)) {
+            File traces = new File(System.getProperty("java.io.tmpdir"), "glide-jmh-traces.json");
+            OpenTelemetry.init(
+                    OpenTelemetry.OpenTelemetryConfig.builder()
+                            .traces(
+                                    OpenTelemetry.TracesConfig.builder()
+                                            .endpoint("file://" + traces.getAbsolutePath())
+                                            .samplePercentage(Integer.parseInt(sampling))
+                                            .build())
+                            .build());
+        }
+        client =
+                GlideClient.createClient(
+                                GlideClientConfiguration.builder()
+                                        .address(NodeAddress.builder().host(host).port(port).build())
+                                        .build())
+                        .get(10, SECONDS);
+        client.set(KEY, "value").get();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.del(new String[] {KEY}).get();
+        client.close();
+    }
+
+    @Benchmark
+    public String get() throws Exception {
+        return client.get(KEY).get();
+    }
+}
@@ -26,6 +26,7 @@ import static command_request.CommandRequestOuterClass.RequestType.BitField;
 import static command_request.CommandRequestOuterClass.RequestType.BitFieldReadOnly;
 import static command_request.CommandRequestOuterClass.RequestType.BitOp;
 import static command_request.CommandRequestOuterClass.RequestType.BitPos;
+import static command_request.CommandRequestOuterClass.RequestType.ClientTracking;
 import static command_request.CommandRequestOuterClass.RequestType.Copy;
 import static command_request.CommandRequestOuterClass.RequestType.Decr;
 import static command_request.CommandRequestOuterClass.RequestType.DecrBy;
@@ -251,9 +252,11 @@ import glide.api.commands.StreamBaseCommands;
 import glide.api.commands.StringBaseCommands;
 import glide.api.commands.TransactionsBaseCommands;
 import glide.api.logging.Logger;
+import glide.api.models.BufferLease;
 import glide.api.models.ClusterValue;
 import glide.api.models.GlideString;
 import glide.api.models.PubSubMessage;
+import glide.api.models.PubSubPublisher;
 import glide.api.models.Script;
 import glide.api.models.commands.ExpireOptions;
 import glide.api.models.commands.FlushMode;
@@ -300,6 +303,7 @@ import glide.api.models.commands.scan.HScanOptions;
 import glide.api.models.commands.scan.HScanOptionsBinary;
 import glide.api.models.commands.scan.SScanOptions;
 import glide.api.models.commands.scan.SScanOptionsBinary;
+import glide.api.models.commands.scan.ScoredMember;
 import glide.api.models.commands.scan.ZScanOptions;
 import glide.api.models.commands.scan.ZScanOptionsBinary;
 import glide.api.models.commands.stream.StreamAddOptions;
@@ -314,35 +318,49 @@ import glide.api.models.commands.stream.StreamReadOptions;
 import glide.api.models.commands.stream.StreamTrimOptions;
 import glide.api.models.configuration.BaseClientConfiguration;
 import glide.api.models.configuration.BaseSubscriptionConfiguration;
+import glide.api.models.configuration.CallbackDispatchConfiguration;
+import glide.api.models.configuration.ClientSideCacheConfiguration;
 import glide.api.models.configuration.ServerCredentials;
 import glide.api.models.exceptions.ConfigurationError;
 import glide.api.models.exceptions.GlideException;
+import glide.api.models.metrics.LatencyMetrics;
+import glide.connectors.handlers.CallbackDispatcher;
 import glide.connectors.handlers.MessageHandler;
-import glide.ffi.resolvers.GlideValueResolver;
+import glide.connectors.handlers.PubSubQueuePublisher;
 import glide.ffi.resolvers.NativeUtils;
 import glide.ffi.resolvers.StatisticsResolver;
+import glide.internal.ClientSideCache;
+import glide.internal.CommandEncoder;
 import glide.internal.GlideCoreClient;
-import glide.managers.BaseResponseResolver;
+import glide.internal.LatencyRecorder;
 import glide.managers.CommandManager;
 import glide.managers.ConnectionManager;
 import glide.utils.ArgsBuilder;
 import glide.utils.BufferUtils;
+import glide.utils.ScanStreamUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ArrayUtils;
 import response.ResponseOuterClass.ConstantResponse;
-import response.ResponseOuterClass.Response;
 
 /** Base Client class */
 public abstract class BaseClient
@@ -389,6 +407,11 @@ public abstract class BaseClient
     protected static final String[] EMPTY_STRING_ARRAY = new String[0];
     protected static final GlideString[] EMPTY_GLIDE_STRING_ARRAY = new GlideString[0];
 
+    // Chunk sizes used by setStream, see readDirectSegments
+    private static final int STREAM_TRANSFER_SIZE = 8 * 1024;
+    private static final int STREAM_MIN_CHUNK_SIZE = 64 * 1024;
+    private static final int STREAM_MAX_CHUNK_SIZE = 4 * 1024 * 1024;
+
     // Client components
     protected final CommandManager commandManager;
     protected final ConnectionManager connectionManager;
@@ -404,30 +427,6 @@ public abstract class BaseClient
         }
     }
 
-    /** Helper which extracts data from received {@link Response}s from GLIDE. */
-    private static final BaseResponseResolver responseResolver =
-            new BaseResponseResolver(
-                    pointer -> {
-                        if (pointer == null || pointer == 0) {
-                            return null;
-                        }
-                        // The pointer is an ID to retrieve the object from the registry
-                        // The object was already converted from Redis Value to Java in the native layer
-                        return GlideValueResolver.valueFromPointer(pointer);
-                    });
-
-    /** Helper which extracts data with binary strings from received {@link Response}s from GLIDE. */
-    private static final BaseResponseResolver binaryResponseResolver =
-            new BaseResponseResolver(
-                    pointer -> {
-                        if (pointer == null || pointer == 0) {
-                            return null;
-                        }
-                        // The pointer is an ID to retrieve the object from the registry
-                        // The object was already converted with binary encoding in the native layer
-                        return GlideValueResolver.valueFromPointerBinary(pointer);
-                    });
-
     /** Constructor for client initialization */
     protected BaseClient(ClientBuilder builder) {
         this.connectionManager = builder.connectionManager;
@@ -494,7 +493,8 @@ public abstract class BaseClient
                                             t);
                                 }
                                 return client;
-                            });
+                            })
+                    .thenCompose(client -> startClientSideCache(client, config));
         } catch (Exception e) {
             // Something bad happened during initial setup
             CompletableFuture<T> future = new CompletableFuture<>();
@@ -503,6 +503,57 @@ public abstract class BaseClient
         }
     }
 
+    /**
+     * Enable <code>CLIENT TRACKING</code> for the client-side cache, if configured. The client is
+     * closed if tracking cannot be enabled.
+     */
+    private static <T extends BaseClient> CompletableFuture<T> startClientSideCache(
+            T client, BaseClientConfiguration config) {
+        ClientSideCache cache = client.connectionManager.getClientSideCache();
+        if (cache == null) {
+            return CompletableFuture.completedFuture(client);
+        }
+        String[] arguments = clientTrackingArguments(config.getClientSideCacheConfiguration());
+        return cache
+                .enableTracking(() -> client.enableClientTracking(arguments))
+                .handle(
+                        (ignored, error) -> {
+                            if (error == null) {
+                                return client;
+                            }
+                            try {
+                                client.close();
+                            } catch (Exception ignoredCloseError) {
+                                // Report the tracking failure rather than the close failure
+                            }
+                            throw error instanceof CompletionException
+                                    ? (CompletionException) error
+                                    : new CompletionException(error);
+                        });
+    }
+
+    private static String[] clientTrackingArguments(ClientSideCacheConfiguration cache) {
+        List<String> arguments = new ArrayList<>();
+        arguments.add("ON");
+        if (cache.getTrackingMode() == ClientSideCacheConfiguration.TrackingMode.BCAST) {
+            arguments.add("BCAST");
+            for (String prefix : cache.getPrefixes()) {
+                arguments.add("PREFIX");
+                arguments.add(prefix);
+            }
+        }
+        return arguments.toArray(new String[0]);
+    }
+
+    /**
+     * Send <code>CLIENT TRACKING</code> with the given arguments, on every connection the client
+     * reads from.
+     */
+    protected CompletableFuture<?> enableClientTracking(String[] arguments) {
+        return commandManager.submitNewCommand(
+                ClientTracking, arguments, this::handleObjectOrNullResponse);
+    }
+
     /** Build ConnectionManager for native client */
     protected static ConnectionManager buildConnectionManager() {
         return new ConnectionManager();
@@ -510,15 +561,26 @@ public abstract class BaseClient
 
     /** Build MessageHandler for native client */
     protected static MessageHandler buildMessageHandler(BaseClientConfiguration config) {
-        // TODO: Extract callback and context from config
+        BaseSubscriptionConfiguration subscriptions = config.getSubscriptionConfiguration();
+        if (subscriptions == null) {
+            return new MessageHandler(Optional.empty(), Optional.empty());
+        }
+        Optional<CallbackDispatcher> dispatcher =
+                subscriptions
+                        .getCallbackDispatch()
+                        .map(
+                                dispatch ->
+                                        new CallbackDispatcher(
+                                                subscriptions.getCallback().get(),
+                                                subscriptions.getContext().orElse(null),
+                                                dispatch,
+                                                subscriptions.getQueueOverflowPolicy()));
         return new MessageHandler(
-                config.getSubscriptionConfiguration() != null
-                        ? config.getSubscriptionConfiguration().getCallback()
-                        : Optional.empty(),
-                config.getSubscriptionConfiguration() != null
-                        ? config.getSubscriptionConfiguration().getContext()
-                        : Optional.empty(),
-                responseResolver);
+                subscriptions.getCallback(),
+                subscriptions.getContext(),
+                new MessageHandler.PubSubMessageQueue(
+                        subscriptions.getQueueCapacity(), subscriptions.getQueueOverflowPolicy()),
+                dispatcher);
     }
 
     /** Build CommandManager for native client */
@@ -529,7 +591,8 @@ public abstract class BaseClient
                 new GlideCoreClient(
                         connectionManager.getNativeClientHandle(),
                         connectionManager.getMaxInflightRequests(),
-                        connectionManager.getRequestTimeoutMs());
+                        connectionManager.getRequestTimeoutMs(),
+                        connectionManager.getCompletionExecutor());
         // Register for PubSub push delivery
         try {
             GlideCoreClient.registerClient(connectionManager.getNativeClientHandle(), null);
@@ -543,16 +606,84 @@ public abstract class BaseClient
                                     + ") - continuing",
                     t);
         }
-        return new CommandManager(core);
+        return new CommandManager(
+                core,
+                CommandManager.Options.builder()
+                        .compressedRequestTypes(connectionManager.getCompressedRequestTypes())
+                        .clientSideCache(connectionManager.getClientSideCache())
+                        .autoPipelining(connectionManager.getAutoPipeliningConfiguration())
+                        .readFromPrimary(connectionManager.isReadFromPrimary())
+                        .latencyRecorder(connectionManager.getLatencyRecorder())
+                        .build());
     }
 
     /**
      * Return a statistics
      *
+     * <p>Besides connection and PubSub counters, the map reports the activity of {@link
+     * glide.api.models.configuration.CompressionConfiguration value compression}: <code>
+     * total_values_compressed</code>, <code>total_values_decompressed</code>, <code>
+     * total_original_bytes</code>, <code>total_bytes_compressed</code>, <code>
+     * total_bytes_decompressed</code> and <code>compression_skipped_count</code>.
+     *
+     * <p>With a {@link ClientSideCacheConfiguration client-side cache}, it also reports <code>
+     * client_cache_hits</code>, <code>client_cache_misses</code>, <code>client_cache_evictions
+     * </code>, <code>client_cache_expirations</code>, <code>client_cache_invalidations</code> and
+     * <code>client_cache_size</code>.
+     *
+     * <p>With pubsub subscriptions and no callback, it also reports <code>pubsub_queue_size</code>,
+     * <code>pubsub_messages_queued</code> and <code>pubsub_messages_dropped</code>, the latter
+     * counting the messages dropped because the queue was full. With a {@link
+     * CallbackDispatchConfiguration callback dispatch}, it reports <code>pubsub_callback_backlog
+     * </code>, <code>pubsub_callback_lane_lag_max</code> and <code>pubsub_callback_dropped</code>
+     * instead.
+     *
      * @return Return a {@link Map} that contains the statistics collected internally by GLIDE core
      */
     public Map<String, String> getStatistics() {
-        return StatisticsResolver.getStatistics();
+        ClientSideCache cache = connectionManager.getClientSideCache();
+        boolean queued =
+                subscriptionConfiguration.isPresent()
+                        && !subscriptionConfiguration.get().getCallback().isPresent();
+        boolean dispatched =
+                subscriptionConfiguration.isPresent()
+                        && subscriptionConfiguration.get().getCallbackDispatch().isPresent();
+        if (cache == null && !queued && !dispatched) {
+            return StatisticsResolver.getStatistics();
+        }
+        Map<String, String> statistics = new LinkedHashMap<>(StatisticsResolver.getStatistics());
+        if (cache != null) {
+            statistics.putAll(cache.getStatistics());
+        }
+        if (queued) {
+            MessageHandler.PubSubMessageQueue queue = messageHandler.getQueue();
+            statistics.put("pubsub_queue_size", Integer.toString(queue.size()));
+            statistics.put("pubsub_messages_queued", Long.toString(queue.getQueuedCount()));
+            statistics.put("pubsub_messages_dropped", Long.toString(queue.getDroppedCount()));
+        }
+        if (dispatched) {
+            statistics.putAll(messageHandler.getDispatcher().get().getStatistics());
+        }
+        return statistics;
+    }
+
+    /**
+     * Get the latency histograms recorded for the commands of this client, per command and per route.
+     * Requires {@link BaseClientConfiguration#isLatencyMetrics()}. Commands served by the client-side
+     * cache and failed commands are not recorded.
+     *
+     * @see LatencyMetrics
+     * @param reset Whether to clear the histograms, so that the next call reports only the commands
+     *     completed after this one.
+     * @return The latency histograms recorded so far.
+     * @throws ConfigurationError If latency metrics are not enabled.
+     */
+    public LatencyMetrics getLatencyMetrics(boolean reset) {
+        LatencyRecorder recorder = connectionManager.getLatencyRecorder();
+        if (recorder == null) {
+            throw new ConfigurationError("Latency metrics are not enabled in the client configuration");
+        }
+        return recorder.snapshot(reset);
     }
 
     /**
@@ -592,6 +723,66 @@ public abstract class BaseClient
         return messageHandler.getQueue().popAsync();
     }
 
+    /**
+     * Move the pubsub messages received so far into <code>destination</code>, oldest first, without
+     * waiting for more. Cheaper than calling {@link #tryGetPubSubMessage()} in a loop.
+     *
+     * @param destination The list to add the messages to.
+     * @param maxMessages The maximum number of messages to move.
+     * @throws ConfigurationError If client is not subscribed to any channel or if client configured
+     *     with a callback.
+     * @return The number of messages moved.
+     */
+    public int drainPubSubMessages(@NonNull List<PubSubMessage> destination, int maxMessages) {
+        if (subscriptionConfiguration.isPresent()
+                && subscriptionConfiguration.get().getCallback().isPresent()) {
+            throw new ConfigurationError(
+                    "The operation will never complete since messages will be passed to the configured"
+                            + " callback.");
+        }
+        return messageHandler.getQueue().drainTo(destination, maxMessages);
+    }
+
+    /**
+     * Get a publisher of the pubsub messages, delivering them as its subscriber requests them.
+     * Without demand, messages stay in the client's queue, bounded by {@link
+     * BaseSubscriptionConfiguration#getQueueCapacity()}. The publisher shares the queue with {@link
+     * #getPubSubMessage()} and the other pull methods, so they should not be used at the same time.
+     *
+     * @throws ConfigurationError If client is not subscribed to any channel or if client configured
+     *     with a callback.
+     * @return A {@link PubSubPublisher} accepting one subscriber at a time.
+     * @example
+     *     <pre>{@code
+     * client.getPubSubPublisher().subscribe(new PubSubPublisher.Subscriber() {
+     *     private PubSubPublisher.Subscription subscription;
+     *
+     *     public void onSubscribe(PubSubPublisher.Subscription subscription) {
+     *         this.subscription = subscription;
+     *         subscription.request(100);
+     *     }
+     *
+     *     public void onNext(PubSubMessage message) {
+     *         process(message);
+     *         subscription.request(1);
+     *     }
+     *
+     *     public void onError(Throwable throwable) {}
+     *
+     *     public void onComplete() {}
+     * });
+     * }</pre>
+     */
+    public PubSubPublisher getPubSubPublisher() {
+        if (subscriptionConfiguration.isPresent()
+                && subscriptionConfiguration.get().getCallback().isPresent()) {
+            throw new ConfigurationError(
+                    "The operation will never complete since messages will be passed to the configured"
+                            + " callback.");
+        }
+        return new PubSubQueuePublisher(messageHandler.getQueue());
+    }
+
     /**
      * Closes this resource, relinquishing any underlying resources. This method is invoked
      * automatically on objects managed by the try-with-resources statement.
@@ -601,6 +792,8 @@ public abstract class BaseClient
      */
     @Override
     public void close() throws ExecutionException {
+        messageHandler.getQueue().close();
+        messageHandler.getDispatcher().ifPresent(CallbackDispatcher::close);
         connectionManager.closeConnectionSync();
     }
 
@@ -615,10 +808,10 @@ public abstract class BaseClient
     }
 
     /**
-     * Extracts the value from a <code>GLIDE core</code> response message and either throws an
+     * Validates the value produced by <code>GLIDE core</code> for a command and either throws an
      * exception or returns the value as an object of type <code>T</code>.
      *
-     * @param response protobuf message.
+     * @param response value resolved by the native layer.
      * @param classType Parameter <code>T</code> class type.
      * @param flags A set of parameters which describes how to handle the response. Could be empty or
      *     any combination of
@@ -634,11 +827,11 @@ public abstract class BaseClient
      */
     @SuppressWarnings("unchecked")
     protected <T> T handleValkeyResponse(
-            Class<T> classType, EnumSet<ResponseFlags> flags, Response response) throws GlideException {
+            Class<T> classType, EnumSet<ResponseFlags> flags, Object response) throws GlideException {
         boolean encodingUtf8 = flags.contains(ResponseFlags.ENCODING_UTF8);
         boolean isNullable = flags.contains(ResponseFlags.IS_NULLABLE);
-        Object value =
-                encodingUtf8 ? responseResolver.apply(response) : binaryResponseResolver.apply(response);
+        // The native layer already converted the value using the requested encoding
+        Object value = response;
         if (isNullable && (value == null)) {
             return null;
         }
@@ -673,25 +866,25 @@ public abstract class BaseClient
                         + classType.getSimpleName());
     }
 
-    protected Object handleObjectOrNullResponse(Response response) throws GlideException {
+    protected Object handleObjectOrNullResponse(Object response) throws GlideException {
         return handleValkeyResponse(
                 Object.class, EnumSet.of(ResponseFlags.IS_NULLABLE, ResponseFlags.ENCODING_UTF8), response);
     }
 
-    protected Object handleBinaryObjectOrNullResponse(Response response) throws GlideException {
+    protected Object handleBinaryObjectOrNullResponse(Object response) throws GlideException {
         return handleValkeyResponse(Object.class, EnumSet.of(ResponseFlags.IS_NULLABLE), response);
     }
 
-    protected String handleStringResponse(Response response) throws GlideException {
+    protected String handleStringResponse(Object response) throws GlideException {
         return handleValkeyResponse(String.class, EnumSet.of(ResponseFlags.ENCODING_UTF8), response);
     }
 
-    protected String handleStringOrNullResponse(Response response) throws GlideException {
+    protected String handleStringOrNullResponse(Object response) throws GlideException {
         return handleValkeyResponse(
                 String.class, EnumSet.of(ResponseFlags.IS_NULLABLE, ResponseFlags.ENCODING_UTF8), response);
     }
 
-    protected byte[] handleBytesOrNullResponse(Response response) throws GlideException {
+    protected byte[] handleBytesOrNullResponse(Object response) throws GlideException {
         GlideString result =
                 handleValkeyResponse(GlideString.class, EnumSet.of(ResponseFlags.IS_NULLABLE), response);
         if (result == null) return null;
@@ -699,116 +892,115 @@ public abstract class BaseClient
         return result.getBytes();
     }
 
-    protected GlideString handleGlideStringOrNullResponse(Response response) throws GlideException {
+    protected GlideString handleGlideStringOrNullResponse(Object response) throws GlideException {
         return handleValkeyResponse(GlideString.class, EnumSet.of(ResponseFlags.IS_NULLABLE), response);
     }
 
-    protected GlideString handleGlideStringResponse(Response response) throws GlideException {
+    protected GlideString handleGlideStringResponse(Object response) throws GlideException {
         return handleValkeyResponse(GlideString.class, EnumSet.noneOf(ResponseFlags.class), response);
     }
 
-    protected Boolean handleBooleanResponse(Response response) throws GlideException {
+    protected Boolean handleBooleanResponse(Object response) throws GlideException {
         return handleValkeyResponse(Boolean.class, EnumSet.noneOf(ResponseFlags.class), response);
     }
 
-    protected Long handleLongResponse(Response response) throws GlideException {
+    protected Long handleLongResponse(Object response) throws GlideException {
         return handleValkeyResponse(Long.class, EnumSet.noneOf(ResponseFlags.class), response);
     }
 
-    protected Long handleLongOrNullResponse(Response response) throws GlideException {
+    protected Long handleLongOrNullResponse(Object response) throws GlideException {
         return handleValkeyResponse(Long.class, EnumSet.of(ResponseFlags.IS_NULLABLE), response);
     }
 
-    protected Double handleDoubleResponse(Response response) throws GlideException {
+    protected Double handleDoubleResponse(Object response) throws GlideException {
         return handleValkeyResponse(Double.class, EnumSet.noneOf(ResponseFlags.class), response);
     }
 
-    protected Double handleDoubleOrNullResponse(Response response) throws GlideException {
+    protected Double handleDoubleOrNullResponse(Object response) throws GlideException {
         return handleValkeyResponse(Double.class, EnumSet.of(ResponseFlags.IS_NULLABLE), response);
     }
 
-    protected Object[] handleArrayResponse(Response response) throws GlideException {
+    protected Object[] handleArrayResponse(Object response) throws GlideException {
         return handleValkeyResponse(Object[].class, EnumSet.of(ResponseFlags.ENCODING_UTF8), response);
     }
 
-    protected Object[] handleArrayResponseBinary(Response response) throws GlideException {
+    protected Object[] handleArrayResponseBinary(Object response) throws GlideException {
         return handleValkeyResponse(Object[].class, EnumSet.noneOf(ResponseFlags.class), response);
     }
 
-    protected Object[] handleArrayOrNullResponse(Response response) throws GlideException {
+    protected Object[] handleArrayOrNullResponse(Object response) throws GlideException {
         return handleValkeyResponse(
                 Object[].class,
                 EnumSet.of(ResponseFlags.IS_NULLABLE, ResponseFlags.ENCODING_UTF8),
                 response);
     }
 
-    protected Object[] handleArrayOrNullResponseBinary(Response response) throws GlideException {
+    protected Object[] handleArrayOrNullResponseBinary(Object response) throws GlideException {
         return handleValkeyResponse(Object[].class, EnumSet.of(ResponseFlags.IS_NULLABLE), response);
     }
 
     /**
-     * @param response A Protobuf response
+     * @param response A value resolved by the native layer
      * @return A map of <code>String</code> to <code>V</code>.
      * @param <V> Value type.
      */
     @SuppressWarnings("unchecked") // raw Map cast to Map<String, V>
-    protected <V> Map<String, V> handleMapResponse(Response response) throws GlideException {
+    protected <V> Map<String, V> handleMapResponse(Object response) throws GlideException {
         return handleValkeyResponse(Map.class, EnumSet.of(ResponseFlags.ENCODING_UTF8), response);
     }
 
     /**
      * Get a map and convert {@link Map} keys from <code>byte[]</code> to {@link String}.
      *
-     * @param response A Protobuf response
+     * @param response A value resolved by the native layer
      * @return A map of <code>GlideString</code> to <code>V</code>.
      * @param <V> Value type.
      */
     @SuppressWarnings("unchecked") // raw Map cast to Map<GlideString, V>
-    protected <V> Map<GlideString, V> handleBinaryStringMapResponse(Response response)
+    protected <V> Map<GlideString, V> handleBinaryStringMapResponse(Object response)
             throws GlideException {
         return handleValkeyResponse(Map.class, EnumSet.noneOf(ResponseFlags.class), response);
     }
 
     /**
-     * @param response A Protobuf response
+     * @param response A value resolved by the native layer
      * @return A map of <code>String</code> to <code>V</code> or <code>null</code>
      * @param <V> Value type.
      */
     @SuppressWarnings("unchecked") // raw Map cast to Map<String, V>
-    protected <V> Map<String, V> handleMapOrNullResponse(Response response) throws GlideException {
+    protected <V> Map<String, V> handleMapOrNullResponse(Object response) throws GlideException {
         return handleValkeyResponse(
                 Map.class, EnumSet.of(ResponseFlags.IS_NULLABLE, ResponseFlags.ENCODING_UTF8), response);
     }
 
     /**
-     * @param response A Protobuf response
+     * @param response A value resolved by the native layer
      * @return A map of <code>String</code> to <code>V</code> or <code>null</code>
      * @param <V> Value type.
      */
     @SuppressWarnings("unchecked") // raw Map cast to Map<String, V>
-    protected <V> Map<GlideString, V> handleBinaryStringMapOrNullResponse(Response response)
+    protected <V> Map<GlideString, V> handleBinaryStringMapOrNullResponse(Object response)
             throws GlideException {
         return handleValkeyResponse(Map.class, EnumSet.of(ResponseFlags.IS_NULLABLE), response);
     }
 
     /**
-     * @param response A Protobuf response
+     * @param response A value resolved by the native layer
      * @return A map of <code>String</code> to <code>String[]</code>
      */
     @SuppressWarnings("unchecked") // raw Map cast to Map<String, Object[]>
-    protected Map<String, String[]> handleMapOfArraysResponse(Response response)
-            throws GlideException {
+    protected Map<String, String[]> handleMapOfArraysResponse(Object response) throws GlideException {
         Map<String, Object[]> mapResponse =
                 handleValkeyResponse(Map.class, EnumSet.of(ResponseFlags.ENCODING_UTF8), response);
         return castMapOfArrays(mapResponse, String.class);
     }
 
     /**
-     * @param response A Protobuf response
+     * @param response A value resolved by the native layer
      * @return A map of <code>String</code> to <code>GlideString[]</code>
      */
     @SuppressWarnings("unchecked") // raw Map cast to Map<String, Object[]>
-    protected Map<String, GlideString[]> handleBinaryStringMapOfArraysResponse(Response response)
+    protected Map<String, GlideString[]> handleBinaryStringMapOfArraysResponse(Object response)
             throws GlideException {
         Map<String, Object[]> mapResponse =
                 handleValkeyResponse(Map.class, EnumSet.noneOf(ResponseFlags.class), response);
@@ -816,10 +1008,10 @@ public abstract class BaseClient
     }
 
     /**
-     * @param response A Protobuf response
+     * @param response A value resolved by the native layer
      * @return A map of a map of <code>String[][]</code>
      */
-    protected Map<String, Map<String, String[][]>> handleXReadResponse(Response response)
+    protected Map<String, Map<String, String[][]>> handleXReadResponse(Object response)
             throws GlideException {
         Map<String, Object> mapResponse = handleMapOrNullResponse(response);
         if (mapResponse == null) {
@@ -833,11 +1025,11 @@ public abstract class BaseClient
     }
 
     /**
-     * @param response A Protobuf response
+     * @param response A value resolved by the native layer
      * @return A map of a map of <code>GlideString[][]</code>
      */
     protected Map<GlideString, Map<GlideString, GlideString[][]>> handleXReadResponseBinary(
-            Response response) throws GlideException {
+            Object response) throws GlideException {
         Map<GlideString, Object> mapResponse = handleBinaryStringMapOrNullResponse(response);
         if (mapResponse == null) {
             return null;
@@ -852,12 +1044,12 @@ public abstract class BaseClient
     }
 
     @SuppressWarnings("unchecked") // raw Set cast to Set<String>
-    protected Set<String> handleSetResponse(Response response) throws GlideException {
+    protected Set<String> handleSetResponse(Object response) throws GlideException {
         return handleValkeyResponse(Set.class, EnumSet.of(ResponseFlags.ENCODING_UTF8), response);
     }
 
     @SuppressWarnings("unchecked")
-    protected Set<GlideString> handleSetBinaryResponse(Response response) throws GlideException {
+    protected Set<GlideString> handleSetBinaryResponse(Object response) throws GlideException {
         return handleValkeyResponse(Set.class, EnumSet.noneOf(ResponseFlags.class), response);
     }
 
@@ -909,7 +1101,7 @@ public abstract class BaseClient
 
     /** Process a <code>FUNCTION STATS</code> cluster response. */
     protected ClusterValue<Map<String, Map<String, Object>>> handleFunctionStatsResponse(
-            Response response, boolean isSingleValue) {
+            Object response, boolean isSingleValue) {
         if (isSingleValue) {
             return ClusterValue.ofSingleValue(handleFunctionStatsResponse(handleMapResponse(response)));
         } else {
@@ -923,7 +1115,7 @@ public abstract class BaseClient
 
     /** Process a <code>FUNCTION STATS</code> cluster response. */
     protected ClusterValue<Map<GlideString, Map<GlideString, Object>>>
-            handleFunctionStatsBinaryResponse(Response response, boolean isSingleValue) {
+            handleFunctionStatsBinaryResponse(Object response, boolean isSingleValue) {
         if (isSingleValue) {
             return ClusterValue.ofSingleValue(
                     handleFunctionStatsBinaryResponse(handleBinaryStringMapResponse(response)));
@@ -1121,6 +1313,33 @@ public abstract class BaseClient
                 Get, new GlideString[] {key}, this::handleGlideStringOrNullResponse);
     }
 
+    @Override
+    public CompletableFuture<BufferLease> getAsBuffer(@NonNull GlideString key) {
+        return commandManager.submitNewCommandWithBufferLease(
+                Get,
+                new GlideString[] {key},
+                response ->
+                        handleValkeyResponse(
+                                BufferLease.class, EnumSet.of(ResponseFlags.IS_NULLABLE), response));
+    }
+
+    @Override
+    public CompletableFuture<Integer> getInto(
+            @NonNull GlideString key, @NonNull ByteBuffer destination) {
+        return getAsBuffer(key)
+                .thenApply(
+                        lease -> {
+                            if (lease == null) {
+                                return -1;
+                            }
+                            try (BufferLease value = lease) {
+                                int size = value.size();
+                                destination.put(value.getBuffer());
+                                return size;
+                            }
+                        });
+    }
+
     @Override
     public CompletableFuture<String> getdel(@NonNull String key) {
         return commandManager.submitNewCommand(
@@ -1170,6 +1389,52 @@ public abstract class BaseClient
                 Set, new GlideString[] {key, value}, this::handleStringResponse);
     }
 
+    @Override
+    public CompletableFuture<String> set(@NonNull GlideString key, @NonNull ByteBuffer value) {
+        return commandManager.submitNewCommandWithBuffers(
+                Set, new Object[] {key, value}, this::handleStringResponse);
+    }
+
+    @Override
+    public CompletableFuture<String> setStream(@NonNull GlideString key, @NonNull InputStream value) {
+        ByteBuffer[] segments;
+        try {
+            segments = readDirectSegments(value);
+        } catch (IOException e) {
+            CompletableFuture<String> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        return commandManager.submitNewCommandWithBuffers(
+                Set, new Object[] {key, segments}, this::handleStringResponse);
+    }
+
+    /**
+     * Read a stream to its end into direct buffers. Chunks start small and double in size, so short
+     * streams stay cheap and long ones are read in few chunks.
+     */
+    private static ByteBuffer[] readDirectSegments(InputStream stream) throws IOException {
+        List<ByteBuffer> segments = new ArrayList<>();
+        byte[] transfer = new byte[STREAM_TRANSFER_SIZE];
+        int chunkSize = STREAM_MIN_CHUNK_SIZE;
+        ByteBuffer chunk = ByteBuffer.allocateDirect(chunkSize);
+        int read;
+        while ((read = stream.read(transfer, 0, Math.min(transfer.length, chunk.remaining()))) != -1) {
+            chunk.put(transfer, 0, read);
+            if (!chunk.hasRemaining()) {
+                chunk.flip();
+                segments.add(chunk);
+                chunkSize = Math.min(chunkSize << 1, STREAM_MAX_CHUNK_SIZE);
+                chunk = ByteBuffer.allocateDirect(chunkSize);
+            }
+        }
+        chunk.flip();
+        if (chunk.hasRemaining() || segments.isEmpty()) {
+            segments.add(chunk);
+        }
+        return segments.toArray(new ByteBuffer[0]);
+    }
+
     @Override
     public CompletableFuture<String> set(
             @NonNull String key, @NonNull String value, @NonNull SetOptions options) {
@@ -1440,6 +1705,20 @@ public abstract class BaseClient
         return commandManager.submitNewCommand(HSet, args, this::handleLongResponse);
     }
 
+    @Override
+    public CompletableFuture<Long> hset(
+            @NonNull GlideString key, @NonNull GlideString field, @NonNull float[] vector) {
+        return commandManager.submitNewCommandWithBuffers(
+                HSet, new Object[] {key, field, vector}, this::handleLongResponse);
+    }
+
+    @Override
+    public CompletableFuture<Long> hset(
+            @NonNull GlideString key, @NonNull GlideString field, @NonNull FloatBuffer vector) {
+        return commandManager.submitNewCommandWithBuffers(
+                HSet, new Object[] {key, field, vector}, this::handleLongResponse);
+    }
+
     @Override
     public CompletableFuture<Boolean> hsetnx(
             @NonNull String key, @NonNull String field, @NonNull String value) {
@@ -2223,6 +2502,28 @@ public abstract class BaseClient
                 SMIsMember, arguments, response -> castArray(handleArrayResponse(response), Boolean.class));
     }
 
+    @Override
+    public CompletableFuture<boolean[]> smismemberPrimitive(
+            @NonNull String key, @NonNull String[] members) {
+        return commandManager.submitNewCommandWithPrimitiveArray(
+                SMIsMember,
+                ArrayUtils.addFirst(members, key),
+                CommandEncoder.FLAG_BOOLEAN_ARRAY,
+                response ->
+                        handleValkeyResponse(boolean[].class, EnumSet.noneOf(ResponseFlags.class), response));
+    }
+
+    @Override
+    public CompletableFuture<boolean[]> smismemberPrimitive(
+            @NonNull GlideString key, @NonNull GlideString[] members) {
+        return commandManager.submitNewCommandWithPrimitiveArray(
+                SMIsMember,
+                ArrayUtils.addFirst(members, key),
+                CommandEncoder.FLAG_BOOLEAN_ARRAY,
+                response ->
+                        handleValkeyResponse(boolean[].class, EnumSet.noneOf(ResponseFlags.class), response));
+    }
+
     @Override
     public CompletableFuture<Long> sdiffstore(@NonNull String destination, @NonNull String[] keys) {
         String[] arguments = ArrayUtils.addFirst(keys, destination);
@@ -2858,6 +3159,28 @@ public abstract class BaseClient
                 response -> castArray(handleArrayOrNullResponse(response), Double.class));
     }
 
+    @Override
+    public CompletableFuture<double[]> zmscorePrimitive(
+            @NonNull String key, @NonNull String[] members) {
+        return commandManager.submitNewCommandWithPrimitiveArray(
+                ZMScore,
+                ArrayUtils.addFirst(members, key),
+                CommandEncoder.FLAG_DOUBLE_ARRAY,
+                response ->
+                        handleValkeyResponse(double[].class, EnumSet.noneOf(ResponseFlags.class), response));
+    }
+
+    @Override
+    public CompletableFuture<double[]> zmscorePrimitive(
+            @NonNull GlideString key, @NonNull GlideString[] members) {
+        return commandManager.submitNewCommandWithPrimitiveArray(
+                ZMScore,
+                ArrayUtils.addFirst(members, key),
+                CommandEncoder.FLAG_DOUBLE_ARRAY,
+                response ->
+                        handleValkeyResponse(double[].class, EnumSet.noneOf(ResponseFlags.class), response));
+    }
+
     @Override
     public CompletableFuture<String[]> zdiff(@NonNull String[] keys) {
         String[] arguments = ArrayUtils.addFirst(keys, Long.toString(keys.length));
@@ -5014,6 +5337,28 @@ public abstract class BaseClient
                 response -> castArray(handleArrayResponse(response), Long.class));
     }
 
+    @Override
+    public CompletableFuture<long[]> bitfieldReadOnlyPrimitive(
+            @NonNull String key, @NonNull BitFieldReadOnlySubCommands[] subCommands) {
+        return commandManager.submitNewCommandWithPrimitiveArray(
+                BitFieldReadOnly,
+                ArrayUtils.addFirst(createBitFieldArgs(subCommands), key),
+                CommandEncoder.FLAG_LONG_ARRAY,
+                response ->
+                        handleValkeyResponse(long[].class, EnumSet.noneOf(ResponseFlags.class), response));
+    }
+
+    @Override
+    public CompletableFuture<long[]> bitfieldReadOnlyPrimitive(
+            @NonNull GlideString key, @NonNull BitFieldReadOnlySubCommands[] subCommands) {
+        return commandManager.submitNewCommandWithPrimitiveArray(
+                BitFieldReadOnly,
+                ArrayUtils.addFirst(createBitFieldGlideStringArgs(subCommands), key),
+                CommandEncoder.FLAG_LONG_ARRAY,
+                response ->
+                        handleValkeyResponse(long[].class, EnumSet.noneOf(ResponseFlags.class), response));
+    }
+
     @Override
     public CompletableFuture<Long> sintercard(@NonNull String[] keys) {
         String[] arguments = ArrayUtils.addFirst(keys, Long.toString(keys.length));
@@ -6087,6 +6432,57 @@ public abstract class BaseClient
         return commandManager.submitNewCommand(HScan, arguments, this::handleArrayOrNullResponseBinary);
     }
 
+    @Override
+    public Stream<Map.Entry<String, String>> hscanStream(
+            @NonNull String key, @NonNull HScanOptions hScanOptions) {
+        return ScanStreamUtils.stream(
+                cursor -> hscan(key, cursor, hScanOptions),
+                elements -> ScanStreamUtils.decodePairs(elements, String.class, hScanOptions.isNoValues()));
+    }
+
+    @Override
+    public Stream<Map.Entry<GlideString, GlideString>> hscanStream(
+            @NonNull GlideString key, @NonNull HScanOptionsBinary hScanOptions) {
+        return ScanStreamUtils.stream(
+                cursor -> hscan(key, gs(cursor), hScanOptions),
+                elements ->
+                        ScanStreamUtils.decodePairs(elements, GlideString.class, hScanOptions.isNoValues()));
+    }
+
+    @Override
+    public Stream<String> sscanStream(@NonNull String key, @NonNull SScanOptions sScanOptions) {
+        return ScanStreamUtils.stream(
+                cursor -> sscan(key, cursor, sScanOptions),
+                elements -> ScanStreamUtils.decodeElements(elements, String.class));
+    }
+
+    @Override
+    public Stream<GlideString> sscanStream(
+            @NonNull GlideString key, @NonNull SScanOptionsBinary sScanOptions) {
+        return ScanStreamUtils.stream(
+                cursor -> sscan(key, gs(cursor), sScanOptions),
+                elements -> ScanStreamUtils.decodeElements(elements, GlideString.class));
+    }
+
+    @Override
+    public Stream<ScoredMember<String>> zscanStream(
+            @NonNull String key, @NonNull ZScanOptions zScanOptions) {
+        return ScanStreamUtils.stream(
+                cursor -> zscan(key, cursor, zScanOptions),
+                elements ->
+                        ScanStreamUtils.decodeScoredMembers(elements, String.class, zScanOptions.isNoScores()));
+    }
+
+    @Override
+    public Stream<ScoredMember<GlideString>> zscanStream(
+            @NonNull GlideString key, @NonNull ZScanOptionsBinary zScanOptions) {
+        return ScanStreamUtils.stream(
+                cursor -> zscan(key, gs(cursor), zScanOptions),
+                elements ->
+                        ScanStreamUtils.decodeScoredMembers(
+                                elements, GlideString.class, zScanOptions.isNoScores()));
+    }
+
     @Override
     public CompletableFuture<Long> wait(long numreplicas, long timeout) {
         return commandManager.submitBlockingCommand(
@@ -6375,11 +6771,34 @@ public abstract class BaseClient
         return new Object[] {desiredMap, actualMap};
     }
 
+    /**
+     * Internal method for client-side cache invalidations from native callback.
+     *
+     * @param keys The invalidated keys, or <code>null</code> to invalidate all of them.
+     * @param disconnected Whether the invalidation is due to a lost connection.
+     */
+    public void __invalidateClientSideCache(byte[][] keys, boolean disconnected) {
+        ClientSideCache cache = connectionManager.getClientSideCache();
+        if (cache == null) {
+            return;
+        }
+        if (disconnected) {
+            cache.onDisconnect();
+        } else {
+            cache.invalidate(keys);
+        }
+    }
+
     /**
      * Internal method for enqueueing PubSub messages from native callback. This is called by the
      * native layer when PubSub messages are received.
      */
     public void __enqueuePubSubMessage(PubSubMessage message) {
+        Optional<CallbackDispatcher> dispatcher = messageHandler.getDispatcher();
+        if (dispatcher.isPresent()) {
+            dispatcher.get().dispatch(message);
+            return;
+        }
         // Deliver to callback if configured; otherwise enqueue for pull-based APIs
         if (subscriptionConfiguration.isPresent()
                 && subscriptionConfiguration.get().getCallback().isPresent()) {
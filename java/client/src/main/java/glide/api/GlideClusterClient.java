@@ -3,12 +3,14 @@ package glide.api;
 
 import static command_request.CommandRequestOuterClass.RequestType.ClientGetName;
 import static command_request.CommandRequestOuterClass.RequestType.ClientId;
+import static command_request.CommandRequestOuterClass.RequestType.ClientTracking;
 import static command_request.CommandRequestOuterClass.RequestType.ClusterInfo;
 import static command_request.CommandRequestOuterClass.RequestType.ClusterLinks;
 import static command_request.CommandRequestOuterClass.RequestType.ClusterMyId;
 import static command_request.CommandRequestOuterClass.RequestType.ClusterMyShardId;
 import static command_request.CommandRequestOuterClass.RequestType.ClusterNodes;
 import static command_request.CommandRequestOuterClass.RequestType.ClusterShards;
+import static command_request.CommandRequestOuterClass.RequestType.ClusterSlots;
 import static command_request.CommandRequestOuterClass.RequestType.ConfigGet;
 import static command_request.CommandRequestOuterClass.RequestType.ConfigResetStat;
 import static command_request.CommandRequestOuterClass.RequestType.ConfigRewrite;
@@ -41,6 +43,7 @@ import static command_request.CommandRequestOuterClass.RequestType.SSubscribe;
 import static command_request.CommandRequestOuterClass.RequestType.SSubscribeBlocking;
 import static command_request.CommandRequestOuterClass.RequestType.SUnsubscribe;
 import static command_request.CommandRequestOuterClass.RequestType.SUnsubscribeBlocking;
+import static command_request.CommandRequestOuterClass.RequestType.Scan;
 import static command_request.CommandRequestOuterClass.RequestType.ScriptExists;
 import static command_request.CommandRequestOuterClass.RequestType.ScriptFlush;
 import static command_request.CommandRequestOuterClass.RequestType.ScriptKill;
@@ -54,6 +57,10 @@ import static glide.api.models.GlideString.gs;
 import static glide.api.models.commands.function.FunctionListOptions.LIBRARY_NAME_VALKEY_API;
 import static glide.api.models.commands.function.FunctionListOptions.WITH_CODE_VALKEY_API;
 import static glide.api.models.commands.function.FunctionLoadOptions.REPLACE;
+import static glide.api.models.commands.scan.BaseScanOptions.COUNT_OPTION_STRING;
+import static glide.api.models.commands.scan.BaseScanOptions.MATCH_OPTION_STRING;
+import static glide.api.models.commands.scan.ScanOptions.TYPE_OPTION_STRING;
+import static glide.api.models.configuration.RequestRoutingConfiguration.SimpleMultiNodeRoute.ALL_NODES;
 import static glide.utils.ArrayTransformUtils.castArray;
 import static glide.utils.ArrayTransformUtils.castMapOfArrays;
 import static glide.utils.ArrayTransformUtils.concatenateArrays;
@@ -65,11 +72,13 @@ import glide.api.commands.GenericClusterCommands;
 import glide.api.commands.PubSubClusterCommands;
 import glide.api.commands.ScriptingAndFunctionsClusterCommands;
 import glide.api.commands.ServerManagementClusterCommands;
+import glide.api.commands.StringClusterCommands;
 import glide.api.commands.TransactionsClusterCommands;
 import glide.api.logging.Logger;
 import glide.api.models.ClusterBatch;
 import glide.api.models.ClusterTransaction;
 import glide.api.models.ClusterValue;
+import glide.api.models.CrossSlotResult;
 import glide.api.models.GlideString;
 import glide.api.models.Script;
 import glide.api.models.commands.FlushMode;
@@ -78,32 +87,45 @@ import glide.api.models.commands.ScriptArgOptions;
 import glide.api.models.commands.ScriptArgOptionsGlideString;
 import glide.api.models.commands.batch.ClusterBatchOptions;
 import glide.api.models.commands.function.FunctionRestorePolicy;
+import glide.api.models.commands.scan.ClusterScanCheckpoint;
 import glide.api.models.commands.scan.ClusterScanCursor;
+import glide.api.models.commands.scan.ClusterScanIterator;
 import glide.api.models.commands.scan.ScanOptions;
 import glide.api.models.configuration.BaseClientConfiguration;
 import glide.api.models.configuration.ClusterSubscriptionConfiguration;
 import glide.api.models.configuration.GlideClusterClientConfiguration;
 import glide.api.models.configuration.PubSubState;
 import glide.api.models.configuration.PubSubStateImpl;
+import glide.api.models.configuration.RequestRoutingConfiguration.ByAddressRoute;
 import glide.api.models.configuration.RequestRoutingConfiguration.Route;
 import glide.api.models.configuration.RequestRoutingConfiguration.SimpleSingleNodeRoute;
 import glide.api.models.configuration.RequestRoutingConfiguration.SingleNodeRoute;
 import glide.api.models.configuration.ServerCredentials;
+import glide.api.models.exceptions.GlideException;
+import glide.api.models.exceptions.RequestException;
 import glide.ffi.resolvers.ClusterScanCursorResolver;
 import glide.managers.CommandManager;
 import glide.utils.ArgsBuilder;
+import glide.utils.ClusterSlotUtils;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.NonNull;
-import response.ResponseOuterClass.Response;
 
 /**
  * Client used for connection to cluster servers.<br>
@@ -120,7 +142,8 @@ public class GlideClusterClient extends BaseClient
                 ScriptingAndFunctionsClusterCommands,
                 TransactionsClusterCommands,
                 PubSubClusterCommands,
-                ClusterManagementClusterCommands {
+                ClusterManagementClusterCommands,
+                StringClusterCommands {
 
     /** Constructor using ClientParams from BaseClient. */
     protected GlideClusterClient(ClientBuilder builder) {
@@ -179,6 +202,13 @@ public class GlideClusterClient extends BaseClient
         return BaseClient.createClient(config, GlideClusterClient::new);
     }
 
+    /** Tracking is per connection, so it is enabled on every node the client may read from. */
+    @Override
+    protected CompletableFuture<?> enableClientTracking(String[] arguments) {
+        return commandManager.submitNewCommand(
+                ClientTracking, arguments, ALL_NODES, this::handleObjectOrNullResponse);
+    }
+
     @Override
     public CompletableFuture<ClusterValue<Object>> customCommand(@NonNull String[] args) {
         // TODO if a command returns a map as a single value, ClusterValue misleads user
@@ -208,11 +238,11 @@ public class GlideClusterClient extends BaseClient
     }
 
     @SuppressWarnings("unchecked")
-    protected ClusterValue<Object> handleCustomCommandResponse(Route route, Response response) {
+    protected ClusterValue<Object> handleCustomCommandResponse(Route route, Object response) {
         if (route instanceof SingleNodeRoute) {
             return ClusterValue.ofSingleValue(handleObjectOrNullResponse(response));
         }
-        if (response.hasConstantResponse()) {
+        if (OK.equals(response)) {
             return ClusterValue.ofSingleValue(handleStringResponse(response));
         }
         Object data =
@@ -224,11 +254,11 @@ public class GlideClusterClient extends BaseClient
     }
 
     @SuppressWarnings("unchecked")
-    protected ClusterValue<Object> handleCustomCommandBinaryResponse(Route route, Response response) {
+    protected ClusterValue<Object> handleCustomCommandBinaryResponse(Route route, Object response) {
         if (route instanceof SingleNodeRoute) {
             return ClusterValue.ofSingleValue(handleBinaryObjectOrNullResponse(response));
         }
-        if (response.hasConstantResponse()) {
+        if (OK.equals(response)) {
             return ClusterValue.ofSingleValue(handleStringResponse(response));
         }
         Object data = handleValkeyResponse(Object.class, EnumSet.noneOf(ResponseFlags.class), response);
@@ -710,7 +740,7 @@ public class GlideClusterClient extends BaseClient
 
     /** Process a <code>FUNCTION LIST</code> cluster response. */
     protected ClusterValue<Map<String, Object>[]> handleFunctionListResponse(
-            Response response, Route route) {
+            Object response, Route route) {
         if (route instanceof SingleNodeRoute) {
             Map<String, Object>[] data = handleFunctionListResponse(handleArrayResponse(response));
             return ClusterValue.ofSingleValue(data);
@@ -727,7 +757,7 @@ public class GlideClusterClient extends BaseClient
 
     /** Process a <code>FUNCTION LIST</code> cluster response. */
     protected ClusterValue<Map<GlideString, Object>[]> handleFunctionListResponseBinary(
-            Response response, Route route) {
+            Object response, Route route) {
         if (route instanceof SingleNodeRoute) {
             Map<GlideString, Object>[] data =
                     handleFunctionListResponseBinary(handleArrayResponseBinary(response));
@@ -1420,6 +1450,245 @@ public class GlideClusterClient extends BaseClient
                 .thenApply(this::transformClusterScanResult);
     }
 
+    @Override
+    public ClusterScanIterator<String> scanAll(@NonNull ScanOptions options, int parallelism) {
+        return scanAll(options, parallelism, ClusterScanCheckpoint.INITIAL_CHECKPOINT);
+    }
+
+    @Override
+    public ClusterScanIterator<String> scanAll(
+            @NonNull ScanOptions options, int parallelism, @NonNull ClusterScanCheckpoint checkpoint) {
+        return new ClusterScanIterator<>(
+                this::primaryNodes,
+                (address, cursor) -> scanNode(address, cursor, options),
+                key -> ((GlideString) key).getString(),
+                checkpoint,
+                parallelism);
+    }
+
+    @Override
+    public ClusterScanIterator<GlideString> scanAllBinary(
+            @NonNull ScanOptions options, int parallelism) {
+        return scanAllBinary(options, parallelism, ClusterScanCheckpoint.INITIAL_CHECKPOINT);
+    }
+
+    @Override
+    public ClusterScanIterator<GlideString> scanAllBinary(
+            @NonNull ScanOptions options, int parallelism, @NonNull ClusterScanCheckpoint checkpoint) {
+        return new ClusterScanIterator<>(
+                this::primaryNodes,
+                (address, cursor) -> scanNode(address, cursor, options),
+                key -> (GlideString) key,
+                checkpoint,
+                parallelism);
+    }
+
+    /** Get the addresses of the primary nodes to scan, see {@link ClusterScanIterator}. */
+    private CompletableFuture<List<String>> primaryNodes() {
+        return commandManager
+                .submitNewCommand(ClusterSlots, new String[0], this::handleArrayResponse)
+                .thenApply(ClusterScanIterator::primaryAddresses);
+    }
+
+    /** Run one <code>SCAN</code> on the node at <code>address</code>, with binary keys. */
+    private CompletableFuture<Object[]> scanNode(String address, String cursor, ScanOptions options) {
+        GlideString[] arguments =
+                new ArgsBuilder()
+                        .add(cursor)
+                        .addIf(MATCH_OPTION_STRING, options.getMatchPattern() != null)
+                        .addIf(options.getMatchPattern(), options.getMatchPattern() != null)
+                        .addIf(COUNT_OPTION_STRING, options.getCount() != null)
+                        .addIf(options.getCount(), options.getCount() != null)
+                        .addIf(TYPE_OPTION_STRING, options.getType() != null)
+                        .addIf(
+                                options.getType() == null ? null : options.getType().name(),
+                                options.getType() != null)
+                        .toArray();
+        // Split on the last colon, the host may be an IPv6 address
+        int portSeparator = address.lastIndexOf(':');
+        Route route =
+                new ByAddressRoute(
+                        address.substring(0, portSeparator),
+                        Integer.parseInt(address.substring(portSeparator + 1)));
+        return commandManager.submitNewCommand(Scan, arguments, route, this::handleArrayResponseBinary);
+    }
+
+    @Override
+    public CompletableFuture<CrossSlotResult<String, String[]>> mgetAcrossSlots(
+            @NonNull String[] keys) {
+        String[] values = new String[keys.length];
+        return acrossSlots(
+                Arrays.asList(keys),
+                ClusterSlotUtils::getSlot,
+                false,
+                (batch, indices) -> batch.mget(pick(keys, indices, String[]::new)),
+                (reply, indices) -> scatter((Object[]) reply, indices, values),
+                () -> values);
+    }
+
+    @Override
+    public CompletableFuture<CrossSlotResult<GlideString, GlideString[]>> mgetAcrossSlots(
+            @NonNull GlideString[] keys) {
+        GlideString[] values = new GlideString[keys.length];
+        return acrossSlots(
+                Arrays.asList(keys),
+                key -> ClusterSlotUtils.getSlot(key.getBytes()),
+                true,
+                (batch, indices) -> batch.mget(pick(keys, indices, GlideString[]::new)),
+                (reply, indices) -> scatter((Object[]) reply, indices, values),
+                () -> values);
+    }
+
+    @Override
+    public CompletableFuture<CrossSlotResult<String, Long>> msetAcrossSlots(
+            @NonNull Map<String, String> keyValueMap) {
+        List<String> keys = new ArrayList<>(keyValueMap.keySet());
+        AtomicLong written = new AtomicLong();
+        return acrossSlots(
+                keys,
+                ClusterSlotUtils::getSlot,
+                false,
+                (batch, indices) -> {
+                    Map<String, String> group = new LinkedHashMap<>();
+                    for (int index : indices) {
+                        group.put(keys.get(index), keyValueMap.get(keys.get(index)));
+                    }
+                    batch.mset(group);
+                },
+                (reply, indices) -> written.addAndGet(indices.length),
+                written::get);
+    }
+
+    @Override
+    public CompletableFuture<CrossSlotResult<GlideString, Long>> msetAcrossSlotsBinary(
+            @NonNull Map<GlideString, GlideString> keyValueMap) {
+        List<GlideString> keys = new ArrayList<>(keyValueMap.keySet());
+        AtomicLong written = new AtomicLong();
+        return acrossSlots(
+                keys,
+                key -> ClusterSlotUtils.getSlot(key.getBytes()),
+                true,
+                (batch, indices) -> {
+                    Map<GlideString, GlideString> group = new LinkedHashMap<>();
+                    for (int index : indices) {
+                        group.put(keys.get(index), keyValueMap.get(keys.get(index)));
+                    }
+                    batch.mset(group);
+                },
+                (reply, indices) -> written.addAndGet(indices.length),
+                written::get);
+    }
+
+    @Override
+    public CompletableFuture<CrossSlotResult<String, Long>> delAcrossSlots(@NonNull String[] keys) {
+        AtomicLong removed = new AtomicLong();
+        return acrossSlots(
+                Arrays.asList(keys),
+                ClusterSlotUtils::getSlot,
+                false,
+                (batch, indices) -> batch.del(pick(keys, indices, String[]::new)),
+                (reply, indices) -> removed.addAndGet((Long) reply),
+                removed::get);
+    }
+
+    @Override
+    public CompletableFuture<CrossSlotResult<GlideString, Long>> delAcrossSlots(
+            @NonNull GlideString[] keys) {
+        AtomicLong removed = new AtomicLong();
+        return acrossSlots(
+                Arrays.asList(keys),
+                key -> ClusterSlotUtils.getSlot(key.getBytes()),
+                true,
+                (batch, indices) -> batch.del(pick(keys, indices, GlideString[]::new)),
+                (reply, indices) -> removed.addAndGet((Long) reply),
+                removed::get);
+    }
+
+    /**
+     * Group <code>keys</code> by hash slot and add a <code>command</code> for the indices of each
+     * group to a single non-atomic batch, sent without raising on errors. Each slot's reply is handed
+     * to <code>onReply</code>, or its error recorded for its keys, and the value is then read from
+     * <code>value</code>.
+     */
+    private <K, V> CompletableFuture<CrossSlotResult<K, V>> acrossSlots(
+            List<K> keys,
+            ToIntFunction<K> slot,
+            boolean binary,
+            BiConsumer<ClusterBatch, int[]> command,
+            BiConsumer<Object, int[]> onReply,
+            Supplier<V> value) {
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            groups.computeIfAbsent(slot.applyAsInt(keys.get(i)), s -> new ArrayList<>()).add(i);
+        }
+        ClusterBatch batch = new ClusterBatch(false);
+        if (binary) {
+            batch.withBinaryOutput();
+        }
+        List<int[]> parts = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups.values()) {
+            int[] indices = group.stream().mapToInt(Integer::intValue).toArray();
+            command.accept(batch, indices);
+            parts.add(indices);
+        }
+        if (parts.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new CrossSlotResult<>(value.get(), new LinkedHashMap<>()));
+        }
+        return exec(batch, false)
+                .handle(
+                        (replies, error) -> {
+                            GlideException[] errors = new GlideException[keys.size()];
+                            for (int part = 0; part < parts.size(); part++) {
+                                int[] indices = parts.get(part);
+                                GlideException failure;
+                                if (error != null) {
+                                    failure = toGlideException(error);
+                                } else if (replies == null || part >= replies.length) {
+                                    failure = new RequestException("Missing reply in cross-slot batch");
+                                } else if (replies[part] instanceof GlideException) {
+                                    // Without raiseOnError, the error of each slot is its reply
+                                    failure = (GlideException) replies[part];
+                                } else {
+                                    onReply.accept(replies[part], indices);
+                                    continue;
+                                }
+                                for (int index : indices) {
+                                    errors[index] = failure;
+                                }
+                            }
+                            Map<K, GlideException> failures = new LinkedHashMap<>();
+                            for (int i = 0; i < errors.length; i++) {
+                                if (errors[i] != null) {
+                                    failures.put(keys.get(i), errors[i]);
+                                }
+                            }
+                            return new CrossSlotResult<>(value.get(), failures);
+                        });
+    }
+
+    private static <T> T[] pick(T[] source, int[] indices, IntFunction<T[]> newArray) {
+        T[] result = newArray.apply(indices.length);
+        for (int i = 0; i < indices.length; i++) {
+            result[i] = source[indices[i]];
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void scatter(Object[] values, int[] indices, T[] destination) {
+        for (int i = 0; i < indices.length; i++) {
+            destination[indices[i]] = (T) values[i];
+        }
+    }
+
+    private static GlideException toGlideException(Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        return cause instanceof GlideException
+                ? (GlideException) cause
+                : new RequestException(String.valueOf(cause.getMessage()));
+    }
+
     /** A {@link ClusterScanCursor} implementation for interacting with the Rust layer. */
     private static final class NativeClusterScanCursor
             implements CommandManager.ClusterScanCursorDetail {
@@ -4,7 +4,7 @@ package glide.api;
 import glide.api.logging.Logger;
 import glide.api.models.exceptions.ConfigurationError;
 import glide.ffi.resolvers.OpenTelemetryResolver;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * OpenTelemetry integration for Valkey GLIDE.
@@ -77,7 +77,12 @@ import java.util.Random;
 public class OpenTelemetry {
     private static OpenTelemetry openTelemetry = null;
     private static OpenTelemetryConfig openTelemetryConfig = null;
-    private static final Random random = new Random();
+
+    /**
+     * The sample percentage of traces, or -1 if traces are not exported. Kept apart from the
+     * configuration so that {@link #shouldSample()} reads a single volatile field per command.
+     */
+    private static volatile int tracesSamplePercentage = -1;
 
     /** Configuration for OpenTelemetry integration. */
     public static class OpenTelemetryConfig {
@@ -421,6 +426,7 @@ public class OpenTelemetry {
         }
 
         openTelemetry = new OpenTelemetry();
+        OpenTelemetry.tracesSamplePercentage = tracesConfig != null ? tracesSamplePercentage : -1;
     }
 
     /**
@@ -447,13 +453,17 @@ public class OpenTelemetry {
 
     /**
      * Determines if the current request should be sampled for OpenTelemetry tracing. Uses the
-     * configured sample percentage to randomly decide whether to create a span for this request.
+     * configured sample percentage to randomly decide whether to create a span for this request. Each
+     * thread draws from its own random generator, so concurrent requests do not contend.
      *
      * @return true if the request should be sampled, false otherwise
      */
     public static boolean shouldSample() {
-        Integer percentage = getSamplePercentage();
-        return isInitialized() && percentage != null && random.nextDouble() * 100 < percentage;
+        int percentage = tracesSamplePercentage;
+        if (percentage <= 0) {
+            return false;
+        }
+        return percentage >= 100 || ThreadLocalRandom.current().nextInt(100) < percentage;
     }
 
     /**
@@ -471,5 +481,6 @@ public class OpenTelemetry {
         }
 
         openTelemetryConfig.updateSamplePercentage(percentage);
+        tracesSamplePercentage = percentage;
     }
 }
@@ -648,4 +648,60 @@ public interface BitmapBaseCommands {
      */
     CompletableFuture<Long[]> bitfieldReadOnly(
             GlideString key, BitFieldReadOnlySubCommands[] subCommands);
+
+    /**
+     * Reads the array of bits representing the string that is held at <code>key</code> based on the
+     * specified <code>subCommands</code>.<br>
+     * Same as {@link #bitfieldReadOnly(String, BitFieldReadOnlySubCommands[])}, but returns a
+     * primitive array built natively in one call.
+     *
+     * @since Valkey 6.0 and above
+     * @see <a href="https://valkey.io/commands/bitfield_ro/">valkey.io</a> for details.
+     * @param key The key of the string.
+     * @param subCommands The <code>GET</code> subCommands to be performed.
+     * @return An array of results from the <code>GET</code> subcommands.
+     * @example
+     *     <pre>{@code
+     * client.set("sampleKey", "A"); // "A" has binary value 01000001
+     * long[] payload =
+     *      client.
+     *          bitfieldReadOnlyPrimitive(
+     *              "sampleKey",
+     *              new BitFieldReadOnlySubCommands[] {
+     *                  new BitFieldGet(new UnsignedEncoding(2), new Offset(1))
+     *              })
+     *          .get();
+     * assertArrayEquals(payload, new long[] {2L}); // Value is from 0(10)00001
+     * }</pre>
+     */
+    CompletableFuture<long[]> bitfieldReadOnlyPrimitive(
+            String key, BitFieldReadOnlySubCommands[] subCommands);
+
+    /**
+     * Reads the array of bits representing the string that is held at <code>key</code> based on the
+     * specified <code>subCommands</code>.<br>
+     * Same as {@link #bitfieldReadOnly(GlideString, BitFieldReadOnlySubCommands[])}, but returns a
+     * primitive array built natively in one call.
+     *
+     * @since Valkey 6.0 and above
+     * @see <a href="https://valkey.io/commands/bitfield_ro/">valkey.io</a> for details.
+     * @param key The key of the string.
+     * @param subCommands The <code>GET</code> subCommands to be performed.
+     * @return An array of results from the <code>GET</code> subcommands.
+     * @example
+     *     <pre>{@code
+     * client.set(gs("sampleKey"), gs("A")); //string "A" has binary value 01000001
+     * long[] payload =
+     *      client.
+     *          bitfieldReadOnlyPrimitive(
+     *              gs("sampleKey"),
+     *              new BitFieldReadOnlySubCommands[] {
+     *                  new BitFieldGet(new UnsignedEncoding(2), new Offset(1))
+     *              })
+     *          .get();
+     * assertArrayEquals(payload, new long[] {2L}); // Value is from 0(10)00001
+     * }</pre>
+     */
+    CompletableFuture<long[]> bitfieldReadOnlyPrimitive(
+            GlideString key, BitFieldReadOnlySubCommands[] subCommands);
 }
@@ -2,8 +2,11 @@
 package glide.api.commands;
 
 import glide.api.models.ClusterValue;
+import glide.api.models.CrossSlotResult;
 import glide.api.models.GlideString;
+import glide.api.models.commands.scan.ClusterScanCheckpoint;
 import glide.api.models.commands.scan.ClusterScanCursor;
+import glide.api.models.commands.scan.ClusterScanIterator;
 import glide.api.models.commands.scan.ScanOptions;
 import glide.api.models.configuration.RequestRoutingConfiguration.Route;
 import java.util.concurrent.CompletableFuture;
@@ -396,6 +399,131 @@ public interface GenericClusterCommands {
      */
     CompletableFuture<Object[]> scanBinary(ClusterScanCursor cursor, ScanOptions options);
 
+    /**
+     * Iterates over all the keys of the Cluster, scanning up to <code>parallelism</code> primary
+     * nodes at the same time.
+     *
+     * <p>Unlike {@link #scan(ClusterScanCursor, ScanOptions)}, which scans one node after the other,
+     * each primary listed by <code>CLUSTER SLOTS</code> is scanned with a <code>SCAN</code> cursor of
+     * its own, and batches of keys are fetched ahead of the caller, up to twice the parallelism. The
+     * progress of the iteration is available at any time as a {@link ClusterScanCheckpoint}, to
+     * resume it after a restart with {@link #scanAll(ScanOptions, int, ClusterScanCheckpoint)}.
+     *
+     * <p>As with <code>SCAN</code>, the same key may be returned more than once, and keys added or
+     * moved to another node during the iteration (e.g. by slot migration) may be missed. Nodes are
+     * addressed by their preferred endpoint, and the set of primaries is fixed when the iteration
+     * starts: a failover during the iteration fails it, and it can be resumed from its last
+     * checkpoint. {@link ScanOptions#getAllowNonCoveredSlots()} does not apply: slots not covered by
+     * a primary are never scanned.
+     *
+     * @see <a href="https://valkey.io/commands/scan">valkey.io</a> for details.
+     * @param options The {@link ScanOptions}, applied to each <code>SCAN</code>.
+     * @param parallelism The maximum number of nodes scanned at the same time.
+     * @return A {@link ClusterScanIterator} of key batches, to be closed if not fully consumed.
+     * @example
+     *     <pre>{@code
+     * ScanOptions options = ScanOptions.builder().matchPattern("session:*").count(1000L).build();
+     * try (ClusterScanIterator<String> keys = client.scanAll(options, 8)) {
+     *     while (keys.hasNext()) {
+     *         process(keys.next());
+     *         saveCheckpoint(keys.getCheckpoint().encode());
+     *     }
+     * }
+     * }</pre>
+     */
+    ClusterScanIterator<String> scanAll(ScanOptions options, int parallelism);
+
+    /**
+     * Resumes an iteration over all the keys of the Cluster from a checkpoint, scanning up to <code>
+     * parallelism</code> primary nodes at the same time.
+     *
+     * @see #scanAll(ScanOptions, int)
+     * @see <a href="https://valkey.io/commands/scan">valkey.io</a> for details.
+     * @param options The {@link ScanOptions}, applied to each <code>SCAN</code>.
+     * @param parallelism The maximum number of nodes scanned at the same time.
+     * @param checkpoint The {@link ClusterScanIterator#getCheckpoint()} of the interrupted iteration.
+     * @return A {@link ClusterScanIterator} of key batches, to be closed if not fully consumed.
+     * @example
+     *     <pre>{@code
+     * ClusterScanCheckpoint checkpoint = ClusterScanCheckpoint.decode(loadCheckpoint());
+     * try (ClusterScanIterator<String> keys = client.scanAll(options, 8, checkpoint)) {
+     *     keys.forEachRemaining(batch -> process(batch));
+     * }
+     * }</pre>
+     */
+    ClusterScanIterator<String> scanAll(
+            ScanOptions options, int parallelism, ClusterScanCheckpoint checkpoint);
+
+    /**
+     * Iterates over all the keys of the Cluster, scanning up to <code>parallelism</code> primary
+     * nodes at the same time.
+     *
+     * @see #scanAll(ScanOptions, int)
+     * @see <a href="https://valkey.io/commands/scan">valkey.io</a> for details.
+     * @param options The {@link ScanOptions}, applied to each <code>SCAN</code>.
+     * @param parallelism The maximum number of nodes scanned at the same time.
+     * @return A {@link ClusterScanIterator} of key batches, to be closed if not fully consumed.
+     * @example
+     *     <pre>{@code
+     * try (Stream<List<GlideString>> batches = client.scanAllBinary(options, 8).stream()) {
+     *     long count = batches.mapToLong(List::size).sum();
+     * }
+     * }</pre>
+     */
+    ClusterScanIterator<GlideString> scanAllBinary(ScanOptions options, int parallelism);
+
+    /**
+     * Resumes an iteration over all the keys of the Cluster from a checkpoint, scanning up to <code>
+     * parallelism</code> primary nodes at the same time.
+     *
+     * @see #scanAll(ScanOptions, int)
+     * @see <a href="https://valkey.io/commands/scan">valkey.io</a> for details.
+     * @param options The {@link ScanOptions}, applied to each <code>SCAN</code>.
+     * @param parallelism The maximum number of nodes scanned at the same time.
+     * @param checkpoint The {@link ClusterScanIterator#getCheckpoint()} of the interrupted iteration.
+     * @return A {@link ClusterScanIterator} of key batches, to be closed if not fully consumed.
+     * @example
+     *     <pre>{@code
+     * try (ClusterScanIterator<GlideString> keys = client.scanAllBinary(options, 8, checkpoint)) {
+     *     keys.forEachRemaining(batch -> process(batch));
+     * }
+     * }</pre>
+     */
+    ClusterScanIterator<GlideString> scanAllBinary(
+            ScanOptions options, int parallelism, ClusterScanCheckpoint checkpoint);
+
+    /**
+     * Removes the specified keys, which may belong to different hash slots.
+     *
+     * <p>The keys are grouped by hash slot, computed locally, and the <code>DEL</code> of each group
+     * is sent in a single non-atomic batch. The keys of the slots which succeeded are removed even if
+     * others failed.
+     *
+     * @see <a href="https://valkey.io/commands/del/">valkey.io</a> for details.
+     * @param keys The keys to remove.
+     * @return A {@link CrossSlotResult} whose value is the number of keys removed.
+     * @example
+     *     <pre>{@code
+     * CrossSlotResult<String, Long> result = client.delAcrossSlots(new String[] {"a", "b"}).get();
+     * }</pre>
+     */
+    CompletableFuture<CrossSlotResult<String, Long>> delAcrossSlots(String[] keys);
+
+    /**
+     * Removes the specified keys, which may belong to different hash slots.
+     *
+     * @see #delAcrossSlots(String[])
+     * @see <a href="https://valkey.io/commands/del/">valkey.io</a> for details.
+     * @param keys The keys to remove.
+     * @return A {@link CrossSlotResult} whose value is the number of keys removed.
+     * @example
+     *     <pre>{@code
+     * CrossSlotResult<GlideString, Long> result =
+     *     client.delAcrossSlots(new GlideString[] {gs("a"), gs("b")}).get();
+     * }</pre>
+     */
+    CompletableFuture<CrossSlotResult<GlideString, Long>> delAcrossSlots(GlideString[] keys);
+
     /**
      * Returns all keys matching <code>pattern</code>.<br>
      * The command will be routed to all primary nodes.
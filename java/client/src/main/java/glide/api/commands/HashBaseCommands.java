@@ -9,8 +9,10 @@ import glide.api.models.commands.scan.HScanOptions;
 import glide.api.models.commands.scan.HScanOptions.HScanOptionsBuilder;
 import glide.api.models.commands.scan.HScanOptionsBinary;
 import glide.api.models.commands.scan.HScanOptionsBinary.HScanOptionsBinaryBuilder;
+import java.nio.FloatBuffer;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Supports commands for the "Hash Commands" group for standalone and cluster clients.
@@ -94,6 +96,46 @@ public interface HashBaseCommands {
      */
     CompletableFuture<Long> hset(GlideString key, Map<GlideString, GlideString> fieldValueMap);
 
+    /**
+     * Sets a field of the hash stored at <code>key</code> to a vector, in the binary format of <code>
+     * FT</code> vector fields: little-endian 32-bit floats. The floats are written straight into the
+     * request, without an intermediate <code>byte[]</code>.
+     *
+     * @see <a href="https://valkey.io/commands/hset/">valkey.io</a> for details.
+     * @param key The key of the hash.
+     * @param field The vector field.
+     * @param vector The vector.
+     * @return The number of fields that were added.
+     * @example
+     *     <pre>{@code
+     * float[] embedding = model.embed("text");
+     * Long num = client.hset(gs("doc:1"), gs("vec"), embedding).get();
+     * assert num == 1L;
+     * }</pre>
+     */
+    CompletableFuture<Long> hset(GlideString key, GlideString field, float[] vector);
+
+    /**
+     * Sets a field of the hash stored at <code>key</code> to the floats between the position and the
+     * limit of <code>vector</code>, in the binary format of <code>FT</code> vector fields:
+     * little-endian 32-bit floats. The position of <code>vector</code> is not moved.
+     *
+     * @see <a href="https://valkey.io/commands/hset/">valkey.io</a> for details.
+     * @param key The key of the hash.
+     * @param field The vector field.
+     * @param vector The vector.
+     * @return The number of fields that were added.
+     * @example
+     *     <pre>{@code
+     * FloatBuffer embeddings = loadEmbeddings(); // 768 floats per document
+     * for (int i = 0; i < documents; i++) {
+     *     embeddings.limit((i + 1) * 768).position(i * 768);
+     *     client.hset(gs("doc:" + i), gs("vec"), embeddings);
+     * }
+     * }</pre>
+     */
+    CompletableFuture<Long> hset(GlideString key, GlideString field, FloatBuffer vector);
+
     /**
      * Sets <code>field</code> in the hash stored at <code>key</code> to <code>value</code>, only if
      * <code>field</code> does not yet exist.<br>
@@ -767,6 +809,50 @@ public interface HashBaseCommands {
     CompletableFuture<Object[]> hscan(
             GlideString key, GlideString cursor, HScanOptionsBinary hScanOptions);
 
+    /**
+     * Iterates over all the field-value pairs of a hash, as a lazy stream running <code>HSCAN
+     * </code> under the hood.
+     *
+     * <p>The first page is requested when the stream is first consumed. Each next page is requested
+     * as soon as the previous one arrives, so it is fetched while the previous one is consumed. As
+     * with <code>HSCAN</code>, a field may be returned more than once.
+     *
+     * @see <a href="https://valkey.io/commands/hscan">valkey.io</a> for details.
+     * @param key The key of the hash.
+     * @param hScanOptions The {@link HScanOptions}. With {@link HScanOptions#isNoValues()}, the
+     *     values of the entries are <code>null</code>.
+     * @return A sequential <code>Stream</code> of the field-value pairs. Consuming it blocks while a
+     *     page is fetched, and throws the error of a failed <code>HSCAN</code>.
+     * @example
+     *     <pre>{@code
+     * HScanOptions options = HScanOptions.builder().count(1000L).build();
+     * long total = client.hscanStream("counters", options)
+     *     .mapToLong(entry -> Long.parseLong(entry.getValue()))
+     *     .sum();
+     * }</pre>
+     */
+    Stream<Map.Entry<String, String>> hscanStream(String key, HScanOptions hScanOptions);
+
+    /**
+     * Iterates over all the field-value pairs of a hash, as a lazy stream running <code>HSCAN
+     * </code> under the hood.
+     *
+     * @see #hscanStream(String, HScanOptions)
+     * @see <a href="https://valkey.io/commands/hscan">valkey.io</a> for details.
+     * @param key The key of the hash.
+     * @param hScanOptions The {@link HScanOptionsBinary}. With {@link
+     *     HScanOptionsBinary#isNoValues()}, the values of the entries are <code>null</code>.
+     * @return A sequential <code>Stream</code> of the field-value pairs. Consuming it blocks while a
+     *     page is fetched, and throws the error of a failed <code>HSCAN</code>.
+     * @example
+     *     <pre>{@code
+     * client.hscanStream(gs("profile"), HScanOptionsBinary.builder().build())
+     *     .forEach(entry -> process(entry.getKey(), entry.getValue()));
+     * }</pre>
+     */
+    Stream<Map.Entry<GlideString, GlideString>> hscanStream(
+            GlideString key, HScanOptionsBinary hScanOptions);
+
     /**
      * Sets the specified fields to their respective values in the hash stored at <code>key</code>
      * with optional expiration and conditional options.
@@ -6,6 +6,7 @@ import glide.api.models.commands.scan.SScanOptions;
 import glide.api.models.commands.scan.SScanOptionsBinary;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Supports commands for the "Set Commands" group for standalone and cluster clients.
@@ -178,6 +179,44 @@ public interface SetBaseCommands {
      */
     CompletableFuture<Boolean[]> smismember(GlideString key, GlideString[] members);
 
+    /**
+     * Checks whether each member is contained in the members of the set stored at <code>key</code>.
+     * <br>
+     * Same as {@link #smismember(String, String[])}, but returns a primitive array built natively in
+     * one call.
+     *
+     * @see <a href="https://valkey.io/commands/smismember/">valkey.io</a> for details.
+     * @param key The key of the set to check.
+     * @param members A list of members to check for existence in the set.
+     * @return An <code>array</code> of <code>boolean</code> values, each indicating if the respective
+     *     member exists in the set.
+     * @example
+     *     <pre>{@code
+     * boolean[] areMembers = client.smismemberPrimitive("my_set", new String[] { "a", "b", "c" }).get();
+     * assert areMembers[0] && areMembers[1] && !areMembers[2]; // Only first two elements are present in "my_set"
+     * }</pre>
+     */
+    CompletableFuture<boolean[]> smismemberPrimitive(String key, String[] members);
+
+    /**
+     * Checks whether each member is contained in the members of the set stored at <code>key</code>.
+     * <br>
+     * Same as {@link #smismember(GlideString, GlideString[])}, but returns a primitive array built
+     * natively in one call.
+     *
+     * @see <a href="https://valkey.io/commands/smismember/">valkey.io</a> for details.
+     * @param key The key of the set to check.
+     * @param members A list of members to check for existence in the set.
+     * @return An <code>array</code> of <code>boolean</code> values, each indicating if the respective
+     *     member exists in the set.
+     * @example
+     *     <pre>{@code
+     * boolean[] areMembers = client.smismemberPrimitive(gs("my_set"), new GlideString[] { gs("a"), gs("b"), gs("c") }).get();
+     * assert areMembers[0] && areMembers[1] && !areMembers[2]; // Only first two elements are present in "my_set"
+     * }</pre>
+     */
+    CompletableFuture<boolean[]> smismemberPrimitive(GlideString key, GlideString[] members);
+
     /**
      * Moves <code>member</code> from the set at <code>source</code> to the set at <code>destination
      * </code>, removing it from the source set. Creates a new destination set if needed. The
@@ -830,4 +869,42 @@ public interface SetBaseCommands {
      */
     CompletableFuture<Object[]> sscan(
             GlideString key, GlideString cursor, SScanOptionsBinary sScanOptions);
+
+    /**
+     * Iterates over all the members of a set, as a lazy stream running <code>SSCAN</code> under the
+     * hood.
+     *
+     * <p>The first page is requested when the stream is first consumed. Each next page is requested
+     * as soon as the previous one arrives, so it is fetched while the previous one is consumed. As
+     * with <code>SSCAN</code>, a member may be returned more than once.
+     *
+     * @see <a href="https://valkey.io/commands/sscan">valkey.io</a> for details.
+     * @param key The key of the set.
+     * @param sScanOptions The {@link SScanOptions}.
+     * @return A sequential <code>Stream</code> of the members. Consuming it blocks while a page is
+     *     fetched, and throws the error of a failed <code>SSCAN</code>.
+     * @example
+     *     <pre>{@code
+     * Set<String> admins = client.sscanStream("users", SScanOptions.builder().matchPattern("admin:*").build())
+     *     .collect(Collectors.toSet());
+     * }</pre>
+     */
+    Stream<String> sscanStream(String key, SScanOptions sScanOptions);
+
+    /**
+     * Iterates over all the members of a set, as a lazy stream running <code>SSCAN</code> under the
+     * hood.
+     *
+     * @see #sscanStream(String, SScanOptions)
+     * @see <a href="https://valkey.io/commands/sscan">valkey.io</a> for details.
+     * @param key The key of the set.
+     * @param sScanOptions The {@link SScanOptionsBinary}.
+     * @return A sequential <code>Stream</code> of the members. Consuming it blocks while a page is
+     *     fetched, and throws the error of a failed <code>SSCAN</code>.
+     * @example
+     *     <pre>{@code
+     * long count = client.sscanStream(gs("users"), SScanOptionsBinary.builder().build()).count();
+     * }</pre>
+     */
+    Stream<GlideString> sscanStream(GlideString key, SScanOptionsBinary sScanOptions);
 }
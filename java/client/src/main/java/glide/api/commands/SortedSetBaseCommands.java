@@ -21,12 +21,14 @@ import glide.api.models.commands.WeightAggregateOptions.KeysOrWeightedKeys;
 import glide.api.models.commands.WeightAggregateOptions.KeysOrWeightedKeysBinary;
 import glide.api.models.commands.WeightAggregateOptions.WeightedKeys;
 import glide.api.models.commands.ZAddOptions;
+import glide.api.models.commands.scan.ScoredMember;
 import glide.api.models.commands.scan.ZScanOptions;
 import glide.api.models.commands.scan.ZScanOptions.ZScanOptionsBuilder;
 import glide.api.models.commands.scan.ZScanOptionsBinary;
 import glide.api.models.commands.scan.ZScanOptionsBinary.ZScanOptionsBinaryBuilder;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Supports commands for the "Sorted Set Commands" group for standalone and cluster clients.
@@ -1316,6 +1318,46 @@ public interface SortedSetBaseCommands {
      */
     CompletableFuture<Double[]> zmscore(GlideString key, GlideString[] members);
 
+    /**
+     * Returns the scores associated with the specified <code>members</code> in the sorted set stored
+     * at <code>key</code>, as a primitive array.<br>
+     * Same as {@link #zmscore(String, String[])}, but the scores are not boxed: the array is built
+     * natively in one call, which is cheaper for many members.
+     *
+     * @see <a href="https://valkey.io/commands/zmscore/">valkey.io</a> for more details.
+     * @param key The key of the sorted set.
+     * @param members An array of members in the sorted set.
+     * @return An <code>Array</code> of scores of the <code>members</code>.<br>
+     *     If a <code>member</code> does not exist, the corresponding value in the <code>Array</code>
+     *     will be {@link Double#NaN}.
+     * @example
+     *     <pre>{@code
+     * double[] payload = client.zmscorePrimitive(key1, new String[] {"one", "nonExistentMember", "three"}).get();
+     * assert payload[0] == 1.0 && Double.isNaN(payload[1]) && payload[2] == 3.0;
+     * }</pre>
+     */
+    CompletableFuture<double[]> zmscorePrimitive(String key, String[] members);
+
+    /**
+     * Returns the scores associated with the specified <code>members</code> in the sorted set stored
+     * at <code>key</code>, as a primitive array.<br>
+     * Same as {@link #zmscore(GlideString, GlideString[])}, but the scores are not boxed: the array
+     * is built natively in one call, which is cheaper for many members.
+     *
+     * @see <a href="https://valkey.io/commands/zmscore/">valkey.io</a> for more details.
+     * @param key The key of the sorted set.
+     * @param members An array of members in the sorted set.
+     * @return An <code>Array</code> of scores of the <code>members</code>.<br>
+     *     If a <code>member</code> does not exist, the corresponding value in the <code>Array</code>
+     *     will be {@link Double#NaN}.
+     * @example
+     *     <pre>{@code
+     * double[] payload = client.zmscorePrimitive(key1, new GlideString[] {gs("one"), gs("nonExistentMember"), gs("three")}).get();
+     * assert payload[0] == 1.0 && Double.isNaN(payload[1]) && payload[2] == 3.0;
+     * }</pre>
+     */
+    CompletableFuture<double[]> zmscorePrimitive(GlideString key, GlideString[] members);
+
     /**
      * Returns the difference between the first sorted set and all the successive sorted sets.<br>
      * To get the elements with their scores, see {@link #zdiffWithScores}.
@@ -2860,4 +2902,47 @@ public interface SortedSetBaseCommands {
      */
     CompletableFuture<Object[]> zscan(
             GlideString key, GlideString cursor, ZScanOptionsBinary zScanOptions);
+
+    /**
+     * Iterates over all the members of a sorted set with their scores, as a lazy stream running
+     * <code>ZSCAN</code> under the hood. Scores are decoded into primitive <code>double</code>s.
+     *
+     * <p>The first page is requested when the stream is first consumed. Each next page is requested
+     * as soon as the previous one arrives, so it is fetched while the previous one is consumed. As
+     * with <code>ZSCAN</code>, a member may be returned more than once.
+     *
+     * @see <a href="https://valkey.io/commands/zscan">valkey.io</a> for details.
+     * @param key The key of the sorted set.
+     * @param zScanOptions The {@link ZScanOptions}. With {@link ZScanOptions#isNoScores()}, scores
+     *     are <code>NaN</code>.
+     * @return A sequential <code>Stream</code> of {@link ScoredMember}s. Consuming it blocks while a
+     *     page is fetched, and throws the error of a failed <code>ZSCAN</code>.
+     * @example
+     *     <pre>{@code
+     * double total = client.zscanStream("leaderboard", ZScanOptions.builder().count(1000L).build())
+     *     .mapToDouble(ScoredMember::getScore)
+     *     .sum();
+     * }</pre>
+     */
+    Stream<ScoredMember<String>> zscanStream(String key, ZScanOptions zScanOptions);
+
+    /**
+     * Iterates over all the members of a sorted set with their scores, as a lazy stream running
+     * <code>ZSCAN</code> under the hood. Scores are decoded into primitive <code>double</code>s.
+     *
+     * @see #zscanStream(String, ZScanOptions)
+     * @see <a href="https://valkey.io/commands/zscan">valkey.io</a> for details.
+     * @param key The key of the sorted set.
+     * @param zScanOptions The {@link ZScanOptionsBinary}. With {@link
+     *     ZScanOptionsBinary#isNoScores()}, scores are <code>NaN</code>.
+     * @return A sequential <code>Stream</code> of {@link ScoredMember}s. Consuming it blocks while a
+     *     page is fetched, and throws the error of a failed <code>ZSCAN</code>.
+     * @example
+     *     <pre>{@code
+     * client.zscanStream(gs("leaderboard"), ZScanOptionsBinary.builder().build())
+     *     .filter(member -> member.getScore() > 100)
+     *     .forEach(member -> process(member.getMember()));
+     * }</pre>
+     */
+    Stream<ScoredMember<GlideString>> zscanStream(GlideString key, ZScanOptionsBinary zScanOptions);
 }
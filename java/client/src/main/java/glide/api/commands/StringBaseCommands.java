@@ -1,11 +1,14 @@
 /** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.api.commands;
 
+import glide.api.models.BufferLease;
 import glide.api.models.GlideString;
 import glide.api.models.commands.GetExOptions;
 import glide.api.models.commands.SetOptions;
 import glide.api.models.commands.SetOptions.ConditionalSet;
 import glide.api.models.commands.SetOptions.SetOptionsBuilder;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -69,6 +72,47 @@ public interface StringBaseCommands {
      */
     CompletableFuture<GlideString> get(GlideString key);
 
+    /**
+     * Gets the value associated with the given <code>key</code> without copying it: the value stays
+     * in native memory and is exposed as a read-only direct {@link ByteBuffer}. Meant for large
+     * values, where copying into a <code>byte[]</code> dominates the cost of a read.
+     *
+     * <p>The memory is held until the returned lease is closed, so it must always be closed. Values
+     * are never served from the client-side cache.
+     *
+     * @see <a href="https://valkey.io/commands/get/">valkey.io</a> for details.
+     * @param key The <code>key</code> to retrieve from the database.
+     * @return If <code>key</code> exists, a lease over the <code>value</code> of <code>key</code>.
+     *     Otherwise, <code>null</code>.
+     * @example
+     *     <pre>{@code
+     * try (BufferLease lease = client.getAsBuffer(gs("blob")).get()) {
+     *     channel.write(lease.getBuffer());
+     * }
+     * }</pre>
+     */
+    CompletableFuture<BufferLease> getAsBuffer(GlideString key);
+
+    /**
+     * Gets the value associated with the given <code>key</code> into <code>destination</code>,
+     * copying it once from native memory. Bytes are written from the position of <code>destination
+     * </code>, which is advanced past them. <code>destination</code> must not be used until the
+     * returned future completes.
+     *
+     * @see <a href="https://valkey.io/commands/get/">valkey.io</a> for details.
+     * @param key The <code>key</code> to retrieve from the database.
+     * @param destination The buffer to write the value to.
+     * @return The number of bytes written, or <code>-1</code> if <code>key</code> does not exist.
+     *     Completes exceptionally with a {@link java.nio.BufferOverflowException} if the value does
+     *     not fit in the remaining space of <code>destination</code>; nothing is written then.
+     * @example
+     *     <pre>{@code
+     * ByteBuffer destination = ByteBuffer.allocateDirect(10 * 1024 * 1024);
+     * int size = client.getInto(gs("blob"), destination).get();
+     * }</pre>
+     */
+    CompletableFuture<Integer> getInto(GlideString key, ByteBuffer destination);
+
     /**
      * Gets a string value associated with the given <code>key</code> and deletes the key.
      *
@@ -205,6 +249,48 @@ public interface StringBaseCommands {
      */
     CompletableFuture<String> set(GlideString key, GlideString value);
 
+    /**
+     * Sets the given <code>key</code> with the bytes between the position and the limit of <code>
+     * value</code>. The position of <code>value</code> is not moved.<br>
+     * A direct buffer of 16KB or more is read in place by the native layer instead of copied, and
+     * must not be modified until the returned future completes. Other buffers are copied, and may be
+     * reused once this method returns.
+     *
+     * @see <a href="https://valkey.io/commands/set/">valkey.io</a> for details.
+     * @param key The <code>key</code> to store.
+     * @param value The value to store with the given <code>key</code>.
+     * @return A simple <code>"OK"</code> response.
+     * @example
+     *     <pre>{@code
+     * ByteBuffer blob = ByteBuffer.allocateDirect(1 << 20);
+     * fill(blob);
+     * blob.flip();
+     * String value = client.set(gs("blob"), blob).get();
+     * assert value.equals("OK");
+     * }</pre>
+     */
+    CompletableFuture<String> set(GlideString key, ByteBuffer value);
+
+    /**
+     * Sets the given <code>key</code> with the content of <code>value</code>, read to its end. The
+     * stream is read on the calling thread into native memory, so the value is never held on the Java
+     * heap. The stream is not closed.
+     *
+     * @see <a href="https://valkey.io/commands/set/">valkey.io</a> for details.
+     * @param key The <code>key</code> to store.
+     * @param value The stream to read the value from.
+     * @return A simple <code>"OK"</code> response. If reading the stream fails, the future completes
+     *     exceptionally with the {@link java.io.IOException}.
+     * @example
+     *     <pre>{@code
+     * try (InputStream file = Files.newInputStream(path)) {
+     *     String value = client.setStream(gs("file"), file).get();
+     *     assert value.equals("OK");
+     * }
+     * }</pre>
+     */
+    CompletableFuture<String> setStream(GlideString key, InputStream value);
+
     /**
      * Sets the given key with the given value. Return value is dependent on the passed options.
      *
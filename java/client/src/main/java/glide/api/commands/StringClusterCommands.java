@@ -0,0 +1,90 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.commands;
+
+import glide.api.models.CrossSlotResult;
+import glide.api.models.GlideString;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Supports commands for the "String Commands" group for cluster clients.
+ *
+ * @see <a href="https://valkey.io/commands/?group=string">String Commands</a>
+ */
+public interface StringClusterCommands {
+
+    /**
+     * Retrieves the values of multiple keys, which may belong to different hash slots.
+     *
+     * <p>The keys are grouped by hash slot, computed locally, and the <code>MGET</code> of each group
+     * is sent in a single non-atomic batch. Unlike {@link StringBaseCommands#mget(String[])}, a
+     * failing slot does not fail the whole command: its keys are reported in {@link
+     * CrossSlotResult#getFailures()}.
+     *
+     * @see <a href="https://valkey.io/commands/mget/">valkey.io</a> for details.
+     * @param keys The keys to retrieve.
+     * @return A {@link CrossSlotResult} whose value holds the value of each key, in the order of
+     *     <code>keys</code>. It is <code>null</code> for a key which does not exist or whose slot
+     *     failed.
+     * @example
+     *     <pre>{@code
+     * CrossSlotResult<String, String[]> result = client.mgetAcrossSlots(new String[] {"a", "b", "c"}).get();
+     * if (!result.isComplete()) {
+     *     result.getFailures().forEach((key, error) -> retryLater(key));
+     * }
+     * }</pre>
+     */
+    CompletableFuture<CrossSlotResult<String, String[]>> mgetAcrossSlots(String[] keys);
+
+    /**
+     * Retrieves the values of multiple keys, which may belong to different hash slots.
+     *
+     * @see #mgetAcrossSlots(String[])
+     * @see <a href="https://valkey.io/commands/mget/">valkey.io</a> for details.
+     * @param keys The keys to retrieve.
+     * @return A {@link CrossSlotResult} whose value holds the value of each key, in the order of
+     *     <code>keys</code>. It is <code>null</code> for a key which does not exist or whose slot
+     *     failed.
+     * @example
+     *     <pre>{@code
+     * CrossSlotResult<GlideString, GlideString[]> result =
+     *     client.mgetAcrossSlots(new GlideString[] {gs("a"), gs("b")}).get();
+     * }</pre>
+     */
+    CompletableFuture<CrossSlotResult<GlideString, GlideString[]>> mgetAcrossSlots(
+            GlideString[] keys);
+
+    /**
+     * Sets multiple keys to multiple values, the keys possibly belonging to different hash slots.
+     *
+     * <p>The keys are grouped by hash slot, computed locally, and the <code>MSET</code> of each group
+     * is sent in a single non-atomic batch. The command is not atomic across slots: the keys of the
+     * slots which succeeded are set even if others failed.
+     *
+     * @see <a href="https://valkey.io/commands/mset/">valkey.io</a> for details.
+     * @param keyValueMap A key-value map consisting of keys and their respective values to set.
+     * @return A {@link CrossSlotResult} whose value is the number of keys set.
+     * @example
+     *     <pre>{@code
+     * CrossSlotResult<String, Long> result = client.msetAcrossSlots(Map.of("a", "1", "b", "2")).get();
+     * assert result.getValue() == 2L;
+     * }</pre>
+     */
+    CompletableFuture<CrossSlotResult<String, Long>> msetAcrossSlots(Map<String, String> keyValueMap);
+
+    /**
+     * Sets multiple keys to multiple values, the keys possibly belonging to different hash slots.
+     *
+     * @see #msetAcrossSlots(Map)
+     * @see <a href="https://valkey.io/commands/mset/">valkey.io</a> for details.
+     * @param keyValueMap A key-value map consisting of keys and their respective values to set.
+     * @return A {@link CrossSlotResult} whose value is the number of keys set.
+     * @example
+     *     <pre>{@code
+     * CrossSlotResult<GlideString, Long> result =
+     *     client.msetAcrossSlotsBinary(Map.of(gs("a"), gs("1"), gs("b"), gs("2"))).get();
+     * }</pre>
+     */
+    CompletableFuture<CrossSlotResult<GlideString, Long>> msetAcrossSlotsBinary(
+            Map<GlideString, GlideString> keyValueMap);
+}
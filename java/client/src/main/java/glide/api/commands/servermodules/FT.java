@@ -10,14 +10,20 @@ import glide.api.GlideClient;
 import glide.api.GlideClusterClient;
 import glide.api.models.ClusterValue;
 import glide.api.models.GlideString;
+import glide.api.models.commands.FT.FTAggregateCursor;
+import glide.api.models.commands.FT.FTAggregateCursorOptions;
 import glide.api.models.commands.FT.FTAggregateOptions;
 import glide.api.models.commands.FT.FTCreateOptions;
 import glide.api.models.commands.FT.FTCreateOptions.FieldInfo;
 import glide.api.models.commands.FT.FTProfileOptions;
 import glide.api.models.commands.FT.FTSearchOptions;
+import glide.api.models.configuration.RequestRoutingConfiguration.Route;
+import glide.api.models.configuration.RequestRoutingConfiguration.SlotKeyRoute;
+import glide.api.models.configuration.RequestRoutingConfiguration.SlotType;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.NonNull;
@@ -482,6 +488,82 @@ public class FT {
                 .thenApply(res -> castArray(res, Map.class));
     }
 
+    /**
+     * Runs a search query on an index, and perform aggregate transformations on the results, which
+     * are read page by page with a cursor as they are iterated. Unlike {@link #aggregate(BaseClient,
+     * String, String, FTAggregateOptions)}, memory use does not grow with the number of results. <br>
+     * In cluster mode, the query and the reads of its cursor are all sent to the primary owning the
+     * slot of <code>indexName</code>, which holds the cursor.
+     *
+     * @param client The client to execute the command.
+     * @param indexName The index name.
+     * @param query The text query to search.
+     * @param options Additional parameters for the command - see {@link FTAggregateOptions}.
+     * @param cursorOptions Paging of the results - see {@link FTAggregateCursorOptions}.
+     * @return A cursor over the results of the last stage of the pipeline, holding their first page.
+     *     Close it to delete it on the server if it is not read to the end.
+     * @example
+     *     <pre>{@code
+     * FTAggregateCursorOptions cursorOptions = FTAggregateCursorOptions.builder().count(500).build();
+     * try (Stream<Map<GlideString, Object>> rows =
+     *         FT.aggregateCursor(client, "myIndex", "*", options, cursorOptions).get().stream()) {
+     *     rows.forEach(row -> process(row.get(gs("condition")), row.get(gs("bicycles"))));
+     * }
+     * }</pre>
+     */
+    public static CompletableFuture<FTAggregateCursor> aggregateCursor(
+            @NonNull BaseClient client,
+            @NonNull String indexName,
+            @NonNull String query,
+            @NonNull FTAggregateOptions options,
+            @NonNull FTAggregateCursorOptions cursorOptions) {
+        return aggregateCursor(client, gs(indexName), gs(query), options, cursorOptions);
+    }
+
+    /**
+     * Runs a search query on an index, and perform aggregate transformations on the results, which
+     * are read page by page with a cursor as they are iterated. Unlike {@link #aggregate(BaseClient,
+     * GlideString, GlideString, FTAggregateOptions)}, memory use does not grow with the number of
+     * results.<br>
+     * In cluster mode, the query and the reads of its cursor are all sent to the primary owning the
+     * slot of <code>indexName</code>, which holds the cursor.
+     *
+     * @param client The client to execute the command.
+     * @param indexName The index name.
+     * @param query The text query to search.
+     * @param options Additional parameters for the command - see {@link FTAggregateOptions}.
+     * @param cursorOptions Paging of the results - see {@link FTAggregateCursorOptions}.
+     * @return A cursor over the results of the last stage of the pipeline, holding their first page.
+     *     Close it to delete it on the server if it is not read to the end.
+     * @example
+     *     <pre>{@code
+     * FTAggregateCursorOptions cursorOptions = FTAggregateCursorOptions.builder().count(500).build();
+     * try (FTAggregateCursor cursor =
+     *         FT.aggregateCursor(client, gs("myIndex"), gs("*"), options, cursorOptions).get()) {
+     *     while (cursor.hasNext()) {
+     *         process(cursor.next());
+     *     }
+     * }
+     * }</pre>
+     */
+    public static CompletableFuture<FTAggregateCursor> aggregateCursor(
+            @NonNull BaseClient client,
+            @NonNull GlideString indexName,
+            @NonNull GlideString query,
+            @NonNull FTAggregateOptions options,
+            @NonNull FTAggregateCursorOptions cursorOptions) {
+        GlideString[] args =
+                concatenateArrays(
+                        new GlideString[] {gs("FT.AGGREGATE"), indexName, query},
+                        cursorOptions.toArgs(),
+                        options.toArgs());
+        Function<GlideString[], CompletableFuture<Object>> executor = cursorExecutor(client, indexName);
+        return executor
+                .apply(args)
+                .thenApply(
+                        reply -> new FTAggregateCursor(executor, indexName, cursorOptions, (Object[]) reply));
+    }
+
     /**
      * Runs a search or aggregation query and collects performance profiling information.
      *
@@ -929,4 +1011,23 @@ public class FT {
         throw new IllegalArgumentException(
                 "Unknown type of client, should be either `GlideClient` or `GlideClusterClient`");
     }
+
+    /**
+     * Get a function sending commands of a cursor to the node which holds it: in cluster mode, the
+     * primary owning the slot of the index name.
+     */
+    private static Function<GlideString[], CompletableFuture<Object>> cursorExecutor(
+            BaseClient client, GlideString indexName) {
+        if (client instanceof GlideClient) {
+            return args -> ((GlideClient) client).customCommand(args);
+        } else if (client instanceof GlideClusterClient) {
+            Route route = new SlotKeyRoute(indexName.toString(), SlotType.PRIMARY);
+            return args ->
+                    ((GlideClusterClient) client)
+                            .customCommand(args, route)
+                            .thenApply(ClusterValue::getSingleValue);
+        }
+        throw new IllegalArgumentException(
+                "Unknown type of client, should be either `GlideClient` or `GlideClusterClient`");
+    }
 }
@@ -11,6 +11,7 @@ import glide.api.GlideClusterClient;
 import glide.api.models.ClusterValue;
 import glide.api.models.GlideString;
 import glide.api.models.commands.ConditionalChange;
+import glide.api.models.commands.FT.FloatVectors;
 import glide.api.models.commands.json.JsonArrindexOptions;
 import glide.api.models.commands.json.JsonGetOptions;
 import glide.api.models.commands.json.JsonGetOptionsBinary;
@@ -98,6 +99,30 @@ public class Json {
         return executeCommand(client, new GlideString[] {gs(JSON_SET), key, path, value});
     }
 
+    /**
+     * Sets the value at the specified <code>path</code> stored at <code>key</code> to a vector, as a
+     * JSON array of numbers, such as a vector field of an <code>FT</code> index on JSON documents.
+     *
+     * @param client The Valkey GLIDE client to execute the command.
+     * @param key The <code>key</code> of the JSON document.
+     * @param path Represents the path within the JSON document where the vector will be set.
+     * @param vector The vector, without NaN or infinite values.
+     * @return A simple <code>"OK"</code> response if the value is successfully set.
+     * @example
+     *     <pre>{@code
+     * Json.set(client, "doc", "$", "{}").get();
+     * String value = Json.set(client, "doc", "$.vec", new float[] {1.5f, 2f}).get();
+     * assert value.equals("OK"); // doc is {"vec":[1.5,2.0]}
+     * }</pre>
+     */
+    public static CompletableFuture<String> set(
+            @NonNull BaseClient client,
+            @NonNull String key,
+            @NonNull String path,
+            @NonNull float[] vector) {
+        return executeCommand(client, new String[] {JSON_SET, key, path, FloatVectors.toJson(vector)});
+    }
+
     /**
      * Sets the JSON value at the specified <code>path</code> stored at <code>key</code>.
      *
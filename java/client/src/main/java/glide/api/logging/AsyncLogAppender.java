@@ -0,0 +1,215 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Queues log records in a bounded lock-free ring buffer and writes them from a background thread,
+ * in batches, so that logging threads never wait on the native logger. See {@link
+ * Logger#enableAsyncLogging(int)}.
+ *
+ * <p>The buffer has many producers and a single consumer. Each slot has a sequence number: a
+ * producer claims the slot at the tail with a CAS, fills it and publishes it by advancing its
+ * sequence, which the consumer waits for before reading it. When the buffer is full, the record is
+ * dropped and counted rather than blocking the caller.
+ */
+final class AsyncLogAppender {
+
+    /** Writes a batch of records: the first <code>count</code> elements of the arrays. */
+    @FunctionalInterface
+    interface BatchWriter {
+        void write(int[] levels, String[] logIdentifiers, String[] messages, int count);
+    }
+
+    /** The maximum number of records written in one call. */
+    static final int MAX_BATCH_SIZE = 256;
+
+    /**
+     * The tail once the drainer stopped: far beyond any slot's sequence, so that no producer can
+     * claim a slot any more.
+     */
+    private static final long CLOSED_TAIL = Long.MAX_VALUE / 2;
+
+    /** How long the drainer sleeps when idle, unless woken by a new record. */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final int[] levels;
+    private final String[] logIdentifiers;
+    private final String[] messages;
+
+    /** The next position to claim, shared by the producers. */
+    private final AtomicLong tail = new AtomicLong();
+
+    /** The next position to read, owned by the drainer. */
+    private long head = 0;
+
+    private final AtomicLong dropped;
+    private final BatchWriter writer;
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    /** Whether the drainer is parked, or about to, and must be woken by producers. */
+    private volatile boolean idle = false;
+
+    /**
+     * @param capacity The number of records the buffer holds, rounded up to a power of two.
+     * @param dropped Counts the records dropped because the buffer was full.
+     * @param writer Writes the batches, on the drainer thread.
+     */
+    AsyncLogAppender(int capacity, AtomicLong dropped, BatchWriter writer) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid log buffer capacity: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        size = size < capacity ? size << 1 : size;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.levels = new int[size];
+        this.logIdentifiers = new String[size];
+        this.messages = new String[size];
+        this.dropped = dropped;
+        this.writer = writer;
+        this.drainer = new Thread(this::drainLoop, "glide-log-appender");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * Queue a record, without blocking.
+     *
+     * @return <code>false</code> if the buffer is full or the appender closed, and the record was
+     *     dropped.
+     */
+    boolean append(int level, String logIdentifier, String message) {
+        if (!running) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        long position;
+        while (true) {
+            position = tail.get();
+            long sequence = sequences.get((int) position & mask);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (sequence < position) {
+                // The slot still holds the record of the previous lap
+                dropped.incrementAndGet();
+                return false;
+            }
+            // Otherwise another producer claimed the slot first, retry with the new tail
+        }
+        int index = (int) position & mask;
+        levels[index] = level;
+        logIdentifiers[index] = logIdentifier;
+        messages[index] = message;
+        sequences.lazySet(index, position + 1);
+        if (idle) {
+            idle = false;
+            LockSupport.unpark(drainer);
+        }
+        return true;
+    }
+
+    /** Stop the drainer, after it wrote the queued records. Records appended later are dropped. */
+    void close() {
+        running = false;
+        LockSupport.unpark(drainer);
+        if (Thread.currentThread() != drainer) {
+            try {
+                drainer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void drainLoop() {
+        int[] batchLevels = new int[MAX_BATCH_SIZE];
+        String[] batchIdentifiers = new String[MAX_BATCH_SIZE];
+        String[] batchMessages = new String[MAX_BATCH_SIZE];
+        while (true) {
+            int count = drain(batchLevels, batchIdentifiers, batchMessages);
+            if (count > 0) {
+                write(batchLevels, batchIdentifiers, batchMessages, count);
+                continue;
+            }
+            if (!running) {
+                finish(batchLevels, batchIdentifiers, batchMessages);
+                return;
+            }
+            idle = true;
+            // Re-check after publishing the flag, a producer may have missed it
+            if (!isEmpty()) {
+                idle = false;
+                continue;
+            }
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            idle = false;
+        }
+    }
+
+    /**
+     * Stop producers from claiming slots, write the records published meanwhile, and count as dropped
+     * those claimed by a producer which passed the {@link #running} check before the appender closed
+     * but did not publish them in time.
+     */
+    private void finish(int[] batchLevels, String[] batchIdentifiers, String[] batchMessages) {
+        long end = tail.getAndSet(CLOSED_TAIL);
+        int count;
+        while ((count = drain(batchLevels, batchIdentifiers, batchMessages)) > 0) {
+            write(batchLevels, batchIdentifiers, batchMessages, count);
+        }
+        if (end > head) {
+            dropped.addAndGet(end - head);
+        }
+    }
+
+    /** Move up to a batch of published records out of the buffer. */
+    private int drain(int[] batchLevels, String[] batchIdentifiers, String[] batchMessages) {
+        int count = 0;
+        while (count < MAX_BATCH_SIZE) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            batchLevels[count] = levels[index];
+            batchIdentifiers[count] = logIdentifiers[index];
+            batchMessages[count] = messages[index];
+            logIdentifiers[index] = null;
+            messages[index] = null;
+            // Hand the slot back to the producers for the next lap
+            sequences.lazySet(index, head + mask + 1);
+            head++;
+            count++;
+        }
+        return count;
+    }
+
+    private boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+
+    private void write(
+            int[] batchLevels, String[] batchIdentifiers, String[] batchMessages, int count) {
+        try {
+            writer.write(batchLevels, batchIdentifiers, batchMessages, count);
+        } catch (Throwable t) {
+            // There is nowhere left to log to; count the batch as lost rather than kill the drainer
+            dropped.addAndGet(count);
+        }
+        for (int i = 0; i < count; i++) {
+            batchIdentifiers[i] = null;
+            batchMessages[i] = null;
+        }
+    }
+}
@@ -4,9 +4,11 @@ package glide.api.logging;
 import static glide.ffi.resolvers.LoggerResolver.initInternal;
 import static glide.ffi.resolvers.LoggerResolver.logInternal;
 
+import glide.ffi.resolvers.LoggerResolver;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import lombok.Getter;
 import lombok.NonNull;
@@ -24,6 +26,10 @@ import lombok.NonNull;
  *
  * If none of these functions are called, the first log attempt will initialize a new logger with
  * default configuration.
+ *
+ * <p>By default, each accepted log is written by the calling thread. With {@link
+ * #enableAsyncLogging(int)}, logs are instead queued in a bounded buffer and written in batches by
+ * a background thread.
  */
 public final class Logger {
     @Getter
@@ -64,6 +70,16 @@ public final class Logger {
 
     @Getter private static Level loggerLevel;
 
+    /**
+     * Writes the logs in the background, <code>null</code> unless asynchronous logging is enabled.
+     */
+    private static volatile AsyncLogAppender asyncAppender;
+
+    /** Counts the logs dropped because the asynchronous buffer was full. */
+    private static final AtomicLong droppedLogs = new AtomicLong();
+
+    private static Thread shutdownHook;
+
     private static void initLogger(@NonNull Level level, String fileName) {
         loggerLevel = Level.fromInt(initInternal(level.getLevel(), fileName));
     }
@@ -130,7 +146,9 @@ public final class Logger {
             @NonNull Level level,
             @NonNull String logIdentifier,
             @NonNull Supplier<String> messageSupplier) {
-        log(level, logIdentifier, messageSupplier.get());
+        if (isEnabled(level)) {
+            write(level, logIdentifier, messageSupplier.get());
+        }
     }
 
     /**
@@ -142,18 +160,26 @@ public final class Logger {
      */
     public static void log(
             @NonNull Level level, @NonNull String logIdentifier, @NonNull String message) {
-        if (loggerLevel == null) {
-            initLogger(Level.DEFAULT, null);
+        if (isEnabled(level)) {
+            write(level, logIdentifier, message);
         }
+    }
 
-        if (level == Level.OFF) {
-            return;
+    /** Whether logs of the given level pass the logger level, initializing the logger if needed. */
+    private static boolean isEnabled(Level level) {
+        if (loggerLevel == null) {
+            initLogger(Level.DEFAULT, null);
         }
+        return level != Level.OFF && level.getLevel() <= loggerLevel.getLevel();
+    }
 
-        if (!(level.getLevel() <= loggerLevel.getLevel())) {
-            return;
+    private static void write(Level level, String logIdentifier, String message) {
+        AsyncLogAppender appender = asyncAppender;
+        if (appender != null) {
+            appender.append(level.getLevel(), logIdentifier, message);
+        } else {
+            logInternal(level.getLevel(), logIdentifier, message);
         }
-        logInternal(level.getLevel(), logIdentifier, message);
     }
 
     /**
@@ -169,7 +195,9 @@ public final class Logger {
             @NonNull String logIdentifier,
             @NonNull String message,
             @NonNull Throwable throwable) {
-        log(level, logIdentifier, message + ": " + prettyPrintException(throwable));
+        if (isEnabled(level)) {
+            write(level, logIdentifier, message + ": " + prettyPrintException(throwable));
+        }
     }
 
     /**
@@ -186,7 +214,9 @@ public final class Logger {
             @NonNull String logIdentifier,
             @NonNull Supplier<String> messageSupplier,
             @NonNull Throwable throwable) {
-        log(level, logIdentifier, messageSupplier.get() + ": " + prettyPrintException(throwable));
+        if (isEnabled(level)) {
+            write(level, logIdentifier, messageSupplier.get() + ": " + prettyPrintException(throwable));
+        }
     }
 
     private static String prettyPrintException(@NonNull Throwable throwable) {
@@ -200,6 +230,51 @@ public final class Logger {
         }
     }
 
+    /**
+     * Write logs from a background thread instead of the calling thread. Accepted logs are queued in
+     * a lock-free buffer holding up to <code>capacity</code> logs, and written to the native logger
+     * in batches. When the buffer is full, logs are dropped and counted by {@link
+     * #getDroppedLogCount()}, so that logging never blocks the caller. Queued logs are written when
+     * asynchronous logging is disabled, or when the JVM exits.
+     *
+     * <p>Calling it again replaces the buffer, after writing the logs queued in the previous one.
+     *
+     * @param capacity The number of logs the buffer holds, rounded up to a power of two.
+     */
+    public static synchronized void enableAsyncLogging(int capacity) {
+        AsyncLogAppender appender =
+                new AsyncLogAppender(capacity, droppedLogs, LoggerResolver::logBatchInternal);
+        AsyncLogAppender previous = asyncAppender;
+        asyncAppender = appender;
+        if (previous != null) {
+            previous.close();
+        }
+        if (shutdownHook == null) {
+            shutdownHook = new Thread(Logger::disableAsyncLogging, "glide-log-appender-shutdown");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+    }
+
+    /**
+     * Write logs from the calling thread again, after writing the logs queued by {@link
+     * #enableAsyncLogging(int)}.
+     */
+    public static synchronized void disableAsyncLogging() {
+        AsyncLogAppender appender = asyncAppender;
+        asyncAppender = null;
+        if (appender != null) {
+            appender.close();
+        }
+    }
+
+    /**
+     * Returns the number of logs dropped because the buffer of {@link #enableAsyncLogging(int)} was
+     * full.
+     */
+    public static long getDroppedLogCount() {
+        return droppedLogs.get();
+    }
+
     /**
      * Creates a new logger instance and configure it with the provided log level and file name.
      *
@@ -0,0 +1,62 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.NonNull;
+
+/**
+ * A value read without copying, held in native memory until the lease is closed.
+ *
+ * <p>The memory is released by {@link #close()}, not by the garbage collector, so a lease must
+ * always be closed, preferably with try-with-resources. The buffer must not be read once the lease
+ * is closed.
+ *
+ * @see glide.api.commands.StringBaseCommands#getAsBuffer(GlideString)
+ */
+public final class BufferLease implements AutoCloseable {
+
+    private final ByteBuffer buffer;
+    private final Runnable release;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * @param buffer The leased memory.
+     * @param release Releases the memory, run once when the lease is closed.
+     */
+    public BufferLease(@NonNull ByteBuffer buffer, @NonNull Runnable release) {
+        this.buffer = buffer.asReadOnlyBuffer();
+        this.release = release;
+    }
+
+    /**
+     * Get a read-only view of the value, positioned at its start. Each call returns a new view, so
+     * reading one does not move the others.
+     *
+     * @throws IllegalStateException If the lease is closed.
+     */
+    public ByteBuffer getBuffer() {
+        if (closed.get()) {
+            throw new IllegalStateException("Buffer lease is closed");
+        }
+        return buffer.duplicate();
+    }
+
+    /** The size of the value in bytes. */
+    public int size() {
+        return buffer.remaining();
+    }
+
+    /** Whether the lease is closed and its memory released. */
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /** Release the memory. Closing a closed lease does nothing. */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            release.run();
+        }
+    }
+}
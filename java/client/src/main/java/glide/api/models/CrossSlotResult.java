@@ -0,0 +1,37 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models;
+
+import glide.api.models.exceptions.GlideException;
+import java.util.Collections;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * The result of a multi-key command split by hash slot, such as {@link
+ * glide.api.commands.StringClusterCommands#mgetAcrossSlots(String[])}. Each slot is a command of
+ * its own, so some may fail while the others succeed.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the value.
+ */
+@Getter
+public class CrossSlotResult<K, V> {
+
+    /** The value computed from the slots which succeeded. */
+    private final V value;
+
+    /**
+     * The keys of the slots which failed, in the order of the request, with the error of their slot.
+     */
+    private final Map<K, GlideException> failures;
+
+    public CrossSlotResult(V value, Map<K, GlideException> failures) {
+        this.value = value;
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /** Whether all the slots succeeded. */
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+}
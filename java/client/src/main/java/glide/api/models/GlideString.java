@@ -48,6 +48,16 @@ public class GlideString implements Comparable<GlideString> {
         return res;
     }
 
+    /**
+     * Create a GlideString using a range of a byte array, from index <code>from</code> inclusive to
+     * <code>to</code> exclusive.
+     */
+    public static GlideString of(byte[] bytes, int from, int to) {
+        GlideString res = new GlideString();
+        res.bytes = Arrays.copyOfRange(bytes, from, to);
+        return res;
+    }
+
     /** Allow converting any type to GlideString */
     public static <ArgType> GlideString of(ArgType o) {
         if (o instanceof GlideString) {
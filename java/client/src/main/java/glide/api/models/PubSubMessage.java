@@ -5,7 +5,12 @@ import java.util.Optional;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
-/** PubSub message received by the client. */
+/**
+ * PubSub message received by the client.
+ *
+ * <p>Messages received from the server may be views which only build their parts when first read,
+ * so the getters should be used rather than the fields.
+ */
 @Getter
 @EqualsAndHashCode
 public class PubSubMessage {
@@ -32,9 +37,9 @@ public class PubSubMessage {
 
     @Override
     public String toString() {
-        String res = String.format("(%s, channel = %s", message, channel);
-        if (pattern.isPresent()) {
-            res += ", pattern = " + pattern.get();
+        String res = String.format("(%s, channel = %s", getMessage(), getChannel());
+        if (getPattern().isPresent()) {
+            res += ", pattern = " + getPattern().get();
         }
         return res + ")";
     }
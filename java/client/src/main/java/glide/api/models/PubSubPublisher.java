@@ -0,0 +1,55 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models;
+
+/**
+ * A publisher of the pubsub messages received by a client, with demand-driven backpressure.
+ *
+ * <p>The interfaces follow the contract of <code>java.util.concurrent.Flow</code> and Reactive
+ * Streams, which are not available on Java 8, so they can be bridged with a few lines of code, for
+ * example with <code>Flux.create</code> in Reactor. Messages are taken from the client's message
+ * queue only as they are requested: without demand they stay in the queue, bounded by its capacity
+ * and overflow policy.
+ *
+ * <p>A client's messages have a single consumer: a publisher accepts one subscriber at a time, a
+ * second one gets {@link Subscriber#onError} with an {@link IllegalStateException}. Signals are
+ * serialized, and run either on the thread calling {@link Subscription#request(long)} or on the
+ * thread receiving push notifications, so a slow {@link Subscriber#onNext} delays the client's
+ * pushes; subscribers doing blocking work should hand messages to their own executor.
+ *
+ * @see glide.api.BaseClient#getPubSubPublisher()
+ */
+public interface PubSubPublisher {
+
+    /** Start delivering messages to <code>subscriber</code> as it requests them. */
+    void subscribe(Subscriber subscriber);
+
+    /** A receiver of messages. */
+    interface Subscriber {
+
+        /** Called once, before any other signal. */
+        void onSubscribe(Subscription subscription);
+
+        /** A message, never called more times than requested. */
+        void onNext(PubSubMessage message);
+
+        /** Terminal: the subscription failed. */
+        void onError(Throwable throwable);
+
+        /** Terminal: the client was closed and all its queued messages were delivered. */
+        void onComplete();
+    }
+
+    /** The link between a {@link PubSubPublisher} and its {@link Subscriber}. */
+    interface Subscription {
+
+        /**
+         * Request <code>n</code> more messages. Demands add up, {@link Long#MAX_VALUE} meaning
+         * unbounded. A non-positive <code>n</code> cancels the subscription with {@link
+         * Subscriber#onError}.
+         */
+        void request(long n);
+
+        /** Stop delivering messages. Messages not delivered yet stay in the queue. */
+        void cancel();
+    }
+}
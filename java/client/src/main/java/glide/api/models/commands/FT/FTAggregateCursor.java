@@ -0,0 +1,180 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.commands.FT;
+
+import static glide.api.models.GlideString.gs;
+
+import glide.api.BaseClient;
+import glide.api.commands.servermodules.FT;
+import glide.api.models.GlideString;
+import glide.api.models.exceptions.RequestException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.NonNull;
+
+/**
+ * The results of an <code>FT.AGGREGATE</code> query, read page by page with <code>FT.CURSOR READ
+ * </code> as they are iterated, so that memory use does not grow with the size of the aggregation.
+ * Returned by {@link FT#aggregateCursor(BaseClient, String, String, FTAggregateOptions,
+ * FTAggregateCursorOptions)}.
+ *
+ * <p>Reading the next page blocks the iterating thread. Closing the cursor before its results are
+ * exhausted deletes it on the server with <code>FT.CURSOR DEL</code>; use it in a
+ * try-with-resources block, or close the {@link #stream()}. A cursor is not thread-safe.
+ *
+ * @example
+ *     <pre>{@code
+ * try (FTAggregateCursor cursor = FT.aggregateCursor(client, "idx", "*", options,
+ *         FTAggregateCursorOptions.builder().count(500).build()).get()) {
+ *     while (cursor.hasNext()) {
+ *         Map<GlideString, Object> row = cursor.next();
+ *         // ...
+ *     }
+ * }
+ * }</pre>
+ */
+public final class FTAggregateCursor implements Iterator<Map<GlideString, Object>>, AutoCloseable {
+
+    private final Function<GlideString[], CompletableFuture<Object>> executor;
+    private final GlideString indexName;
+    private final GlideString count;
+    private final boolean prefetch;
+
+    private Object[] page;
+    private int position = 0;
+
+    /** The id of the cursor on the server, 0 once its results are exhausted. */
+    private long cursorId;
+
+    /** The read of the next page, if already requested. */
+    private CompletableFuture<Object[]> pending = null;
+
+    private boolean closed = false;
+
+    /**
+     * Wrap the first reply of an <code>FT.AGGREGATE</code> query sent with <code>WITHCURSOR</code>.
+     * Used by {@link FT}.
+     *
+     * @param executor Sends a command to the node holding the cursor.
+     * @param indexName The index name.
+     * @param options The paging options.
+     * @param reply The reply of the query: its first page and the cursor id.
+     */
+    public FTAggregateCursor(
+            @NonNull Function<GlideString[], CompletableFuture<Object>> executor,
+            @NonNull GlideString indexName,
+            @NonNull FTAggregateCursorOptions options,
+            @NonNull Object[] reply) {
+        this.executor = executor;
+        this.indexName = indexName;
+        this.count = gs(Integer.toString(options.getCount()));
+        this.prefetch = options.isPrefetch();
+        accept(reply);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (position >= page.length) {
+            if (cursorId == 0 || closed) {
+                return false;
+            }
+            CompletableFuture<Object[]> read = pending != null ? pending : read();
+            pending = null;
+            accept(await(read));
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<GlideString, Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Map<GlideString, Object> row = (Map<GlideString, Object>) page[position];
+        // Release the row, so that only the rows not consumed yet stay reachable
+        page[position++] = null;
+        return row;
+    }
+
+    /**
+     * Get the remaining results as a sequential stream. Closing the stream closes the cursor.
+     *
+     * @return The stream of results.
+     */
+    public Stream<Map<GlideString, Object>> stream() {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Stop reading results. If the cursor is not exhausted, it is deleted on the server once any read
+     * in flight completes. Does not wait for the deletion.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        page = new Object[0];
+        if (cursorId == 0) {
+            return;
+        }
+        GlideString[] delete = {gs("FT.CURSOR"), gs("DEL"), indexName, gs(Long.toString(cursorId))};
+        // A cursor cannot be deleted while it is read; the prefetched page is discarded
+        CompletableFuture<?> previous =
+                pending != null
+                        ? pending.handle((reply, error) -> null)
+                        : CompletableFuture.completedFuture(null);
+        pending = null;
+        previous.thenCompose(ignored -> executor.apply(delete)).exceptionally(error -> null);
+    }
+
+    /** Take a page and its cursor id, and request the next page if prefetching. */
+    private void accept(Object[] reply) {
+        page = reply[0] instanceof Object[] ? (Object[]) reply[0] : new Object[0];
+        position = 0;
+        cursorId = reply.length > 1 && reply[1] != null ? Long.parseLong(reply[1].toString()) : 0;
+        if (prefetch && cursorId != 0) {
+            pending = read();
+        }
+    }
+
+    private CompletableFuture<Object[]> read() {
+        return executor
+                .apply(
+                        new GlideString[] {
+                            gs("FT.CURSOR"),
+                            gs("READ"),
+                            indexName,
+                            gs(Long.toString(cursorId)),
+                            gs("COUNT"),
+                            count
+                        })
+                .thenApply(reply -> (Object[]) reply);
+    }
+
+    private static Object[] await(CompletableFuture<Object[]> read) {
+        try {
+            return read.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RequestException("Interrupted while reading an FT.AGGREGATE cursor");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RequestException(e.getCause().toString());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.commands.FT;
+
+import static glide.api.models.GlideString.gs;
+
+import glide.api.BaseClient;
+import glide.api.commands.servermodules.FT;
+import glide.api.models.GlideString;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Paging of the results of {@link FT#aggregateCursor(BaseClient, String, String,
+ * FTAggregateOptions, FTAggregateCursorOptions)} with a cursor.
+ */
+@Builder
+@Getter
+public class FTAggregateCursorOptions {
+
+    /** The number of results read per page. Defaults to 1000. */
+    @Builder.Default private final int count = 1000;
+
+    /**
+     * How long the server keeps an unread cursor, in milliseconds. If not set, the server default
+     * applies.
+     */
+    private final Integer maxIdleMillis;
+
+    /**
+     * Whether to request the next page as soon as a page is received, so that it is read while the
+     * current page is consumed. At most two pages are held at a time. Defaults to <code>true</code>.
+     */
+    @Builder.Default private final boolean prefetch = true;
+
+    /**
+     * Convert to module API. The arguments must follow the query right away: the client only
+     * recognizes a cursor reply by <code>WITHCURSOR</code> in that position.
+     */
+    public GlideString[] toArgs() {
+        List<GlideString> args = new ArrayList<>();
+        args.add(gs("WITHCURSOR"));
+        args.add(gs("COUNT"));
+        args.add(gs(Integer.toString(count)));
+        if (maxIdleMillis != null) {
+            args.add(gs("MAXIDLE"));
+            args.add(gs(maxIdleMillis.toString()));
+        }
+        return args.toArray(new GlideString[0]);
+    }
+}
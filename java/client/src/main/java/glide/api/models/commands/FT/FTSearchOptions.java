@@ -128,6 +128,34 @@ public class FTSearchOptions {
             return this;
         }
 
+        /**
+         * Add a query parameter holding a vector, such as the query vector of a KNN query, encoded as
+         * little-endian 32-bit floats.
+         *
+         * @param name The name of the parameter, referenced as <code>$name</code> in the query.
+         * @param vector The vector.
+         */
+        public FTSearchOptionsBuilder vectorParam(@NonNull String name, @NonNull float[] vector) {
+            return vectorParam(gs(name), vector);
+        }
+
+        /**
+         * Add a query parameter holding a vector, such as the query vector of a KNN query, encoded as
+         * little-endian 32-bit floats.
+         *
+         * @param name The name of the parameter, referenced as <code>$name</code> in the query.
+         * @param vector The vector.
+         */
+        public FTSearchOptionsBuilder vectorParam(@NonNull GlideString name, @NonNull float[] vector) {
+            // Copy the parameters, which may have been given as an immutable map
+            Map<GlideString, GlideString> params =
+                    this.params$set ? new HashMap<>(this.params$value) : new HashMap<>();
+            params.put(name, FloatVectors.toBinary(vector));
+            this.params$value = params;
+            this.params$set = true;
+            return this;
+        }
+
         /**
          * Once set, the query will return only number of documents in the result set without actually
          * returning them.
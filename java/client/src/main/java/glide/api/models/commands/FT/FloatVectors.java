@@ -0,0 +1,83 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.commands.FT;
+
+import glide.api.models.GlideString;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Conversions of <code>float</code> vectors to and from the formats of <code>FT</code> vector
+ * fields: little-endian 32-bit floats for hash fields and query parameters, and arrays of numbers
+ * for JSON documents.
+ *
+ * <p>To store vectors in hashes, prefer {@link
+ * glide.api.commands.HashBaseCommands#hset(GlideString, GlideString, float[])}, which writes the
+ * floats straight into the request.
+ */
+public final class FloatVectors {
+
+    private FloatVectors() {}
+
+    /**
+     * Encode a vector as little-endian 32-bit floats.
+     *
+     * @example
+     *     <pre>{@code
+     * FTSearchOptions options = FTSearchOptions.builder()
+     *     .params(Map.of(gs("query_vec"), FloatVectors.toBinary(embedding)))
+     *     .build();
+     * }</pre>
+     */
+    public static GlideString toBinary(float[] vector) {
+        return toBinary(FloatBuffer.wrap(vector));
+    }
+
+    /**
+     * Encode the floats between the position and the limit of a vector as little-endian 32-bit
+     * floats. The position of <code>vector</code> is not moved.
+     */
+    public static GlideString toBinary(FloatBuffer vector) {
+        byte[] bytes = new byte[vector.remaining() * Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().put(vector.duplicate());
+        return GlideString.of(bytes);
+    }
+
+    /**
+     * Decode a vector stored as little-endian 32-bit floats, such as a vector field returned by
+     * <code>FT.SEARCH</code> or <code>HGET</code>.
+     *
+     * @throws IllegalArgumentException If the length of <code>value</code> is not a multiple of 4.
+     */
+    public static float[] fromBinary(GlideString value) {
+        byte[] bytes = value.getBytes();
+        if (bytes.length % Float.BYTES != 0) {
+            throw new IllegalArgumentException(
+                    "A float vector cannot be " + bytes.length + " bytes long");
+        }
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    /**
+     * Format a vector as a JSON array of numbers, as stored in JSON documents.
+     *
+     * @throws IllegalArgumentException If the vector holds NaN or infinite values, which JSON cannot
+     *     represent.
+     */
+    public static String toJson(float[] vector) {
+        StringBuilder json = new StringBuilder(vector.length * 12 + 2).append('[');
+        for (int i = 0; i < vector.length; i++) {
+            float value = vector[i];
+            if (Float.isNaN(value) || Float.isInfinite(value)) {
+                throw new IllegalArgumentException("JSON cannot represent the vector element " + value);
+            }
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(value);
+        }
+        return json.append(']').toString();
+    }
+}
@@ -0,0 +1,99 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.commands.FT;
+
+import static glide.api.models.GlideString.gs;
+
+import glide.api.commands.servermodules.FT;
+import glide.api.models.GlideString;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The documents found by a KNN query of {@link FT#search}, with their scores in primitive arrays:
+ * <code>getIds()[i]</code> has the score <code>getScores()[i]</code>. Documents are sorted by
+ * score, closest first.
+ *
+ * @example
+ *     <pre>{@code
+ * Object[] reply = FT.search(client, "idx", "*=>[KNN 10 @vec $query_vec]",
+ *         FTSearchOptions.builder().vectorParam("query_vec", embedding).build()).get();
+ * KnnResult result = KnnResult.fromSearchReply(reply, "vec");
+ * GlideString closest = result.getIds()[0];
+ * }</pre>
+ */
+@Getter
+public final class KnnResult {
+
+    /** The keys of the documents. */
+    private final GlideString[] ids;
+
+    /** The score of each document, <code>NaN</code> if it was not returned. */
+    private final double[] scores;
+
+    private KnnResult(GlideString[] ids, double[] scores) {
+        this.ids = ids;
+        this.scores = scores;
+    }
+
+    /** Get the number of documents. */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Decode the reply of a KNN query, whose scores are returned in the default <code>
+     * __&lt;field&gt;_score</code> attribute.
+     *
+     * @param reply The reply of {@link FT#search}.
+     * @param vectorField The vector field of the query, without the <code>@</code> sign.
+     */
+    public static KnnResult fromSearchReply(@NonNull Object[] reply, @NonNull String vectorField) {
+        return fromSearchReply(reply, gs("__" + vectorField + "_score"));
+    }
+
+    /**
+     * Decode the reply of a KNN query.
+     *
+     * @param reply The reply of {@link FT#search}.
+     * @param scoreField The attribute holding the scores, such as <code>__vec_score</code>, or its
+     *     alias given with <code>AS</code> in the query.
+     */
+    @SuppressWarnings("unchecked")
+    public static KnnResult fromSearchReply(
+            @NonNull Object[] reply, @NonNull GlideString scoreField) {
+        if (reply.length < 2 || !(reply[1] instanceof Map)) {
+            // Count-only reply
+            return new KnnResult(new GlideString[0], new double[0]);
+        }
+        Map<GlideString, Object> documents = (Map<GlideString, Object>) reply[1];
+        GlideString[] ids = new GlideString[documents.size()];
+        double[] scores = new double[documents.size()];
+        int i = 0;
+        for (Map.Entry<GlideString, Object> document : documents.entrySet()) {
+            ids[i] = document.getKey();
+            Object score =
+                    document.getValue() instanceof Map
+                            ? ((Map<GlideString, Object>) document.getValue()).get(scoreField)
+                            : null;
+            scores[i] = score == null ? Double.NaN : Double.parseDouble(score.toString());
+            i++;
+        }
+
+        // Replies are maps, so restore the order of the scores; documents without one go last
+        Integer[] order = new Integer[ids.length];
+        for (int j = 0; j < order.length; j++) {
+            order[j] = j;
+        }
+        Arrays.sort(order, Comparator.comparingDouble(j -> scores[j]));
+        GlideString[] sortedIds = new GlideString[ids.length];
+        double[] sortedScores = new double[ids.length];
+        for (int j = 0; j < order.length; j++) {
+            sortedIds[j] = ids[order[j]];
+            sortedScores[j] = scores[order[j]];
+        }
+        return new KnnResult(sortedIds, sortedScores);
+    }
+}
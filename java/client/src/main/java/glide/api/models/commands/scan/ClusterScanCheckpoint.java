@@ -0,0 +1,103 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.commands.scan;
+
+import glide.api.commands.GenericClusterCommands;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+
+/**
+ * The progress of a {@link GenericClusterCommands#scanAll} iteration: for each primary node, the
+ * <code>SCAN</code> cursor to continue from, or whether its scan is complete.
+ *
+ * <p>A checkpoint only covers the key batches returned to the caller, so resuming from it may
+ * return some keys again but never skips one. It can be kept with {@link #encode()} or Java
+ * serialization and restored with {@link #decode(String)}.
+ *
+ * <p>Cursors are bound to their node. When resuming, primaries missing from the checkpoint, such as
+ * a replica promoted after a failover, are scanned from the start, and entries of nodes no longer
+ * primary are ignored. Slots moved to a node which had already completed its scan are not scanned
+ * again.
+ */
+@EqualsAndHashCode
+public final class ClusterScanCheckpoint implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** The cursor value of a node whose scan is complete. */
+    static final String FINISHED = "finished";
+
+    /** The cursor value starting a scan, and returned once it is complete. */
+    static final String INITIAL = "0";
+
+    /** A checkpoint starting a new scan on every primary. */
+    public static final ClusterScanCheckpoint INITIAL_CHECKPOINT =
+            new ClusterScanCheckpoint(Collections.emptyMap());
+
+    /** Cursor or {@link #FINISHED} per node address, formatted as <code>"host:port"</code>. */
+    private final TreeMap<String, String> cursors;
+
+    ClusterScanCheckpoint(Map<String, String> cursors) {
+        this.cursors = new TreeMap<>(cursors);
+    }
+
+    /** The cursor to continue the scan of node <code>address</code> from. */
+    String getCursor(String address) {
+        return cursors.getOrDefault(address, INITIAL);
+    }
+
+    /** Whether every node known to this checkpoint has completed its scan. */
+    public boolean isFinished() {
+        if (cursors.isEmpty()) {
+            return false;
+        }
+        for (String cursor : cursors.values()) {
+            if (!FINISHED.equals(cursor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Encode the checkpoint as a string, restored by {@link #decode(String)}.
+     *
+     * @return <code>address=cursor</code> pairs separated by commas.
+     */
+    public String encode() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, String> entry : cursors.entrySet()) {
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Restore a checkpoint from the string returned by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException If <code>encoded</code> is not a checkpoint.
+     */
+    public static ClusterScanCheckpoint decode(@NonNull String encoded) {
+        Map<String, String> cursors = new TreeMap<>();
+        if (!encoded.isEmpty()) {
+            for (String pair : encoded.split(",")) {
+                int separator = pair.lastIndexOf('=');
+                if (separator <= 0 || separator == pair.length() - 1) {
+                    throw new IllegalArgumentException("Invalid cluster scan checkpoint: " + encoded);
+                }
+                cursors.put(pair.substring(0, separator), pair.substring(separator + 1));
+            }
+        }
+        return new ClusterScanCheckpoint(cursors);
+    }
+
+    @Override
+    public String toString() {
+        return "ClusterScanCheckpoint(" + encode() + ")";
+    }
+}
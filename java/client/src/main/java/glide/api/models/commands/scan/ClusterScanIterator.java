@@ -0,0 +1,333 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.commands.scan;
+
+import glide.api.commands.GenericClusterCommands;
+import glide.api.models.exceptions.GlideException;
+import glide.api.models.exceptions.RequestException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over the keys of a cluster, in batches, scanning several primary nodes at the same time
+ * with a <code>SCAN</code> cursor of their own.
+ *
+ * <p>Up to <code>parallelism</code> nodes are scanned at once, each with at most one <code>SCAN
+ * </code> in flight. Batches are fetched ahead of the caller, up to twice the parallelism, and
+ * fetching pauses while they are not consumed. {@link #getCheckpoint()} tells how far the batches
+ * returned so far go, to resume the iteration later.
+ *
+ * <p>{@link #hasNext()} and {@link #next()} block until a batch is available, and throw the {@link
+ * GlideException} of a failed <code>SCAN</code>. Batches are never empty.
+ *
+ * <p>The primary nodes are found once, with <code>CLUSTER SLOTS</code>, and addressed by their
+ * preferred endpoint like the client routes to them, so clusters announcing hostnames are
+ * supported. Each node is scanned with its own <code>SCAN</code> cursor, which returns every key
+ * that stays on the node for the whole scan. Keys that move to another node meanwhile (slot
+ * migration or resharding) may be missed or returned twice, and nodes joining the cluster after the
+ * start are not scanned. A node that is not reachable at its address any more, e.g. after a
+ * failover, fails the iteration.
+ *
+ * @param <T> The type of the keys.
+ * @see GenericClusterCommands#scanAll
+ */
+public class ClusterScanIterator<T> implements Iterator<List<T>>, AutoCloseable {
+
+    private final Supplier<CompletableFuture<List<String>>> primaryNodes;
+    private final BiFunction<String, String, CompletableFuture<Object[]>> scan;
+    private final Function<Object, T> keyMapper;
+    private final ClusterScanCheckpoint checkpoint;
+    private final int parallelism;
+    private final int prefetch;
+
+    // All the fields below are guarded by `this`
+
+    /** Cursor or {@link ClusterScanCheckpoint#FINISHED} per node, as of the returned batches. */
+    private final Map<String, String> committed = new LinkedHashMap<>();
+
+    /** Nodes waiting for their scan to start. */
+    private final Deque<String> waiting = new ArrayDeque<>();
+
+    /** Nodes being scanned, with the cursor of their next <code>SCAN</code>. */
+    private final Map<String, String> active = new LinkedHashMap<>();
+
+    /** Nodes with a <code>SCAN</code> in flight. */
+    private final Set<String> inFlight = new HashSet<>();
+
+    /** Batches fetched, not returned yet. */
+    private final Deque<Batch<T>> ready = new ArrayDeque<>();
+
+    private boolean started = false;
+    private boolean discovered = false;
+    private boolean closed = false;
+    private RuntimeException failure = null;
+
+    /**
+     * Use {@link GenericClusterCommands#scanAll} to get an iterator.
+     *
+     * @param primaryNodes Gets the addresses of the primary nodes, as <code>"host:port"</code>, see
+     *     {@link #primaryAddresses(Object[])}.
+     * @param scan Runs <code>SCAN</code> on a node, given its address and a cursor, returning the
+     *     next cursor and an array of keys.
+     * @param keyMapper Converts the keys returned by <code>scan</code>.
+     * @param checkpoint Where to start from.
+     * @param parallelism The maximum number of nodes scanned at the same time.
+     */
+    public ClusterScanIterator(
+            Supplier<CompletableFuture<List<String>>> primaryNodes,
+            BiFunction<String, String, CompletableFuture<Object[]>> scan,
+            Function<Object, T> keyMapper,
+            ClusterScanCheckpoint checkpoint,
+            int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive, got " + parallelism);
+        }
+        this.primaryNodes = primaryNodes;
+        this.scan = scan;
+        this.keyMapper = keyMapper;
+        this.checkpoint = checkpoint;
+        this.parallelism = parallelism;
+        this.prefetch = 2 * parallelism;
+    }
+
+    @Override
+    public boolean hasNext() {
+        start();
+        while (true) {
+            synchronized (this) {
+                if (failure != null) {
+                    throw failure;
+                }
+                if (!ready.isEmpty()) {
+                    return true;
+                }
+                if (closed || discovered && waiting.isEmpty() && active.isEmpty()) {
+                    return false;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new GlideException("Interrupted while waiting for SCAN results");
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Batch<T> batch;
+        synchronized (this) {
+            batch = ready.poll();
+            committed.put(batch.address, batch.cursor);
+        }
+        fill();
+        return batch.keys;
+    }
+
+    /** The progress of the iteration, as of the batches returned so far by {@link #next()}. */
+    public synchronized ClusterScanCheckpoint getCheckpoint() {
+        return discovered ? new ClusterScanCheckpoint(committed) : checkpoint;
+    }
+
+    /** A sequential stream of the batches, closing this iterator when closed. */
+    public Stream<List<T>> stream() {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(this::close);
+    }
+
+    /** Stop fetching batches. <code>SCAN</code> requests in flight are left to complete. */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    /** Discover the primary nodes on first use. */
+    private void start() {
+        synchronized (this) {
+            if (started) {
+                return;
+            }
+            started = true;
+        }
+        primaryNodes
+                .get()
+                .whenComplete(
+                        (nodes, error) -> {
+                            synchronized (this) {
+                                if (error != null) {
+                                    fail(error);
+                                    return;
+                                }
+                                try {
+                                    for (String address : nodes) {
+                                        String cursor = checkpoint.getCursor(address);
+                                        committed.put(address, cursor);
+                                        if (!ClusterScanCheckpoint.FINISHED.equals(cursor)) {
+                                            waiting.add(address);
+                                        }
+                                    }
+                                } catch (RuntimeException e) {
+                                    fail(e);
+                                    return;
+                                }
+                                discovered = true;
+                                notifyAll();
+                            }
+                            fill();
+                        });
+    }
+
+    /** Send <code>SCAN</code> requests while the parallelism and the prefetch allow it. */
+    private void fill() {
+        Map<String, String> launches = new LinkedHashMap<>();
+        synchronized (this) {
+            if (closed || failure != null || !discovered) {
+                return;
+            }
+            while (active.size() < parallelism && !waiting.isEmpty()) {
+                String address = waiting.poll();
+                active.put(address, committed.get(address));
+            }
+            for (Map.Entry<String, String> node : active.entrySet()) {
+                if (inFlight.size() + ready.size() >= prefetch) {
+                    break;
+                }
+                if (inFlight.add(node.getKey())) {
+                    launches.put(node.getKey(), node.getValue());
+                }
+            }
+        }
+        // Outside of the lock, as a request may complete right away
+        for (Map.Entry<String, String> launch : launches.entrySet()) {
+            String address = launch.getKey();
+            CompletableFuture<Object[]> request;
+            try {
+                request = scan.apply(address, launch.getValue());
+            } catch (RuntimeException e) {
+                onResult(address, null, e);
+                continue;
+            }
+            request.whenComplete((result, error) -> onResult(address, result, error));
+        }
+    }
+
+    private void onResult(String address, Object[] result, Throwable error) {
+        synchronized (this) {
+            inFlight.remove(address);
+            if (closed) {
+                return;
+            }
+            if (error != null) {
+                fail(error);
+                return;
+            }
+            // Fail rather than let whenComplete swallow the error, which would leave hasNext waiting
+            String cursor;
+            List<T> keys = new ArrayList<>();
+            try {
+                cursor = result[0].toString();
+                for (Object key : (Object[]) result[1]) {
+                    keys.add(keyMapper.apply(key));
+                }
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+            boolean finished = ClusterScanCheckpoint.INITIAL.equals(cursor);
+            if (finished) {
+                active.remove(address);
+            } else {
+                active.put(address, cursor);
+            }
+            String checkpointCursor = finished ? ClusterScanCheckpoint.FINISHED : cursor;
+            if (keys.isEmpty() && !hasPendingBatch(address)) {
+                // Nothing to return, the cursor can be committed now
+                committed.put(address, checkpointCursor);
+            } else {
+                ready.add(new Batch<>(address, checkpointCursor, Collections.unmodifiableList(keys)));
+            }
+            notifyAll();
+        }
+        fill();
+    }
+
+    /** Whether a batch of node <code>address</code> is waiting to be returned. */
+    private boolean hasPendingBatch(String address) {
+        for (Batch<T> batch : ready) {
+            if (batch.address.equals(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void fail(Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        failure =
+                cause instanceof RuntimeException
+                        ? (RuntimeException) cause
+                        : new RequestException(String.valueOf(cause.getMessage()));
+        notifyAll();
+    }
+
+    /**
+     * Get the addresses of the primary nodes serving slots, as <code>"host:port"</code>, from the
+     * reply of <code>CLUSTER SLOTS</code>. The host is the node's preferred endpoint (its IP,
+     * hostname or announced address, as configured by <code>cluster-preferred-endpoint-type</code>),
+     * which is also what the client connects to.
+     *
+     * @throws RequestException if the endpoint of a primary is unknown.
+     */
+    public static List<String> primaryAddresses(Object[] clusterSlots) {
+        Set<String> addresses = new LinkedHashSet<>();
+        for (Object range : clusterSlots) {
+            // [start, end, [endpoint, port, id, metadata], replicas...]
+            Object[] primary = (Object[]) ((Object[]) range)[2];
+            String endpoint = primary[0] == null ? "" : primary[0].toString();
+            if (endpoint.isEmpty() || "?".equals(endpoint)) {
+                throw new RequestException(
+                        "The endpoint of a primary node is unknown, set cluster-preferred-endpoint-type");
+            }
+            addresses.add(endpoint + ":" + primary[1]);
+        }
+        return new ArrayList<>(addresses);
+    }
+
+    /** Keys returned by a <code>SCAN</code>, with the cursor of the node after them. */
+    private static final class Batch<T> {
+        final String address;
+        final String cursor;
+        final List<T> keys;
+
+        Batch(String address, String cursor, List<T> keys) {
+            this.address = address;
+            this.cursor = cursor;
+            this.keys = keys;
+        }
+    }
+}
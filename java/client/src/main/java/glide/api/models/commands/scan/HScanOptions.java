@@ -54,4 +54,11 @@ public class HScanOptions extends BaseScanOptions {
 
         return builder.toArray();
     }
+
+    /**
+     * @return whether values are excluded from the results.
+     */
+    public boolean isNoValues() {
+        return noValues;
+    }
 }
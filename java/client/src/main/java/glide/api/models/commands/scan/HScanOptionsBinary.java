@@ -49,4 +49,11 @@ public class HScanOptionsBinary extends BaseScanOptionsBinary {
 
         return Arrays.stream(builder.toArray()).map(GlideString::getString).toArray(String[]::new);
     }
+
+    /**
+     * @return whether values are excluded from the results.
+     */
+    public boolean isNoValues() {
+        return noValues;
+    }
 }
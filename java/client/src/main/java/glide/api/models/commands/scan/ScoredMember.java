@@ -0,0 +1,26 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.commands.scan;
+
+import glide.api.commands.SortedSetBaseCommands;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A member of a sorted set with its score, as streamed by {@link
+ * SortedSetBaseCommands#zscanStream}.
+ *
+ * @param <T> The type of the member, <code>String</code> or <code>GlideString</code>.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+public class ScoredMember<T> {
+    /** The member. */
+    private final T member;
+
+    /** The score of the member, or <code>NaN</code> if scanned with {@link ZScanOptions#noScores}. */
+    private final double score;
+}
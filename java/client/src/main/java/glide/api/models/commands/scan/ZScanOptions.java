@@ -54,4 +54,11 @@ public class ZScanOptions extends BaseScanOptions {
 
         return builder.toArray();
     }
+
+    /**
+     * @return whether scores are excluded from the results.
+     */
+    public boolean isNoScores() {
+        return noScores;
+    }
 }
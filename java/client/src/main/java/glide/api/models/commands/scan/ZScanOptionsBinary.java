@@ -51,4 +51,11 @@ public class ZScanOptionsBinary extends BaseScanOptionsBinary {
 
         return Arrays.stream(builder.toArray()).map(GlideString::getString).toArray(String[]::new);
     }
+
+    /**
+     * @return whether scores are excluded from the results.
+     */
+    public boolean isNoScores() {
+        return noScores;
+    }
 }
@@ -1,6 +1,7 @@
 /** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.api.models.configuration;
 
+import java.util.concurrent.Executor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
@@ -60,6 +61,71 @@ public abstract class AdvancedBaseClientConfiguration {
      */
     private final Integer pubsubReconciliationIntervalMs;
 
+    /**
+     * The number of native threads that complete command futures.
+     *
+     * <p>Responses are handed to these workers by client, so all responses of one client are
+     * completed in order by the same thread. The workers are shared by every client in the process
+     * and are started with the first client: the first configuration wins, and a client requesting a
+     * different one logs a warning and uses the running workers.
+     *
+     * <p>Non-async continuations of a command future (<code>thenApply</code>, <code>thenAccept
+     * </code>, ...) run on the worker completing it. A slow continuation, or one blocking on another
+     * command of the same client (e.g. calling <code>get()</code>), stalls every later response of
+     * that client and may deadlock it. Use the <code>*Async</code> continuations with your own
+     * executor for such work, or set {@link #completionExecutor}.
+     *
+     * <p>If not explicitly set, the <code>GLIDE_CALLBACK_WORKER_THREADS</code> environment variable
+     * is used, or 2 threads if it is not set either.
+     *
+     * <p>Must be a positive integer if set.
+     */
+    private final Integer callbackWorkerThreads;
+
+    /**
+     * CPUs to pin the callback worker threads to; worker <code>i</code> is pinned to <code>
+     * callbackWorkerCpus[i % callbackWorkerCpus.length]</code>. Pinning is supported on Linux only
+     * and is ignored with a warning elsewhere. Like {@link #callbackWorkerThreads}, only the first
+     * configuration in the process applies.
+     *
+     * <p>If not explicitly set, worker threads are not pinned.
+     */
+    private final int[] callbackWorkerCpus;
+
+    /**
+     * The maximum number of responses a callback worker completes with a single call into Java.
+     * Responses that arrive in a burst (e.g. from pipelined requests) are handed over together,
+     * saving a JNI transition per response. Like {@link #callbackWorkerThreads}, only the first
+     * configuration in the process applies.
+     *
+     * <p>If not explicitly set, a default value of 64 is used.
+     *
+     * <p>Must be a positive integer if set.
+     */
+    private final Integer callbackBatchSize;
+
+    /**
+     * The time in microseconds a callback worker waits for more responses before completing a partial
+     * batch. Larger windows batch more under load, at the cost of up to this much added latency per
+     * response. Like {@link #callbackWorkerThreads}, only the first configuration in the process
+     * applies.
+     *
+     * <p>If not explicitly set, workers do not wait and only batch responses that are already queued.
+     *
+     * <p>Must not be negative if set.
+     */
+    private final Integer callbackBatchWindowMicros;
+
+    /**
+     * The executor completing this client's command futures, so that their continuations run on it
+     * rather than on the native callback workers (see {@link #callbackWorkerThreads}). Responses are
+     * still handed over in order, but the executor decides the order in which futures complete; use a
+     * single-threaded executor to keep per-client ordering.
+     *
+     * <p>If not explicitly set, futures are completed by the callback workers.
+     */
+    private final Executor completionExecutor;
+
     /** Abstract builder class for {@link AdvancedBaseClientConfiguration}. */
     public abstract static class AdvancedBaseClientConfigurationBuilder<
             C extends AdvancedBaseClientConfiguration,
@@ -81,5 +147,74 @@ public abstract class AdvancedBaseClientConfiguration {
             this.pubsubReconciliationIntervalMs = pubsubReconciliationIntervalMs;
             return self();
         }
+
+        /**
+         * Sets the number of native callback worker threads.
+         *
+         * @param callbackWorkerThreads The number of threads (must be positive)
+         * @return This builder
+         * @throws IllegalArgumentException if the value is not positive
+         */
+        public B callbackWorkerThreads(Integer callbackWorkerThreads) {
+            if (callbackWorkerThreads != null && callbackWorkerThreads <= 0) {
+                throw new IllegalArgumentException(
+                        "callbackWorkerThreads must be positive, got: " + callbackWorkerThreads);
+            }
+            this.callbackWorkerThreads = callbackWorkerThreads;
+            return self();
+        }
+
+        /**
+         * Sets the CPUs to pin the native callback worker threads to.
+         *
+         * @param callbackWorkerCpus The CPU indexes (must not be negative)
+         * @return This builder
+         * @throws IllegalArgumentException if a CPU index is negative
+         */
+        public B callbackWorkerCpus(int... callbackWorkerCpus) {
+            if (callbackWorkerCpus != null) {
+                for (int cpu : callbackWorkerCpus) {
+                    if (cpu < 0) {
+                        throw new IllegalArgumentException(
+                                "callbackWorkerCpus must not be negative, got: " + cpu);
+                    }
+                }
+                callbackWorkerCpus = callbackWorkerCpus.clone();
+            }
+            this.callbackWorkerCpus = callbackWorkerCpus;
+            return self();
+        }
+
+        /**
+         * Sets the maximum number of responses completed with a single call into Java.
+         *
+         * @param callbackBatchSize The batch size (must be positive)
+         * @return This builder
+         * @throws IllegalArgumentException if the value is not positive
+         */
+        public B callbackBatchSize(Integer callbackBatchSize) {
+            if (callbackBatchSize != null && callbackBatchSize <= 0) {
+                throw new IllegalArgumentException(
+                        "callbackBatchSize must be positive, got: " + callbackBatchSize);
+            }
+            this.callbackBatchSize = callbackBatchSize;
+            return self();
+        }
+
+        /**
+         * Sets the time in microseconds a callback worker waits to fill a batch.
+         *
+         * @param callbackBatchWindowMicros The batching window (must not be negative)
+         * @return This builder
+         * @throws IllegalArgumentException if the value is negative
+         */
+        public B callbackBatchWindowMicros(Integer callbackBatchWindowMicros) {
+            if (callbackBatchWindowMicros != null && callbackBatchWindowMicros < 0) {
+                throw new IllegalArgumentException(
+                        "callbackBatchWindowMicros must not be negative, got: " + callbackBatchWindowMicros);
+            }
+            this.callbackBatchWindowMicros = callbackBatchWindowMicros;
+            return self();
+        }
     }
 }
@@ -0,0 +1,54 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Configuration of auto-pipelining.
+ *
+ * <p>When configured, plain commands on a single key submitted at the same time by different
+ * threads are coalesced: each command is held for at most {@link #windowMicros}, or until {@link
+ * #maxBatchSize} commands are waiting, and the waiting commands are then sent together as one
+ * non-atomic batch. Each command still completes its own future, with its own reply or error. This
+ * trades a few microseconds of latency for fewer native calls and fewer network writes under high
+ * concurrency.
+ *
+ * <p>The commands held are string (<code>GET</code>, <code>SET</code>, <code>INCR</code>, ...),
+ * hash (<code>HGET</code>, <code>HSET</code>, ...), list, set and sorted set commands on a single
+ * key, as well as <code>EXPIRE</code>, <code>TTL</code> and <code>TYPE</code>. Read commands are
+ * only held when the client reads from the primary, since batches are not routed by {@link
+ * ReadFrom}. A held command is subject to the client's request timeout for the whole batch, rather
+ * than a timeout of its own.
+ *
+ * <p>Any other command, such as subscriptions, <code>SELECT</code>, <code>CLIENT SETNAME</code>,
+ * custom commands, commands sent with an explicit route, blocking commands, commands with
+ * compressed values, scripts and batches, is never held. Such commands are sent once the commands
+ * held before them were sent, so a thread's commands always reach the server in the order it
+ * submitted them. Compressed values in the replies of held commands are decompressed like those of
+ * commands sent on their own.
+ *
+ * <p>A batch whose window elapses is sent by a thread shared by all the clients, and a full batch
+ * by the thread which submitted its last command.
+ *
+ * @example
+ *     <pre>{@code
+ * AutoPipeliningConfiguration autoPipelining = AutoPipeliningConfiguration.builder()
+ *     .maxBatchSize(128)
+ *     .windowMicros(50)
+ *     .build();
+ * }</pre>
+ */
+@Getter
+@Builder
+public class AutoPipeliningConfiguration {
+
+    /** The number of waiting commands which triggers sending them at once. Default: 64. */
+    @Builder.Default private final int maxBatchSize = 64;
+
+    /**
+     * How long the first waiting command is held, in microseconds, if the batch does not fill up. The
+     * delay is a lower bound, as it depends on the precision of the timer. Default: 100.
+     */
+    @Builder.Default private final long windowMicros = 100;
+}
@@ -134,6 +134,30 @@ public abstract class BaseClientConfiguration {
      */
     @Builder.Default private final boolean lazyConnect = false;
 
+    /**
+     * Transparent compression of values, see {@link CompressionConfiguration}. If not set, values are
+     * neither compressed nor decompressed.
+     */
+    private final CompressionConfiguration compressionConfiguration;
+
+    /**
+     * Client-side caching of read replies, see {@link ClientSideCacheConfiguration}. If not set,
+     * every read is sent to the server.
+     */
+    private final ClientSideCacheConfiguration clientSideCacheConfiguration;
+
+    /**
+     * Coalescing of concurrent commands into pipelines, see {@link AutoPipeliningConfiguration}. If
+     * not set, every command is sent on its own.
+     */
+    private final AutoPipeliningConfiguration autoPipeliningConfiguration;
+
+    /**
+     * Whether to record in-process latency histograms of the commands, per command and per route, see
+     * {@link glide.api.BaseClient#getLatencyMetrics(boolean)}. Defaults to <code>false</code>.
+     */
+    @Builder.Default private final boolean latencyMetrics = false;
+
     public List<NodeAddress> getAddresses() {
         return Collections.unmodifiableList(new ArrayList<>(addresses));
     }
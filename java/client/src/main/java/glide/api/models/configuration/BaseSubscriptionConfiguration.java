@@ -15,16 +15,18 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import lombok.NonNull;
 
 /**
  * Client subscription configuration. Could be either {@link StandaloneSubscriptionConfiguration} or
  * {@link ClusterSubscriptionConfiguration}.
  */
 @Getter
-@RequiredArgsConstructor
 public abstract class BaseSubscriptionConfiguration {
 
+    /** Default of {@link #queueCapacity}. */
+    public static final int DEFAULT_QUEUE_CAPACITY = 100_000;
+
     /**
      * A channel subscription mode. Could be either {@link PubSubChannelMode} or {@link
      * PubSubClusterChannelMode}.
@@ -43,6 +45,24 @@ public abstract class BaseSubscriptionConfiguration {
      */
     public interface MessageCallback extends BiConsumer<PubSubMessage, Object> {}
 
+    /**
+     * What happens to an incoming message when the message queue is full. Only applies when no {@link
+     * #callback} is configured.
+     */
+    public enum QueueOverflowPolicy {
+        /** Drop the oldest queued message to make room for the new one. */
+        DROP_OLDEST,
+        /** Drop the new message. */
+        DROP_NEWEST,
+        /**
+         * Wait until a message is consumed. Further push notifications of the client, including those
+         * of the client-side cache, are not delivered until then. The connection keeps reading them
+         * meanwhile, so they are held in native memory without a limit: only use this policy if the
+         * consumer keeps up on average.
+         */
+        BLOCK
+    }
+
     /**
      * Optional callback to accept the incoming messages. See {@link MessageCallback}.<br>
      * If not set, messages will be available via {@link BaseClient#tryGetPubSubMessage()} or {@link
@@ -57,6 +77,46 @@ public abstract class BaseSubscriptionConfiguration {
      */
     protected final Optional<Object> context;
 
+    /**
+     * The maximum number of messages kept for {@link BaseClient#tryGetPubSubMessage()}, {@link
+     * BaseClient#getPubSubMessage()} and {@link BaseClient#drainPubSubMessages}. Default: {@value
+     * #DEFAULT_QUEUE_CAPACITY}.
+     */
+    protected final int queueCapacity;
+
+    /**
+     * What happens to incoming messages when the queue, or a lane of the {@link #callbackDispatch},
+     * is full. Default: {@link QueueOverflowPolicy#DROP_OLDEST}.
+     */
+    protected final QueueOverflowPolicy queueOverflowPolicy;
+
+    /**
+     * Optional off-thread dispatch of the messages to the {@link #callback}. If not set, the callback
+     * runs on the thread delivering push notifications. See {@link CallbackDispatchConfiguration}.
+     */
+    protected final Optional<CallbackDispatchConfiguration> callbackDispatch;
+
+    public BaseSubscriptionConfiguration(
+            Optional<MessageCallback> callback, Optional<Object> context) {
+        this.callback = callback;
+        this.context = context;
+        this.queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        this.queueOverflowPolicy = QueueOverflowPolicy.DROP_OLDEST;
+        this.callbackDispatch = Optional.empty();
+    }
+
+    protected BaseSubscriptionConfiguration(BaseSubscriptionConfigurationBuilder<?, ?> builder) {
+        if (builder.callbackDispatch.isPresent() && !builder.callback.isPresent()) {
+            throw new ConfigurationError(
+                    "PubSub callback dispatch requires a callback to be configured.");
+        }
+        this.callback = builder.callback;
+        this.context = builder.context;
+        this.queueCapacity = builder.queueCapacity;
+        this.queueOverflowPolicy = builder.queueOverflowPolicy;
+        this.callbackDispatch = builder.callbackDispatch;
+    }
+
     // All code below is a custom implementation of `SuperBuilder`, because we provide
     // custom user-friendly API `callback` and `subscription`.
     /**
@@ -69,6 +129,9 @@ public abstract class BaseSubscriptionConfiguration {
 
         protected Optional<MessageCallback> callback = Optional.empty();
         protected Optional<Object> context = Optional.empty();
+        protected int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        protected QueueOverflowPolicy queueOverflowPolicy = QueueOverflowPolicy.DROP_OLDEST;
+        protected Optional<CallbackDispatchConfiguration> callbackDispatch = Optional.empty();
 
         protected <M extends ChannelMode> void addSubscription(
                 Map<M, Set<GlideString>> subscriptions, M mode, GlideString channelOrPattern) {
@@ -113,5 +176,43 @@ public abstract class BaseSubscriptionConfiguration {
             this.callback = Optional.ofNullable(callback);
             return self();
         }
+
+        /**
+         * Set the capacity of the message queue.
+         *
+         * @param queueCapacity The {@link #queueCapacity}.
+         */
+        public B queueCapacity(int queueCapacity) {
+            if (queueCapacity <= 0) {
+                throw new ConfigurationError("PubSub queue capacity must be positive.");
+            }
+            this.queueCapacity = queueCapacity;
+            return self();
+        }
+
+        /**
+         * Set what happens to incoming messages when the queue is full.
+         *
+         * @param queueOverflowPolicy The {@link #queueOverflowPolicy}.
+         */
+        public B queueOverflowPolicy(@NonNull QueueOverflowPolicy queueOverflowPolicy) {
+            this.queueOverflowPolicy = queueOverflowPolicy;
+            return self();
+        }
+
+        /**
+         * Run the callback off the thread delivering push notifications.
+         *
+         * @param callbackDispatch The {@link #callbackDispatch}. This can be null to unset it.
+         */
+        public B callbackDispatch(CallbackDispatchConfiguration callbackDispatch) {
+            if (callbackDispatch != null
+                    && (callbackDispatch.getLanes() <= 0 || callbackDispatch.getLaneCapacity() <= 0)) {
+                throw new ConfigurationError(
+                        "PubSub callback dispatch lanes and lane capacity must be positive.");
+            }
+            this.callbackDispatch = Optional.ofNullable(callbackDispatch);
+            return self();
+        }
     }
 }
@@ -0,0 +1,51 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+import glide.api.models.configuration.BaseSubscriptionConfiguration.MessageCallback;
+import glide.api.models.configuration.BaseSubscriptionConfiguration.QueueOverflowPolicy;
+import java.util.concurrent.Executor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Configuration of the off-thread dispatch of pubsub messages to the {@link MessageCallback}.
+ *
+ * <p>By default the callback runs on the thread delivering push notifications, so one slow call
+ * delays every message of the client. With this configuration, messages are instead handed to an
+ * {@link Executor}. Ordering is kept per channel, or per pattern for pattern subscriptions: each is
+ * hashed to one of {@link #lanes} serial lanes, and a lane runs at most one callback at a time.
+ * Messages waiting in a lane are bounded by {@link #laneCapacity}; a full lane applies the
+ * subscription's {@link QueueOverflowPolicy}.
+ *
+ * <p>The executor is not shut down by the client. Virtual threads can be used on Java 21 and above,
+ * with <code>Executors.newVirtualThreadPerTaskExecutor()</code>.
+ *
+ * @example
+ *     <pre>{@code
+ * StandaloneSubscriptionConfiguration subscriptions = StandaloneSubscriptionConfiguration.builder()
+ *     .subscription(EXACT, gs("news"))
+ *     .callback(callback)
+ *     .callbackDispatch(CallbackDispatchConfiguration.builder()
+ *         .executor(Executors.newFixedThreadPool(4))
+ *         .lanes(32)
+ *         .build())
+ *     .build();
+ * }</pre>
+ */
+@Getter
+@Builder
+public class CallbackDispatchConfiguration {
+
+    /** The executor running the callbacks. */
+    @NonNull private final Executor executor;
+
+    /**
+     * The number of serial lanes, which bounds the number of callbacks running at the same time.
+     * Default: 16.
+     */
+    @Builder.Default private final int lanes = 16;
+
+    /** The maximum number of messages waiting in a lane. Default: 10000. */
+    @Builder.Default private final int laneCapacity = 10_000;
+}
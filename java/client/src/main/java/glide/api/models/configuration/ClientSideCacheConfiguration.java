@@ -0,0 +1,66 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Singular;
+
+/**
+ * Configuration of the client-side cache.
+ *
+ * <p>When configured, replies of <code>GET</code>, <code>HGET</code>, <code>HGETALL</code>, <code>
+ * SMEMBERS</code> and <code>JSON.GET</code> are kept in a size-bounded local cache, so repeated
+ * reads of hot keys are served without a round trip. The cache is kept coherent with <code>
+ * CLIENT TRACKING</code>: the server sends an invalidation push whenever a cached key changes, and
+ * the key is dropped. When the connection is lost, the whole cache is flushed and tracking is
+ * enabled again once the client reconnects. Commands sent with an explicit route are not cached.
+ *
+ * <p>Requires {@link ProtocolVersion#RESP3}. Standalone clients must read from the primary ({@link
+ * ReadFrom#PRIMARY}). Hit, miss, eviction and invalidation counters are reported by {@link
+ * glide.api.BaseClient#getStatistics()}.
+ *
+ * @example
+ *     <pre>{@code
+ * ClientSideCacheConfiguration cache = ClientSideCacheConfiguration.builder()
+ *     .maxEntries(50_000)
+ *     .entryTtlMillis(60_000L)
+ *     .build();
+ * }</pre>
+ */
+@Getter
+@Builder
+public class ClientSideCacheConfiguration {
+
+    /** Modes of <code>CLIENT TRACKING</code>. */
+    public enum TrackingMode {
+        /** The server remembers the keys read by the client and only invalidates those. */
+        DEFAULT,
+        /**
+         * Broadcasting mode: the server invalidates every key matching one of the {@link #prefixes}
+         * (all keys if there are none), whether the client read it or not. Costs no server memory, at
+         * the price of more invalidation traffic.
+         */
+        BCAST
+    }
+
+    /**
+     * The maximum number of keys kept in the cache. When full, entries are evicted using a frequency
+     * based (W-TinyLFU) policy, which keeps frequently read keys over recently read ones. Default:
+     * 10000.
+     */
+    @Builder.Default private final int maxEntries = 10_000;
+
+    /**
+     * How long a cached reply is served, in milliseconds. Bounds staleness should an invalidation be
+     * missed. If not set, replies are kept until invalidated or evicted.
+     */
+    private final Long entryTtlMillis;
+
+    /** The tracking mode. Default: {@link TrackingMode#DEFAULT}. */
+    @NonNull @Builder.Default private final TrackingMode trackingMode = TrackingMode.DEFAULT;
+
+    /** Key prefixes to track in {@link TrackingMode#BCAST} mode. Not allowed in the default mode. */
+    @Singular private final List<String> prefixes;
+}
@@ -10,7 +10,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import lombok.Getter;
 
@@ -70,13 +69,11 @@ public final class ClusterSubscriptionConfiguration extends BaseSubscriptionConf
     private final Map<PubSubClusterChannelMode, Set<GlideString>> subscriptions;
 
     // All code below is a custom implementation of `SuperBuilder`
-    private ClusterSubscriptionConfiguration(
-            Optional<MessageCallback> callback,
-            Optional<Object> context,
-            Map<PubSubClusterChannelMode, Set<GlideString>> subscriptions) {
-        super(callback, context);
+    private ClusterSubscriptionConfiguration(ClusterSubscriptionConfigurationBuilder builder) {
+        super(builder);
         Map<PubSubClusterChannelMode, Set<GlideString>> unmodifiableMap = new HashMap<>();
-        for (Map.Entry<PubSubClusterChannelMode, Set<GlideString>> entry : subscriptions.entrySet()) {
+        for (Map.Entry<PubSubClusterChannelMode, Set<GlideString>> entry :
+                builder.subscriptions.entrySet()) {
             unmodifiableMap.put(
                     entry.getKey(), Collections.unmodifiableSet(new HashSet<>(entry.getValue())));
         }
@@ -146,7 +143,7 @@ public final class ClusterSubscriptionConfiguration extends BaseSubscriptionConf
 
         @Override
         public ClusterSubscriptionConfiguration build() {
-            return new ClusterSubscriptionConfiguration(callback, context, subscriptions);
+            return new ClusterSubscriptionConfiguration(this);
         }
     }
 }
@@ -0,0 +1,11 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+/**
+ * Commands whose values can be compressed by the client, see {@link
+ * CompressionConfiguration#getCommands()}.
+ */
+public enum CompressibleCommand {
+    /** The value of <code>SET</code>. */
+    SET
+}
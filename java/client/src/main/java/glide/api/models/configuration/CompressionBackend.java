@@ -0,0 +1,10 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+/** Compression algorithms available for {@link CompressionConfiguration}. */
+public enum CompressionBackend {
+    /** Zstandard. Good compression ratio at a moderate speed. */
+    ZSTD,
+    /** LZ4. Faster than {@link #ZSTD}, with a lower compression ratio. */
+    LZ4
+}
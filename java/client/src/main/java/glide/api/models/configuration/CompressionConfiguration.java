@@ -0,0 +1,67 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.configuration;
+
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Configuration of transparent value compression.
+ *
+ * <p>When enabled, values written by the opted-in {@link #getCommands() commands} are compressed
+ * before they are sent to the server, and compressed values returned by <code>GET</code> are
+ * decompressed, including inside batches. Compressed values carry a small header, so any client
+ * with compression enabled reads values written with either backend, while clients without
+ * compression see the compressed bytes. Compression statistics are reported by {@link
+ * glide.api.BaseClient#getStatistics()}.
+ *
+ * @example
+ *     <pre>{@code
+ * CompressionConfiguration compression = CompressionConfiguration.builder()
+ *     .backend(CompressionBackend.LZ4)
+ *     .minCompressionSize(1024)
+ *     .build();
+ * }</pre>
+ */
+@Getter
+@Builder
+public class CompressionConfiguration {
+
+    /** The smallest allowed {@link #minCompressionSize}, the size of the compression header + 1. */
+    public static final int MIN_COMPRESSION_SIZE = 6;
+
+    /** The default {@link #minCompressionSize}. */
+    public static final int DEFAULT_MIN_COMPRESSION_SIZE = 64;
+
+    /** Whether compression is enabled. Default: <code>true</code>. */
+    @Builder.Default private final boolean enabled = true;
+
+    /** The compression algorithm. Default: {@link CompressionBackend#ZSTD}. */
+    @NonNull @Builder.Default private final CompressionBackend backend = CompressionBackend.ZSTD;
+
+    /**
+     * The compression level. Valid values depend on the backend: <code>1</code> to <code>22</code>
+     * (or negative levels for faster compression) for {@link CompressionBackend#ZSTD}, <code>-128
+     * </code> to <code>12</code> for {@link CompressionBackend#LZ4}. An invalid level fails client
+     * creation.
+     *
+     * <p>If not set, the backend's default level is used.
+     */
+    private final Integer compressionLevel;
+
+    /**
+     * Values smaller than this many bytes are sent uncompressed. Must be at least {@link
+     * #MIN_COMPRESSION_SIZE}. Default: {@link #DEFAULT_MIN_COMPRESSION_SIZE}.
+     */
+    @Builder.Default private final int minCompressionSize = DEFAULT_MIN_COMPRESSION_SIZE;
+
+    /**
+     * The commands whose values are compressed. Default: all {@link CompressibleCommand}s.
+     *
+     * <p>Decompression does not depend on this setting.
+     */
+    @NonNull @Builder.Default
+    private final Set<CompressibleCommand> commands = EnumSet.allOf(CompressibleCommand.class);
+}
@@ -66,12 +66,22 @@ public final class StandaloneSubscriptionConfiguration extends BaseSubscriptionC
             Optional<Object> context,
             Map<PubSubChannelMode, Set<GlideString>> subscriptions) {
         super(callback, context);
+        this.subscriptions = unmodifiableSubscriptions(subscriptions);
+    }
+
+    private StandaloneSubscriptionConfiguration(StandaloneSubscriptionConfigurationBuilder builder) {
+        super(builder);
+        this.subscriptions = unmodifiableSubscriptions(builder.subscriptions);
+    }
+
+    private static Map<PubSubChannelMode, Set<GlideString>> unmodifiableSubscriptions(
+            Map<PubSubChannelMode, Set<GlideString>> subscriptions) {
         Map<PubSubChannelMode, Set<GlideString>> unmodifiableMap = new LinkedHashMap<>();
         for (Map.Entry<PubSubChannelMode, Set<GlideString>> entry : subscriptions.entrySet()) {
             unmodifiableMap.put(
                     entry.getKey(), Collections.unmodifiableSet(new HashSet<>(entry.getValue())));
         }
-        this.subscriptions = Collections.unmodifiableMap(unmodifiableMap);
+        return Collections.unmodifiableMap(unmodifiableMap);
     }
 
     public static StandaloneSubscriptionConfigurationBuilder builder() {
@@ -127,7 +137,7 @@ public final class StandaloneSubscriptionConfiguration extends BaseSubscriptionC
 
         @Override
         public StandaloneSubscriptionConfiguration build() {
-            return new StandaloneSubscriptionConfiguration(callback, context, subscriptions);
+            return new StandaloneSubscriptionConfiguration(this);
         }
     }
 }
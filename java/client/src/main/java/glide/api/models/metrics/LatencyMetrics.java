@@ -0,0 +1,40 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * Latency histograms of the commands of a client, recorded in-process when {@link
+ * glide.api.models.configuration.BaseClientConfiguration#isLatencyMetrics()} is set, and returned
+ * by {@link glide.api.BaseClient#getLatencyMetrics(boolean)}.
+ *
+ * <p>Latencies are kept per command, such as <code>Get</code>, and per route. The route is <code>
+ * default</code> for commands routed by their keys, the name of a simple route such as <code>
+ * ALL_PRIMARIES</code>, <code>slot</code> for slot routes, or the address of the node for routes by
+ * address. Each has a histogram per {@link LatencyPhase}.
+ *
+ * @example
+ *     <pre>{@code
+ * LatencyMetrics metrics = client.getLatencyMetrics(true); // and reset
+ * LatencySnapshot get = metrics.getByCommand().get("Get").get(LatencyPhase.TOTAL);
+ * long p99Micros = get.getValueAtPercentile(99, TimeUnit.MICROSECONDS);
+ * }</pre>
+ */
+@Getter
+public final class LatencyMetrics {
+
+    /** The histograms of each command that was sent, by request type name. */
+    private final Map<String, Map<LatencyPhase, LatencySnapshot>> byCommand;
+
+    /** The histograms of each route that was used. */
+    private final Map<String, Map<LatencyPhase, LatencySnapshot>> byRoute;
+
+    public LatencyMetrics(
+            Map<String, Map<LatencyPhase, LatencySnapshot>> byCommand,
+            Map<String, Map<LatencyPhase, LatencySnapshot>> byRoute) {
+        this.byCommand = Collections.unmodifiableMap(byCommand);
+        this.byRoute = Collections.unmodifiableMap(byRoute);
+    }
+}
@@ -0,0 +1,28 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.metrics;
+
+/**
+ * The phases of a command whose latency is recorded, see {@link LatencyMetrics}. Commands which
+ * fail, including those timing out, are recorded as well, without a {@link #CALLBACK} phase when no
+ * reply reached Java.
+ */
+public enum LatencyPhase {
+    /**
+     * From the call of the command method until the request is submitted: encoding, registration of
+     * the request future and the native call, or holding the command when auto-pipelining. Time spent
+     * waiting for a held command to be sent is part of {@link #NATIVE}.
+     */
+    SUBMIT,
+    /**
+     * From the hand-off to the native layer until the reply reaches Java: routing, the network round
+     * trip, the server, and the conversion of the reply to Java objects.
+     */
+    NATIVE,
+    /**
+     * The conversion of the reply into the value returned by the command method. Not recorded for
+     * commands failing before a reply reached Java.
+     */
+    CALLBACK,
+    /** From the call of the command method until its future is completed. */
+    TOTAL
+}
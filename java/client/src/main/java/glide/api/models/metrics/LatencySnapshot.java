@@ -0,0 +1,121 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An immutable copy of a latency histogram. Latencies are in nanoseconds, kept with a relative
+ * precision of 1%: a percentile is reported as the highest latency of its bucket.
+ */
+public final class LatencySnapshot {
+
+    /** Latencies below this value each have their own bucket. */
+    private static final int SUB_BUCKET_COUNT = 128;
+
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    /**
+     * @param counts The count of each bucket, see {@link #bucketOf(long)}.
+     * @param sum The sum of the recorded latencies.
+     * @param max The highest recorded latency.
+     */
+    public LatencySnapshot(long[] counts, long sum, long max) {
+        this.counts = counts.clone();
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        this.count = total;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * Get the bucket of a latency: latencies below 128 have their own, and each power of two above is
+     * split in 64 buckets.
+     */
+    public static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) Math.max(value, 0);
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 6;
+        return SUB_BUCKET_COUNT
+                + (shift - 1) * HALF_SUB_BUCKET_COUNT
+                + (int) (value >>> shift)
+                - HALF_SUB_BUCKET_COUNT;
+    }
+
+    /** Get the number of buckets needed for latencies up to <code>maxValue</code>. */
+    public static int bucketCount(long maxValue) {
+        return bucketOf(maxValue) + 1;
+    }
+
+    /** Get the highest latency of a bucket. */
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+        long top = (bucket - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return ((top + 1) << shift) - 1;
+    }
+
+    /** Get the number of recorded latencies. */
+    public long getCount() {
+        return count;
+    }
+
+    /** Get the highest recorded latency, in nanoseconds. */
+    public long getMax() {
+        return max;
+    }
+
+    /** Get the mean latency, in nanoseconds, or 0 if none was recorded. */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Get the latency below which the given percentage of the recorded latencies fall, in
+     * nanoseconds, or 0 if none was recorded.
+     *
+     * @param percentile The percentage, between 0 and 100.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        double clamped = Math.min(Math.max(percentile, 0), 100);
+        long rank = Math.max(1, (long) Math.ceil(clamped / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    /** Get the latency at a percentile, in the given unit. */
+    public long getValueAtPercentile(double percentile, TimeUnit unit) {
+        return unit.convert(getValueAtPercentile(percentile), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "LatencySnapshot(count=%d, mean=%.0fns, p50=%dns, p99=%dns, p999=%dns, max=%dns)",
+                count,
+                getMean(),
+                getValueAtPercentile(50),
+                getValueAtPercentile(99),
+                getValueAtPercentile(99.9),
+                max);
+    }
+}
@@ -0,0 +1,146 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import glide.api.logging.Logger;
+import glide.api.models.GlideString;
+import glide.api.models.PubSubMessage;
+import glide.api.models.configuration.BaseSubscriptionConfiguration.MessageCallback;
+import glide.api.models.configuration.BaseSubscriptionConfiguration.QueueOverflowPolicy;
+import glide.api.models.configuration.CallbackDispatchConfiguration;
+import glide.connectors.handlers.MessageHandler.PubSubMessageQueue;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the {@link MessageCallback} of a client on an {@link Executor}, keeping the order of the
+ * messages of each channel (or pattern).
+ *
+ * <p>Channels are hashed to serial lanes. A lane holds its pending messages in a bounded {@link
+ * PubSubMessageQueue} and has at most one task on the executor, which delivers messages in batches
+ * and schedules itself again while messages remain.
+ *
+ * @see CallbackDispatchConfiguration
+ */
+public class CallbackDispatcher {
+
+    /** The maximum number of messages a lane delivers per task, so that lanes share the executor. */
+    static final int BATCH_SIZE = 64;
+
+    private final MessageCallback callback;
+    private final Object context;
+    private final Executor executor;
+    private final Lane[] lanes;
+
+    public CallbackDispatcher(
+            MessageCallback callback,
+            Object context,
+            CallbackDispatchConfiguration configuration,
+            QueueOverflowPolicy overflowPolicy) {
+        this.callback = callback;
+        this.context = context;
+        this.executor = configuration.getExecutor();
+        this.lanes = new Lane[configuration.getLanes()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(configuration.getLaneCapacity(), overflowPolicy);
+        }
+    }
+
+    /** Queue a message on the lane of its channel or pattern. */
+    public void dispatch(PubSubMessage message) {
+        GlideString key = message.getPattern().orElse(message.getChannel());
+        Lane lane = lanes[Math.floorMod(key.hashCode(), lanes.length)];
+        lane.queue.push(message);
+        lane.schedule();
+    }
+
+    /** Release a delivery thread blocked on a full lane. Pending messages are still delivered. */
+    public void close() {
+        for (Lane lane : lanes) {
+            lane.queue.close();
+        }
+    }
+
+    /**
+     * Get the dispatch statistics: <code>pubsub_callback_backlog</code>, the number of messages not
+     * yet delivered in all lanes, <code>pubsub_callback_lane_lag_max</code>, the number in the most
+     * lagging lane, and <code>pubsub_callback_dropped</code>, the number dropped because a lane was
+     * full.
+     */
+    public Map<String, String> getStatistics() {
+        long backlog = 0;
+        int maxLag = 0;
+        long dropped = 0;
+        for (Lane lane : lanes) {
+            int size = lane.queue.size() + lane.inFlight;
+            backlog += size;
+            maxLag = Math.max(maxLag, size);
+            dropped += lane.queue.getDroppedCount();
+        }
+        Map<String, String> statistics = new LinkedHashMap<>();
+        statistics.put("pubsub_callback_backlog", Long.toString(backlog));
+        statistics.put("pubsub_callback_lane_lag_max", Integer.toString(maxLag));
+        statistics.put("pubsub_callback_dropped", Long.toString(dropped));
+        return statistics;
+    }
+
+    /** A serial lane: its messages are delivered one at a time, in order. */
+    private final class Lane implements Runnable {
+        final PubSubMessageQueue queue;
+
+        /** Whether a task of this lane is submitted or running. */
+        final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private final List<PubSubMessage> batch = new ArrayList<>(BATCH_SIZE);
+
+        /** Messages of the batch not delivered yet. Only written by the running task. */
+        volatile int inFlight;
+
+        Lane(int capacity, QueueOverflowPolicy overflowPolicy) {
+            queue = new PubSubMessageQueue(capacity, overflowPolicy);
+        }
+
+        void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // Deliver on the calling thread rather than lose the lane
+                run();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                inFlight = queue.drainTo(batch, BATCH_SIZE);
+                for (PubSubMessage message : batch) {
+                    try {
+                        callback.accept(message, context);
+                    } catch (Exception e) {
+                        Logger.log(
+                                Logger.Level.ERROR,
+                                "pubsub callback",
+                                "Exception thrown from the pubsub message callback",
+                                e);
+                    }
+                    inFlight--;
+                }
+            } finally {
+                inFlight = 0;
+                batch.clear();
+                scheduled.set(false);
+            }
+            // A message pushed after the drain above may have seen the lane still scheduled
+            if (queue.size() > 0) {
+                schedule();
+            }
+        }
+    }
+}
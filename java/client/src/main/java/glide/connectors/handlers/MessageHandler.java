@@ -2,23 +2,28 @@
 package glide.connectors.handlers;
 
 import static glide.api.models.GlideString.gs;
+import static glide.api.models.configuration.BaseSubscriptionConfiguration.DEFAULT_QUEUE_CAPACITY;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import glide.api.logging.Logger;
 import glide.api.models.GlideString;
 import glide.api.models.PubSubMessage;
 import glide.api.models.configuration.BaseSubscriptionConfiguration.MessageCallback;
+import glide.api.models.configuration.BaseSubscriptionConfiguration.QueueOverflowPolicy;
 import glide.api.models.exceptions.GlideException;
-import glide.managers.BaseResponseResolver;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import response.ResponseOuterClass.Response;
 
 /** Handler for incoming push messages (subscriptions). */
 @Getter
@@ -48,9 +53,6 @@ public class MessageHandler {
     /** An arbitrary user object to be passed to callback. */
     private final Optional<Object> context;
 
-    /** Helper which extracts data from received {@link Response}s from GLIDE. */
-    private final BaseResponseResolver responseResolver;
-
     /** A message queue wrapper. */
     @Getter(
             onMethod_ = {
@@ -58,11 +60,20 @@ public class MessageHandler {
                         value = "EI_EXPOSE_REP",
                         justification = "Queue is intentionally shared for asynchronous message consumption")
             })
-    private final PubSubMessageQueue queue = new PubSubMessageQueue();
+    private final PubSubMessageQueue queue;
+
+    /** Runs the {@link #callback} off the native thread, if configured. */
+    private final Optional<CallbackDispatcher> dispatcher;
+
+    /** How long a producer blocked on a full queue waits before checking it again. */
+    private static final long BLOCKED_PRODUCER_PARK_NANOS = 50_000;
+
+    public MessageHandler(Optional<MessageCallback> callback, Optional<Object> context) {
+        this(callback, context, new PubSubMessageQueue(), Optional.empty());
+    }
 
-    /** Process a push (PUBSUB) message received as a part of {@link Response} from GLIDE. */
-    void handle(Response response) throws MessageCallbackException {
-        Object data = responseResolver.apply(response);
+    /** Process a push (PUBSUB) message already converted to a Java map by the native layer. */
+    void handle(Object data) throws MessageCallbackException {
         if (!(data instanceof Map)) {
             Logger.log(
                     Logger.Level.WARN,
@@ -120,7 +131,9 @@ public class MessageHandler {
 
     /** Process a {@link PubSubMessage} received. */
     private void handle(PubSubMessage message) throws MessageCallbackException {
-        if (callback.isPresent()) {
+        if (dispatcher.isPresent()) {
+            dispatcher.get().dispatch(message);
+        } else if (callback.isPresent()) {
             try {
                 callback.get().accept(message, context.orElse(null));
             } catch (Exception callbackException) {
@@ -163,39 +176,129 @@ public class MessageHandler {
     }
 
     /**
-     * An asynchronous FIFO message queue for {@link PubSubMessage} backed by {@link
-     * ConcurrentLinkedDeque}.
+     * A bounded FIFO message queue for {@link PubSubMessage}, backed by a ring buffer.
+     *
+     * <p>Each slot carries a sequence number telling whether it is free for the producer or holds a
+     * message ready for consumers, so polling, including {@link #drainTo}, is lock-free: a consumer
+     * claims messages by moving the head with a CAS. Messages are pushed by a single native thread
+     * per client; only {@link #push} and {@link #popAsync} take a lock, so that a message is handed
+     * to a waiting future rather than queued.
+     *
+     * <p>The ring buffer is allocated with the first message stored, so a queue which is never used,
+     * such as that of a client with a callback, takes no memory.
      */
     public static class PubSubMessageQueue {
-        /** The queue itself. */
-        final ConcurrentLinkedDeque<PubSubMessage> messageQueue = new ConcurrentLinkedDeque<>();
+        private final int capacity;
+        private final QueueOverflowPolicy overflowPolicy;
 
         /**
-         * A promise for the first incoming message. Returned to a user, if message queried in async
-         * manner, but nothing received yet.
+         * The number of slots. One more than the capacity when it is 1, so that a free slot is never
+         * mistaken for a stored one.
          */
-        CompletableFuture<PubSubMessage> firstMessagePromise = new CompletableFuture<>();
+        private final int slotCount;
 
-        /** A flag whether a user already got a {@link #firstMessagePromise}. */
-        private boolean firstMessagePromiseRequested = false;
+        /** The ring buffer, <code>null</code> until a message is stored. Set under {@link #lock}. */
+        private volatile Ring ring;
+
+        /** Number of the next message to poll. */
+        private final AtomicLong head = new AtomicLong();
+
+        /** Number of the next message to push. Only moved under {@link #lock}. */
+        private final AtomicLong tail = new AtomicLong();
+
+        private final AtomicLong queuedCount = new AtomicLong();
+        private final AtomicLong droppedCount = new AtomicLong();
+
+        /**
+         * A promise for the next incoming message, returned to a user who queried a message in async
+         * manner while the queue was empty. While set, the queue is empty and {@link #push} completes
+         * it instead of queueing.
+         */
+        private CompletableFuture<PubSubMessage> pendingPromise = null;
+
+        /** Set when the client is closed, releasing a producer blocked on a full queue. */
+        private volatile boolean closed = false;
 
         /** A private object used to synchronize {@link #push} and {@link #popAsync}. */
         private final Object lock = new Object();
 
-        // TODO Rework to remove or reduce `synchronized` blocks.
-        //  If remove it now, some messages get reordered.
+        /** Run after a message is stored or the queue is closed, outside of {@link #lock}. */
+        private final AtomicReference<Runnable> listener = new AtomicReference<>();
+
+        public PubSubMessageQueue() {
+            this(DEFAULT_QUEUE_CAPACITY, QueueOverflowPolicy.DROP_OLDEST);
+        }
+
+        public PubSubMessageQueue(int capacity, QueueOverflowPolicy overflowPolicy) {
+            this.capacity = capacity;
+            this.overflowPolicy = overflowPolicy;
+            this.slotCount = Math.max(capacity, 2);
+        }
+
+        /** The slots of the queue. */
+        private static final class Ring {
+            /** Messages, message <code>n</code> being in slot <code>n % slotCount</code>. */
+            final AtomicReferenceArray<PubSubMessage> slots;
 
-        /** Store a new message. */
+            /**
+             * Per slot: <code>n</code> if free for message <code>n</code>, <code>n + 1</code> once
+             * message <code>n</code> is stored in it.
+             */
+            final AtomicLongArray sequences;
+
+            Ring(int slotCount) {
+                slots = new AtomicReferenceArray<>(slotCount);
+                sequences = new AtomicLongArray(slotCount);
+                for (int i = 0; i < slotCount; i++) {
+                    sequences.set(i, i);
+                }
+            }
+        }
+
+        /** Store a new message, applying the overflow policy if the queue is full. */
         public void push(PubSubMessage message) {
-            synchronized (lock) {
-                if (firstMessagePromiseRequested) {
-                    firstMessagePromiseRequested = false;
-                    firstMessagePromise.complete(message);
-                    firstMessagePromise = new CompletableFuture<>();
+            while (true) {
+                boolean stored = false;
+                synchronized (lock) {
+                    if (pendingPromise != null) {
+                        CompletableFuture<PubSubMessage> promise = pendingPromise;
+                        pendingPromise = null;
+                        queuedCount.incrementAndGet();
+                        promise.complete(message);
+                        return;
+                    }
+                    Ring r = ring;
+                    if (r == null) {
+                        ring = r = new Ring(slotCount);
+                    }
+                    long t = tail.get();
+                    int index = index(t);
+                    if (r.sequences.get(index) == t && t - head.get() < capacity) {
+                        r.slots.set(index, message);
+                        r.sequences.set(index, t + 1);
+                        tail.set(t + 1);
+                        queuedCount.incrementAndGet();
+                        stored = true;
+                    } else if (head.get() > t - capacity) {
+                        // Not full: a consumer took the oldest message and is freeing its slot
+                        continue;
+                    } else if (closed || overflowPolicy == QueueOverflowPolicy.DROP_NEWEST) {
+                        droppedCount.incrementAndGet();
+                        return;
+                    } else if (overflowPolicy == QueueOverflowPolicy.DROP_OLDEST) {
+                        // Null if a consumer got the oldest one first, the slot is then freed shortly
+                        if (popSync() != null) {
+                            droppedCount.incrementAndGet();
+                        }
+                        continue;
+                    }
+                }
+                if (stored) {
+                    signal();
                     return;
                 }
-
-                messageQueue.addLast(message);
+                // Wait outside the lock, so that popAsync stays available
+                LockSupport.parkNanos(BLOCKED_PRODUCER_PARK_NANOS);
             }
         }
 
@@ -205,22 +308,140 @@ public class MessageHandler {
                 justification = "Future represents pending queue state and must be shared with caller")
         public CompletableFuture<PubSubMessage> popAsync() {
             synchronized (lock) {
-                PubSubMessage message = messageQueue.poll();
+                PubSubMessage message = popSync();
                 if (message == null) {
-                    // this makes first incoming message to be delivered into `firstMessagePromise` instead of
-                    // `messageQueue`
-                    firstMessagePromiseRequested = true;
-                    return firstMessagePromise;
+                    // this makes next incoming message to be delivered into `pendingPromise` instead of
+                    // the queue
+                    if (pendingPromise == null) {
+                        pendingPromise = new CompletableFuture<>();
+                    }
+                    return pendingPromise;
                 }
-                CompletableFuture<PubSubMessage> future = new CompletableFuture<>();
-                future.complete(message);
-                return future;
+                return CompletableFuture.completedFuture(message);
             }
         }
 
         /** Get a new message or null if nothing stored so far. */
         public PubSubMessage popSync() {
-            return messageQueue.poll();
+            Ring r = ring;
+            if (r == null) {
+                return null;
+            }
+            while (true) {
+                long h = head.get();
+                int index = index(h);
+                long sequence = r.sequences.get(index);
+                if (sequence < h + 1) {
+                    // Not stored yet
+                    return null;
+                }
+                if (sequence == h + 1 && head.compareAndSet(h, h + 1)) {
+                    return release(r, h);
+                }
+            }
+        }
+
+        /**
+         * Move up to <code>maxMessages</code> queued messages into <code>destination</code>, oldest
+         * first, without waiting for more.
+         *
+         * @return The number of messages moved.
+         */
+        public int drainTo(List<PubSubMessage> destination, int maxMessages) {
+            Ring r = ring;
+            if (r == null) {
+                return 0;
+            }
+            while (true) {
+                long h = head.get();
+                int count = 0;
+                while (count < maxMessages && count < slotCount) {
+                    long sequence = r.sequences.get(index(h + count));
+                    if (sequence != h + count + 1) {
+                        break;
+                    }
+                    count++;
+                }
+                if (count == 0) {
+                    return 0;
+                }
+                // Claim the whole batch at once; fails if another consumer moved first
+                if (head.compareAndSet(h, h + count)) {
+                    for (int i = 0; i < count; i++) {
+                        destination.add(release(r, h + i));
+                    }
+                    return count;
+                }
+            }
+        }
+
+        /** Take claimed message <code>n</code> out of its slot and free the slot. */
+        private PubSubMessage release(Ring r, long n) {
+            int index = index(n);
+            PubSubMessage message = r.slots.get(index);
+            r.slots.set(index, null);
+            r.sequences.set(index, n + slotCount);
+            return message;
+        }
+
+        /** Whether the ring buffer was allocated, that is whether a message was ever stored. */
+        boolean isAllocated() {
+            return ring != null;
+        }
+
+        /** The number of messages in the queue. */
+        public int size() {
+            return (int) Math.max(0, tail.get() - head.get());
+        }
+
+        /**
+         * The number of messages queued, or handed to a waiting future, since the queue was created.
+         * Includes the messages later dropped by {@link QueueOverflowPolicy#DROP_OLDEST}.
+         */
+        public long getQueuedCount() {
+            return queuedCount.get();
+        }
+
+        /** The number of messages dropped because the queue was full, since it was created. */
+        public long getDroppedCount() {
+            return droppedCount.get();
+        }
+
+        /** Stop waiting for room in a full queue: messages which do not fit are dropped from now on. */
+        public void close() {
+            closed = true;
+            signal();
+        }
+
+        /** Whether {@link #close()} was called. */
+        public boolean isClosed() {
+            return closed;
+        }
+
+        /**
+         * Set the listener run on the pushing thread after each stored message and once on {@link
+         * #close()}. Messages handed to a future returned by {@link #popAsync()} are not signalled.
+         *
+         * @return <code>false</code> if another listener is already set.
+         */
+        public boolean setListener(Runnable listener) {
+            return this.listener.compareAndSet(null, listener);
+        }
+
+        /** Remove <code>listener</code> if it is the one set. */
+        public void removeListener(Runnable listener) {
+            this.listener.compareAndSet(listener, null);
+        }
+
+        private void signal() {
+            Runnable current = listener.get();
+            if (current != null) {
+                current.run();
+            }
+        }
+
+        private int index(long n) {
+            return (int) (n % slotCount);
         }
     }
 }
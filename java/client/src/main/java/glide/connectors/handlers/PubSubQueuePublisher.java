@@ -0,0 +1,138 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import glide.api.logging.Logger;
+import glide.api.models.PubSubMessage;
+import glide.api.models.PubSubPublisher;
+import glide.connectors.handlers.MessageHandler.PubSubMessageQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A {@link PubSubPublisher} taking messages from a {@link PubSubMessageQueue} as they are
+ * requested.
+ *
+ * <p>The subscription listens to the queue, and both new messages and new demand run the same drain
+ * loop, guarded by a work-in-progress counter so that only one thread delivers at a time: a thread
+ * finding the loop busy only counts a missed signal, and the delivering thread loops again.
+ */
+@RequiredArgsConstructor
+public class PubSubQueuePublisher implements PubSubPublisher {
+
+    /** The subscription given to a subscriber which is refused. */
+    private static final Subscription REJECTED =
+            new Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            };
+
+    private final PubSubMessageQueue queue;
+
+    @Override
+    public void subscribe(@NonNull Subscriber subscriber) {
+        QueueSubscription subscription = new QueueSubscription(subscriber);
+        if (!queue.setListener(subscription)) {
+            subscriber.onSubscribe(REJECTED);
+            subscriber.onError(
+                    new IllegalStateException("The pubsub messages already have a subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(subscription);
+        // Messages may have been queued before the subscription
+        subscription.run();
+    }
+
+    private final class QueueSubscription implements Subscription, Runnable {
+        private final Subscriber subscriber;
+
+        /** Requested messages not delivered yet. */
+        private final AtomicLong demand = new AtomicLong();
+
+        /** Signals not handled yet by the drain loop, non-zero while it runs. */
+        private final AtomicInteger pending = new AtomicInteger();
+
+        /** Set once a terminal signal was sent or the subscription was cancelled. */
+        private volatile boolean done = false;
+
+        private volatile Throwable error = null;
+
+        QueueSubscription(Subscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested " + n + " messages, must be positive");
+            } else {
+                long current;
+                long updated;
+                do {
+                    current = demand.get();
+                    updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!demand.compareAndSet(current, updated));
+            }
+            run();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            queue.removeListener(this);
+        }
+
+        /** Signal new messages or demand. */
+        @Override
+        public void run() {
+            if (pending.getAndIncrement() == 0) {
+                drain();
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                long requested = demand.get();
+                long delivered = 0;
+                while (delivered != requested && !done && error == null) {
+                    PubSubMessage message = queue.popSync();
+                    if (message == null) {
+                        break;
+                    }
+                    deliver(message);
+                    delivered++;
+                }
+                if (delivered > 0 && requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-delivered);
+                }
+                if (!done && error != null) {
+                    cancel();
+                    subscriber.onError(error);
+                } else if (!done && queue.isClosed() && queue.size() == 0) {
+                    cancel();
+                    subscriber.onComplete();
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliver(PubSubMessage message) {
+            try {
+                subscriber.onNext(message);
+            } catch (RuntimeException e) {
+                // onNext must not throw; drop the faulty subscriber rather than the push thread
+                cancel();
+                Logger.log(
+                        Logger.Level.ERROR,
+                        "pubsub publisher",
+                        "Exception thrown from a pubsub subscriber, cancelling its subscription",
+                        e);
+            }
+        }
+    }
+}
@@ -10,4 +10,8 @@ public class LoggerResolver {
     public static native int initInternal(int level, String fileName);
 
     public static native void logInternal(int level, String logIdentifier, String message);
+
+    /** Log the first <code>count</code> records of the arrays in one call. */
+    public static native void logBatchInternal(
+            int[] levels, String[] logIdentifiers, String[] messages, int count);
 }
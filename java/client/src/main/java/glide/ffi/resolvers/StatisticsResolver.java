@@ -9,6 +9,6 @@ public class StatisticsResolver {
         NativeUtils.loadGlideLib();
     }
 
-    /** Return the internal statistics Map object */
-    public static native LinkedHashMap getStatistics();
+    /** Return the internal statistics Map object, names and values being strings */
+    public static native LinkedHashMap<String, String> getStatistics();
 }
@@ -1,18 +1,21 @@
 /** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.internal;
 
+import glide.api.models.BufferLease;
 import glide.api.models.exceptions.ClosingException;
 import glide.api.models.exceptions.ExecAbortException;
 import glide.api.models.exceptions.RequestException;
 import glide.api.models.exceptions.TimeoutException;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Async registry for correlating native callbacks with Java {@link CompletableFuture}s.
@@ -22,23 +25,55 @@ import java.util.concurrent.atomic.AtomicLong;
  * <ul>
  *   <li>Maintain a thread-safe mapping from correlation id to the original future
  *   <li>Enforce per-client max inflight requests in Java (0 = defer to core default)
- *   <li>Schedule optional Java-side timeouts with cancellable tasks
+ *   <li>Expire optional Java-side timeouts
  *   <li>Perform atomic cleanup on completion to avoid races and leaks
  * </ul>
  *
+ * <p>In-flight requests live in a striped slot table: each registering thread maps to a shard, and
+ * the correlation id encodes the shard and slot (plus a sequence number so that ids are never
+ * reused), making register and complete O(1) without locks or map lookups. Timeouts are driven by a
+ * {@link TimeoutWheel} instead of a scheduled task per request.
+ *
+ * <p>Futures are completed on the thread delivering the result (a native callback worker, or the
+ * timeout wheel), so their non-async continuations run there too. A request registered with a
+ * completion executor has its future completed on that executor instead.
+ *
  * <p>Timeouts can be enforced at the Java layer (for immediate user feedback) or deferred to the
  * Rust core (when timeoutMillis = 0). Backpressure defaults and concurrency tuning are handled by
  * the Rust core.
  */
 public final class AsyncRegistry {
 
-    /** Thread-safe storage for active futures. Using ConcurrentHashMap for lock-free operations. */
-    private static final ConcurrentHashMap<Long, CompletableFuture<Object>> activeFutures =
-            new ConcurrentHashMap<>(estimateInitialCapacity());
+    // Correlation id layout: [sequence | shard (SHARD_BITS) | slot (SLOT_BITS)]
+    private static final int SLOT_BITS = 20;
+    private static final int SHARD_BITS = 6;
+    private static final int SEQUENCE_SHIFT = SLOT_BITS + SHARD_BITS;
+    private static final long SLOT_MASK = (1L << SLOT_BITS) - 1;
+    private static final int MAX_SHARDS = 1 << SHARD_BITS;
 
-    /** Scheduled timeout tasks mapped by correlation ID for cancellation on completion. */
-    private static final ConcurrentHashMap<Long, ScheduledFuture<?>> timeoutTasks =
-            new ConcurrentHashMap<>();
+    // Slots are allocated in chunks so that a shard can grow without moving live entries
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int MAX_CHUNKS = 1 << (SLOT_BITS - CHUNK_BITS);
+
+    /** Wheel resolution; a timeout fires at most this late. */
+    private static final long TIMEOUT_TICK_MILLIS = 10;
+
+    /** Wheel size; with a 10 ms tick one round covers about 5 seconds. */
+    private static final int TIMEOUT_WHEEL_BUCKETS = 512;
+
+    private static final Shard[] shards = createShards();
+
+    private static final TimeoutWheel timeoutWheel =
+            new TimeoutWheel(
+                    TIMEOUT_TICK_MILLIS, TIMEOUT_WHEEL_BUCKETS, shards.length, "GlideTimeoutWheel");
+
+    /** Number of registered requests, across all shards. */
+    private static final LongAdder activeCount = new LongAdder();
+
+    /** Number of registered requests with a Java-side timeout. */
+    private static final LongAdder timeoutCount = new LongAdder();
 
     /**
      * Per-client inflight request counters. Maps client handle to the number of active requests for
@@ -47,21 +82,6 @@ public final class AsyncRegistry {
     private static final ConcurrentHashMap<Long, AtomicInteger> clientInflightCounts =
             new ConcurrentHashMap<>();
 
-    /** Thread-safe ID generator for correlation IDs. */
-    private static final AtomicLong nextId = new AtomicLong(1);
-
-    /**
-     * Single-threaded scheduler for timeout tasks. Uses a daemon thread so it won't prevent JVM
-     * shutdown. Tasks are cancellable via {@link ScheduledFuture#cancel(boolean)}.
-     */
-    private static final ScheduledExecutorService timeoutScheduler =
-            Executors.newSingleThreadScheduledExecutor(
-                    r -> {
-                        Thread t = new Thread(r, "GlideTimeoutScheduler");
-                        t.setDaemon(true);
-                        return t;
-                    });
-
     private static final Thread shutdownHook =
             new Thread(AsyncRegistry::shutdown, "AsyncRegistry-Shutdown");
 
@@ -71,27 +91,18 @@ public final class AsyncRegistry {
         }
     }
 
-    /** Estimate initial capacity for the active futures map using inflight limit with margin. */
-    private static int estimateInitialCapacity() {
-        String env = System.getenv("GLIDE_MAX_INFLIGHT_REQUESTS");
-        if (env != null) {
-            try {
-                int v = Integer.parseInt(env.trim());
-                if (v > 0) return Math.max(16, v * 2);
-            } catch (NumberFormatException ignored) {
-            }
+    /** One shard per two cores (rounded to a power of two) keeps registering threads apart. */
+    private static Shard[] createShards() {
+        int wanted = Math.min(MAX_SHARDS, Runtime.getRuntime().availableProcessors() * 2);
+        int count = 1;
+        while (count < wanted) {
+            count <<= 1;
         }
-
-        String prop = System.getProperty("glide.maxInflightRequests");
-        if (prop != null) {
-            try {
-                int v = Integer.parseInt(prop.trim());
-                if (v > 0) return Math.max(16, v * 2);
-            } catch (NumberFormatException ignored) {
-            }
+        Shard[] result = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new Shard(i);
         }
-
-        return 2000; // Default with margin over core's 1000
+        return result;
     }
 
     /**
@@ -106,108 +117,148 @@ public final class AsyncRegistry {
      */
     public static <T> long register(
             CompletableFuture<T> future, int maxInflightRequests, long clientHandle, long timeoutMillis) {
+        return register(future, maxInflightRequests, clientHandle, timeoutMillis, null);
+    }
+
+    /**
+     * Register future like {@link #register(CompletableFuture, int, long, long)}, completing it on
+     * the given executor rather than on the thread that delivers the result.
+     *
+     * @param future the future to register
+     * @param maxInflightRequests per-client limit (0 = no Java-side limit, defer to core)
+     * @param clientHandle native client handle for tracking
+     * @param timeoutMillis Java-side timeout in milliseconds (0 = use Rust default timeout)
+     * @param completionExecutor executor completing the future, or null to complete it inline
+     * @return correlation ID for native callback
+     */
+    public static <T> long register(
+            CompletableFuture<T> future,
+            int maxInflightRequests,
+            long clientHandle,
+            long timeoutMillis,
+            Executor completionExecutor) {
         if (future == null) {
             throw new IllegalArgumentException("Future cannot be null");
         }
 
         // Client-specific inflight limit check
         // 0 means "use native/core defaults" - no limit enforcement in Java layer
+        AtomicInteger inflightCounter = null;
         if (maxInflightRequests > 0) {
-            enforceInflightLimit(clientHandle, maxInflightRequests);
+            inflightCounter = acquireInflight(clientHandle, maxInflightRequests);
         }
 
-        long correlationId = nextId.getAndIncrement();
-
-        // Store the original future
         @SuppressWarnings("unchecked")
         CompletableFuture<Object> originalFuture = (CompletableFuture<Object>) future;
+        boolean hasTimeout = timeoutMillis > 0;
 
-        // Store original future for completion by native code
-        activeFutures.put(correlationId, originalFuture);
+        Shard shard = shards[(int) Thread.currentThread().getId() & (shards.length - 1)];
+        PendingRequest request;
+        try {
+            request = shard.add(originalFuture, inflightCounter, hasTimeout, completionExecutor);
+        } catch (RuntimeException e) {
+            if (inflightCounter != null) {
+                inflightCounter.decrementAndGet();
+            }
+            throw e;
+        }
 
         // Schedule Java-side timeout if configured (0 = defer to Rust core timeout)
-        if (timeoutMillis > 0) {
-            scheduleTimeout(correlationId, originalFuture, timeoutMillis);
+        if (hasTimeout) {
+            timeoutWheel.schedule(request, timeoutMillis, shard.index);
         }
 
-        // Set up cleanup on the original future
-        // This ensures proper resource cleanup when completed
-        setupCleanup(correlationId, originalFuture, maxInflightRequests, clientHandle);
-
-        return correlationId;
+        return request.correlationId;
     }
 
-    /** Enforce per-client inflight limit, throwing RequestException if exceeded. */
-    private static void enforceInflightLimit(long clientHandle, int maxInflightRequests) {
-        clientInflightCounts.compute(
-                clientHandle,
-                (key, counter) -> {
-                    AtomicInteger value = counter != null ? counter : new AtomicInteger(0);
-                    if (value.incrementAndGet() > maxInflightRequests) {
-                        value.decrementAndGet();
-                        throw new RequestException("Client reached maximum inflight requests");
-                    }
-                    return value;
-                });
+    /** Reserve an inflight slot for the client, throwing RequestException if the limit is reached. */
+    private static AtomicInteger acquireInflight(long clientHandle, int maxInflightRequests) {
+        AtomicInteger counter = clientInflightCounts.get(clientHandle);
+        if (counter == null) {
+            counter = clientInflightCounts.computeIfAbsent(clientHandle, key -> new AtomicInteger());
+        }
+        int current;
+        do {
+            current = counter.get();
+            if (current >= maxInflightRequests) {
+                throw new RequestException("Client reached maximum inflight requests");
+            }
+        } while (!counter.compareAndSet(current, current + 1));
+        return counter;
     }
 
     /**
-     * Schedule a cancellable timeout task. If the request doesn't complete within timeoutMillis, the
-     * future is completed exceptionally with TimeoutException and the native layer is notified.
+     * Remove a request from the registry, releasing its slot. The caller must {@link #finish} it.
+     *
+     * @return the request, or null if the id is unknown or the request already finished
      */
-    private static void scheduleTimeout(
-            long correlationId, CompletableFuture<Object> future, long timeoutMillis) {
-        ScheduledFuture<?> task =
-                timeoutScheduler.schedule(
-                        () -> {
-                            timeoutTasks.remove(correlationId);
-                            if (future.completeExceptionally(new TimeoutException("Request timed out"))) {
-                                GlideNativeBridge.markTimedOut(correlationId);
-                            }
-                        },
-                        timeoutMillis,
-                        TimeUnit.MILLISECONDS);
-        timeoutTasks.put(correlationId, task);
+    private static PendingRequest take(long correlationId) {
+        if (correlationId <= 0) {
+            return null;
+        }
+        int shardIndex = (int) (correlationId >>> SLOT_BITS) & (MAX_SHARDS - 1);
+        if (shardIndex >= shards.length) {
+            return null;
+        }
+        return shards[shardIndex].take(correlationId);
     }
 
-    /**
-     * Set up cleanup handler for when the future completes (success, error, or timeout). Performs
-     * atomic cleanup to avoid races and leaks.
-     */
-    private static void setupCleanup(
-            long correlationId,
-            CompletableFuture<Object> future,
-            int maxInflightRequests,
-            long clientHandle) {
-        future.whenComplete(
-                (result, error) -> {
-                    // Atomic cleanup - no race conditions
-                    activeFutures.remove(correlationId);
-
-                    // Cancel the timeout task if it hasn't fired yet
-                    // Using cancel(false) to avoid interrupting the scheduler thread
-                    ScheduledFuture<?> timeoutTask = timeoutTasks.remove(correlationId);
-                    if (timeoutTask != null) {
-                        timeoutTask.cancel(false);
-                    }
+    private static CompletableFuture<Object> finish(PendingRequest request) {
+        activeCount.decrement();
+        if (request.hasTimeout) {
+            timeoutCount.decrement();
+        }
+        if (request.inflightCounter != null) {
+            request.inflightCounter.decrementAndGet();
+        }
+        // The wheel may keep the request until its deadline; don't let it pin the future
+        CompletableFuture<Object> future = request.future;
+        request.future = null;
+        return future;
+    }
 
-                    // Decrement per-client counter if applicable
-                    if (maxInflightRequests > 0) {
-                        decrementInflightCount(clientHandle);
+    /** Called by the timeout wheel once the request's deadline has passed. */
+    private static void expire(PendingRequest request) {
+        if (take(request.correlationId) == null) {
+            return;
+        }
+        Executor executor = request.completionExecutor;
+        CompletableFuture<Object> future = finish(request);
+        long correlationId = request.correlationId;
+        deliver(
+                executor,
+                () -> {
+                    if (future.completeExceptionally(new TimeoutException("Request timed out"))) {
+                        GlideNativeBridge.markTimedOut(correlationId);
                     }
                 });
     }
 
-    /** Decrement inflight count for client, removing the entry when it reaches zero. */
-    private static void decrementInflightCount(long clientHandle) {
-        clientInflightCounts.computeIfPresent(
-                clientHandle,
-                (key, counter) -> {
-                    int remaining = counter.decrementAndGet();
-                    // Clean up the entry when no more inflight requests
-                    // to avoid leaking counters for inactive clients
-                    return remaining <= 0 ? null : counter;
-                });
+    /**
+     * Run a completion on the request's completion executor, or on the calling thread if it has none
+     * or the executor rejects it.
+     */
+    private static void deliver(Executor executor, Runnable completion) {
+        if (executor != null) {
+            try {
+                executor.execute(completion);
+                return;
+            } catch (RejectedExecutionException e) {
+                // Executor is shut down; completing here is better than never completing
+            }
+        }
+        completion.run();
+    }
+
+    private static boolean completeNow(CompletableFuture<Object> future, Object result) {
+        if (future.complete(result)) {
+            return true;
+        }
+        if (result instanceof BufferLease) {
+            // Nobody will ever see the lease, e.g. the future was cancelled meanwhile
+            ((BufferLease) result).close();
+        }
+        return false;
     }
 
     /**
@@ -216,14 +267,48 @@ public final class AsyncRegistry {
      *
      * @param correlationId the correlation ID from register()
      * @param result the result to complete with
-     * @return true if completed, false if already done
+     * @return true if completed (or handed to the request's completion executor), false if already
+     *     done
      */
     public static boolean completeCallback(long correlationId, Object result) {
-        CompletableFuture<Object> future = activeFutures.get(correlationId);
-        // complete() returns false if already completed
-        // This prevents IllegalStateException from completing twice
-        // Note: cleanup happens automatically in whenComplete()
-        return future != null && future.complete(result);
+        PendingRequest request = take(correlationId);
+        if (request == null) {
+            if (result instanceof BufferLease) {
+                // Nobody will ever see the lease, e.g. the request timed out meanwhile
+                ((BufferLease) result).close();
+            }
+            return false;
+        }
+        Executor executor = request.completionExecutor;
+        CompletableFuture<Object> future = finish(request);
+        if (executor == null) {
+            // complete() returns false if already completed
+            // This prevents IllegalStateException from completing twice
+            return completeNow(future, result);
+        }
+        deliver(executor, () -> completeNow(future, result));
+        return true;
+    }
+
+    /**
+     * Complete a batch of callbacks delivered by a single native upcall. The native callback workers
+     * collect results that are ready together (see <code>callbackBatchWindowMicros</code> in {@link
+     * glide.api.models.configuration.AdvancedBaseClientConfiguration}) and hand them over at once,
+     * saving one JNI transition per response.
+     *
+     * @param correlationIds the correlation IDs from register()
+     * @param results the results, <code>results[i]</code> belonging to <code>correlationIds[i]
+     *     </code>
+     * @return the number of callbacks completed
+     */
+    public static int completeCallbacks(long[] correlationIds, Object[] results) {
+        int completed = 0;
+        for (int i = 0; i < correlationIds.length; i++) {
+            if (completeCallback(correlationIds[i], results[i])) {
+                completed++;
+            }
+        }
+        return completed;
     }
 
     /**
@@ -233,14 +318,17 @@ public final class AsyncRegistry {
      * @param correlationId the correlation ID from register()
      * @param errorTypeCode error type code from native layer
      * @param errorMessage error message from native layer
-     * @return true if completed, false if already done
+     * @return true if completed (or handed to the request's completion executor), false if already
+     *     done
      */
     public static boolean completeCallbackWithErrorCode(
             long correlationId, int errorTypeCode, String errorMessage) {
-        CompletableFuture<Object> future = activeFutures.get(correlationId);
-        if (future == null) {
+        PendingRequest request = take(correlationId);
+        if (request == null) {
             return false;
         }
+        Executor executor = request.completionExecutor;
+        CompletableFuture<Object> future = finish(request);
 
         String msg =
                 (errorMessage == null || errorMessage.trim().isEmpty())
@@ -263,27 +351,27 @@ public final class AsyncRegistry {
                 break;
         }
 
-        return future.completeExceptionally(ex);
+        if (executor == null) {
+            return future.completeExceptionally(ex);
+        }
+        deliver(executor, () -> future.completeExceptionally(ex));
+        return true;
     }
 
     /** Get current pending operation count. */
     public static int getPendingCount() {
-        return activeFutures.size();
+        return (int) activeCount.sum();
     }
 
     /** Shutdown cleanup - cancel all pending operations during client shutdown. */
     public static void shutdown() {
-        // Cancel timeout tasks without interrupting (they're just scheduled, not running)
-        timeoutTasks.values().forEach(task -> task.cancel(false));
-        timeoutTasks.clear();
+        timeoutWheel.stop();
 
         // Cancel user futures with interrupt (may be blocked waiting)
-        activeFutures.values().forEach(future -> future.cancel(true));
-        activeFutures.clear();
+        for (Shard shard : shards) {
+            shard.drain(true);
+        }
         clientInflightCounts.clear();
-
-        // Shutdown the timeout scheduler
-        timeoutScheduler.shutdownNow();
     }
 
     /** Clean up per-client tracking when a client is closed. */
@@ -293,22 +381,21 @@ public final class AsyncRegistry {
 
     /** Reset all internal state. Intended for test isolation and client shutdown cleanup. */
     public static void reset() {
-        // Cancel timeout tasks without interrupting
-        timeoutTasks.values().forEach(task -> task.cancel(false));
-        timeoutTasks.clear();
-        activeFutures.clear();
+        // Requests still on the timeout wheel expire as no-ops once removed here
+        for (Shard shard : shards) {
+            shard.drain(false);
+        }
         clientInflightCounts.clear();
-        nextId.set(1);
     }
 
     /**
-     * Returns the count of pending timeout tasks. Intended for testing to verify timeout tasks are
-     * cancelled properly and don't accumulate.
+     * Returns the count of pending timeouts. Intended for testing to verify timeouts are released
+     * properly and don't accumulate.
      *
-     * @return number of active timeout tasks
+     * @return number of registered requests with a Java-side timeout
      */
     public static int getPendingTimeoutCount() {
-        return timeoutTasks.size();
+        return (int) timeoutCount.sum();
     }
 
     /**
@@ -318,7 +405,7 @@ public final class AsyncRegistry {
      * @return number of active futures
      */
     public static int getActiveFutureCount() {
-        return activeFutures.size();
+        return (int) activeCount.sum();
     }
 
     /**
@@ -332,4 +419,172 @@ public final class AsyncRegistry {
             // Hook was never registered or already removed
         }
     }
+
+    /** A registered request; also its entry on the timeout wheel. */
+    private static final class PendingRequest extends TimeoutWheel.Timeout {
+        final long correlationId;
+        final AtomicInteger inflightCounter;
+        final boolean hasTimeout;
+        final Executor completionExecutor;
+
+        /** Cleared by {@link #finish} once the request leaves the registry. */
+        CompletableFuture<Object> future;
+
+        PendingRequest(
+                long correlationId,
+                CompletableFuture<Object> future,
+                AtomicInteger inflightCounter,
+                boolean hasTimeout,
+                Executor completionExecutor) {
+            this.correlationId = correlationId;
+            this.future = future;
+            this.inflightCounter = inflightCounter;
+            this.hasTimeout = hasTimeout;
+            this.completionExecutor = completionExecutor;
+        }
+
+        @Override
+        void expire() {
+            AsyncRegistry.expire(this);
+        }
+    }
+
+    /** A fixed block of slots with their free-list links. */
+    private static final class Chunk {
+        final AtomicReferenceArray<PendingRequest> entries = new AtomicReferenceArray<>(CHUNK_SIZE);
+
+        /** Next free slot (or -1) for slots on the free list. */
+        final AtomicIntegerArray nextFree = new AtomicIntegerArray(CHUNK_SIZE);
+    }
+
+    /**
+     * Slot table of one shard. Free slots form a lock-free stack; the shard only locks to add a new
+     * chunk when the stack runs empty.
+     */
+    private static final class Shard {
+        final int index;
+
+        private volatile Chunk[] chunks = new Chunk[0];
+
+        /** Free-list head: ABA tag in the upper 32 bits, top slot + 1 (0 if empty) in the lower. */
+        private final AtomicLong freeHead = new AtomicLong();
+
+        Shard(int index) {
+            this.index = index;
+        }
+
+        PendingRequest add(
+                CompletableFuture<Object> future,
+                AtomicInteger inflightCounter,
+                boolean hasTimeout,
+                Executor completionExecutor) {
+            long head;
+            int slot;
+            while (true) {
+                head = freeHead.get();
+                slot = (int) head - 1;
+                if (slot < 0) {
+                    grow();
+                    continue;
+                }
+                int next = chunk(slot).nextFree.get(slot & CHUNK_MASK);
+                if (freeHead.compareAndSet(head, nextHead(head, next))) {
+                    break;
+                }
+            }
+
+            // The free-list tag changes on every pop, so it doubles as the id's sequence number
+            long sequence = (head >>> 32) + 1;
+            long correlationId = (sequence << SEQUENCE_SHIFT) | ((long) index << SLOT_BITS) | slot;
+            PendingRequest request =
+                    new PendingRequest(
+                            correlationId, future, inflightCounter, hasTimeout, completionExecutor);
+            activeCount.increment();
+            if (hasTimeout) {
+                timeoutCount.increment();
+            }
+            chunk(slot).entries.set(slot & CHUNK_MASK, request);
+            return request;
+        }
+
+        /** Remove the request with the given id, if still registered. */
+        PendingRequest take(long correlationId) {
+            int slot = (int) (correlationId & SLOT_MASK);
+            Chunk[] current = chunks;
+            int chunkIndex = slot >>> CHUNK_BITS;
+            if (chunkIndex >= current.length) {
+                return null;
+            }
+            AtomicReferenceArray<PendingRequest> entries = current[chunkIndex].entries;
+            PendingRequest request = entries.get(slot & CHUNK_MASK);
+            if (request == null
+                    || request.correlationId != correlationId
+                    || !entries.compareAndSet(slot & CHUNK_MASK, request, null)) {
+                return null;
+            }
+            release(slot);
+            return request;
+        }
+
+        /** Remove every registered request, optionally cancelling its future. */
+        void drain(boolean cancel) {
+            Chunk[] current = chunks;
+            for (int c = 0; c < current.length; c++) {
+                AtomicReferenceArray<PendingRequest> entries = current[c].entries;
+                for (int i = 0; i < CHUNK_SIZE; i++) {
+                    PendingRequest request = entries.get(i);
+                    if (request != null && entries.compareAndSet(i, request, null)) {
+                        release((c << CHUNK_BITS) | i);
+                        CompletableFuture<Object> future = finish(request);
+                        if (cancel && future != null) {
+                            future.cancel(true);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void release(int slot) {
+            Chunk chunk = chunk(slot);
+            long head;
+            do {
+                head = freeHead.get();
+                chunk.nextFree.set(slot & CHUNK_MASK, (int) head - 1);
+            } while (!freeHead.compareAndSet(head, nextHead(head, slot)));
+        }
+
+        private synchronized void grow() {
+            if ((int) freeHead.get() != 0) {
+                return; // Slots were released or another thread already grew the shard
+            }
+            Chunk[] current = chunks;
+            if (current.length == MAX_CHUNKS) {
+                throw new RequestException("Too many inflight requests");
+            }
+            Chunk chunk = new Chunk();
+            int base = current.length << CHUNK_BITS;
+            for (int i = 0; i < CHUNK_SIZE - 1; i++) {
+                chunk.nextFree.set(i, base + i + 1);
+            }
+            Chunk[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = chunk;
+            chunks = grown;
+
+            // Push the whole chunk onto the free list at once
+            long head;
+            do {
+                head = freeHead.get();
+                chunk.nextFree.set(CHUNK_SIZE - 1, (int) head - 1);
+            } while (!freeHead.compareAndSet(head, nextHead(head, base)));
+        }
+
+        private Chunk chunk(int slot) {
+            return chunks[slot >>> CHUNK_BITS];
+        }
+
+        private static long nextHead(long head, int top) {
+            long tag = (head >>> 32) + 1;
+            return (tag << 32) | ((top + 1) & 0xFFFFFFFFL);
+        }
+    }
 }
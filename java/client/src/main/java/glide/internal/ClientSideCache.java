@@ -0,0 +1,535 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.internal;
+
+import command_request.CommandRequestOuterClass.RequestType;
+import glide.api.logging.Logger;
+import glide.api.models.GlideString;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Client-side cache of read replies, kept coherent with <code>CLIENT TRACKING</code>.
+ *
+ * <p>Entries are grouped by Valkey key, so an invalidation push drops every cached reply of the
+ * key. Eviction follows W-TinyLFU: new keys enter a small LRU window, and a key leaving the window
+ * only replaces the LRU key of the main space if a frequency sketch says it is read more often. The
+ * cache is split into independently locked segments.
+ *
+ * <p>A reply is only stored if no invalidation happened since its request was sent (see {@link
+ * #startFill()}), because the invalidation may be processed before the stale reply. While tracking
+ * is not active (before it is first enabled and after a disconnection) nothing is cached.
+ */
+public final class ClientSideCache {
+
+    /** Returned by {@link #get} when the reply is not cached. */
+    public static final Object MISS = new Object();
+
+    /** Returned by {@link #startFill()} when the reply must not be cached. */
+    public static final long NO_FILL = -1;
+
+    private static final String JSON_GET = "JSON.GET";
+
+    /** Placeholder for cached <code>null</code> replies. */
+    private static final Object NULL_REPLY = new Object();
+
+    /** Keys per segment below which the cache is not split further. */
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final long ttlNanos;
+
+    /** Incremented by every invalidation, see {@link #startFill()}. */
+    private final AtomicLong invalidationEpoch = new AtomicLong();
+
+    /** Incremented by every disconnection, to detect tracking enabled on a lost connection. */
+    private final AtomicLong disconnections = new AtomicLong();
+
+    private volatile boolean trackingActive;
+    private volatile Supplier<CompletableFuture<?>> trackingEnabler;
+    private final AtomicBoolean enablingTracking = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param maxEntries Maximum number of cached keys.
+     * @param entryTtlMillis Time to live of a reply, <code>null</code> for no expiry.
+     */
+    public ClientSideCache(int maxEntries, Long entryTtlMillis) {
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS
+                && (long) maxEntries / (segmentCount * 2) >= MIN_SEGMENT_CAPACITY) {
+            segmentCount *= 2;
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // Spread the remainder so that the capacities add up to maxEntries
+            int capacity = maxEntries / segmentCount + (i < maxEntries % segmentCount ? 1 : 0);
+            segments[i] = new Segment(capacity);
+        }
+        this.segmentMask = segmentCount - 1;
+        this.ttlNanos = entryTtlMillis != null ? TimeUnit.MILLISECONDS.toNanos(entryTtlMillis) : 0;
+    }
+
+    /**
+     * Build the cache key of a command.
+     *
+     * @return The key, or <code>null</code> if the command's replies are not cacheable.
+     */
+    public static CacheKey keyOf(RequestType requestType, Object[] arguments, boolean expectUtf8) {
+        int keyIndex;
+        switch (requestType) {
+            case Get:
+            case HGet:
+            case HGetAll:
+            case SMembers:
+            case JsonGet:
+                keyIndex = 0;
+                break;
+            case CustomCommand:
+                if (arguments.length < 2 || !JSON_GET.equalsIgnoreCase(arguments[0].toString())) {
+                    return null;
+                }
+                keyIndex = 1;
+                break;
+            default:
+                return null;
+        }
+        if (arguments.length <= keyIndex) {
+            return null;
+        }
+        byte[][] otherArguments = new byte[arguments.length - 1][];
+        for (int i = 0, j = 0; i < arguments.length; i++) {
+            if (i != keyIndex) {
+                otherArguments[j++] = toBytes(arguments[i]);
+            }
+        }
+        return new CacheKey(
+                new Key(toBytes(arguments[keyIndex])),
+                new Variant(requestType, expectUtf8, otherArguments));
+    }
+
+    /**
+     * Look up a cached reply.
+     *
+     * @return The reply, or {@link #MISS}. Collections are copies the caller may modify.
+     */
+    public Object get(CacheKey cacheKey) {
+        if (!trackingActive) {
+            requestTracking();
+            misses.increment();
+            return MISS;
+        }
+        Object value = segmentFor(cacheKey.key).get(cacheKey, System.nanoTime());
+        if (value == MISS) {
+            misses.increment();
+            return MISS;
+        }
+        hits.increment();
+        return value == NULL_REPLY ? null : copy(value);
+    }
+
+    /**
+     * Call before sending a request whose reply may be cached.
+     *
+     * @return A stamp to pass to {@link #fill}, or {@link #NO_FILL} if tracking is not active.
+     */
+    public long startFill() {
+        return trackingActive ? invalidationEpoch.get() : NO_FILL;
+    }
+
+    /** Cache a reply, unless an invalidation happened since {@link #startFill()} returned stamp. */
+    public void fill(CacheKey cacheKey, Object value, long stamp) {
+        if (stamp == NO_FILL || invalidationEpoch.get() != stamp) {
+            return;
+        }
+        long expiresAtNanos = ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0;
+        segmentFor(cacheKey.key)
+                .put(cacheKey, value == null ? NULL_REPLY : copy(value), expiresAtNanos, stamp);
+    }
+
+    /**
+     * Enable tracking for the first time.
+     *
+     * @param enabler Sends <code>CLIENT TRACKING ON</code>; also used to enable tracking again after
+     *     a disconnection.
+     */
+    public CompletableFuture<Void> enableTracking(Supplier<CompletableFuture<?>> enabler) {
+        this.trackingEnabler = enabler;
+        return enabler
+                .get()
+                .thenApply(
+                        ignored -> {
+                            trackingActive = true;
+                            return null;
+                        });
+    }
+
+    /**
+     * Handle an invalidation push.
+     *
+     * @param keys The invalidated keys, or <code>null</code> if the server flushed all of them.
+     */
+    public void invalidate(byte[][] keys) {
+        invalidationEpoch.incrementAndGet();
+        if (keys == null) {
+            clear();
+            return;
+        }
+        for (byte[] key : keys) {
+            Key cacheKey = new Key(key);
+            if (segmentFor(cacheKey).remove(cacheKey)) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * Handle a lost connection: the server forgot the tracked keys, so flush everything and enable
+     * tracking again once reconnected.
+     */
+    public void onDisconnect() {
+        trackingActive = false;
+        disconnections.incrementAndGet();
+        invalidationEpoch.incrementAndGet();
+        clear();
+        requestTracking();
+    }
+
+    /** Cache counters, reported by <code>BaseClient.getStatistics()</code>. */
+    public Map<String, String> getStatistics() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        Map<String, String> statistics = new LinkedHashMap<>();
+        statistics.put("client_cache_hits", Long.toString(hits.sum()));
+        statistics.put("client_cache_misses", Long.toString(misses.sum()));
+        statistics.put("client_cache_evictions", Long.toString(evictions.sum()));
+        statistics.put("client_cache_expirations", Long.toString(expirations.sum()));
+        statistics.put("client_cache_invalidations", Long.toString(invalidations.sum()));
+        statistics.put("client_cache_size", Long.toString(size));
+        return statistics;
+    }
+
+    private void clear() {
+        for (Segment segment : segments) {
+            invalidations.add(segment.clear());
+        }
+    }
+
+    /** Enable tracking again after a disconnection; failures are retried on the next read. */
+    private void requestTracking() {
+        Supplier<CompletableFuture<?>> enabler = trackingEnabler;
+        if (enabler == null || !enablingTracking.compareAndSet(false, true)) {
+            return;
+        }
+        long generation = disconnections.get();
+        CompletableFuture<?> future;
+        try {
+            future = enabler.get();
+        } catch (Throwable t) {
+            enablingTracking.set(false);
+            return;
+        }
+        future.whenComplete(
+                (ignored, error) -> {
+                    enablingTracking.set(false);
+                    if (error != null) {
+                        Logger.log(
+                                Logger.Level.DEBUG,
+                                "ClientSideCache",
+                                () -> "Failed to enable client tracking: " + error.getMessage());
+                    } else if (disconnections.get() == generation) {
+                        trackingActive = true;
+                    } else {
+                        // Disconnected again meanwhile, tracking may be off on the new connection
+                        requestTracking();
+                    }
+                });
+    }
+
+    private Segment segmentFor(Key key) {
+        return segments[spread(key.hash) & segmentMask];
+    }
+
+    private static Object copy(Object value) {
+        if (value instanceof Map) {
+            return new LinkedHashMap<>((Map<?, ?>) value);
+        }
+        if (value instanceof Set) {
+            return new LinkedHashSet<>((Set<?>) value);
+        }
+        if (value instanceof Object[]) {
+            return ((Object[]) value).clone();
+        }
+        return value;
+    }
+
+    private static byte[] toBytes(Object argument) {
+        if (argument instanceof String) {
+            return ((String) argument).getBytes(StandardCharsets.UTF_8);
+        }
+        if (argument instanceof GlideString) {
+            return ((GlideString) argument).getBytes().clone();
+        }
+        if (argument instanceof byte[]) {
+            return ((byte[]) argument).clone();
+        }
+        return argument.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x45d9f3b;
+        return hash ^ (hash >>> 16);
+    }
+
+    /** Cache key of a command: the Valkey key and the command reading it. */
+    public static final class CacheKey {
+        final Key key;
+        final Variant variant;
+
+        CacheKey(Key key, Variant variant) {
+            this.key = key;
+            this.variant = variant;
+        }
+    }
+
+    /** A Valkey key, the unit of invalidation and eviction. */
+    static final class Key {
+        final byte[] bytes;
+        final int hash;
+
+        Key(byte[] bytes) {
+            this.bytes = bytes;
+            this.hash = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && Arrays.equals(bytes, ((Key) other).bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /** A command reading a key, with its arguments other than the key. */
+    static final class Variant {
+        final RequestType requestType;
+        final boolean expectUtf8;
+        final byte[][] arguments;
+        final int hash;
+
+        Variant(RequestType requestType, boolean expectUtf8, byte[][] arguments) {
+            this.requestType = requestType;
+            this.expectUtf8 = expectUtf8;
+            this.arguments = arguments;
+            this.hash =
+                    31 * (31 * requestType.hashCode() + Boolean.hashCode(expectUtf8))
+                            + Arrays.deepHashCode(arguments);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Variant)) {
+                return false;
+            }
+            Variant variant = (Variant) other;
+            return requestType == variant.requestType
+                    && expectUtf8 == variant.expectUtf8
+                    && Arrays.deepEquals(arguments, variant.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /** Cached replies of one key. */
+    private static final class Node {
+        final Map<Variant, Reply> replies = new HashMap<>(4);
+    }
+
+    private static final class Reply {
+        final Object value;
+        final long expiresAtNanos;
+
+        Reply(Object value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    /** A W-TinyLFU cache of keys, guarded by its own monitor. */
+    private final class Segment {
+        private final LinkedHashMap<Key, Node> window = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<Key, Node> main = new LinkedHashMap<>(16, 0.75f, true);
+        private final int windowCapacity;
+        private final int mainCapacity;
+        private final FrequencySketch sketch;
+
+        Segment(int capacity) {
+            this.windowCapacity = Math.max(1, capacity / 100);
+            this.mainCapacity = Math.max(0, capacity - windowCapacity);
+            this.sketch = new FrequencySketch(capacity);
+        }
+
+        synchronized Object get(CacheKey cacheKey, long nowNanos) {
+            sketch.increment(cacheKey.key.hash);
+            Node node = find(cacheKey.key);
+            if (node == null) {
+                return MISS;
+            }
+            Reply reply = node.replies.get(cacheKey.variant);
+            if (reply == null) {
+                return MISS;
+            }
+            if (ttlNanos > 0 && nowNanos - reply.expiresAtNanos >= 0) {
+                node.replies.remove(cacheKey.variant);
+                if (node.replies.isEmpty()) {
+                    remove(cacheKey.key);
+                }
+                expirations.increment();
+                return MISS;
+            }
+            return reply.value;
+        }
+
+        synchronized void put(CacheKey cacheKey, Object value, long expiresAtNanos, long stamp) {
+            // Checked under the lock, so an invalidation either rejects this reply or removes it
+            if (invalidationEpoch.get() != stamp) {
+                return;
+            }
+            Node node = find(cacheKey.key);
+            if (node == null) {
+                node = new Node();
+                window.put(cacheKey.key, node);
+                if (window.size() > windowCapacity) {
+                    evictFromWindow();
+                }
+            }
+            node.replies.put(cacheKey.variant, new Reply(value, expiresAtNanos));
+        }
+
+        synchronized boolean remove(Key key) {
+            return window.remove(key) != null || main.remove(key) != null;
+        }
+
+        synchronized int clear() {
+            int size = window.size() + main.size();
+            window.clear();
+            main.clear();
+            return size;
+        }
+
+        synchronized int size() {
+            return window.size() + main.size();
+        }
+
+        private Node find(Key key) {
+            Node node = window.get(key);
+            return node != null ? node : main.get(key);
+        }
+
+        /** Move the LRU key of the window to the main space, if it wins against the main's LRU key. */
+        private void evictFromWindow() {
+            Iterator<Map.Entry<Key, Node>> windowIterator = window.entrySet().iterator();
+            Map.Entry<Key, Node> candidate = windowIterator.next();
+            windowIterator.remove();
+            if (main.size() < mainCapacity) {
+                main.put(candidate.getKey(), candidate.getValue());
+                return;
+            }
+            evictions.increment();
+            if (mainCapacity == 0) {
+                return;
+            }
+            Iterator<Map.Entry<Key, Node>> mainIterator = main.entrySet().iterator();
+            Map.Entry<Key, Node> victim = mainIterator.next();
+            if (sketch.frequency(candidate.getKey().hash) > sketch.frequency(victim.getKey().hash)) {
+                mainIterator.remove();
+                main.put(candidate.getKey(), candidate.getValue());
+            }
+        }
+    }
+
+    /**
+     * Count-min sketch of 4-bit counters estimating how often keys are read. Counters are halved
+     * periodically so that the estimate follows recent popularity.
+     */
+    private static final class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x97cb3127, 0x2ca6b3fb, 0x5f356495, 0x7a646e19};
+
+        private final byte[][] rows;
+        private final int mask;
+        private final int resetThreshold;
+        private int additions;
+
+        FrequencySketch(int capacity) {
+            int width = 16;
+            while (width < capacity && width < (1 << 24)) {
+                width <<= 1;
+            }
+            this.rows = new byte[DEPTH][width];
+            this.mask = width - 1;
+            this.resetThreshold = Math.max(16, 10 * capacity);
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int i = 0; i < DEPTH; i++) {
+                int index = indexOf(hash, i);
+                if (rows[i][index] < MAX_COUNT) {
+                    rows[i][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= resetThreshold) {
+                for (byte[] row : rows) {
+                    for (int i = 0; i < row.length; i++) {
+                        row[i] >>= 1;
+                    }
+                }
+                additions >>= 1;
+            }
+        }
+
+        int frequency(int hash) {
+            int frequency = MAX_COUNT;
+            for (int i = 0; i < DEPTH; i++) {
+                frequency = Math.min(frequency, rows[i][indexOf(hash, i)]);
+            }
+            return frequency;
+        }
+
+        private int indexOf(int hash, int row) {
+            int h = hash * SEEDS[row];
+            return (h ^ (h >>> 15)) & mask;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.internal;
+
+import command_request.CommandRequestOuterClass.RequestType;
+import glide.api.models.GlideString;
+import glide.api.models.configuration.RequestRoutingConfiguration.ByAddressRoute;
+import glide.api.models.configuration.RequestRoutingConfiguration.Route;
+import glide.api.models.configuration.RequestRoutingConfiguration.SimpleMultiNodeRoute;
+import glide.api.models.configuration.RequestRoutingConfiguration.SimpleSingleNodeRoute;
+import glide.api.models.configuration.RequestRoutingConfiguration.SlotIdRoute;
+import glide.api.models.configuration.RequestRoutingConfiguration.SlotKeyRoute;
+import glide.api.models.exceptions.RequestException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes single commands into the compact binary format read by <code>command_encoding.rs</code>.
+ * Used instead of a protobuf <code>CommandRequest</code> on the hot command path; batches, scripts
+ * and cluster scan still use protobuf.
+ *
+ * <p>Layout (native byte order):
+ *
+ * <pre>
+ * u32 request type | u8 flags | u8 route kind, route payload | u32 arg count | arg*
+ * arg: u32 length, bytes | u32 EXTERNAL_ARGUMENT, u32 segment count
+ * </pre>
+ *
+ * <p>Requests are written into a direct {@link ByteBuffer} owned by the calling thread. The native
+ * layer copies the arguments out before {@link GlideNativeBridge#executeEncodedCommandAsync}
+ * returns, so the buffer is reused for the next command sent from the same thread.
+ *
+ * <p>Large direct {@link ByteBuffer} arguments are not copied into the request: they are passed by
+ * reference next to it (see {@link #takeExternalArguments()}), and the native layer reads them in
+ * place. An argument may consist of several such buffers, given as a <code>ByteBuffer[]</code>.
+ *
+ * <p>Vectors given as <code>float[]</code> or {@link FloatBuffer} are written straight into the
+ * request as little-endian 32-bit floats, the binary format of <code>FT</code> vector fields.
+ */
+public final class CommandEncoder {
+
+    static final byte ROUTE_NONE = 0;
+    static final byte ROUTE_SIMPLE = 1;
+    static final byte ROUTE_SLOT_ID = 2;
+    static final byte ROUTE_SLOT_KEY = 3;
+    static final byte ROUTE_BY_ADDRESS = 4;
+
+    /** Flag asking the native layer to compress the command's value, if the client compresses. */
+    public static final byte FLAG_COMPRESS = 1;
+
+    /**
+     * Flag asking the native layer to return a bulk string reply as a {@link
+     * glide.api.models.BufferLease} over native memory.
+     */
+    public static final byte FLAG_LEASE_BUFFER = 2;
+
+    /**
+     * Flag asking the native layer to return an array reply as a <code>double[]</code>, built with a
+     * single JNI call. <code>null</code> elements become {@link Double#NaN}.
+     */
+    public static final byte FLAG_DOUBLE_ARRAY = 4;
+
+    /** Flag asking the native layer to return an array of integers as a <code>long[]</code>. */
+    public static final byte FLAG_LONG_ARRAY = 8;
+
+    /**
+     * Flag asking the native layer to return an array of booleans, or of 0/1 integers, as a <code>
+     * boolean[]</code>.
+     */
+    public static final byte FLAG_BOOLEAN_ARRAY = 16;
+
+    /**
+     * Flag asking the native layer to trace the command in a new OpenTelemetry span, named after its
+     * request type.
+     */
+    public static final byte FLAG_TRACE = 32;
+
+    /** Length marking an argument passed in external buffers, consumed in order. */
+    static final int EXTERNAL_ARGUMENT = -1;
+
+    /** Direct buffer arguments from this size on are passed by reference instead of copied. */
+    static final int EXTERNAL_ARGUMENT_THRESHOLD = 16 * 1024;
+
+    /** Initial size of the per-thread buffer, enough for typical GET/SET requests. */
+    static final int INITIAL_CAPACITY = 4 * 1024;
+
+    /** Buffers grown beyond this size are used once and not kept by the thread. */
+    static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    /** Encoding state owned by a thread. */
+    private static final class State {
+        ByteBuffer buffer = allocate(INITIAL_CAPACITY);
+
+        /** Buffers referenced by the last request, in order. */
+        final List<ByteBuffer> externals = new ArrayList<>();
+    }
+
+    private CommandEncoder() {}
+
+    /**
+     * Encode a command into the calling thread's request buffer.
+     *
+     * @param requestType The command type.
+     * @param arguments Command arguments: {@link String}, {@link GlideString}, <code>byte[]</code>,
+     *     {@link ByteBuffer}, <code>float[]</code> or {@link FloatBuffer} values, other objects are
+     *     encoded using {@link Object#toString()}.
+     * @param route Optional route, <code>null</code> if the command is not routed explicitly.
+     * @param flags <code>FLAG_*</code> bits.
+     * @return The buffer holding the request between position <code>0</code> and its limit. Valid
+     *     until the next call from the same thread.
+     */
+    public static ByteBuffer encode(
+            RequestType requestType, Object[] arguments, Route route, byte flags) {
+        State state = STATE.get();
+        state.externals.clear();
+        ByteBuffer retained = state.buffer;
+        ByteBuffer buffer = retained;
+        buffer.clear();
+
+        buffer.putInt(requestType.getNumber());
+        buffer.put(flags);
+        buffer = putRoute(buffer, route);
+
+        buffer = ensureCapacity(buffer, Integer.BYTES);
+        buffer.putInt(arguments.length);
+        for (Object argument : arguments) {
+            buffer = putArgument(buffer, argument, state.externals);
+        }
+        buffer.flip();
+
+        if (buffer != retained && buffer.capacity() <= MAX_RETAINED_CAPACITY) {
+            state.buffer = buffer;
+        }
+        return buffer;
+    }
+
+    /**
+     * Take the buffers the last request encoded by the calling thread references, to pass them to
+     * {@link GlideNativeBridge#executeEncodedCommandAsync} with it.
+     *
+     * @return The buffers, or <code>null</code> if the request does not reference any.
+     */
+    public static ByteBuffer[] takeExternalArguments() {
+        List<ByteBuffer> externals = STATE.get().externals;
+        if (externals.isEmpty()) {
+            return null;
+        }
+        ByteBuffer[] buffers = externals.toArray(new ByteBuffer[0]);
+        externals.clear();
+        return buffers;
+    }
+
+    private static ByteBuffer putRoute(ByteBuffer buffer, Route route) {
+        if (route == null) {
+            return ensureCapacity(buffer, 1).put(ROUTE_NONE);
+        }
+        if (route instanceof SimpleMultiNodeRoute) {
+            return ensureCapacity(buffer, 2)
+                    .put(ROUTE_SIMPLE)
+                    .put((byte) ((SimpleMultiNodeRoute) route).getOrdinal());
+        }
+        if (route instanceof SimpleSingleNodeRoute) {
+            return ensureCapacity(buffer, 2)
+                    .put(ROUTE_SIMPLE)
+                    .put((byte) ((SimpleSingleNodeRoute) route).getOrdinal());
+        }
+        if (route instanceof SlotIdRoute) {
+            SlotIdRoute slotIdRoute = (SlotIdRoute) route;
+            return ensureCapacity(buffer, 2 + Integer.BYTES)
+                    .put(ROUTE_SLOT_ID)
+                    .put((byte) slotIdRoute.getSlotType().ordinal())
+                    .putInt(slotIdRoute.getSlotId());
+        }
+        if (route instanceof SlotKeyRoute) {
+            SlotKeyRoute slotKeyRoute = (SlotKeyRoute) route;
+            buffer =
+                    ensureCapacity(buffer, 2)
+                            .put(ROUTE_SLOT_KEY)
+                            .put((byte) slotKeyRoute.getSlotType().ordinal());
+            return putString(buffer, slotKeyRoute.getSlotKey());
+        }
+        if (route instanceof ByAddressRoute) {
+            ByAddressRoute byAddressRoute = (ByAddressRoute) route;
+            buffer =
+                    ensureCapacity(buffer, 1 + Integer.BYTES)
+                            .put(ROUTE_BY_ADDRESS)
+                            .putInt(byAddressRoute.getPort());
+            return putString(buffer, byAddressRoute.getHost());
+        }
+        throw new RequestException(
+                String.format("Unknown type of route: %s", route.getClass().getSimpleName()));
+    }
+
+    private static ByteBuffer putArgument(
+            ByteBuffer buffer, Object argument, List<ByteBuffer> externals) {
+        if (argument instanceof String) {
+            return putString(buffer, (String) argument);
+        }
+        if (argument instanceof GlideString) {
+            return putBytes(buffer, ((GlideString) argument).getBytes());
+        }
+        if (argument instanceof byte[]) {
+            return putBytes(buffer, (byte[]) argument);
+        }
+        if (argument instanceof ByteBuffer) {
+            return putSegments(buffer, new ByteBuffer[] {(ByteBuffer) argument}, externals);
+        }
+        if (argument instanceof ByteBuffer[]) {
+            return putSegments(buffer, (ByteBuffer[]) argument, externals);
+        }
+        if (argument instanceof float[]) {
+            return putFloats(buffer, FloatBuffer.wrap((float[]) argument));
+        }
+        if (argument instanceof FloatBuffer) {
+            return putFloats(buffer, (FloatBuffer) argument);
+        }
+        if (argument == null) {
+            throw new NullPointerException("Argument cannot be null");
+        }
+        return putBytes(buffer, argument.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Write an argument made of the remaining bytes of <code>segments</code>, without moving their
+     * positions. Passed by reference if the segments are direct and large enough, copied otherwise.
+     */
+    private static ByteBuffer putSegments(
+            ByteBuffer buffer, ByteBuffer[] segments, List<ByteBuffer> externals) {
+        boolean direct = true;
+        long length = 0;
+        for (ByteBuffer segment : segments) {
+            direct &= segment.isDirect();
+            length += segment.remaining();
+        }
+        if (direct && length >= EXTERNAL_ARGUMENT_THRESHOLD) {
+            for (ByteBuffer segment : segments) {
+                // A slice starts at the segment's position, which is where the native side reads
+                externals.add(segment.slice());
+            }
+            return ensureCapacity(buffer, 2 * Integer.BYTES)
+                    .putInt(EXTERNAL_ARGUMENT)
+                    .putInt(segments.length);
+        }
+        buffer = ensureCapacity(buffer, Integer.BYTES + length);
+        buffer.putInt((int) length);
+        for (ByteBuffer segment : segments) {
+            buffer.put(segment.duplicate());
+        }
+        return buffer;
+    }
+
+    private static ByteBuffer putBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer = ensureCapacity(buffer, Integer.BYTES + bytes.length);
+        return buffer.putInt(bytes.length).put(bytes);
+    }
+
+    /**
+     * Write the remaining floats of <code>vector</code> as a little-endian argument, without moving
+     * its position.
+     */
+    private static ByteBuffer putFloats(ByteBuffer buffer, FloatBuffer vector) {
+        long length = (long) vector.remaining() * Float.BYTES;
+        buffer = ensureCapacity(buffer, Integer.BYTES + length);
+        buffer.putInt((int) length);
+        int start = buffer.position();
+        buffer.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().put(vector.duplicate());
+        buffer.order(ByteOrder.nativeOrder()).position(start + (int) length);
+        return buffer;
+    }
+
+    /**
+     * Write a length-prefixed UTF-8 string directly into the buffer, without an intermediate byte
+     * array. Unpaired surrogates are replaced with <code>'?'</code>, as {@link String#getBytes} does.
+     */
+    private static ByteBuffer putString(ByteBuffer buffer, String value) {
+        int length = value.length();
+        // A char never needs more than 3 bytes; surrogate pairs take 4 bytes for 2 chars.
+        buffer = ensureCapacity(buffer, Integer.BYTES + 3L * length);
+        int lengthPosition = buffer.position();
+        buffer.position(lengthPosition + Integer.BYTES);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        buffer.putInt(lengthPosition, buffer.position() - lengthPosition - Integer.BYTES);
+        return buffer;
+    }
+
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, long additional) {
+        if (buffer.remaining() >= additional) {
+            return buffer;
+        }
+        long required = buffer.position() + additional;
+        if (required > Integer.MAX_VALUE) {
+            throw new RequestException("Command request is too large: " + required + " bytes");
+        }
+        int capacity = buffer.capacity();
+        while (capacity < required) {
+            capacity = capacity > (Integer.MAX_VALUE >> 1) ? Integer.MAX_VALUE : capacity << 1;
+        }
+        ByteBuffer grown = allocate(capacity);
+        buffer.flip();
+        grown.put(buffer);
+        return grown;
+    }
+
+    private static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+    }
+}
@@ -8,8 +8,10 @@ import glide.ffi.resolvers.NativeUtils;
 import java.lang.ref.PhantomReference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -89,21 +91,35 @@ public class GlideCoreClient implements AutoCloseable {
         clients.remove(handle);
     }
 
-    // Called by native on push (binary-safe)
-    private static void onNativePush(long handle, byte[] message, byte[] channel, byte[] pattern) {
-        glide.api.models.GlideString msg = glide.api.models.GlideString.of(message);
-        glide.api.models.GlideString ch = glide.api.models.GlideString.of(channel);
-        glide.api.models.PubSubMessage m =
-                (pattern != null && pattern.length > 0)
-                        ? new glide.api.models.PubSubMessage(msg, ch, glide.api.models.GlideString.of(pattern))
-                        : new glide.api.models.PubSubMessage(msg, ch);
+    // Called by native with the pubsub messages received so far, packed in one array: the channel,
+    // pattern (empty if none) and payload of each message follow each other, and `ends` holds where
+    // each of them ends, three per message
+    private static void onNativePushBatch(long handle, byte[] batch, int[] ends) {
+        WeakReference<BaseClient> ref = clients.get(handle);
+        BaseClient c = ref == null ? null : ref.get();
+        if (c == null) return;
+        int start = 0;
+        for (int i = 0; i + 2 < ends.length; i += 3) {
+            c.__enqueuePubSubMessage(
+                    new PackedPubSubMessage(batch, start, ends[i], ends[i + 1], ends[i + 2]));
+            start = ends[i + 2];
+        }
+    }
+
+    // Invoked from native on CLIENT TRACKING invalidations and disconnections
+    private static void onNativeInvalidate(long handle, byte[][] keys, boolean disconnected) {
         WeakReference<BaseClient> ref = clients.get(handle);
         if (ref != null) {
             BaseClient c = ref.get();
-            if (c != null) c.__enqueuePubSubMessage(m);
+            if (c != null) c.__invalidateClientSideCache(keys, disconnected);
         }
     }
 
+    // Invoked from native to hand over a native buffer whose lifetime the caller controls
+    static glide.api.models.BufferLease newNativeBufferLease(java.nio.ByteBuffer buffer, long id) {
+        return new glide.api.models.BufferLease(buffer, () -> freeNativeBuffer(id));
+    }
+
     // Register cleanup action to free native memory when the given ByteBuffer is GC'd
     static void registerNativeBufferCleaner(java.nio.ByteBuffer buffer, long id) {
         if (buffer == null || id == 0) return;
@@ -131,6 +147,9 @@ public class GlideCoreClient implements AutoCloseable {
     /** Request timeout in milliseconds for Java-side timeout detection. */
     private final long requestTimeoutMillis;
 
+    /** Executor completing this client's futures, or null to complete them on the native workers. */
+    private final Executor completionExecutor;
+
     public int getMaxInflightRequests() {
         return maxInflightRequests;
     }
@@ -156,10 +175,24 @@ public class GlideCoreClient implements AutoCloseable {
      * @param maxInflight Maximum inflight requests (0 = use native defaults)
      * @param requestTimeoutMs Request timeout in milliseconds for Java-side timeout detection
      */
+    public GlideCoreClient(long existingHandle, int maxInflight, long requestTimeoutMs) {
+        this(existingHandle, maxInflight, requestTimeoutMs, null);
+    }
+
+    /**
+     * Constructor that wraps an existing native client handle, completing its futures on the given
+     * executor.
+     *
+     * @param existingHandle Native client handle from ConnectionManager
+     * @param maxInflight Maximum inflight requests (0 = use native defaults)
+     * @param requestTimeoutMs Request timeout in milliseconds for Java-side timeout detection
+     * @param completionExecutor Executor completing command futures (null = native callback workers)
+     */
     @SuppressFBWarnings(
             value = "CT_CONSTRUCTOR_THROW",
             justification = "Constructor fails fast on invalid handles prior to registering resources")
-    public GlideCoreClient(long existingHandle, int maxInflight, long requestTimeoutMs) {
+    public GlideCoreClient(
+            long existingHandle, int maxInflight, long requestTimeoutMs, Executor completionExecutor) {
         if (existingHandle == 0) {
             throw new IllegalArgumentException("Native handle cannot be zero");
         }
@@ -168,6 +201,7 @@ public class GlideCoreClient implements AutoCloseable {
         this.maxInflightRequests = maxInflight > 0 ? maxInflight : 0; // 0 means use native defaults
         this.requestTimeoutMillis =
                 requestTimeoutMs > 0 ? requestTimeoutMs : 0; // 0 means no Java timeout
+        this.completionExecutor = completionExecutor;
 
         // Use the existing native handle
         this.nativeClientHandle.set(existingHandle);
@@ -183,23 +217,29 @@ public class GlideCoreClient implements AutoCloseable {
     // ==================== COMMAND EXECUTION METHODS ====================
 
     /**
-     * Execute binary command asynchronously using raw protobuf bytes (for compatibility with
-     * CommandManager)
+     * Execute a single command encoded by {@link CommandEncoder}. The request is read between
+     * position <code>0</code> and the buffer's limit.
      */
-    public CompletableFuture<Object> executeBinaryCommandAsync(byte[] requestBytes) {
-        return executeBinaryCommandAsyncInternal(requestBytes, this.requestTimeoutMillis);
+    public CompletableFuture<Object> executeEncodedCommandAsync(
+            ByteBuffer request, ByteBuffer[] externalArguments, boolean expectUtf8Response) {
+        return executeEncodedCommandAsyncInternal(
+                request, externalArguments, expectUtf8Response, this.requestTimeoutMillis);
     }
 
     /**
-     * Execute binary command asynchronously without Java-side timeout. Used for blocking commands
-     * (BLPOP, BRPOP, etc.) where the command has its own timeout that Rust handles.
+     * Execute an encoded command without Java-side timeout. Used for blocking commands (BLPOP, BRPOP,
+     * etc.) where the command has its own timeout that Rust handles.
      */
-    public CompletableFuture<Object> executeBinaryCommandAsyncNoTimeout(byte[] requestBytes) {
-        return executeBinaryCommandAsyncInternal(requestBytes, 0);
+    public CompletableFuture<Object> executeEncodedCommandAsyncNoTimeout(
+            ByteBuffer request, ByteBuffer[] externalArguments, boolean expectUtf8Response) {
+        return executeEncodedCommandAsyncInternal(request, externalArguments, expectUtf8Response, 0);
     }
 
-    private CompletableFuture<Object> executeBinaryCommandAsyncInternal(
-            byte[] requestBytes, long timeoutMs) {
+    private CompletableFuture<Object> executeEncodedCommandAsyncInternal(
+            ByteBuffer request,
+            ByteBuffer[] externalArguments,
+            boolean expectUtf8Response,
+            long timeoutMs) {
         try {
             long handle = nativeClientHandle.get();
             if (handle == 0) {
@@ -213,14 +253,17 @@ public class GlideCoreClient implements AutoCloseable {
             CompletableFuture<Object> future = new CompletableFuture<>();
             long correlationId;
             try {
-                correlationId = AsyncRegistry.register(future, this.maxInflightRequests, handle, timeoutMs);
+                correlationId =
+                        AsyncRegistry.register(
+                                future, this.maxInflightRequests, handle, timeoutMs, this.completionExecutor);
             } catch (glide.api.models.exceptions.RequestException e) {
                 future.completeExceptionally(e);
                 return future;
             }
 
-            // Execute binary command directly using protobuf bytes
-            GlideNativeBridge.executeBinaryCommandAsync(handle, requestBytes, correlationId);
+            // Native side decodes the request synchronously, so the buffers can be reused afterwards
+            GlideNativeBridge.executeEncodedCommandAsync(
+                    handle, request, request.limit(), externalArguments, expectUtf8Response, correlationId);
 
             return future;
 
@@ -232,56 +275,14 @@ public class GlideCoreClient implements AutoCloseable {
     }
 
     /**
-     * Execute command asynchronously using raw protobuf bytes (for compatibility with CommandManager)
-     */
-    public CompletableFuture<Object> executeCommandAsync(byte[] requestBytes) {
-        return executeCommandAsyncInternal(requestBytes, this.requestTimeoutMillis);
-    }
-
-    /**
-     * Execute command asynchronously without Java-side timeout. Used for blocking commands (BLPOP,
-     * BRPOP, etc.) where the command has its own timeout that Rust handles.
+     * Execute batch asynchronously using raw protobuf bytes, compressing the values of compressible
+     * commands if <code>compressValues</code> is set.
      */
-    public CompletableFuture<Object> executeCommandAsyncNoTimeout(byte[] requestBytes) {
-        return executeCommandAsyncInternal(requestBytes, 0);
-    }
-
-    private CompletableFuture<Object> executeCommandAsyncInternal(
-            byte[] requestBytes, long timeoutMs) {
-        try {
-            long handle = nativeClientHandle.get();
-            if (handle == 0) {
-                CompletableFuture<Object> future = new CompletableFuture<>();
-                future.completeExceptionally(
-                        new glide.api.models.exceptions.ClosingException("Client is closed"));
-                return future;
-            }
-
-            // Create future and register it with the async registry
-            CompletableFuture<Object> future = new CompletableFuture<>();
-            long correlationId;
-            try {
-                correlationId = AsyncRegistry.register(future, this.maxInflightRequests, handle, timeoutMs);
-            } catch (glide.api.models.exceptions.RequestException e) {
-                future.completeExceptionally(e);
-                return future;
-            }
-
-            // Execute command directly using protobuf bytes
-            GlideNativeBridge.executeCommandAsync(handle, requestBytes, correlationId);
-
-            return future;
-
-        } catch (Exception e) {
-            CompletableFuture<Object> future = new CompletableFuture<>();
-            future.completeExceptionally(e);
-            return future;
-        }
-    }
-
-    /** Execute batch asynchronously using raw protobuf bytes. */
     public CompletableFuture<Object> executeBatchAsync(
-            byte[] batchRequestBytes, boolean expectUtf8Response, Integer timeoutOverrideMs) {
+            byte[] batchRequestBytes,
+            boolean expectUtf8Response,
+            boolean compressValues,
+            Integer timeoutOverrideMs) {
         try {
             long handle = nativeClientHandle.get();
             if (handle == 0) {
@@ -299,7 +300,9 @@ public class GlideCoreClient implements AutoCloseable {
                             ? timeoutOverrideMs
                             : this.requestTimeoutMillis;
             try {
-                correlationId = AsyncRegistry.register(future, this.maxInflightRequests, handle, timeoutMs);
+                correlationId =
+                        AsyncRegistry.register(
+                                future, this.maxInflightRequests, handle, timeoutMs, this.completionExecutor);
             } catch (glide.api.models.exceptions.RequestException e) {
                 future.completeExceptionally(e);
                 return future;
@@ -307,7 +310,7 @@ public class GlideCoreClient implements AutoCloseable {
 
             // Execute batch directly
             GlideNativeBridge.executeBatchAsync(
-                    handle, batchRequestBytes, expectUtf8Response, correlationId);
+                    handle, batchRequestBytes, expectUtf8Response, compressValues, correlationId);
 
             return future;
 
@@ -340,7 +343,11 @@ public class GlideCoreClient implements AutoCloseable {
             try {
                 correlationId =
                         AsyncRegistry.register(
-                                future, this.maxInflightRequests, handle, this.requestTimeoutMillis);
+                                future,
+                                this.maxInflightRequests,
+                                handle,
+                                this.requestTimeoutMillis,
+                                this.completionExecutor);
             } catch (glide.api.models.exceptions.RequestException e) {
                 future.completeExceptionally(e);
                 return future;
@@ -374,7 +381,11 @@ public class GlideCoreClient implements AutoCloseable {
         try {
             correlationId =
                     AsyncRegistry.register(
-                            future, this.maxInflightRequests, handle, this.requestTimeoutMillis);
+                            future,
+                            this.maxInflightRequests,
+                            handle,
+                            this.requestTimeoutMillis,
+                            this.completionExecutor);
         } catch (glide.api.models.exceptions.RequestException e) {
             future.completeExceptionally(e);
             return future;
@@ -399,7 +410,11 @@ public class GlideCoreClient implements AutoCloseable {
         try {
             correlationId =
                     AsyncRegistry.register(
-                            future, this.maxInflightRequests, handle, this.requestTimeoutMillis);
+                            future,
+                            this.maxInflightRequests,
+                            handle,
+                            this.requestTimeoutMillis,
+                            this.completionExecutor);
         } catch (glide.api.models.exceptions.RequestException e) {
             future.completeExceptionally(e);
             return future;
@@ -432,7 +447,11 @@ public class GlideCoreClient implements AutoCloseable {
             try {
                 correlationId =
                         AsyncRegistry.register(
-                                future, this.maxInflightRequests, handle, this.requestTimeoutMillis);
+                                future,
+                                this.maxInflightRequests,
+                                handle,
+                                this.requestTimeoutMillis,
+                                this.completionExecutor);
             } catch (glide.api.models.exceptions.RequestException e) {
                 future.completeExceptionally(e);
                 return future;
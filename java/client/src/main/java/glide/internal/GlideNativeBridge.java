@@ -3,6 +3,7 @@ package glide.internal;
 
 import glide.api.logging.Logger;
 import glide.ffi.resolvers.NativeUtils;
+import java.nio.ByteBuffer;
 
 /**
  * Native bridge for the Valkey client. Methods expose a handle-based API for safe cross-language
@@ -26,17 +27,33 @@ public class GlideNativeBridge {
     /** Create a new native client instance */
     public static native long createClient(byte[] connectionRequestBytes);
 
-    /** Execute command asynchronously */
-    public static native void executeCommandAsync(
-            long clientPtr, byte[] requestBytes, long callbackId);
-
-    /** Execute binary command with mixed String/byte[] arguments asynchronously */
-    public static native void executeBinaryCommandAsync(
-            long clientPtr, byte[] requestBytes, long callbackId);
+    /**
+     * Execute a single command encoded by {@link CommandEncoder} asynchronously. The request and the
+     * external arguments it references are copied before this method returns, so the buffers may be
+     * reused right away.
+     *
+     * @param externalArguments Direct buffers referenced by the request, see {@link
+     *     CommandEncoder#takeExternalArguments()}, or <code>null</code>.
+     */
+    public static native void executeEncodedCommandAsync(
+            long clientPtr,
+            ByteBuffer request,
+            int length,
+            ByteBuffer[] externalArguments,
+            boolean expectUtf8Response,
+            long callbackId);
 
-    /** Execute batch (pipeline/transaction) asynchronously */
+    /**
+     * Execute batch (pipeline/transaction) asynchronously. With <code>compressValues</code> set, the
+     * values of compressible commands are compressed like single commands; compressed values in the
+     * replies are decompressed regardless.
+     */
     public static native void executeBatchAsync(
-            long clientPtr, byte[] batchRequestBytes, boolean expectUtf8Response, long callbackId);
+            long clientPtr,
+            byte[] batchRequestBytes,
+            boolean expectUtf8Response,
+            boolean compressValues,
+            long callbackId);
 
     /** Update the connection password with optional immediate authentication. */
     public static native void updateConnectionPassword(
@@ -45,6 +62,19 @@ public class GlideNativeBridge {
     /** Refresh the IAM authentication token. */
     public static native void refreshIamToken(long clientPtr, long callbackId);
 
+    /**
+     * Size the native callback worker pool, pin its threads to CPUs and set how responses are batched
+     * into upcalls. Takes effect only before the first client is created.
+     *
+     * @param threads Number of worker threads, or <code>0</code> for the default.
+     * @param cpus CPUs to pin workers to, or <code>null</code> to not pin them.
+     * @param maxBatchSize Maximum responses completed per upcall, or <code>0</code> for the default.
+     * @param batchWindowMicros Time a worker waits to fill a batch, <code>0</code> to not wait.
+     * @return <code>false</code> if the workers are already configured differently.
+     */
+    public static native boolean configureCallbackWorkers(
+            int threads, int[] cpus, int maxBatchSize, int batchWindowMicros);
+
     /** Check if the native client is connected */
     public static native boolean isConnected(long clientPtr);
 
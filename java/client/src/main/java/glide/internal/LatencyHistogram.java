@@ -0,0 +1,57 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.internal;
+
+import glide.api.models.metrics.LatencySnapshot;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent histogram of latencies in nanoseconds, with log-linear buckets in the manner of
+ * HdrHistogram: exact below 128ns, then 64 buckets per power of two, for a relative precision of
+ * about 1%. Recording is lock-free and does not allocate. Latencies above {@link #MAX_VALUE} are
+ * counted as {@link #MAX_VALUE}.
+ */
+public final class LatencyHistogram {
+
+    /** The highest latency told apart, about 68 seconds. */
+    static final long MAX_VALUE = (1L << 36) - 1;
+
+    private static final int BUCKET_COUNT = LatencySnapshot.bucketCount(MAX_VALUE);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /** Record a latency, in nanoseconds. */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        counts.incrementAndGet(LatencySnapshot.bucketOf(value));
+        sum.add(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /** Copy the recorded latencies. */
+    public LatencySnapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new LatencySnapshot(copy, sum.sum(), max.get());
+    }
+
+    /**
+     * Copy the recorded latencies and clear them. Latencies recorded meanwhile are either in the copy
+     * or kept for the next one, but their sum and maximum may be attributed to the other.
+     */
+    public LatencySnapshot snapshotAndReset() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.getAndSet(i, 0);
+        }
+        return new LatencySnapshot(copy, sum.sumThenReset(), max.getAndSet(0));
+    }
+}
@@ -0,0 +1,171 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.internal;
+
+import command_request.CommandRequestOuterClass.RequestType;
+import glide.api.models.configuration.RequestRoutingConfiguration.ByAddressRoute;
+import glide.api.models.configuration.RequestRoutingConfiguration.Route;
+import glide.api.models.configuration.RequestRoutingConfiguration.SlotIdRoute;
+import glide.api.models.configuration.RequestRoutingConfiguration.SlotKeyRoute;
+import glide.api.models.metrics.LatencyMetrics;
+import glide.api.models.metrics.LatencyPhase;
+import glide.api.models.metrics.LatencySnapshot;
+import glide.managers.GlideExceptionCheckedFunction;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Records the latency of each command, per request type and per route, in a {@link
+ * LatencyHistogram} for each {@link LatencyPhase}. Histograms are created on first use; recording
+ * into an existing one does not allocate.
+ *
+ * <p>The node serving a command is chosen by the native layer, so latencies are attributed to the
+ * route given to the command rather than to the node: commands routed by their keys are all
+ * recorded under {@link #DEFAULT_ROUTE}.
+ */
+public final class LatencyRecorder {
+
+    /** The route of commands sent without an explicit route. */
+    public static final String DEFAULT_ROUTE = "default";
+
+    /** The route of commands sent to a slot, by id or by key. */
+    public static final String SLOT_ROUTE = "slot";
+
+    private static final LatencyPhase[] PHASES = LatencyPhase.values();
+
+    /** The histograms of each request type, by ordinal. */
+    private final AtomicReferenceArray<LatencyHistogram[]> byCommand =
+            new AtomicReferenceArray<>(RequestType.values().length);
+
+    private final ConcurrentMap<String, LatencyHistogram[]> byRoute = new ConcurrentHashMap<>();
+
+    /**
+     * Wrap a response handler so that it records the latencies of its command when the reply arrives,
+     * whether the handler succeeds or not.
+     *
+     * @param start When the command was submitted, from {@link System#nanoTime()}.
+     * @param sent When the command was handed to the native layer.
+     */
+    public <T> GlideExceptionCheckedFunction<Object, T> timed(
+            RequestType requestType,
+            Route route,
+            long start,
+            long sent,
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
+        return result -> {
+            long received = System.nanoTime();
+            try {
+                return responseHandler.apply(result);
+            } finally {
+                long done = System.nanoTime();
+                record(requestType, route, sent - start, received - sent, done - received, done - start);
+            }
+        };
+    }
+
+    /**
+     * Record the latencies of a command which failed before its reply reached Java, such as one
+     * timing out or rejected by the server. Its callback phase is not recorded.
+     *
+     * @param start When the command was submitted, from {@link System#nanoTime()}.
+     * @param sent When the command was handed to the native layer.
+     */
+    public void failed(RequestType requestType, Route route, long start, long sent) {
+        long done = System.nanoTime();
+        record(requestType, route, sent - start, done - sent, -1, done - start);
+    }
+
+    /** Record the latencies of a command, in nanoseconds; a negative callback is not recorded. */
+    void record(
+            RequestType requestType,
+            Route route,
+            long submit,
+            long nativeTime,
+            long callback,
+            long total) {
+        LatencyHistogram[] command = commandHistograms(requestType);
+        LatencyHistogram[] routed = byRoute.computeIfAbsent(routeKey(route), key -> newHistograms());
+        record(command, submit, nativeTime, callback, total);
+        record(routed, submit, nativeTime, callback, total);
+    }
+
+    private static void record(
+            LatencyHistogram[] histograms, long submit, long nativeTime, long callback, long total) {
+        histograms[LatencyPhase.SUBMIT.ordinal()].record(submit);
+        histograms[LatencyPhase.NATIVE.ordinal()].record(nativeTime);
+        if (callback >= 0) {
+            histograms[LatencyPhase.CALLBACK.ordinal()].record(callback);
+        }
+        histograms[LatencyPhase.TOTAL.ordinal()].record(total);
+    }
+
+    private LatencyHistogram[] commandHistograms(RequestType requestType) {
+        int index = requestType.ordinal();
+        LatencyHistogram[] histograms = byCommand.get(index);
+        if (histograms == null) {
+            byCommand.compareAndSet(index, null, newHistograms());
+            histograms = byCommand.get(index);
+        }
+        return histograms;
+    }
+
+    private static LatencyHistogram[] newHistograms() {
+        LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        return histograms;
+    }
+
+    /** Get the key under which the latencies of a route are recorded. */
+    static String routeKey(Route route) {
+        if (route == null) {
+            return DEFAULT_ROUTE;
+        }
+        if (route instanceof Enum) {
+            return ((Enum<?>) route).name();
+        }
+        if (route instanceof SlotIdRoute || route instanceof SlotKeyRoute) {
+            return SLOT_ROUTE;
+        }
+        if (route instanceof ByAddressRoute) {
+            ByAddressRoute address = (ByAddressRoute) route;
+            return address.getHost() + ":" + address.getPort();
+        }
+        return route.getClass().getSimpleName();
+    }
+
+    /**
+     * Copy the recorded latencies.
+     *
+     * @param reset Whether to clear them as well.
+     */
+    public LatencyMetrics snapshot(boolean reset) {
+        Map<String, Map<LatencyPhase, LatencySnapshot>> commands = new TreeMap<>();
+        RequestType[] types = RequestType.values();
+        for (int i = 0; i < byCommand.length(); i++) {
+            LatencyHistogram[] histograms = byCommand.get(i);
+            if (histograms != null) {
+                commands.put(types[i].name(), snapshot(histograms, reset));
+            }
+        }
+        Map<String, Map<LatencyPhase, LatencySnapshot>> routes = new TreeMap<>();
+        for (Map.Entry<String, LatencyHistogram[]> entry : byRoute.entrySet()) {
+            routes.put(entry.getKey(), snapshot(entry.getValue(), reset));
+        }
+        return new LatencyMetrics(commands, routes);
+    }
+
+    private static Map<LatencyPhase, LatencySnapshot> snapshot(
+            LatencyHistogram[] histograms, boolean reset) {
+        Map<LatencyPhase, LatencySnapshot> snapshots = new EnumMap<>(LatencyPhase.class);
+        for (LatencyPhase phase : PHASES) {
+            LatencyHistogram histogram = histograms[phase.ordinal()];
+            snapshots.put(phase, reset ? histogram.snapshotAndReset() : histogram.snapshot());
+        }
+        return snapshots;
+    }
+}
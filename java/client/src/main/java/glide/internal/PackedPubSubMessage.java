@@ -0,0 +1,81 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.internal;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import glide.api.models.GlideString;
+import glide.api.models.PubSubMessage;
+import java.util.Optional;
+
+/**
+ * A {@link PubSubMessage} backed by a range of a batch of messages delivered by the native layer in
+ * one array. The channel, the pattern and the payload are only copied out of the batch when first
+ * read, so a message dropped or filtered unread costs no copy.
+ *
+ * <p>The batch stays reachable as long as one of its messages does.
+ */
+final class PackedPubSubMessage extends PubSubMessage {
+
+    private final byte[] batch;
+    private final int channelStart;
+    private final int channelEnd;
+    private final int patternEnd;
+    private final int messageEnd;
+
+    private volatile GlideString message;
+    private volatile GlideString channel;
+    private volatile Optional<GlideString> pattern;
+
+    /**
+     * @param batch The batch, holding the channel, the pattern and the payload one after the other.
+     * @param channelStart Where the channel starts.
+     * @param channelEnd Where the channel ends and the pattern starts.
+     * @param patternEnd Where the pattern ends and the payload starts. No pattern if equal to <code>
+     *     channelEnd</code>.
+     * @param messageEnd Where the payload ends.
+     */
+    @SuppressFBWarnings(
+            value = "EI_EXPOSE_REP2",
+            justification = "The batch is shared by its messages, which only copy out of it")
+    PackedPubSubMessage(
+            byte[] batch, int channelStart, int channelEnd, int patternEnd, int messageEnd) {
+        super(null, null);
+        this.batch = batch;
+        this.channelStart = channelStart;
+        this.channelEnd = channelEnd;
+        this.patternEnd = patternEnd;
+        this.messageEnd = messageEnd;
+    }
+
+    @Override
+    public GlideString getMessage() {
+        GlideString result = message;
+        if (result == null) {
+            result = GlideString.of(batch, patternEnd, messageEnd);
+            message = result;
+        }
+        return result;
+    }
+
+    @Override
+    public GlideString getChannel() {
+        GlideString result = channel;
+        if (result == null) {
+            result = GlideString.of(batch, channelStart, channelEnd);
+            channel = result;
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<GlideString> getPattern() {
+        Optional<GlideString> result = pattern;
+        if (result == null) {
+            result =
+                    patternEnd == channelEnd
+                            ? Optional.empty()
+                            : Optional.of(GlideString.of(batch, channelEnd, patternEnd));
+            pattern = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,217 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.internal;
+
+import glide.api.logging.Logger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel that drives the Java-side request timeouts of {@link AsyncRegistry}.
+ *
+ * <p>Scheduling is O(1) and allocates nothing: a {@link Timeout} is pushed onto one of several
+ * striped incoming stacks, and a single daemon thread moves it into its bucket on the next tick.
+ * Timeouts are never cancelled; once a request completes, its {@link Timeout#expire()} simply does
+ * nothing, so the completion path never touches the wheel. A timeout fires no earlier than its
+ * deadline and at most one tick after it.
+ */
+final class TimeoutWheel {
+
+    /** An entry of the wheel. Subclasses decide what expiring means. */
+    abstract static class Timeout {
+        /** Absolute deadline in {@link System#nanoTime()} units. */
+        long deadlineNanos;
+
+        /** Link used by the incoming stacks and the buckets; an entry is in at most one of them. */
+        Timeout next;
+
+        /** Called on the wheel thread once the deadline has passed. */
+        abstract void expire();
+    }
+
+    private final long tickNanos;
+    private final long startNanos = System.nanoTime();
+    private final String threadName;
+
+    /** Buckets, owned by the wheel thread. */
+    private final Timeout[] buckets;
+
+    private final int bucketMask;
+
+    /** Entries currently linked into {@link #buckets}, owned by the wheel thread. */
+    private int bucketed;
+
+    /** Striped stacks of newly scheduled entries, drained by the wheel thread on each tick. */
+    private final AtomicReferenceArray<Timeout> incoming;
+
+    private final int incomingMask;
+
+    private volatile Thread worker;
+    private volatile boolean idle;
+    private volatile boolean stopped;
+
+    /**
+     * @param tickMillis Resolution of the wheel.
+     * @param bucketCount Number of buckets, rounded up to a power of two.
+     * @param stripes Number of incoming stacks, rounded up to a power of two.
+     * @param threadName Name of the daemon thread, started on the first {@link #schedule}.
+     */
+    TimeoutWheel(long tickMillis, int bucketCount, int stripes, String threadName) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.buckets = new Timeout[nextPowerOfTwo(bucketCount)];
+        this.bucketMask = buckets.length - 1;
+        this.incoming = new AtomicReferenceArray<>(nextPowerOfTwo(stripes));
+        this.incomingMask = incoming.length() - 1;
+        this.threadName = threadName;
+    }
+
+    /**
+     * Schedule an entry to expire after <code>timeoutMillis</code>. Callers should spread over
+     * stripes (e.g. by thread) to avoid contending on a single stack.
+     */
+    void schedule(Timeout timeout, long timeoutMillis, int stripe) {
+        if (stopped) {
+            return;
+        }
+        timeout.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        int index = stripe & incomingMask;
+        Timeout head;
+        do {
+            head = incoming.get(index);
+            timeout.next = head;
+        } while (!incoming.compareAndSet(index, head, timeout));
+
+        Thread thread = worker;
+        if (thread == null) {
+            thread = start();
+        }
+        if (idle) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /** Stop the wheel thread. Pending entries are dropped without expiring. */
+    void stop() {
+        stopped = true;
+        Thread thread = worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private synchronized Thread start() {
+        if (worker == null) {
+            Thread thread = new Thread(this::run, threadName);
+            thread.setDaemon(true);
+            thread.start();
+            worker = thread;
+        }
+        return worker;
+    }
+
+    private void run() {
+        long lastTick = tickAt(System.nanoTime());
+        while (!stopped) {
+            long now = System.nanoTime();
+            long tick = tickAt(now);
+            if (bucketed > 0) {
+                // Each bucket needs at most one visit, however far behind the thread fell
+                long first = Math.max(lastTick + 1, tick - bucketMask);
+                for (long t = first; t <= tick; t++) {
+                    expireBucket((int) (t & bucketMask), now);
+                }
+            }
+            lastTick = tick;
+            transferIncoming(now);
+
+            if (bucketed == 0) {
+                idle = true;
+                if (!hasIncoming() && !stopped) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+            } else {
+                long nextTickNanos = startNanos + (tick + 1) * tickNanos;
+                LockSupport.parkNanos(this, nextTickNanos - System.nanoTime());
+            }
+        }
+    }
+
+    private void expireBucket(int index, long now) {
+        Timeout timeout = buckets[index];
+        buckets[index] = null;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.deadlineNanos - now <= 0) {
+                bucketed--;
+                expire(timeout);
+            } else {
+                // Due in a later round
+                timeout.next = buckets[index];
+                buckets[index] = timeout;
+            }
+            timeout = next;
+        }
+    }
+
+    private void transferIncoming(long now) {
+        for (int i = 0; i < incoming.length(); i++) {
+            if (incoming.get(i) == null) {
+                continue;
+            }
+            Timeout timeout = incoming.getAndSet(i, null);
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.deadlineNanos - now <= 0) {
+                    expire(timeout);
+                } else {
+                    long deadlineTick = ceilDiv(timeout.deadlineNanos - startNanos, tickNanos);
+                    int index = (int) (deadlineTick & bucketMask);
+                    timeout.next = buckets[index];
+                    buckets[index] = timeout;
+                    bucketed++;
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    private boolean hasIncoming() {
+        for (int i = 0; i < incoming.length(); i++) {
+            if (incoming.get(i) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void expire(Timeout timeout) {
+        timeout.next = null;
+        try {
+            timeout.expire();
+        } catch (Throwable t) {
+            // One failing expiry must not stall every other timeout
+            try {
+                Logger.log(
+                        Logger.Level.WARN, "TimeoutWheel", "Error while expiring a request: " + t.getMessage());
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    private long tickAt(long nanos) {
+        return (nanos - startNanos) / tickNanos;
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        int result = 1;
+        while (result < value) {
+            result <<= 1;
+        }
+        return result;
+    }
+}
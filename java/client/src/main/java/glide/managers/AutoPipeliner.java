@@ -0,0 +1,344 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.managers;
+
+import command_request.CommandRequestOuterClass.RequestType;
+import glide.api.models.GlideString;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Holds single commands for a short window and hands them over together, to be sent as one
+ * non-atomic batch. See {@link glide.api.models.configuration.AutoPipeliningConfiguration}.
+ *
+ * <p>A batch is handed over when it reaches its maximum size, when its window elapses, or when a
+ * command expecting a different kind of reply (UTF-8 or binary) arrives. Batches, and the commands
+ * which are not held (see {@link #sendInOrder}), go through an outbox which is sent outside of the
+ * lock, one entry after the other, so that the commands of a thread are always sent in the order
+ * they were submitted.
+ */
+final class AutoPipeliner {
+
+    /**
+     * The write commands which can be held: plain commands on a single key. Batches skip the handling
+     * the native layer gives some commands sent on their own (subscriptions, connection state such as
+     * SELECT or CLIENT SETNAME kept for reconnects, routing of keyless commands, and per-command
+     * timeouts), so any other command is sent on its own.
+     */
+    static final Set<RequestType> HELD_WRITES =
+            Collections.unmodifiableSet(
+                    EnumSet.of(
+                            RequestType.Set,
+                            RequestType.GetDel,
+                            RequestType.GetEx,
+                            RequestType.SetRange,
+                            RequestType.Append,
+                            RequestType.Incr,
+                            RequestType.IncrBy,
+                            RequestType.IncrByFloat,
+                            RequestType.Decr,
+                            RequestType.DecrBy,
+                            RequestType.HSet,
+                            RequestType.HSetNX,
+                            RequestType.HDel,
+                            RequestType.HIncrBy,
+                            RequestType.HIncrByFloat,
+                            RequestType.LPush,
+                            RequestType.RPush,
+                            RequestType.LPop,
+                            RequestType.RPop,
+                            RequestType.LSet,
+                            RequestType.SAdd,
+                            RequestType.SRem,
+                            RequestType.ZAdd,
+                            RequestType.ZRem,
+                            RequestType.ZIncrBy,
+                            RequestType.Expire,
+                            RequestType.PExpire,
+                            RequestType.Persist));
+
+    /**
+     * The read commands which can be held, like {@link #HELD_WRITES}. Only held when reading from the
+     * primary, as batches are not routed to replicas by the client's read strategy.
+     */
+    static final Set<RequestType> HELD_READS =
+            Collections.unmodifiableSet(
+                    EnumSet.of(
+                            RequestType.Get,
+                            RequestType.GetRange,
+                            RequestType.Strlen,
+                            RequestType.HGet,
+                            RequestType.HExists,
+                            RequestType.HGetAll,
+                            RequestType.HLen,
+                            RequestType.HMGet,
+                            RequestType.HKeys,
+                            RequestType.HVals,
+                            RequestType.HStrlen,
+                            RequestType.LLen,
+                            RequestType.LRange,
+                            RequestType.LIndex,
+                            RequestType.SMembers,
+                            RequestType.SCard,
+                            RequestType.SIsMember,
+                            RequestType.SMIsMember,
+                            RequestType.ZScore,
+                            RequestType.ZMScore,
+                            RequestType.ZCard,
+                            RequestType.ZRank,
+                            RequestType.TTL,
+                            RequestType.PTTL,
+                            RequestType.Type));
+
+    /** The clients with a batch waiting for its window, checked by the flusher. */
+    private static final ConcurrentLinkedQueue<AutoPipeliner> SCHEDULED =
+            new ConcurrentLinkedQueue<>();
+
+    /** Sends the batches whose window elapsed, for all the clients. */
+    private static final Thread FLUSHER = startFlusher();
+
+    /** A command waiting to be sent, with the future completed by its reply. */
+    static final class PendingCommand {
+        final RequestType requestType;
+        final Object[] arguments;
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        PendingCommand(RequestType requestType, Object[] arguments) {
+            this.requestType = requestType;
+            this.arguments = arguments;
+        }
+    }
+
+    /** The commands handed over together, all expecting the same kind of reply. */
+    static final class Batch {
+        final boolean expectUtf8Response;
+        final List<PendingCommand> commands;
+
+        /** When the batch is handed over if it does not fill up, as a {@link System#nanoTime()}. */
+        final long deadline;
+
+        Batch(boolean expectUtf8Response, int capacity, long deadline) {
+            this.expectUtf8Response = expectUtf8Response;
+            this.commands = new ArrayList<>(capacity);
+            this.deadline = deadline;
+        }
+    }
+
+    private final int maxBatchSize;
+    private final long windowNanos;
+
+    /** Sends the commands of a batch, and completes their futures. */
+    private final Consumer<Batch> sender;
+
+    // All the fields below are guarded by `this`
+
+    /** The batch being filled, null if there is none. */
+    private Batch current;
+
+    /** Whether this pipeliner is in {@link #SCHEDULED}. */
+    private boolean scheduled;
+
+    /** Batches and commands handed over, to be sent in this order. */
+    private final ArrayDeque<Runnable> outbox = new ArrayDeque<>();
+
+    /** Whether a thread is sending the outbox. */
+    private boolean sending;
+
+    AutoPipeliner(int maxBatchSize, long windowMicros, Consumer<Batch> sender) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        if (windowMicros < 0) {
+            throw new IllegalArgumentException("windowMicros must not be negative: " + windowMicros);
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.sender = sender;
+    }
+
+    /**
+     * Whether a command can be held: it must be one of {@link #HELD_WRITES}, or of {@link
+     * #HELD_READS} if <code>holdReads</code> is set, and its arguments plain strings, which a batch
+     * can carry.
+     */
+    static boolean canHold(RequestType requestType, Object[] arguments, boolean holdReads) {
+        if (!HELD_WRITES.contains(requestType) && !(holdReads && HELD_READS.contains(requestType))) {
+            return false;
+        }
+        for (Object argument : arguments) {
+            if (!(argument instanceof String || argument instanceof GlideString)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Hold a command, returning the future of its reply. */
+    CompletableFuture<Object> submit(
+            RequestType requestType, Object[] arguments, boolean expectUtf8Response) {
+        PendingCommand command = new PendingCommand(requestType, arguments);
+        boolean wake = false;
+        synchronized (this) {
+            if (current != null && current.expectUtf8Response != expectUtf8Response) {
+                handOver();
+            }
+            if (current == null) {
+                current =
+                        new Batch(
+                                expectUtf8Response, Math.min(maxBatchSize, 16), System.nanoTime() + windowNanos);
+                if (maxBatchSize > 1 && !scheduled) {
+                    scheduled = true;
+                    wake = true;
+                }
+            }
+            current.commands.add(command);
+            if (current.commands.size() >= maxBatchSize) {
+                handOver();
+            }
+        }
+        if (wake) {
+            SCHEDULED.add(this);
+            LockSupport.unpark(FLUSHER);
+        }
+        drain();
+        return command.future;
+    }
+
+    /**
+     * Send a command which is not held, after the commands held so far: the batch being filled is
+     * handed over first, and the command waits for the outbox to be sent.
+     */
+    CompletableFuture<Object> sendInOrder(Supplier<CompletableFuture<Object>> send) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        boolean queued = false;
+        synchronized (this) {
+            // With nothing held or waiting to be sent, the command can go right away
+            if (current != null || !outbox.isEmpty() || sending) {
+                if (current != null) {
+                    handOver();
+                }
+                outbox.add(() -> complete(future, send));
+                queued = true;
+            }
+        }
+        if (!queued) {
+            return send.get();
+        }
+        drain();
+        return future;
+    }
+
+    private static void complete(
+            CompletableFuture<Object> future, Supplier<CompletableFuture<Object>> send) {
+        try {
+            send.get()
+                    .whenComplete(
+                            (result, error) -> {
+                                if (error != null) {
+                                    future.completeExceptionally(error);
+                                } else {
+                                    future.complete(result);
+                                }
+                            });
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /** Move the batch being filled to the outbox. */
+    private void handOver() {
+        Batch batch = current;
+        current = null;
+        outbox.add(() -> send(batch));
+    }
+
+    /** Send the outbox, unless another thread is already doing so. */
+    private void drain() {
+        synchronized (this) {
+            if (sending || outbox.isEmpty()) {
+                return;
+            }
+            sending = true;
+        }
+        while (true) {
+            Runnable next;
+            synchronized (this) {
+                next = outbox.poll();
+                if (next == null) {
+                    sending = false;
+                    return;
+                }
+            }
+            next.run();
+        }
+    }
+
+    private void send(Batch batch) {
+        try {
+            sender.accept(batch);
+        } catch (RuntimeException e) {
+            for (PendingCommand command : batch.commands) {
+                command.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Hand the batch over if its window elapsed.
+     *
+     * @return the nanoseconds until the window of the batch elapses, or 0 if there is no batch to
+     *     wait for any more.
+     */
+    private long flushIfDue(long now) {
+        synchronized (this) {
+            if (current != null) {
+                long remaining = current.deadline - now;
+                if (remaining > 0) {
+                    return remaining;
+                }
+                handOver();
+            }
+            scheduled = false;
+        }
+        drain();
+        return 0;
+    }
+
+    private static Thread startFlusher() {
+        Thread thread =
+                new Thread(
+                        () -> {
+                            while (true) {
+                                long now = System.nanoTime();
+                                long sleep = Long.MAX_VALUE;
+                                for (Iterator<AutoPipeliner> it = SCHEDULED.iterator(); it.hasNext(); ) {
+                                    long remaining = it.next().flushIfDue(now);
+                                    if (remaining == 0) {
+                                        it.remove();
+                                    } else {
+                                        sleep = Math.min(sleep, remaining);
+                                    }
+                                }
+                                if (sleep == Long.MAX_VALUE) {
+                                    LockSupport.park();
+                                } else {
+                                    LockSupport.parkNanos(sleep);
+                                }
+                            }
+                        },
+                        "glide-auto-pipelining");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+}
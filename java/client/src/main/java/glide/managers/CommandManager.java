@@ -21,6 +21,7 @@ import glide.api.models.commands.batch.BatchOptions;
 import glide.api.models.commands.batch.ClusterBatchOptions;
 import glide.api.models.commands.scan.ClusterScanCursor;
 import glide.api.models.commands.scan.ScanOptions;
+import glide.api.models.configuration.AutoPipeliningConfiguration;
 import glide.api.models.configuration.RequestRoutingConfiguration.ByAddressRoute;
 import glide.api.models.configuration.RequestRoutingConfiguration.Route;
 import glide.api.models.configuration.RequestRoutingConfiguration.SimpleMultiNodeRoute;
@@ -30,7 +31,10 @@ import glide.api.models.configuration.RequestRoutingConfiguration.SlotKeyRoute;
 import glide.api.models.exceptions.ClosingException;
 import glide.api.models.exceptions.RequestException;
 import glide.ffi.resolvers.OpenTelemetryResolver;
+import glide.internal.ClientSideCache;
+import glide.internal.CommandEncoder;
 import glide.internal.GlideCoreClient;
+import glide.internal.LatencyRecorder;
 import glide.utils.BufferUtils;
 import glide.utils.Java8Utils;
 import java.math.BigInteger;
@@ -41,16 +45,16 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import lombok.Builder;
+import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
-import response.ResponseOuterClass.ConstantResponse;
-import response.ResponseOuterClass.Response;
 
 /**
  * CommandManager that submits command requests directly to the Rust glide-core. Handles command
  * serialization, routing, and response processing for all client operations.
  */
-@RequiredArgsConstructor
 public class CommandManager {
 
     private static final Set<String> BLOCKING_COMMAND_NAMES =
@@ -72,6 +76,64 @@ public class CommandManager {
     /** Core client connection. */
     private final GlideCoreClient coreClient;
 
+    /** Request types whose values the native layer compresses, see CompressionConfiguration. */
+    private final Set<RequestType> compressedRequestTypes;
+
+    /** Client-side cache of read replies, <code>null</code> if not configured. */
+    private final ClientSideCache clientSideCache;
+
+    /** Coalesces concurrent commands into batches, <code>null</code> if not configured. */
+    private final AutoPipeliner autoPipeliner;
+
+    /** Records command latencies, <code>null</code> if not configured. */
+    private final LatencyRecorder latencyRecorder;
+
+    /** Whether auto-pipelining holds read commands, see {@link AutoPipeliner#HELD_READS}. */
+    private final boolean holdReads;
+
+    /**
+     * The optional features of a {@link CommandManager}, all disabled by default. Set by {@link
+     * glide.api.BaseClient} from the client configuration.
+     */
+    @Builder
+    @Getter
+    public static final class Options {
+        /** Request types whose values the native layer compresses. */
+        @Builder.Default private final Set<RequestType> compressedRequestTypes = Collections.emptySet();
+
+        /** Client-side cache of read replies, <code>null</code> to disable it. */
+        private final ClientSideCache clientSideCache;
+
+        /** Auto-pipelining settings, <code>null</code> to disable it. */
+        private final AutoPipeliningConfiguration autoPipelining;
+
+        /** Whether reads go to the primary, so that auto-pipelining can hold them too. */
+        @Builder.Default private final boolean readFromPrimary = true;
+
+        /** Records command latencies, <code>null</code> to disable it. */
+        private final LatencyRecorder latencyRecorder;
+    }
+
+    public CommandManager(GlideCoreClient coreClient) {
+        this(coreClient, Options.builder().build());
+    }
+
+    public CommandManager(GlideCoreClient coreClient, Options options) {
+        AutoPipeliningConfiguration autoPipelining = options.getAutoPipelining();
+        this.coreClient = coreClient;
+        this.compressedRequestTypes = options.getCompressedRequestTypes();
+        this.clientSideCache = options.getClientSideCache();
+        this.autoPipeliner =
+                autoPipelining == null
+                        ? null
+                        : new AutoPipeliner(
+                                autoPipelining.getMaxBatchSize(),
+                                autoPipelining.getWindowMicros(),
+                                this::sendAutoPipelinedBatch);
+        this.latencyRecorder = options.getLatencyRecorder();
+        this.holdReads = options.isReadFromPrimary();
+    }
+
     /** Internal interface for exposing implementation details about a ClusterScanCursor. */
     public interface ClusterScanCursorDetail extends ClusterScanCursor {
         /**
@@ -93,34 +155,75 @@ public class CommandManager {
     public <T> CompletableFuture<T> submitNewCommand(
             RequestType requestType,
             String[] arguments,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
 
-        CommandRequest.Builder command = prepareCommandRequest(requestType, arguments);
         return submitCommandToJni(
-                command, responseHandler, false, true); // String arguments -> expect UTF-8 response
+                requestType, arguments, null, responseHandler, true); // String arguments -> UTF-8
     }
 
     /** Build a command and submit it. */
     public <T> CompletableFuture<T> submitNewCommand(
             RequestType requestType,
             GlideString[] arguments,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
 
-        CommandRequest.Builder command = prepareCommandRequest(requestType, arguments);
         return submitCommandToJni(
-                command, responseHandler, true, false); // GlideString arguments -> expect binary response
+                requestType, arguments, null, responseHandler, false); // GlideString arguments -> binary
+    }
+
+    /**
+     * Build a command and submit it, asking for a bulk string reply as a {@link
+     * glide.api.models.BufferLease} over native memory instead of a copy.
+     */
+    public <T> CompletableFuture<T> submitNewCommandWithBufferLease(
+            RequestType requestType,
+            GlideString[] arguments,
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
+        return submitEncodedCommand(
+                requestType,
+                arguments,
+                null,
+                responseHandler,
+                false,
+                false,
+                CommandEncoder.FLAG_LEASE_BUFFER);
+    }
+
+    /**
+     * Build a command and submit it, asking for its array reply as a primitive array built natively
+     * in one call, instead of an <code>Object[]</code> of boxed values.
+     *
+     * @param arrayFlag One of {@link CommandEncoder#FLAG_DOUBLE_ARRAY}, {@link
+     *     CommandEncoder#FLAG_LONG_ARRAY} or {@link CommandEncoder#FLAG_BOOLEAN_ARRAY}.
+     */
+    public <T> CompletableFuture<T> submitNewCommandWithPrimitiveArray(
+            RequestType requestType,
+            Object[] arguments,
+            byte arrayFlag,
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
+        return submitEncodedCommand(
+                requestType, arguments, null, responseHandler, true, false, arrayFlag);
+    }
+
+    /**
+     * Build a command whose arguments may include {@link java.nio.ByteBuffer} or <code>ByteBuffer[]
+     * </code> values and submit it. Large direct buffers are read in place by the native layer.
+     */
+    public <T> CompletableFuture<T> submitNewCommandWithBuffers(
+            RequestType requestType,
+            Object[] arguments,
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
+        return submitCommandToJni(requestType, arguments, null, responseHandler, false);
     }
 
     /** Build a command with explicit response type expectation. */
     public <T> CompletableFuture<T> submitNewCommandWithResponseType(
             RequestType requestType,
             GlideString[] arguments,
-            GlideExceptionCheckedFunction<Response, T> responseHandler,
+            GlideExceptionCheckedFunction<Object, T> responseHandler,
             boolean expectUtf8Response) {
 
-        CommandRequest.Builder command = prepareCommandRequest(requestType, arguments);
-        return submitCommandToJni(
-                command, responseHandler, true, expectUtf8Response); // Override response expectation
+        return submitCommandToJni(requestType, arguments, null, responseHandler, expectUtf8Response);
     }
 
     /** Build a command with route and explicit response type expectation. */
@@ -128,10 +231,9 @@ public class CommandManager {
             RequestType requestType,
             GlideString[] arguments,
             Route route,
-            GlideExceptionCheckedFunction<Response, T> responseHandler,
+            GlideExceptionCheckedFunction<Object, T> responseHandler,
             boolean expectUtf8Response) {
-        CommandRequest.Builder command = prepareCommandRequest(requestType, arguments, route);
-        return submitCommandToJni(command, responseHandler, true, expectUtf8Response);
+        return submitCommandToJni(requestType, arguments, route, responseHandler, expectUtf8Response);
     }
 
     /** Build a command and submit it. */
@@ -139,11 +241,10 @@ public class CommandManager {
             RequestType requestType,
             String[] arguments,
             Route route,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
 
-        CommandRequest.Builder command = prepareCommandRequest(requestType, arguments, route);
         return submitCommandToJni(
-                command, responseHandler, false, true); // String arguments -> expect UTF-8 response
+                requestType, arguments, route, responseHandler, true); // String arguments -> UTF-8
     }
 
     /** Build a command and submit it. */
@@ -151,11 +252,10 @@ public class CommandManager {
             RequestType requestType,
             GlideString[] arguments,
             Route route,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
 
-        CommandRequest.Builder command = prepareCommandRequest(requestType, arguments, route);
         return submitCommandToJni(
-                command, responseHandler, true, false); // GlideString arguments -> expect binary response
+                requestType, arguments, route, responseHandler, false); // GlideString arguments -> binary
     }
 
     // ==================== BLOCKING COMMAND METHODS ====================
@@ -166,20 +266,18 @@ public class CommandManager {
     public <T> CompletableFuture<T> submitBlockingCommand(
             RequestType requestType,
             String[] arguments,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
 
-        CommandRequest.Builder command = prepareCommandRequest(requestType, arguments);
-        return submitBlockingCommandToJni(command, responseHandler, false, true);
+        return submitBlockingCommandToJni(requestType, arguments, null, responseHandler, true);
     }
 
     /** Build a blocking command and submit it (no Java-side timeout). */
     public <T> CompletableFuture<T> submitBlockingCommand(
             RequestType requestType,
             GlideString[] arguments,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
 
-        CommandRequest.Builder command = prepareCommandRequest(requestType, arguments);
-        return submitBlockingCommandToJni(command, responseHandler, true, false);
+        return submitBlockingCommandToJni(requestType, arguments, null, responseHandler, false);
     }
 
     /** Build a blocking command with route and submit it (no Java-side timeout). */
@@ -187,10 +285,9 @@ public class CommandManager {
             RequestType requestType,
             String[] arguments,
             Route route,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
 
-        CommandRequest.Builder command = prepareCommandRequest(requestType, arguments, route);
-        return submitBlockingCommandToJni(command, responseHandler, false, true);
+        return submitBlockingCommandToJni(requestType, arguments, route, responseHandler, true);
     }
 
     /** Build a blocking command with route and submit it (no Java-side timeout). */
@@ -198,10 +295,9 @@ public class CommandManager {
             RequestType requestType,
             GlideString[] arguments,
             Route route,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
 
-        CommandRequest.Builder command = prepareCommandRequest(requestType, arguments, route);
-        return submitBlockingCommandToJni(command, responseHandler, true, false);
+        return submitBlockingCommandToJni(requestType, arguments, route, responseHandler, false);
     }
 
     // ==================== CUSTOM COMMAND METHODS ====================
@@ -210,50 +306,48 @@ public class CommandManager {
 
     /** Submit a custom command, detecting if it's a blocking command. */
     public <T> CompletableFuture<T> submitCustomCommand(
-            String[] arguments, GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            String[] arguments, GlideExceptionCheckedFunction<Object, T> responseHandler) {
 
-        CommandRequest.Builder command = prepareCommandRequest(RequestType.CustomCommand, arguments);
         if (isBlockingCustomCommand(arguments)) {
-            return submitBlockingCommandToJni(command, responseHandler, false, true);
+            return submitBlockingCommandToJni(
+                    RequestType.CustomCommand, arguments, null, responseHandler, true);
         }
-        return submitCommandToJni(command, responseHandler, false, true);
+        return submitCommandToJni(RequestType.CustomCommand, arguments, null, responseHandler, true);
     }
 
     /** Submit a custom command with GlideString args, detecting if it's a blocking command. */
     public <T> CompletableFuture<T> submitCustomCommand(
-            GlideString[] arguments, GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideString[] arguments, GlideExceptionCheckedFunction<Object, T> responseHandler) {
 
-        CommandRequest.Builder command = prepareCommandRequest(RequestType.CustomCommand, arguments);
         if (isBlockingCustomCommand(arguments)) {
-            return submitBlockingCommandToJni(command, responseHandler, true, false);
+            return submitBlockingCommandToJni(
+                    RequestType.CustomCommand, arguments, null, responseHandler, false);
         }
-        return submitCommandToJni(command, responseHandler, true, false);
+        return submitCommandToJni(RequestType.CustomCommand, arguments, null, responseHandler, false);
     }
 
     /** Submit a custom command with route, detecting if it's a blocking command. */
     public <T> CompletableFuture<T> submitCustomCommand(
-            String[] arguments, Route route, GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            String[] arguments, Route route, GlideExceptionCheckedFunction<Object, T> responseHandler) {
 
-        CommandRequest.Builder command =
-                prepareCommandRequest(RequestType.CustomCommand, arguments, route);
         if (isBlockingCustomCommand(arguments)) {
-            return submitBlockingCommandToJni(command, responseHandler, false, true);
+            return submitBlockingCommandToJni(
+                    RequestType.CustomCommand, arguments, route, responseHandler, true);
         }
-        return submitCommandToJni(command, responseHandler, false, true);
+        return submitCommandToJni(RequestType.CustomCommand, arguments, route, responseHandler, true);
     }
 
     /** Submit a custom command with route and GlideString args, detecting if it's blocking. */
     public <T> CompletableFuture<T> submitCustomCommand(
             GlideString[] arguments,
             Route route,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
 
-        CommandRequest.Builder command =
-                prepareCommandRequest(RequestType.CustomCommand, arguments, route);
         if (isBlockingCustomCommand(arguments)) {
-            return submitBlockingCommandToJni(command, responseHandler, true, false);
+            return submitBlockingCommandToJni(
+                    RequestType.CustomCommand, arguments, route, responseHandler, false);
         }
-        return submitCommandToJni(command, responseHandler, true, false);
+        return submitCommandToJni(RequestType.CustomCommand, arguments, route, responseHandler, false);
     }
 
     /** Check if a custom command is a blocking command by inspecting the first argument. */
@@ -274,19 +368,16 @@ public class CommandManager {
 
     /** Specialized path for ObjectEncoding with GlideString args but textual response. */
     public <T> CompletableFuture<T> submitObjectEncoding(
-            GlideString[] arguments, GlideExceptionCheckedFunction<Response, T> responseHandler) {
-        CommandRequest.Builder command = prepareCommandRequest(RequestType.ObjectEncoding, arguments);
-        return submitCommandToJni(command, responseHandler, true, true);
+            GlideString[] arguments, GlideExceptionCheckedFunction<Object, T> responseHandler) {
+        return submitCommandToJni(RequestType.ObjectEncoding, arguments, null, responseHandler, true);
     }
 
     /** Specialized path for ObjectEncoding with route. */
     public <T> CompletableFuture<T> submitObjectEncoding(
             GlideString[] arguments,
             Route route,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
-        CommandRequest.Builder command =
-                prepareCommandRequest(RequestType.ObjectEncoding, arguments, route);
-        return submitCommandToJni(command, responseHandler, true, true);
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
+        return submitCommandToJni(RequestType.ObjectEncoding, arguments, route, responseHandler, true);
     }
 
     /** Build a Batch and submit it. */
@@ -294,7 +385,7 @@ public class CommandManager {
             Batch batch,
             boolean raiseOnError,
             Optional<BatchOptions> options,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
         CommandRequest.Builder command = prepareCommandRequest(batch, raiseOnError, options);
         boolean expectUtf8Response = !batch.isBinaryOutput();
         Integer timeoutOverride = options.map(BaseBatchOptions::getTimeout).orElse(null);
@@ -306,7 +397,7 @@ public class CommandManager {
             Script script,
             List<GlideString> keys,
             List<GlideString> args,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
         if (!coreClient.isConnected()) {
             CompletableFuture<T> errorFuture = new CompletableFuture<T>();
             errorFuture.completeExceptionally(
@@ -322,18 +413,19 @@ public class CommandManager {
                     script.getBinaryOutput() == null || !script.getBinaryOutput();
 
             CompletableFuture<Object> jniFuture =
-                    coreClient.executeScriptAsync(
-                            script.getHash(),
-                            keyArgs,
-                            argArgs, /* hasRoute */
-                            false, /* routeType */
-                            0, /* routeParam */
-                            null,
-                            expectUtf8Response);
+                    afterHeldCommands(
+                            () ->
+                                    coreClient.executeScriptAsync(
+                                            script.getHash(),
+                                            keyArgs,
+                                            argArgs, /* hasRoute */
+                                            false, /* routeType */
+                                            0, /* routeParam */
+                                            null,
+                                            expectUtf8Response));
 
             return jniFuture
-                    .thenApply(result -> createDirectResponse(result, expectUtf8Response))
-                    .thenApply(responseHandler::apply)
+                    .thenApply(result -> responseHandler.apply(normalizeResult(result, expectUtf8Response)))
                     .exceptionally(this::exceptionHandler);
         } catch (Exception e) {
             CompletableFuture<T> errorFuture = new CompletableFuture<T>();
@@ -347,7 +439,7 @@ public class CommandManager {
             Script script,
             List<GlideString> args,
             Route route,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
         if (!coreClient.isConnected()) {
             CompletableFuture<T> errorFuture = new CompletableFuture<T>();
             errorFuture.completeExceptionally(
@@ -365,18 +457,19 @@ public class CommandManager {
             ScriptRouteArgs routeArgs = computeScriptRouteArgs(route);
 
             CompletableFuture<Object> jniFuture =
-                    coreClient.executeScriptAsync(
-                            script.getHash(),
-                            keyArgs,
-                            argArgs,
-                            routeArgs.hasRoute,
-                            routeArgs.routeType,
-                            routeArgs.routeParam,
-                            expectUtf8Response);
+                    afterHeldCommands(
+                            () ->
+                                    coreClient.executeScriptAsync(
+                                            script.getHash(),
+                                            keyArgs,
+                                            argArgs,
+                                            routeArgs.hasRoute,
+                                            routeArgs.routeType,
+                                            routeArgs.routeParam,
+                                            expectUtf8Response));
 
             return jniFuture
-                    .thenApply(result -> createDirectResponse(result, expectUtf8Response))
-                    .thenApply(responseHandler::apply)
+                    .thenApply(result -> responseHandler.apply(normalizeResult(result, expectUtf8Response)))
                     .exceptionally(this::exceptionHandler);
         } catch (Exception e) {
             CompletableFuture<T> errorFuture = new CompletableFuture<T>();
@@ -434,7 +527,7 @@ public class CommandManager {
             ClusterBatch batch,
             boolean raiseOnError,
             Optional<ClusterBatchOptions> options,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
         CommandRequest.Builder command = prepareCommandRequest(batch, raiseOnError, options);
         boolean expectUtf8Response = !batch.isBinaryOutput();
         Integer timeoutOverride = options.map(BaseBatchOptions::getTimeout).orElse(null);
@@ -457,7 +550,7 @@ public class CommandManager {
     public <T> CompletableFuture<T> submitClusterScan(
             ClusterScanCursor cursor,
             @NonNull ScanOptions options,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
         return submitClusterScanToJni(cursor, options, responseHandler, true);
     }
 
@@ -465,7 +558,7 @@ public class CommandManager {
     public <T> CompletableFuture<T> submitClusterScanToJni(
             ClusterScanCursor cursor,
             @NonNull ScanOptions options,
-            GlideExceptionCheckedFunction<Response, T> responseHandler,
+            GlideExceptionCheckedFunction<Object, T> responseHandler,
             boolean expectUtf8Response) {
 
         if (!coreClient.isConnected()) {
@@ -496,8 +589,6 @@ public class CommandManager {
                             cursorId, matchPattern, count != null ? count : 0L, objectType, expectUtf8Response)
                     .thenApply(
                             result -> {
-                                // Create a minimal Response for compatibility with the handler
-                                Response.Builder builder = Response.newBuilder();
                                 Object normalized;
                                 if (result == null) {
                                     normalized =
@@ -511,9 +602,7 @@ public class CommandManager {
                                     // items decode as String (UTF-8) or GlideString (binary)
                                     normalized = normalizeScanResult(result, expectUtf8Response);
                                 }
-                                long objectId = JniResponseRegistry.storeObject(normalized);
-                                builder.setRespPointer(objectId);
-                                T out = responseHandler.apply(builder.build());
+                                T out = responseHandler.apply(normalized);
                                 if (out == null) {
                                     @SuppressWarnings("unchecked")
                                     T fallback =
@@ -583,55 +672,53 @@ public class CommandManager {
     public <T> CompletableFuture<T> submitPasswordUpdate(
             Optional<String> password,
             boolean immediateAuth,
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
 
         return coreClient
                 .updateConnectionPassword(password.orElse(null), immediateAuth)
-                .thenApply(
-                        result -> {
-                            // Convert JNI result to protobuf Response format
-                            Response.Builder responseBuilder = Response.newBuilder();
-                            if ("OK".equals(result)) {
-                                responseBuilder.setConstantResponse(ConstantResponse.OK);
-                            }
-                            return responseHandler.apply(responseBuilder.build());
-                        });
+                .thenApply(responseHandler::apply);
     }
 
     /** Submit an IAM token refresh request to GLIDE core. */
     public <T> CompletableFuture<T> submitRefreshIamToken(
-            GlideExceptionCheckedFunction<Response, T> responseHandler) {
+            GlideExceptionCheckedFunction<Object, T> responseHandler) {
 
-        return coreClient
-                .refreshIamToken()
-                .thenApply(
-                        result -> {
-                            // Convert JNI result to protobuf Response format
-                            Response.Builder responseBuilder = Response.newBuilder();
-                            if ("OK".equals(result)) {
-                                responseBuilder.setConstantResponse(ConstantResponse.OK);
-                            }
-                            return responseHandler.apply(responseBuilder.build());
-                        });
+        return coreClient.refreshIamToken().thenApply(responseHandler::apply);
     }
 
-    /** Take a command request and submit it (backward compatibility). */
+    /** Encode a single command and submit it. */
     protected <T> CompletableFuture<T> submitCommandToJni(
-            CommandRequest.Builder command,
-            GlideExceptionCheckedFunction<Response, T> responseHandler,
-            boolean binaryMode) {
-        // For backward compatibility, default expectUtf8Response based on binaryMode
-        // binaryMode=true means GlideString args, expect binary response
-        // binaryMode=false means String args, expect UTF-8 response
-        return submitCommandToJni(command, responseHandler, binaryMode, !binaryMode);
+            RequestType requestType,
+            Object[] arguments,
+            Route route,
+            GlideExceptionCheckedFunction<Object, T> responseHandler,
+            boolean expectUtf8Response) {
+        return submitEncodedCommand(
+                requestType, arguments, route, responseHandler, expectUtf8Response, false, (byte) 0);
     }
 
-    /** Take a command request and submit it. */
-    protected <T> CompletableFuture<T> submitCommandToJni(
-            CommandRequest.Builder command,
-            GlideExceptionCheckedFunction<Response, T> responseHandler,
-            boolean binaryMode,
+    /**
+     * Submit a blocking command to JNI without Java-side timeout. Blocking commands (BLPOP, BRPOP,
+     * etc.) have their own timeout in the command arguments, which Rust handles correctly.
+     */
+    protected <T> CompletableFuture<T> submitBlockingCommandToJni(
+            RequestType requestType,
+            Object[] arguments,
+            Route route,
+            GlideExceptionCheckedFunction<Object, T> responseHandler,
             boolean expectUtf8Response) {
+        return submitEncodedCommand(
+                requestType, arguments, route, responseHandler, expectUtf8Response, true, (byte) 0);
+    }
+
+    private <T> CompletableFuture<T> submitEncodedCommand(
+            RequestType requestType,
+            Object[] arguments,
+            Route route,
+            GlideExceptionCheckedFunction<Object, T> responseHandler,
+            boolean expectUtf8Response,
+            boolean blocking,
+            byte replyFlags) {
 
         if (!coreClient.isConnected()) {
             CompletableFuture<T> errorFuture = new CompletableFuture<T>();
@@ -640,36 +727,72 @@ public class CommandManager {
             return errorFuture;
         }
 
+        long start = latencyRecorder != null ? System.nanoTime() : 0;
         try {
-            // Serialize the protobuf command request
-            byte[] requestBytes = command.build().toByteArray();
+            // Serve cacheable reads from the client-side cache; routed commands always hit the server
+            ClientSideCache.CacheKey cacheKey =
+                    clientSideCache != null && route == null && !blocking && replyFlags == 0
+                            ? ClientSideCache.keyOf(requestType, arguments, expectUtf8Response)
+                            : null;
+            long cacheStamp = ClientSideCache.NO_FILL;
+            if (cacheKey != null) {
+                Object cached = clientSideCache.get(cacheKey);
+                if (cached != ClientSideCache.MISS) {
+                    return CompletableFuture.completedFuture(cached)
+                            .thenApply(responseHandler::apply)
+                            .exceptionally(this::exceptionHandler);
+                }
+                cacheStamp = clientSideCache.startFill();
+            }
 
-            // Execute via JNI - returns converted Java objects directly
-            // No need to wrap in Response since JNI already provides the final object
-            // Use binary or UTF-8 mode based on expected response type, not argument type
+            // Hold plain keyed commands for auto-pipelining; the others are sent after the held ones
             CompletableFuture<Object> jniFuture =
-                    expectUtf8Response
-                            ? coreClient.executeCommandAsync(requestBytes) // Force UTF-8 conversion
-                            : coreClient.executeBinaryCommandAsync(requestBytes); // Allow binary conversion
-
-            return jniFuture
-                    .thenApply(
-                            result -> {
-                                Response.Builder builder = Response.newBuilder();
-                                Object toStore = result;
-                                if (result == null) {
-                                    builder.setRespPointer(0L);
-                                } else if ("OK".equals(result)) {
-                                    builder.setConstantResponse(ConstantResponse.OK);
-                                } else {
-                                    if (result instanceof ByteBuffer) {
-                                        toStore = normalizeDirectBuffer((ByteBuffer) result, expectUtf8Response);
+                    autoPipeliner != null
+                                    && route == null
+                                    && !blocking
+                                    && replyFlags == 0
+                                    && !compressedRequestTypes.contains(requestType)
+                                    && AutoPipeliner.canHold(requestType, arguments, holdReads)
+                            ? autoPipeliner.submit(requestType, arguments, expectUtf8Response)
+                            : afterHeldCommands(
+                                    () ->
+                                            executeEncodedCommand(
+                                                    requestType, arguments, route, expectUtf8Response, blocking, replyFlags));
+
+            // Time the reply and its conversion, or the failure; cache hits above are not recorded
+            GlideExceptionCheckedFunction<Object, T> handler;
+            CompletableFuture<Object> reply;
+            if (latencyRecorder != null) {
+                long sent = System.nanoTime();
+                handler = latencyRecorder.timed(requestType, route, start, sent, responseHandler);
+                reply =
+                        jniFuture.whenComplete(
+                                (result, error) -> {
+                                    if (error != null) {
+                                        latencyRecorder.failed(requestType, route, start, sent);
                                     }
-                                    long objectId = JniResponseRegistry.storeObject(toStore);
-                                    builder.setRespPointer(objectId);
-                                }
-                                return responseHandler.apply(builder.build());
-                            })
+                                });
+            } else {
+                handler = responseHandler;
+                reply = jniFuture;
+            }
+
+            if (cacheKey != null && cacheStamp != ClientSideCache.NO_FILL) {
+                ClientSideCache.CacheKey key = cacheKey;
+                long stamp = cacheStamp;
+                return reply
+                        .thenApply(
+                                result -> {
+                                    Object normalized = normalizeResult(result, expectUtf8Response);
+                                    clientSideCache.fill(key, normalized, stamp);
+                                    return handler.apply(normalized);
+                                })
+                        .exceptionally(this::exceptionHandler);
+            }
+
+            // The JNI result is already a converted Java object; hand it straight to the handler
+            return reply
+                    .thenApply(result -> handler.apply(normalizeResult(result, expectUtf8Response)))
                     .exceptionally(this::exceptionHandler);
         } catch (Exception e) {
             CompletableFuture<T> errorFuture = new CompletableFuture<T>();
@@ -679,56 +802,96 @@ public class CommandManager {
     }
 
     /**
-     * Submit a blocking command to JNI without Java-side timeout. Blocking commands (BLPOP, BRPOP,
-     * etc.) have their own timeout in the command arguments, which Rust handles correctly.
+     * Send a request which is not auto-pipelined. With auto-pipelining, it waits for the commands
+     * held so far to be sent, so that it never overtakes a command submitted before it.
      */
-    protected <T> CompletableFuture<T> submitBlockingCommandToJni(
-            CommandRequest.Builder command,
-            GlideExceptionCheckedFunction<Response, T> responseHandler,
-            boolean binaryMode,
-            boolean expectUtf8Response) {
-
-        if (!coreClient.isConnected()) {
-            CompletableFuture<T> errorFuture = new CompletableFuture<T>();
-            errorFuture.completeExceptionally(
-                    new ClosingException("Client closed: Unable to submit command."));
-            return errorFuture;
-        }
-
-        try {
-            // Serialize the protobuf command request
-            byte[] requestBytes = command.build().toByteArray();
+    private CompletableFuture<Object> afterHeldCommands(Supplier<CompletableFuture<Object>> send) {
+        return autoPipeliner != null ? autoPipeliner.sendInOrder(send) : send.get();
+    }
 
-            // Execute via JNI WITHOUT Java-side timeout - Rust handles blocking command timeout
-            CompletableFuture<Object> jniFuture =
-                    expectUtf8Response
-                            ? coreClient.executeCommandAsyncNoTimeout(requestBytes)
-                            : coreClient.executeBinaryCommandAsyncNoTimeout(requestBytes);
+    /** Encode a single command and send it to the native layer, returning its raw reply. */
+    private CompletableFuture<Object> executeEncodedCommand(
+            RequestType requestType,
+            Object[] arguments,
+            Route route,
+            boolean expectUtf8Response,
+            boolean blocking,
+            byte replyFlags) {
+        // Encode into the thread's reusable request buffer; the native side copies it synchronously
+        byte flags = replyFlags;
+        if (compressedRequestTypes.contains(requestType)) {
+            flags |= CommandEncoder.FLAG_COMPRESS;
+        }
+        // Sampled commands get their span from the native layer, which saves two JNI calls
+        if (OpenTelemetry.shouldSample()) {
+            flags |= CommandEncoder.FLAG_TRACE;
+        }
+        ByteBuffer request = CommandEncoder.encode(requestType, arguments, route, flags);
+
+        ByteBuffer[] externalArguments = CommandEncoder.takeExternalArguments();
+
+        // Blocking commands skip the Java-side timeout - Rust handles their timeout
+        return blocking
+                ? coreClient.executeEncodedCommandAsyncNoTimeout(
+                        request, externalArguments, expectUtf8Response)
+                : coreClient.executeEncodedCommandAsync(request, externalArguments, expectUtf8Response);
+    }
 
-            return jniFuture
-                    .thenApply(
-                            result -> {
-                                Response.Builder builder = Response.newBuilder();
-                                Object toStore = result;
-                                if (result == null) {
-                                    builder.setRespPointer(0L);
-                                } else if ("OK".equals(result)) {
-                                    builder.setConstantResponse(ConstantResponse.OK);
+    /**
+     * Send the commands held by the auto-pipeliner as one non-atomic batch, and complete each of
+     * their futures with its own reply. A lone command is sent on its own.
+     */
+    private void sendAutoPipelinedBatch(AutoPipeliner.Batch batch) {
+        List<AutoPipeliner.PendingCommand> commands = batch.commands;
+        if (commands.size() == 1) {
+            AutoPipeliner.PendingCommand command = commands.get(0);
+            executeEncodedCommand(
+                            command.requestType,
+                            command.arguments,
+                            null,
+                            batch.expectUtf8Response,
+                            false,
+                            (byte) 0)
+                    .whenComplete(
+                            (result, error) -> {
+                                if (error != null) {
+                                    command.future.completeExceptionally(error);
                                 } else {
-                                    if (result instanceof ByteBuffer) {
-                                        toStore = normalizeDirectBuffer((ByteBuffer) result, expectUtf8Response);
-                                    }
-                                    long objectId = JniResponseRegistry.storeObject(toStore);
-                                    builder.setRespPointer(objectId);
+                                    command.future.complete(result);
                                 }
-                                return responseHandler.apply(builder.build());
-                            })
-                    .exceptionally(this::exceptionHandler);
-        } catch (Exception e) {
-            CompletableFuture<T> errorFuture = new CompletableFuture<T>();
-            errorFuture.completeExceptionally(e);
-            return errorFuture;
-        }
+                            });
+            return;
+        }
+
+        CommandRequestOuterClass.Batch.Builder protoBatch =
+                CommandRequestOuterClass.Batch.newBuilder().setIsAtomic(false).setRaiseOnError(false);
+        for (AutoPipeliner.PendingCommand command : commands) {
+            Command.Builder protoCommand = Command.newBuilder().setRequestType(command.requestType);
+            populateCommandWithArgs(command.arguments, protoCommand);
+            protoBatch.addCommands(protoCommand);
+        }
+        CommandRequest.Builder request = CommandRequest.newBuilder().setBatch(protoBatch);
+
+        this.<Object[]>submitBatchToJni(
+                        request, result -> (Object[]) result, batch.expectUtf8Response, null, false)
+                .whenComplete(
+                        (replies, error) -> {
+                            for (int i = 0; i < commands.size(); i++) {
+                                CompletableFuture<Object> future = commands.get(i).future;
+                                if (error != null) {
+                                    future.completeExceptionally(
+                                            error instanceof CompletionException ? error.getCause() : error);
+                                } else if (replies == null || i >= replies.length) {
+                                    future.completeExceptionally(
+                                            new RequestException("Missing reply in auto-pipelined batch"));
+                                } else if (replies[i] instanceof RequestException) {
+                                    // With raiseOnError unset, the server error of each command is its reply
+                                    future.completeExceptionally((RequestException) replies[i]);
+                                } else {
+                                    future.complete(replies[i]);
+                                }
+                            }
+                        });
     }
 
     private Object normalizeDirectBuffer(ByteBuffer buffer, boolean expectUtf8Response) {
@@ -805,9 +968,22 @@ public class CommandManager {
     /** Submit batch request via JNI. */
     protected <T> CompletableFuture<T> submitBatchToJni(
             CommandRequest.Builder command,
-            GlideExceptionCheckedFunction<Response, T> responseHandler,
+            GlideExceptionCheckedFunction<Object, T> responseHandler,
             boolean expectUtf8Response,
             Integer timeoutOverrideMs) {
+        return submitBatchToJni(command, responseHandler, expectUtf8Response, timeoutOverrideMs, true);
+    }
+
+    /**
+     * Submit batch request via JNI, after the auto-pipelined commands held so far if <code>
+     * afterHeld</code> is set. Auto-pipelined batches themselves are already sent in order.
+     */
+    private <T> CompletableFuture<T> submitBatchToJni(
+            CommandRequest.Builder command,
+            GlideExceptionCheckedFunction<Object, T> responseHandler,
+            boolean expectUtf8Response,
+            Integer timeoutOverrideMs,
+            boolean afterHeld) {
 
         if (!coreClient.isConnected()) {
             CompletableFuture<T> errorFuture = new CompletableFuture<T>();
@@ -820,11 +996,15 @@ public class CommandManager {
             // Serialize the protobuf batch request
             byte[] requestBytes = command.build().toByteArray();
 
-            // Execute via JNI and convert response
-            return coreClient
-                    .executeBatchAsync(requestBytes, expectUtf8Response, timeoutOverrideMs)
-                    .thenApply(result -> convertJniToProtobufResponse(result, expectUtf8Response))
-                    .thenApply(responseHandler::apply)
+            // Execute via JNI and convert response; the native layer compresses the values of the
+            // opted-in commands, which are all SETs at the moment
+            boolean compressValues = compressedRequestTypes.contains(RequestType.Set);
+            Supplier<CompletableFuture<Object>> send =
+                    () ->
+                            coreClient.executeBatchAsync(
+                                    requestBytes, expectUtf8Response, compressValues, timeoutOverrideMs);
+            return (afterHeld ? afterHeldCommands(send) : send.get())
+                    .thenApply(result -> responseHandler.apply(normalizeResult(result, expectUtf8Response)))
                     .exceptionally(this::exceptionHandler);
         } catch (Exception e) {
             CompletableFuture<T> errorFuture = new CompletableFuture<T>();
@@ -849,107 +1029,15 @@ public class CommandManager {
     }
 
     /**
-     * Convert JNI result to protobuf Response format. This bridges the gap between JNI responses and
-     * the expected protobuf Response.
-     */
-    private Response convertJniToProtobufResponse(Object jniResult, boolean expectUtf8Response) {
-        Response.Builder builder = Response.newBuilder();
-
-        if (jniResult == null) {
-            // Null response - set pointer to 0
-            builder.setRespPointer(0L);
-        } else if ("OK".equals(jniResult)) {
-            // OK constant response
-            builder.setConstantResponse(ConstantResponse.OK);
-        } else if (jniResult instanceof ByteBuffer) {
-            // DirectByteBuffer from JNI. Could be a serialized array/map or a large bulk string.
-            ByteBuffer buffer = (ByteBuffer) jniResult;
-            ByteBuffer dup = buffer.duplicate();
-            dup.rewind();
-            Object toStore;
-            if (dup.remaining() > 0) {
-                byte marker = dup.get();
-                if (marker == '*') {
-                    dup.rewind();
-                    toStore = deserializeByteBufferArray(dup, expectUtf8Response);
-                } else if (marker == '%') {
-                    dup.rewind();
-                    toStore = deserializeByteBufferMap(dup, expectUtf8Response);
-                } else {
-                    dup.rewind();
-                    if (expectUtf8Response) {
-                        toStore = BufferUtils.decodeUtf8(dup);
-                    } else {
-                        byte[] bytes = new byte[dup.remaining()];
-                        dup.get(bytes);
-                        toStore = glide.api.models.GlideString.gs(bytes);
-                    }
-                }
-            } else {
-                toStore = expectUtf8Response ? "" : glide.api.models.GlideString.gs(new byte[0]);
-            }
-            long objectId = JniResponseRegistry.storeObject(toStore);
-            builder.setRespPointer(objectId);
-        } else {
-            // Store the object in the registry and get its ID
-            // This allows BaseResponseResolver to retrieve it correctly
-            long objectId = JniResponseRegistry.storeObject(jniResult);
-            builder.setRespPointer(objectId);
-        }
-
-        return builder.build();
-    }
-
-    /**
-     * Create a direct Response from a JNI result object. Since JNI now returns converted Java objects
-     * directly (not pointers), we store the object in a temporary registry and pass an ID.
+     * Normalize a JNI result before it is passed to a response handler. Values are already converted
+     * to Java objects by the native layer; only DirectByteBuffers used for large responses (>16KB)
+     * need to be decoded here.
      */
-    private Response createDirectResponse(Object jniResult, boolean expectUtf8Response) {
-        Response.Builder builder = Response.newBuilder();
-
-        if (jniResult == null) {
-            // Null response - no pointer needed
-            builder.setRespPointer(0L);
-        } else if ("OK".equals(jniResult)) {
-            // OK constant response
-            builder.setConstantResponse(ConstantResponse.OK);
-        } else if (jniResult instanceof ByteBuffer) {
-            // DirectByteBuffer from JNI. Could be serialized array/map or large bulk string.
-            ByteBuffer buffer = (ByteBuffer) jniResult;
-            ByteBuffer dup = buffer.duplicate();
-            dup.rewind();
-            Object toStore;
-            if (dup.remaining() > 0) {
-                byte marker = dup.get();
-                if (marker == '*') {
-                    dup.rewind();
-                    toStore = deserializeByteBufferArray(dup, expectUtf8Response);
-                } else if (marker == '%') {
-                    dup.rewind();
-                    toStore = deserializeByteBufferMap(dup, expectUtf8Response);
-                } else {
-                    dup.rewind();
-                    if (expectUtf8Response) {
-                        toStore = BufferUtils.decodeUtf8(dup);
-                    } else {
-                        byte[] bytes = new byte[dup.remaining()];
-                        dup.get(bytes);
-                        toStore = glide.api.models.GlideString.gs(bytes);
-                    }
-                }
-            } else {
-                toStore = expectUtf8Response ? "" : glide.api.models.GlideString.gs(new byte[0]);
-            }
-            long objectId = JniResponseRegistry.storeObject(toStore);
-            builder.setRespPointer(objectId);
-        } else {
-            // Store the Java object and get an ID for it
-            // This ID will be used to retrieve the object in valueFromPointer
-            long objectId = JniResponseRegistry.storeObject(jniResult);
-            builder.setRespPointer(objectId);
+    private Object normalizeResult(Object jniResult, boolean expectUtf8Response) {
+        if (jniResult instanceof ByteBuffer) {
+            return normalizeDirectBuffer((ByteBuffer) jniResult, expectUtf8Response);
         }
-
-        return builder.build();
+        return jniResult;
     }
 
     /**
@@ -1053,50 +1141,6 @@ public class CommandManager {
     // Command preparation methods (copied from original CommandManager)
     // ============================================================================
 
-    /** Build a protobuf command request object with routing options. */
-    protected CommandRequest.Builder prepareCommandRequest(
-            RequestType requestType, String[] arguments, Route route) {
-        final Command.Builder commandBuilder = Command.newBuilder();
-        populateCommandWithArgs(arguments, commandBuilder);
-
-        long spanPtr = 0;
-        if (OpenTelemetry.isInitialized() && OpenTelemetry.shouldSample()) {
-            spanPtr = OpenTelemetryResolver.createLeakedOtelSpan(requestType.name());
-        }
-
-        CommandRequest.Builder builder =
-                CommandRequest.newBuilder()
-                        .setSingleCommand(commandBuilder.setRequestType(requestType).build());
-
-        if (spanPtr != 0) {
-            builder.setRootSpanPtr(spanPtr);
-        }
-
-        return prepareCommandRequestRoute(builder, route);
-    }
-
-    /** Build a protobuf command request object with routing options. */
-    protected CommandRequest.Builder prepareCommandRequest(
-            RequestType requestType, GlideString[] arguments, Route route) {
-        final Command.Builder commandBuilder = Command.newBuilder();
-        populateCommandWithArgs(arguments, commandBuilder);
-
-        long spanPtr = 0;
-        if (OpenTelemetry.isInitialized() && OpenTelemetry.shouldSample()) {
-            spanPtr = OpenTelemetryResolver.createLeakedOtelSpan(requestType.name());
-        }
-
-        CommandRequest.Builder builder =
-                CommandRequest.newBuilder()
-                        .setSingleCommand(commandBuilder.setRequestType(requestType).build());
-
-        if (spanPtr != 0) {
-            builder.setRootSpanPtr(spanPtr);
-        }
-
-        return prepareCommandRequestRoute(builder, route);
-    }
-
     /** Build a protobuf Batch request object. */
     protected CommandRequest.Builder prepareCommandRequest(
             Batch batch, boolean raiseOnError, Optional<BatchOptions> options) {
@@ -1209,49 +1253,6 @@ public class CommandManager {
         return builder;
     }
 
-    /** Build a protobuf command request object. */
-    protected CommandRequest.Builder prepareCommandRequest(
-            RequestType requestType, String[] arguments) {
-        final Command.Builder commandBuilder = Command.newBuilder();
-        populateCommandWithArgs(arguments, commandBuilder);
-
-        long spanPtr = 0;
-        if (OpenTelemetry.isInitialized() && OpenTelemetry.shouldSample()) {
-            spanPtr = OpenTelemetryResolver.createLeakedOtelSpan(requestType.name());
-        }
-
-        CommandRequest.Builder builder =
-                CommandRequest.newBuilder()
-                        .setSingleCommand(commandBuilder.setRequestType(requestType).build());
-
-        if (spanPtr != 0) {
-            builder.setRootSpanPtr(spanPtr);
-        }
-        return builder;
-    }
-
-    /** Build a protobuf command request object. */
-    protected CommandRequest.Builder prepareCommandRequest(
-            RequestType requestType, GlideString[] arguments) {
-        final Command.Builder commandBuilder = Command.newBuilder();
-        populateCommandWithArgs(arguments, commandBuilder);
-
-        long spanPtr = 0;
-        if (OpenTelemetry.isInitialized() && OpenTelemetry.shouldSample()) {
-            spanPtr = OpenTelemetryResolver.createLeakedOtelSpan(requestType.name());
-        }
-
-        CommandRequest.Builder builder =
-                CommandRequest.newBuilder()
-                        .setSingleCommand(commandBuilder.setRequestType(requestType).build());
-
-        if (spanPtr != 0) {
-            builder.setRootSpanPtr(spanPtr);
-        }
-
-        return builder;
-    }
-
     private CommandRequestOuterClass.Batch.Builder prepareCommandRequestBatchOptions(
             CommandRequestOuterClass.Batch.Builder batchBuilder, BaseBatchOptions options) {
         if (options.getTimeout() != null) {
@@ -1313,19 +1314,6 @@ public class CommandManager {
         outputBuilder.setArgsArray(commandArgs);
     }
 
-    /** Add the given set of arguments to the output Command.Builder. */
-    private static void populateCommandWithArgs(
-            GlideString[] arguments, Command.Builder outputBuilder) {
-        ArgsArray.Builder commandArgs = ArgsArray.newBuilder();
-        for (GlideString argument : arguments) {
-            if (argument == null) {
-                throw new NullPointerException("Argument cannot be null");
-            }
-            commandArgs.addArgs(UnsafeByteOperations.unsafeWrap(argument.getBytes()));
-        }
-        outputBuilder.setArgsArray(commandArgs);
-    }
-
     private static void appendArgument(ArgsArray.Builder commandArgs, Object value) {
         if (value instanceof GlideString) {
             commandArgs.addArgs(UnsafeByteOperations.unsafeWrap(((GlideString) value).getBytes()));
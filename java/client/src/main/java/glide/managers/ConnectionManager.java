@@ -3,13 +3,19 @@ package glide.managers;
 
 import static connection_request.ConnectionRequestOuterClass.*;
 
+import command_request.CommandRequestOuterClass.RequestType;
+import glide.api.logging.Logger;
 import glide.api.models.GlideString;
 import glide.api.models.configuration.AdvancedBaseClientConfiguration;
 import glide.api.models.configuration.AdvancedGlideClusterClientConfiguration;
+import glide.api.models.configuration.AutoPipeliningConfiguration;
 import glide.api.models.configuration.BackoffStrategy;
 import glide.api.models.configuration.BaseClientConfiguration;
 import glide.api.models.configuration.BaseSubscriptionConfiguration;
+import glide.api.models.configuration.ClientSideCacheConfiguration;
 import glide.api.models.configuration.ClusterSubscriptionConfiguration;
+import glide.api.models.configuration.CompressibleCommand;
+import glide.api.models.configuration.CompressionConfiguration;
 import glide.api.models.configuration.GlideClientConfiguration;
 import glide.api.models.configuration.GlideClusterClientConfiguration;
 import glide.api.models.configuration.IamAuthConfig;
@@ -23,10 +29,15 @@ import glide.api.models.exceptions.ClosingException;
 import glide.api.models.exceptions.ConfigurationError;
 import glide.api.models.exceptions.GlideException;
 import glide.internal.AsyncRegistry;
+import glide.internal.ClientSideCache;
 import glide.internal.GlideNativeBridge;
+import glide.internal.LatencyRecorder;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import lombok.RequiredArgsConstructor;
 
@@ -45,6 +56,12 @@ public class ConnectionManager {
 
     private int maxInflightRequests = 0;
     private int requestTimeoutMs = 5000;
+    private Set<RequestType> compressedRequestTypes = Collections.emptySet();
+    private ClientSideCache clientSideCache;
+    private AutoPipeliningConfiguration autoPipelining;
+    private boolean readFromPrimary = true;
+    private LatencyRecorder latencyRecorder;
+    private Executor completionExecutor;
     private ServerCredentials credentials;
     private volatile boolean isClosed = false;
 
@@ -375,12 +392,36 @@ public class ConnectionManager {
                             requestBuilder.setTcpNodelay(advanced.getTcpNoDelay());
                         }
 
+                        // Keep the completion executor for the core client
+                        this.completionExecutor = advanced != null ? advanced.getCompletionExecutor() : null;
+
                         // Set PubSub reconciliation interval (only if explicitly configured)
                         if (advanced != null && advanced.getPubsubReconciliationIntervalMs() != null) {
                             requestBuilder.setPubsubReconciliationIntervalMs(
                                     advanced.getPubsubReconciliationIntervalMs());
                         }
 
+                        // Set value compression (only if explicitly configured)
+                        CompressionConfiguration compression = configuration.getCompressionConfiguration();
+                        if (compression != null) {
+                            requestBuilder.setCompressionConfig(buildCompressionConfig(compression));
+                            this.compressedRequestTypes = resolveCompressedRequestTypes(compression);
+                        }
+
+                        // Create the client-side cache (only if explicitly configured)
+                        if (configuration.getClientSideCacheConfiguration() != null) {
+                            this.clientSideCache = buildClientSideCache(configuration);
+                        }
+
+                        // Keep the auto-pipelining settings for the command manager
+                        this.autoPipelining = configuration.getAutoPipeliningConfiguration();
+                        this.readFromPrimary = "PRIMARY".equals(configuration.getReadFrom().name());
+
+                        // Create the latency recorder (only if explicitly enabled)
+                        if (configuration.isLatencyMetrics()) {
+                            this.latencyRecorder = new LatencyRecorder();
+                        }
+
                         // Set read-only mode for standalone clients
                         if (configuration instanceof GlideClientConfiguration) {
                             GlideClientConfiguration standaloneConfig = (GlideClientConfiguration) configuration;
@@ -393,6 +434,15 @@ public class ConnectionManager {
                         ConnectionRequest request = requestBuilder.build();
                         byte[] requestBytes = request.toByteArray();
 
+                        // Configure the process-wide callback workers before they start
+                        if (advanced != null
+                                && (advanced.getCallbackWorkerThreads() != null
+                                        || advanced.getCallbackWorkerCpus() != null
+                                        || advanced.getCallbackBatchSize() != null
+                                        || advanced.getCallbackBatchWindowMicros() != null)) {
+                            configureCallbackWorkers(advanced);
+                        }
+
                         // Create native client with protobuf bytes
                         this.nativeClientHandle = GlideNativeBridge.createClient(requestBytes);
 
@@ -410,6 +460,25 @@ public class ConnectionManager {
                 });
     }
 
+    private static void configureCallbackWorkers(AdvancedBaseClientConfiguration advanced) {
+        Integer threads = advanced.getCallbackWorkerThreads();
+        Integer batchSize = advanced.getCallbackBatchSize();
+        Integer batchWindowMicros = advanced.getCallbackBatchWindowMicros();
+        boolean applied =
+                GlideNativeBridge.configureCallbackWorkers(
+                        threads != null ? threads : 0,
+                        advanced.getCallbackWorkerCpus(),
+                        batchSize != null ? batchSize : 0,
+                        batchWindowMicros != null ? batchWindowMicros : 0);
+        if (!applied) {
+            Logger.log(
+                    Logger.Level.WARN,
+                    "ConnectionManager",
+                    "Callback workers are already configured by another client, ignoring the callback"
+                            + " worker settings of this client");
+        }
+    }
+
     /**
      * Close the connection.
      *
@@ -473,6 +542,36 @@ public class ConnectionManager {
         return requestTimeoutMs;
     }
 
+    /** Get the request types whose values the native layer compresses. */
+    public Set<RequestType> getCompressedRequestTypes() {
+        return compressedRequestTypes;
+    }
+
+    /** Get the client-side cache, or <code>null</code> if not configured. */
+    public ClientSideCache getClientSideCache() {
+        return clientSideCache;
+    }
+
+    /** Get the auto-pipelining settings, or <code>null</code> if not configured. */
+    public AutoPipeliningConfiguration getAutoPipeliningConfiguration() {
+        return autoPipelining;
+    }
+
+    /** Whether the client reads from the primary, rather than from replicas when it can. */
+    public boolean isReadFromPrimary() {
+        return readFromPrimary;
+    }
+
+    /** Get the latency recorder, or <code>null</code> if latency metrics are not enabled. */
+    public LatencyRecorder getLatencyRecorder() {
+        return latencyRecorder;
+    }
+
+    /** Get the executor completing command futures, or <code>null</code> if not configured. */
+    public Executor getCompletionExecutor() {
+        return completionExecutor;
+    }
+
     /** Check if the connection is closed. */
     public boolean isClosed() {
         return isClosed;
@@ -539,6 +638,74 @@ public class ConnectionManager {
         return false;
     }
 
+    private static CompressionConfig buildCompressionConfig(CompressionConfiguration compression) {
+        if (compression.getMinCompressionSize() < CompressionConfiguration.MIN_COMPRESSION_SIZE) {
+            throw new ConfigurationError(
+                    "minCompressionSize must be at least "
+                            + CompressionConfiguration.MIN_COMPRESSION_SIZE
+                            + " bytes, got: "
+                            + compression.getMinCompressionSize());
+        }
+        CompressionConfig.Builder builder =
+                CompressionConfig.newBuilder()
+                        .setEnabled(compression.isEnabled())
+                        .setMinCompressionSize(compression.getMinCompressionSize());
+        switch (compression.getBackend()) {
+            case LZ4:
+                builder.setBackend(CompressionBackend.LZ4);
+                break;
+            case ZSTD:
+            default:
+                builder.setBackend(CompressionBackend.ZSTD);
+                break;
+        }
+        if (compression.getCompressionLevel() != null) {
+            builder.setCompressionLevel(compression.getCompressionLevel());
+        }
+        return builder.build();
+    }
+
+    private static Set<RequestType> resolveCompressedRequestTypes(
+            CompressionConfiguration compression) {
+        if (!compression.isEnabled()) {
+            return Collections.emptySet();
+        }
+        Set<RequestType> requestTypes = EnumSet.noneOf(RequestType.class);
+        for (CompressibleCommand command : compression.getCommands()) {
+            switch (command) {
+                case SET:
+                    requestTypes.add(RequestType.Set);
+                    break;
+            }
+        }
+        return Collections.unmodifiableSet(requestTypes);
+    }
+
+    private static ClientSideCache buildClientSideCache(BaseClientConfiguration configuration) {
+        ClientSideCacheConfiguration cache = configuration.getClientSideCacheConfiguration();
+        // Compared by name: ProtocolVersion and ReadFrom also name the protobuf enums imported above
+        if (configuration.getProtocol() != null && "RESP2".equals(configuration.getProtocol().name())) {
+            throw new ConfigurationError("Client-side caching requires RESP3 protocol");
+        }
+        if (configuration instanceof GlideClientConfiguration
+                && !"PRIMARY".equals(configuration.getReadFrom().name())) {
+            throw new ConfigurationError("Client-side caching requires reading from the primary");
+        }
+        if (cache.getMaxEntries() <= 0) {
+            throw new ConfigurationError(
+                    "Client-side cache maxEntries must be positive, got " + cache.getMaxEntries());
+        }
+        if (cache.getEntryTtlMillis() != null && cache.getEntryTtlMillis() <= 0) {
+            throw new ConfigurationError(
+                    "Client-side cache entryTtlMillis must be positive, got " + cache.getEntryTtlMillis());
+        }
+        if (!cache.getPrefixes().isEmpty()
+                && cache.getTrackingMode() != ClientSideCacheConfiguration.TrackingMode.BCAST) {
+            throw new ConfigurationError("Client-side cache prefixes require the BCAST tracking mode");
+        }
+        return new ClientSideCache(cache.getMaxEntries(), cache.getEntryTtlMillis());
+    }
+
     private static byte[] extractRootCertificates(BaseClientConfiguration configuration) {
         AdvancedBaseClientConfiguration advanced = configuration.getAdvancedConfiguration();
         if (advanced == null) {
@@ -0,0 +1,69 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.utils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utility methods computing the hash slot of a key in a cluster: the CRC16 (XMODEM) of the key, or
+ * of its hash tag, modulo 16384.
+ *
+ * @see <a href="https://valkey.io/topics/cluster-spec/#key-distribution-model">valkey.io</a>
+ */
+public final class ClusterSlotUtils {
+
+    /** The number of hash slots of a cluster. */
+    public static final int SLOT_COUNT = 16384;
+
+    private static final int[] CRC16_TABLE = new int[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            int crc = i << 8;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+            }
+            CRC16_TABLE[i] = crc & 0xFFFF;
+        }
+    }
+
+    private ClusterSlotUtils() {
+        // Utility class, prevent instantiation
+    }
+
+    /** Get the hash slot of <code>key</code>. */
+    public static int getSlot(String key) {
+        return getSlot(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Get the hash slot of <code>key</code>. If the key contains a non-empty hash tag, between the
+     * first <code>{</code> and the first <code>}</code> after it, only the tag is hashed.
+     */
+    public static int getSlot(byte[] key) {
+        int from = 0;
+        int to = key.length;
+        for (int open = 0; open < key.length; open++) {
+            if (key[open] == '{') {
+                for (int close = open + 1; close < key.length; close++) {
+                    if (key[close] == '}') {
+                        if (close > open + 1) {
+                            from = open + 1;
+                            to = close;
+                        }
+                        break;
+                    }
+                }
+                break;
+            }
+        }
+        return crc16(key, from, to) & (SLOT_COUNT - 1);
+    }
+
+    private static int crc16(byte[] bytes, int from, int to) {
+        int crc = 0;
+        for (int i = from; i < to; i++) {
+            crc = ((crc << 8) ^ CRC16_TABLE[((crc >>> 8) ^ bytes[i]) & 0xFF]) & 0xFFFF;
+        }
+        return crc;
+    }
+}
@@ -0,0 +1,168 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.utils;
+
+import glide.api.models.commands.scan.ScoredMember;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Utility methods turning the pages of <code>HSCAN</code>, <code>SSCAN</code> and <code>ZSCAN
+ * </code> into lazy streams of elements.
+ */
+public final class ScanStreamUtils {
+
+    /** The cursor starting an iteration, and returned with its last page. */
+    private static final String INITIAL_CURSOR = "0";
+
+    private ScanStreamUtils() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Stream the elements of a scan, page by page. The first page is requested when the stream is
+     * first consumed, and each next page as soon as the previous one arrives, so that it is fetched
+     * while the previous one is consumed.
+     *
+     * @param scanPage Requests the page at a cursor, returning the next cursor and the elements.
+     * @param decoder Converts the elements of a page.
+     */
+    public static <E> Stream<E> stream(
+            Function<String, CompletableFuture<Object[]>> scanPage, Function<Object[], List<E>> decoder) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        new PageIterator<>(scanPage, decoder), Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * Decode the flattened field-value pairs of an <code>HSCAN</code> page, or its fields only, with
+     * <code>null</code> values, if <code>noValues</code> is set.
+     */
+    public static <T> List<Map.Entry<T, T>> decodePairs(
+            Object[] elements, Class<T> type, boolean noValues) {
+        if (noValues) {
+            List<Map.Entry<T, T>> entries = new ArrayList<>(elements.length);
+            for (Object element : elements) {
+                entries.add(new SimpleImmutableEntry<>(type.cast(element), null));
+            }
+            return entries;
+        }
+        List<Map.Entry<T, T>> entries = new ArrayList<>(elements.length / 2);
+        for (int i = 0; i + 1 < elements.length; i += 2) {
+            entries.add(new SimpleImmutableEntry<>(type.cast(elements[i]), type.cast(elements[i + 1])));
+        }
+        return entries;
+    }
+
+    /** Decode the elements of an <code>SSCAN</code> page. */
+    public static <T> List<T> decodeElements(Object[] elements, Class<T> type) {
+        List<T> result = new ArrayList<>(elements.length);
+        for (Object element : elements) {
+            result.add(type.cast(element));
+        }
+        return result;
+    }
+
+    /**
+     * Decode the flattened member-score pairs of a <code>ZSCAN</code> page, or its members only if
+     * <code>noScores</code> is set.
+     */
+    public static <T> List<ScoredMember<T>> decodeScoredMembers(
+            Object[] elements, Class<T> type, boolean noScores) {
+        if (noScores) {
+            List<ScoredMember<T>> members = new ArrayList<>(elements.length);
+            for (Object element : elements) {
+                members.add(new ScoredMember<>(type.cast(element), Double.NaN));
+            }
+            return members;
+        }
+        List<ScoredMember<T>> members = new ArrayList<>(elements.length / 2);
+        for (int i = 0; i + 1 < elements.length; i += 2) {
+            members.add(
+                    new ScoredMember<>(type.cast(elements[i]), parseScore(elements[i + 1].toString())));
+        }
+        return members;
+    }
+
+    /** Parse a score as formatted by the server, which writes infinities as <code>inf</code>. */
+    static double parseScore(String score) {
+        switch (score) {
+            case "inf":
+            case "+inf":
+                return Double.POSITIVE_INFINITY;
+            case "-inf":
+                return Double.NEGATIVE_INFINITY;
+            default:
+                return Double.parseDouble(score);
+        }
+    }
+
+    /** Iterates over the elements of the pages, keeping the next page requested ahead. */
+    private static final class PageIterator<E> implements Iterator<E> {
+        private final Function<String, CompletableFuture<Object[]>> scanPage;
+        private final Function<Object[], List<E>> decoder;
+
+        /** The page requested ahead, null once the last page is received. */
+        private CompletableFuture<Object[]> nextPage;
+
+        private boolean started = false;
+
+        private Iterator<E> current = Collections.emptyIterator();
+
+        PageIterator(
+                Function<String, CompletableFuture<Object[]>> scanPage,
+                Function<Object[], List<E>> decoder) {
+            this.scanPage = scanPage;
+            this.decoder = decoder;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!started) {
+                started = true;
+                nextPage = scanPage.apply(INITIAL_CURSOR);
+            }
+            while (!current.hasNext()) {
+                if (nextPage == null) {
+                    return false;
+                }
+                Object[] page = join(nextPage);
+                String cursor = page[0].toString();
+                nextPage = INITIAL_CURSOR.equals(cursor) ? null : scanPage.apply(cursor);
+                current = decoder.apply((Object[]) page[1]).iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        private static Object[] join(CompletableFuture<Object[]> page) {
+            try {
+                return page.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+}
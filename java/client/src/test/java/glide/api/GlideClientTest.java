@@ -373,6 +373,7 @@ import glide.api.models.commands.stream.StreamReadOptions;
 import glide.api.models.commands.stream.StreamTrimOptions;
 import glide.api.models.commands.stream.StreamTrimOptions.MaxLen;
 import glide.api.models.commands.stream.StreamTrimOptions.MinId;
+import glide.internal.CommandEncoder;
 import glide.managers.CommandManager;
 import glide.utils.ArgsBuilder;
 import java.util.ArrayList;
@@ -6043,6 +6044,32 @@ public class GlideClientTest {
         assertEquals(value, payload);
     }
 
+    @SneakyThrows
+    @Test
+    public void zmscorePrimitive_returns_success() {
+        // setup
+        String key = "testKey";
+        String[] members = new String[] {"member1", "member2"};
+        String[] arguments = new String[] {key, "member1", "member2"};
+        double[] value = new double[] {2.5, Double.NaN};
+
+        CompletableFuture<double[]> testResponse = new CompletableFuture<>();
+        testResponse.complete(value);
+
+        // match on protobuf request
+        when(commandManager.<double[]>submitNewCommandWithPrimitiveArray(
+                        eq(ZMScore), eq(arguments), eq(CommandEncoder.FLAG_DOUBLE_ARRAY), any()))
+                .thenReturn(testResponse);
+
+        // exercise
+        CompletableFuture<double[]> response = service.zmscorePrimitive(key, members);
+        double[] payload = response.get();
+
+        // verify
+        assertEquals(testResponse, response);
+        assertEquals(value, payload);
+    }
+
     @SneakyThrows
     @Test
     public void zmscore_binary_returns_success() {
@@ -65,7 +65,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-import command_request.CommandRequestOuterClass.CommandRequest;
+import command_request.CommandRequestOuterClass.RequestType;
 import glide.api.models.ClusterBatch;
 import glide.api.models.ClusterValue;
 import glide.api.models.GlideString;
@@ -102,8 +102,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
-import response.ResponseOuterClass.ConstantResponse;
-import response.ResponseOuterClass.Response;
 
 public class GlideClusterClientTest {
 
@@ -206,9 +204,7 @@ public class GlideClusterClientTest {
     @Test
     @SneakyThrows
     public void custom_command_returns_single_value_on_constant_response() {
-        CommandManager commandManager =
-                new TestCommandManager(
-                        Response.newBuilder().setConstantResponse(ConstantResponse.OK).build());
+        CommandManager commandManager = new TestCommandManager(OK);
 
         try (TestClient client = new TestClient(commandManager, "OK")) {
             ClusterValue<Object> value = client.customCommand(TEST_ARGS, ALL_NODES).get();
@@ -248,9 +244,7 @@ public class GlideClusterClientTest {
     @Test
     @SneakyThrows
     public void custom_command_binary_returns_single_value_on_constant_response() {
-        CommandManager commandManager =
-                new TestCommandManager(
-                        Response.newBuilder().setConstantResponse(ConstantResponse.OK).build());
+        CommandManager commandManager = new TestCommandManager(OK);
 
         try (TestClient client = new TestClient(commandManager, "OK")) {
             ClusterValue<Object> value = client.customCommand(new GlideString[0], ALL_NODES).get();
@@ -269,7 +263,7 @@ public class GlideClusterClientTest {
 
         @Override
         protected <T> T handleValkeyResponse(
-                Class<T> classType, EnumSet<ResponseFlags> flags, Response response) {
+                Class<T> classType, EnumSet<ResponseFlags> flags, Object response) {
             @SuppressWarnings("unchecked")
             T returnValue = (T) object;
             return returnValue;
@@ -281,26 +275,19 @@ public class GlideClusterClientTest {
 
     private static class TestCommandManager extends CommandManager {
 
-        private final Response response;
+        private final Object response;
 
-        public TestCommandManager(Response responseToReturn) {
+        public TestCommandManager(Object responseToReturn) {
             super(null);
-            response = responseToReturn != null ? responseToReturn : Response.newBuilder().build();
+            response = responseToReturn;
         }
 
         @Override
         protected <T> CompletableFuture<T> submitCommandToJni(
-                CommandRequest.Builder command,
-                GlideExceptionCheckedFunction<Response, T> responseHandler,
-                boolean binaryMode) {
-            return CompletableFuture.supplyAsync(() -> responseHandler.apply(response));
-        }
-
-        @Override
-        protected <T> CompletableFuture<T> submitCommandToJni(
-                CommandRequest.Builder command,
-                GlideExceptionCheckedFunction<Response, T> responseHandler,
-                boolean binaryMode,
+                RequestType requestType,
+                Object[] arguments,
+                Route route,
+                GlideExceptionCheckedFunction<Object, T> responseHandler,
                 boolean expectUtf8Response) {
             return CompletableFuture.supplyAsync(() -> responseHandler.apply(response));
         }
@@ -0,0 +1,131 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogAppenderTest {
+
+    @Test
+    public void writes_records_of_concurrent_producers_in_order() throws Exception {
+        int producers = 4;
+        int perProducer = 10_000;
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong dropped = new AtomicLong();
+        AsyncLogAppender appender =
+                new AsyncLogAppender(
+                        1024,
+                        dropped,
+                        (levels, identifiers, messages, count) -> {
+                            for (int i = 0; i < count; i++) {
+                                written.add(identifiers[i] + ":" + messages[i]);
+                            }
+                        });
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            String identifier = "producer" + p;
+            Thread thread =
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < perProducer; i++) {
+                                    while (!appender.append(1, identifier, Integer.toString(i))) {
+                                        Thread.yield();
+                                    }
+                                }
+                            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        appender.close();
+
+        assertEquals(producers * perProducer, written.size());
+        int[] next = new int[producers];
+        for (String record : written) {
+            int producer = record.charAt("producer".length()) - '0';
+            assertEquals(next[producer]++, Integer.parseInt(record.substring(record.indexOf(':') + 1)));
+        }
+    }
+
+    @Test
+    public void drops_records_when_full() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicLong written = new AtomicLong();
+        AtomicLong dropped = new AtomicLong();
+        AsyncLogAppender appender =
+                new AsyncLogAppender(
+                        3, // rounded up to 4
+                        dropped,
+                        (levels, identifiers, messages, count) -> {
+                            writing.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            written.addAndGet(count);
+                        });
+
+        // The drainer takes the first record and blocks writing it
+        assertTrue(appender.append(0, "id", "first"));
+        assertTrue(writing.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(appender.append(0, "id", "queued" + i));
+        }
+        assertFalse(appender.append(0, "id", "dropped"));
+        assertEquals(1, dropped.get());
+
+        release.countDown();
+        appender.close();
+        assertEquals(5, written.get());
+        assertFalse(appender.append(0, "id", "closed"));
+        assertEquals(2, dropped.get());
+    }
+
+    @Test
+    public void accounts_for_every_record_when_closing_under_load() throws Exception {
+        AtomicLong written = new AtomicLong();
+        AtomicLong dropped = new AtomicLong();
+        AtomicLong appended = new AtomicLong();
+        AsyncLogAppender appender =
+                new AsyncLogAppender(
+                        64, dropped, (levels, identifiers, messages, count) -> written.addAndGet(count));
+
+        CountDownLatch started = new CountDownLatch(4);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            Thread thread =
+                    new Thread(
+                            () -> {
+                                started.countDown();
+                                for (int i = 0; i < 50_000; i++) {
+                                    appender.append(1, "id", "message");
+                                    appended.incrementAndGet();
+                                }
+                            });
+            threads.add(thread);
+            thread.start();
+        }
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        // Close while producers are still appending: each record is either written or dropped
+        appender.close();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(appended.get(), written.get() + dropped.get());
+    }
+}
@@ -0,0 +1,88 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.commands.FT;
+
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import glide.api.models.GlideString;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class FTAggregateCursorTest {
+
+    private final List<GlideString[]> sent = new ArrayList<>();
+
+    /** Replies to reads with pages of one row, the last page having cursor id 0. */
+    private CompletableFuture<Object> reply(GlideString[] args) {
+        sent.add(args);
+        if (args[1].equals(gs("DEL"))) {
+            return CompletableFuture.completedFuture("OK");
+        }
+        long page = sent.size();
+        return CompletableFuture.completedFuture(
+                new Object[] {new Object[] {row(page)}, page < 3 ? 7L : 0L});
+    }
+
+    private static Map<GlideString, Object> row(long value) {
+        return Collections.singletonMap(gs("n"), value);
+    }
+
+    @Test
+    public void reads_pages_on_demand() {
+        FTAggregateCursor cursor =
+                new FTAggregateCursor(
+                        this::reply,
+                        gs("idx"),
+                        FTAggregateCursorOptions.builder().count(1).prefetch(false).build(),
+                        new Object[] {new Object[] {row(0)}, 7L});
+
+        assertEquals(row(0), cursor.next());
+        assertEquals(0, sent.size());
+        List<Object> values = cursor.stream().map(row -> row.get(gs("n"))).collect(Collectors.toList());
+
+        assertEquals(3, sent.size());
+        assertEquals(Arrays.asList(1L, 2L, 3L), values);
+        assertArrayEquals(
+                new GlideString[] {gs("FT.CURSOR"), gs("READ"), gs("idx"), gs("7"), gs("COUNT"), gs("1")},
+                sent.get(0));
+        cursor.close();
+        assertEquals(3, sent.size());
+    }
+
+    @Test
+    public void prefetches_and_deletes_the_cursor_on_early_close() {
+        FTAggregateCursor cursor =
+                new FTAggregateCursor(
+                        this::reply,
+                        gs("idx"),
+                        FTAggregateCursorOptions.builder().build(),
+                        new Object[] {new Object[] {row(0)}, 7L});
+
+        // The next page is requested along with the first one
+        assertEquals(1, sent.size());
+        cursor.close();
+
+        assertFalse(cursor.hasNext());
+        assertEquals(2, sent.size());
+        assertArrayEquals(
+                new GlideString[] {gs("FT.CURSOR"), gs("DEL"), gs("idx"), gs("7")}, sent.get(1));
+    }
+
+    @Test
+    public void cursor_options_to_args() {
+        assertArrayEquals(
+                new GlideString[] {gs("WITHCURSOR"), gs("COUNT"), gs("1000")},
+                FTAggregateCursorOptions.builder().build().toArgs());
+        assertArrayEquals(
+                new GlideString[] {gs("WITHCURSOR"), gs("COUNT"), gs("10"), gs("MAXIDLE"), gs("5000")},
+                FTAggregateCursorOptions.builder().count(10).maxIdleMillis(5000).build().toArgs());
+    }
+}
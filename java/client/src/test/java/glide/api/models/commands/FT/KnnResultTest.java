@@ -0,0 +1,53 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.commands.FT;
+
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import glide.api.models.GlideString;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class KnnResultTest {
+
+    @Test
+    public void decodes_ids_and_scores_closest_first() {
+        Map<GlideString, Object> documents = new HashMap<>();
+        documents.put(gs("doc:far"), scored("9.5"));
+        documents.put(gs("doc:near"), scored("0.25"));
+        documents.put(gs("doc:unscored"), new HashMap<GlideString, GlideString>());
+        documents.put(gs("doc:mid"), scored("1"));
+
+        KnnResult result = KnnResult.fromSearchReply(new Object[] {4L, documents}, "vec");
+
+        assertEquals(4, result.size());
+        assertArrayEquals(
+                new GlideString[] {gs("doc:near"), gs("doc:mid"), gs("doc:far"), gs("doc:unscored")},
+                result.getIds());
+        assertArrayEquals(new double[] {0.25, 1, 9.5, Double.NaN}, result.getScores());
+        assertEquals(0, KnnResult.fromSearchReply(new Object[] {4L}, "vec").size());
+    }
+
+    @Test
+    public void converts_float_vectors() {
+        float[] vector = {1.5f, -2f, 0f};
+        GlideString binary = FloatVectors.toBinary(vector);
+        assertArrayEquals(
+                new byte[] {0, 0, (byte) 0xC0, 0x3F, 0, 0, 0, (byte) 0xC0, 0, 0, 0, 0}, binary.getBytes());
+        assertArrayEquals(vector, FloatVectors.fromBinary(binary));
+        assertEquals("[1.5,-2.0,0.0]", FloatVectors.toJson(vector));
+        assertThrows(
+                IllegalArgumentException.class, () -> FloatVectors.toJson(new float[] {Float.NaN}));
+        assertThrows(
+                IllegalArgumentException.class, () -> FloatVectors.fromBinary(gs(new byte[] {1, 2})));
+    }
+
+    private static Map<GlideString, GlideString> scored(String score) {
+        Map<GlideString, GlideString> attributes = new HashMap<>();
+        attributes.put(gs("__vec_score"), gs(score));
+        return attributes;
+    }
+}
@@ -0,0 +1,132 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.api.models.commands.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.models.exceptions.RequestException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ClusterScanIteratorTest {
+
+    private static final Object[] CLUSTER_SLOTS = {
+        new Object[] {
+            0L, 5460L, new Object[] {"10.0.0.1", 6379L, "a1"}, new Object[] {"10.0.0.4", 6379L, "r1"}
+        },
+        new Object[] {5461L, 10922L, new Object[] {"node2.example.com", 6379L, "a2"}},
+        new Object[] {10923L, 16000L, new Object[] {"10.0.0.3", 6379L, "a3"}},
+        new Object[] {16001L, 16383L, new Object[] {"10.0.0.1", 6379L, "a1"}},
+    };
+
+    private static final List<String> PRIMARIES = ClusterScanIterator.primaryAddresses(CLUSTER_SLOTS);
+
+    @Test
+    public void primary_addresses_use_preferred_endpoints_once() {
+        assertEquals(
+                Arrays.asList("10.0.0.1:6379", "node2.example.com:6379", "10.0.0.3:6379"), PRIMARIES);
+    }
+
+    @Test
+    public void primary_addresses_reject_unknown_endpoints() {
+        Object[] slots = {new Object[] {0L, 16383L, new Object[] {"?", 6379L, "a1"}}};
+        assertThrows(RequestException.class, () -> ClusterScanIterator.primaryAddresses(slots));
+    }
+
+    @Test
+    public void scans_every_primary_within_parallelism() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        try (ClusterScanIterator<String> iterator =
+                new ClusterScanIterator<>(
+                        () -> CompletableFuture.completedFuture(PRIMARIES),
+                        (address, cursor) ->
+                                CompletableFuture.supplyAsync(
+                                        () -> {
+                                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                                            try {
+                                                Thread.sleep(2);
+                                            } catch (InterruptedException e) {
+                                                Thread.currentThread().interrupt();
+                                            }
+                                            running.decrementAndGet();
+                                            return page(address, cursor);
+                                        },
+                                        executor),
+                        key -> (String) key,
+                        ClusterScanCheckpoint.INITIAL_CHECKPOINT,
+                        2)) {
+            Set<String> keys = new HashSet<>();
+            iterator.forEachRemaining(keys::addAll);
+
+            // 3 nodes with keys 0 to 2 each, the page of cursor 3 is empty
+            assertEquals(9, keys.size());
+            assertTrue(maxRunning.get() <= 2);
+            assertTrue(iterator.getCheckpoint().isFinished());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void resumes_from_checkpoint() {
+        ClusterScanIterator<String> first = iterator(ClusterScanCheckpoint.INITIAL_CHECKPOINT);
+        List<String> seen = new ArrayList<>(first.next());
+        seen.addAll(first.next());
+        first.close();
+        String encoded = first.getCheckpoint().encode();
+
+        ClusterScanIterator<String> second = iterator(ClusterScanCheckpoint.decode(encoded));
+        second.forEachRemaining(seen::addAll);
+
+        assertEquals(9, new HashSet<>(seen).size());
+        assertEquals(9, seen.size());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    public void fails_when_a_reply_cannot_be_converted() {
+        ClusterScanIterator<String> iterator =
+                new ClusterScanIterator<>(
+                        () -> CompletableFuture.completedFuture(PRIMARIES),
+                        (address, cursor) ->
+                                CompletableFuture.supplyAsync(() -> new Object[] {"1", new Object[] {42L}}),
+                        key -> (String) key,
+                        ClusterScanCheckpoint.INITIAL_CHECKPOINT,
+                        1);
+
+        assertTimeoutPreemptively(
+                Duration.ofSeconds(10), () -> assertThrows(ClassCastException.class, iterator::hasNext));
+    }
+
+    private static ClusterScanIterator<String> iterator(ClusterScanCheckpoint checkpoint) {
+        return new ClusterScanIterator<>(
+                () -> CompletableFuture.completedFuture(PRIMARIES),
+                (address, cursor) -> CompletableFuture.completedFuture(page(address, cursor)),
+                key -> (String) key,
+                checkpoint,
+                1);
+    }
+
+    /** A node holds 3 keys, returned one per SCAN, followed by an empty last page. */
+    private static Object[] page(String address, String cursor) {
+        int position = Integer.parseInt(cursor);
+        if (position == 3) {
+            return new Object[] {"0", new Object[0]};
+        }
+        return new Object[] {Integer.toString(position + 1), new Object[] {address + "/" + position}};
+    }
+}
@@ -1,10 +1,13 @@
 /** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
 package glide.api.models.configuration;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.EnumSet;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -123,4 +126,72 @@ public class BaseClientConfigurationTest {
         assertEquals(
                 "pubsubReconciliationIntervalMs must be positive, got: -1", exception.getMessage());
     }
+
+    @Test
+    public void testCallbackWorkerConfiguration() {
+        int[] cpus = {0, 2};
+        AdvancedGlideClientConfiguration config =
+                AdvancedGlideClientConfiguration.builder()
+                        .callbackWorkerThreads(4)
+                        .callbackWorkerCpus(cpus)
+                        .build();
+        cpus[0] = 7;
+        assertEquals(4, config.getCallbackWorkerThreads());
+        assertArrayEquals(new int[] {0, 2}, config.getCallbackWorkerCpus());
+
+        AdvancedGlideClientConfiguration defaults = AdvancedGlideClientConfiguration.builder().build();
+        assertNull(defaults.getCallbackWorkerThreads());
+        assertNull(defaults.getCallbackWorkerCpus());
+    }
+
+    @Test
+    public void testCallbackWorkerConfiguration_invalid_throws() {
+        AdvancedGlideClientConfiguration.AdvancedGlideClientConfigurationBuilder builder =
+                AdvancedGlideClientConfiguration.builder();
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> builder.callbackWorkerThreads(0));
+        assertEquals("callbackWorkerThreads must be positive, got: 0", exception.getMessage());
+        exception =
+                assertThrows(IllegalArgumentException.class, () -> builder.callbackWorkerCpus(1, -1));
+        assertEquals("callbackWorkerCpus must not be negative, got: -1", exception.getMessage());
+        exception = assertThrows(IllegalArgumentException.class, () -> builder.callbackBatchSize(0));
+        assertEquals("callbackBatchSize must be positive, got: 0", exception.getMessage());
+        exception =
+                assertThrows(IllegalArgumentException.class, () -> builder.callbackBatchWindowMicros(-1));
+        assertEquals("callbackBatchWindowMicros must not be negative, got: -1", exception.getMessage());
+    }
+
+    @Test
+    public void testCompressionConfigurationDefaults() {
+        CompressionConfiguration compression = CompressionConfiguration.builder().build();
+        assertTrue(compression.isEnabled());
+        assertEquals(CompressionBackend.ZSTD, compression.getBackend());
+        assertNull(compression.getCompressionLevel());
+        assertEquals(
+                CompressionConfiguration.DEFAULT_MIN_COMPRESSION_SIZE, compression.getMinCompressionSize());
+        assertEquals(EnumSet.allOf(CompressibleCommand.class), compression.getCommands());
+
+        GlideClientConfiguration config =
+                GlideClientConfiguration.builder()
+                        .address(NodeAddress.builder().host("localhost").port(6379).build())
+                        .compressionConfiguration(compression)
+                        .build();
+        assertEquals(compression, config.getCompressionConfiguration());
+    }
+
+    @Test
+    public void testClientSideCacheConfigurationDefaults() {
+        ClientSideCacheConfiguration cache = ClientSideCacheConfiguration.builder().build();
+        assertEquals(10_000, cache.getMaxEntries());
+        assertNull(cache.getEntryTtlMillis());
+        assertEquals(ClientSideCacheConfiguration.TrackingMode.DEFAULT, cache.getTrackingMode());
+        assertTrue(cache.getPrefixes().isEmpty());
+
+        GlideClusterClientConfiguration config =
+                GlideClusterClientConfiguration.builder()
+                        .address(NodeAddress.builder().host("localhost").port(6379).build())
+                        .clientSideCacheConfiguration(cache)
+                        .build();
+        assertEquals(cache, config.getClientSideCacheConfiguration());
+    }
 }
@@ -0,0 +1,95 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.models.PubSubMessage;
+import glide.api.models.configuration.BaseSubscriptionConfiguration.QueueOverflowPolicy;
+import glide.api.models.configuration.CallbackDispatchConfiguration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class CallbackDispatcherTest {
+
+    @Test
+    @SneakyThrows
+    public void messages_of_a_channel_keep_their_order() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1_000);
+        CallbackDispatcher dispatcher =
+                new CallbackDispatcher(
+                        (message, context) -> {
+                            received.add(message.getMessage().toString());
+                            done.countDown();
+                        },
+                        null,
+                        CallbackDispatchConfiguration.builder().executor(executor).lanes(4).build(),
+                        QueueOverflowPolicy.BLOCK);
+        try {
+            for (int i = 0; i < 1_000; i++) {
+                dispatcher.dispatch(new PubSubMessage(gs(Integer.toString(i)), gs("channel")));
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 1_000; i++) {
+                assertEquals(Integer.toString(i), received.get(i));
+            }
+            // The lane counts the last message as delivered right after its callback returns
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!"0".equals(dispatcher.getStatistics().get("pubsub_callback_backlog"))
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals("0", dispatcher.getStatistics().get("pubsub_callback_backlog"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void slow_channel_does_not_delay_others() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch fastDelivered = new CountDownLatch(1);
+        CallbackDispatcher dispatcher =
+                new CallbackDispatcher(
+                        (message, context) -> {
+                            try {
+                                if (message.getChannel().toString().equals("slow")) {
+                                    slowStarted.countDown();
+                                    release.await();
+                                } else {
+                                    fastDelivered.countDown();
+                                }
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        },
+                        null,
+                        CallbackDispatchConfiguration.builder().executor(executor).lanes(64).build(),
+                        QueueOverflowPolicy.DROP_NEWEST);
+        try {
+            dispatcher.dispatch(new PubSubMessage(gs("1"), gs("slow")));
+            dispatcher.dispatch(new PubSubMessage(gs("2"), gs("slow")));
+            dispatcher.dispatch(new PubSubMessage(gs("3"), gs("fast")));
+            assertTrue(fastDelivered.await(10, TimeUnit.SECONDS));
+            assertTrue(slowStarted.await(10, TimeUnit.SECONDS));
+            // Both messages of the slow channel are pending while the first one is delivered
+            assertEquals("2", dispatcher.getStatistics().get("pubsub_callback_lane_lag_max"));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
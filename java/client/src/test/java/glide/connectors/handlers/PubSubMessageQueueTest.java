@@ -0,0 +1,118 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.models.PubSubMessage;
+import glide.api.models.configuration.BaseSubscriptionConfiguration.QueueOverflowPolicy;
+import glide.connectors.handlers.MessageHandler.PubSubMessageQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class PubSubMessageQueueTest {
+
+    @Test
+    public void allocates_slots_with_the_first_message() {
+        PubSubMessageQueue queue = new PubSubMessageQueue();
+        assertNull(queue.popSync());
+        assertEquals(0, queue.drainTo(new ArrayList<>(), 10));
+        assertEquals(0, queue.size());
+        assertFalse(queue.isAllocated());
+
+        queue.push(message(0));
+        assertTrue(queue.isAllocated());
+        assertEquals(message(0), queue.popSync());
+    }
+
+    @Test
+    public void drop_oldest_keeps_latest_messages() {
+        PubSubMessageQueue queue = new PubSubMessageQueue(3, QueueOverflowPolicy.DROP_OLDEST);
+        for (int i = 0; i < 5; i++) {
+            queue.push(message(i));
+        }
+
+        assertEquals(3, queue.size());
+        assertEquals(5, queue.getQueuedCount());
+        assertEquals(2, queue.getDroppedCount());
+        assertEquals(message(2), queue.popSync());
+        assertEquals(message(3), queue.popSync());
+        assertEquals(message(4), queue.popSync());
+        assertNull(queue.popSync());
+    }
+
+    @Test
+    public void drop_newest_keeps_first_messages() {
+        PubSubMessageQueue queue = new PubSubMessageQueue(2, QueueOverflowPolicy.DROP_NEWEST);
+        for (int i = 0; i < 4; i++) {
+            queue.push(message(i));
+        }
+
+        assertEquals(2, queue.getDroppedCount());
+        assertEquals(message(0), queue.popSync());
+        assertEquals(message(1), queue.popSync());
+        assertNull(queue.popSync());
+    }
+
+    @Test
+    public void drain_moves_messages_in_order_across_wrap_around() {
+        PubSubMessageQueue queue = new PubSubMessageQueue(4, QueueOverflowPolicy.DROP_NEWEST);
+        List<PubSubMessage> drained = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            queue.push(message(i));
+        }
+        assertEquals(2, queue.drainTo(drained, 2));
+        for (int i = 3; i < 6; i++) {
+            queue.push(message(i));
+        }
+
+        assertEquals(4, queue.drainTo(drained, 10));
+        assertEquals(0, queue.drainTo(drained, 10));
+        for (int i = 0; i < 6; i++) {
+            assertEquals(message(i), drained.get(i));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void pop_async_waits_for_next_message() {
+        PubSubMessageQueue queue = new PubSubMessageQueue(2, QueueOverflowPolicy.DROP_OLDEST);
+        CompletableFuture<PubSubMessage> next = queue.popAsync();
+        assertFalse(next.isDone());
+
+        queue.push(message(0));
+        assertEquals(message(0), next.get());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @SneakyThrows
+    public void block_waits_for_room() {
+        PubSubMessageQueue queue = new PubSubMessageQueue(1, QueueOverflowPolicy.BLOCK);
+        queue.push(message(0));
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> queue.push(message(1)));
+        Thread.sleep(50);
+        assertFalse(blocked.isDone());
+
+        assertEquals(message(0), queue.popSync());
+        blocked.get(5, TimeUnit.SECONDS);
+        assertEquals(message(1), queue.popSync());
+
+        queue.push(message(2));
+        queue.close();
+        queue.push(message(3));
+        assertEquals(1, queue.getDroppedCount());
+        assertEquals(1, queue.size());
+    }
+
+    private static PubSubMessage message(int index) {
+        return new PubSubMessage(gs("message" + index), gs("channel"));
+    }
+}
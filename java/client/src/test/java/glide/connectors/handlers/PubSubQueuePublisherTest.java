@@ -0,0 +1,94 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.connectors.handlers;
+
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.models.PubSubMessage;
+import glide.api.models.PubSubPublisher;
+import glide.api.models.configuration.BaseSubscriptionConfiguration.QueueOverflowPolicy;
+import glide.connectors.handlers.MessageHandler.PubSubMessageQueue;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class PubSubQueuePublisherTest {
+
+    @Test
+    public void delivers_only_requested_messages() {
+        PubSubMessageQueue queue = new PubSubMessageQueue(10, QueueOverflowPolicy.DROP_NEWEST);
+        queue.push(message(0));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new PubSubQueuePublisher(queue).subscribe(subscriber);
+        assertEquals(0, subscriber.received.size());
+
+        subscriber.subscription.request(2);
+        queue.push(message(1));
+        queue.push(message(2));
+        assertEquals(2, subscriber.received.size());
+        assertEquals(1, queue.size());
+
+        subscriber.subscription.request(5);
+        assertEquals(3, subscriber.received.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(message(i), subscriber.received.get(i));
+        }
+
+        queue.close();
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void second_subscriber_is_refused_until_cancel() {
+        PubSubMessageQueue queue = new PubSubMessageQueue(10, QueueOverflowPolicy.DROP_NEWEST);
+        PubSubQueuePublisher publisher = new PubSubQueuePublisher(queue);
+        RecordingSubscriber first = new RecordingSubscriber();
+        RecordingSubscriber second = new RecordingSubscriber();
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+        assertInstanceOf(IllegalStateException.class, second.error);
+
+        first.subscription.cancel();
+        RecordingSubscriber third = new RecordingSubscriber();
+        publisher.subscribe(third);
+        third.subscription.request(1);
+        queue.push(message(0));
+        assertEquals(1, third.received.size());
+        assertEquals(0, first.received.size());
+        assertFalse(third.completed);
+    }
+
+    private static PubSubMessage message(int index) {
+        return new PubSubMessage(gs("message" + index), gs("channel"));
+    }
+
+    private static class RecordingSubscriber implements PubSubPublisher.Subscriber {
+        final List<PubSubMessage> received = new ArrayList<>();
+        PubSubPublisher.Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(PubSubPublisher.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(PubSubMessage message) {
+            received.add(message);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
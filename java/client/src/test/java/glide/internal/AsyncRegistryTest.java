@@ -0,0 +1,246 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.models.BufferLease;
+import glide.api.models.exceptions.ClosingException;
+import glide.api.models.exceptions.RequestException;
+import glide.api.models.exceptions.TimeoutException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncRegistryTest {
+
+    private static final long CLIENT = 42L;
+
+    @AfterEach
+    public void cleanup() {
+        AsyncRegistry.reset();
+    }
+
+    @Test
+    @SneakyThrows
+    public void complete_callback_completes_once() {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        long id = AsyncRegistry.register(future, 0, CLIENT, 0);
+        assertEquals(1, AsyncRegistry.getActiveFutureCount());
+
+        assertTrue(AsyncRegistry.completeCallback(id, "value"));
+        assertFalse(AsyncRegistry.completeCallback(id, "again"));
+        assertEquals("value", future.get());
+        assertEquals(0, AsyncRegistry.getActiveFutureCount());
+    }
+
+    @Test
+    public void complete_callbacks_completes_batch() {
+        CompletableFuture<Object> first = new CompletableFuture<>();
+        CompletableFuture<Object> second = new CompletableFuture<>();
+        long firstId = AsyncRegistry.register(first, 0, CLIENT, 0);
+        long secondId = AsyncRegistry.register(second, 0, CLIENT, 0);
+        assertTrue(AsyncRegistry.completeCallback(secondId, "early"));
+
+        assertEquals(
+                1,
+                AsyncRegistry.completeCallbacks(
+                        new long[] {firstId, secondId}, new Object[] {"first", "second"}));
+        assertEquals("first", first.join());
+        assertEquals("early", second.join());
+        assertEquals(0, AsyncRegistry.getActiveFutureCount());
+    }
+
+    @Test
+    public void undelivered_buffer_lease_is_released() {
+        AtomicInteger releases = new AtomicInteger();
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        long id = AsyncRegistry.register(future, 0, CLIENT, 0);
+        future.cancel(false);
+
+        BufferLease lease = new BufferLease(ByteBuffer.allocateDirect(4), releases::incrementAndGet);
+        assertFalse(AsyncRegistry.completeCallback(id, lease));
+        assertTrue(lease.isClosed());
+        assertEquals(1, releases.get());
+        lease.close();
+        assertEquals(1, releases.get());
+    }
+
+    @Test
+    public void complete_callback_with_error_code_maps_exception() {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        long id = AsyncRegistry.register(future, 0, CLIENT, 0);
+
+        assertTrue(AsyncRegistry.completeCallbackWithErrorCode(id, 3, "closed"));
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(ClosingException.class, e.getCause());
+        assertFalse(AsyncRegistry.completeCallbackWithErrorCode(id, 0, "late"));
+    }
+
+    @Test
+    public void ids_are_not_reused_when_slots_are() {
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            long id = AsyncRegistry.register(new CompletableFuture<>(), 0, CLIENT, 0);
+            assertTrue(ids.add(id));
+            // A stale id must never complete the request now holding the same slot
+            assertFalse(AsyncRegistry.completeCallback(id + 1, null));
+            assertTrue(AsyncRegistry.completeCallback(id, null));
+        }
+        assertFalse(AsyncRegistry.completeCallback(0, null));
+        assertFalse(AsyncRegistry.completeCallback(-1, null));
+    }
+
+    @Test
+    public void registry_grows_beyond_one_chunk() {
+        List<CompletableFuture<Object>> futures = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            futures.add(future);
+            ids.add(AsyncRegistry.register(future, 0, CLIENT, 0));
+        }
+        assertEquals(5_000, AsyncRegistry.getActiveFutureCount());
+        for (int i = 0; i < ids.size(); i++) {
+            assertTrue(AsyncRegistry.completeCallback(ids.get(i), i));
+            assertEquals(i, futures.get(i).join());
+        }
+        assertEquals(0, AsyncRegistry.getActiveFutureCount());
+    }
+
+    @Test
+    public void inflight_limit_is_enforced_and_released() {
+        long first = AsyncRegistry.register(new CompletableFuture<>(), 2, CLIENT, 0);
+        long second = AsyncRegistry.register(new CompletableFuture<>(), 2, CLIENT, 0);
+        assertNotEquals(first, second);
+        assertThrows(
+                RequestException.class,
+                () -> AsyncRegistry.register(new CompletableFuture<>(), 2, CLIENT, 0));
+
+        assertTrue(AsyncRegistry.completeCallback(first, null));
+        AsyncRegistry.register(new CompletableFuture<>(), 2, CLIENT, 0);
+    }
+
+    @Test
+    @SneakyThrows
+    public void timeout_expires_request() {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        long id = AsyncRegistry.register(future, 0, CLIENT, 50);
+        assertEquals(1, AsyncRegistry.getPendingTimeoutCount());
+
+        ExecutionException e =
+                assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, e.getCause());
+        assertFalse(AsyncRegistry.completeCallback(id, "late"));
+        assertEquals(0, AsyncRegistry.getPendingTimeoutCount());
+        assertEquals(0, AsyncRegistry.getActiveFutureCount());
+    }
+
+    @Test
+    @SneakyThrows
+    public void completed_request_does_not_time_out() {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        long id = AsyncRegistry.register(future, 0, CLIENT, 20);
+        assertTrue(AsyncRegistry.completeCallback(id, "value"));
+        assertEquals(0, AsyncRegistry.getPendingTimeoutCount());
+
+        Thread.sleep(100);
+        assertEquals("value", future.get());
+    }
+
+    @Test
+    public void continuations_run_on_completing_thread_without_executor() {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        AtomicReference<Thread> continuationThread = new AtomicReference<>();
+        future.thenRun(() -> continuationThread.set(Thread.currentThread()));
+        long id = AsyncRegistry.register(future, 0, CLIENT, 0);
+
+        assertTrue(AsyncRegistry.completeCallback(id, "value"));
+        assertEquals(Thread.currentThread(), continuationThread.get());
+    }
+
+    @Test
+    @SneakyThrows
+    public void blocking_continuation_does_not_stall_completions_with_executor() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            CompletableFuture<Object> first = new CompletableFuture<>();
+            CompletableFuture<Object> second = new CompletableFuture<>();
+            long firstId = AsyncRegistry.register(first, 0, CLIENT, 0, executor);
+            long secondId = AsyncRegistry.register(second, 0, CLIENT, 0, executor);
+            // Without an executor this continuation would block the completing thread before it
+            // gets to the second response
+            CompletableFuture<Object> chained = first.thenApply(v -> v + "-" + second.join());
+
+            assertEquals(
+                    2,
+                    AsyncRegistry.completeCallbacks(
+                            new long[] {firstId, secondId}, new Object[] {"first", "second"}));
+            assertEquals("first-second", chained.get(5, TimeUnit.SECONDS));
+            assertEquals(0, AsyncRegistry.getActiveFutureCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void single_thread_executor_keeps_completion_order() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+            long[] ids = new long[100];
+            Object[] results = new Object[ids.length];
+            CompletableFuture<?> last = null;
+            for (int i = 0; i < ids.length; i++) {
+                CompletableFuture<Object> future = new CompletableFuture<>();
+                last = future.thenAccept(v -> order.add((Integer) v));
+                ids[i] = AsyncRegistry.register(future, 0, CLIENT, 0, executor);
+                results[i] = i;
+            }
+
+            AsyncRegistry.completeCallbacks(ids, results);
+            last.get(5, TimeUnit.SECONDS);
+            for (int i = 0; i < ids.length; i++) {
+                assertEquals(i, order.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void timeout_is_delivered_on_executor() {
+        ExecutorService executor =
+                Executors.newSingleThreadExecutor(r -> new Thread(r, "completion-test"));
+        try {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            CompletableFuture<String> thread = future.handle((v, e) -> Thread.currentThread().getName());
+            AsyncRegistry.register(future, 0, CLIENT, 20, executor);
+
+            assertEquals("completion-test", thread.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(
+                    TimeoutException.class, assertThrows(ExecutionException.class, future::get).getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
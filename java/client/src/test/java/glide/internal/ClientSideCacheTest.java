@@ -0,0 +1,169 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.internal;
+
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import command_request.CommandRequestOuterClass.RequestType;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class ClientSideCacheTest {
+
+    @Test
+    public void key_of_cacheable_commands_only() {
+        assertNotNull(ClientSideCache.keyOf(RequestType.Get, new Object[] {"key"}, true));
+        assertNotNull(
+                ClientSideCache.keyOf(RequestType.HGet, new Object[] {gs("key"), gs("field")}, false));
+        assertNotNull(
+                ClientSideCache.keyOf(
+                        RequestType.CustomCommand, new Object[] {"json.get", "key", "$"}, true));
+        assertNull(ClientSideCache.keyOf(RequestType.Set, new Object[] {"key", "value"}, true));
+        assertNull(ClientSideCache.keyOf(RequestType.CustomCommand, new Object[] {"GET", "key"}, true));
+        assertNull(ClientSideCache.keyOf(RequestType.Get, new Object[0], true));
+    }
+
+    @Test
+    public void get_after_fill_hits() {
+        ClientSideCache cache = trackedCache(100, null);
+        ClientSideCache.CacheKey key = ClientSideCache.keyOf(RequestType.Get, new Object[] {"k"}, true);
+        assertSame(ClientSideCache.MISS, cache.get(key));
+
+        cache.fill(key, "value", cache.startFill());
+        assertEquals("value", cache.get(key));
+
+        // Same key read as binary is a different reply
+        ClientSideCache.CacheKey binary =
+                ClientSideCache.keyOf(RequestType.Get, new Object[] {gs("k")}, false);
+        assertSame(ClientSideCache.MISS, cache.get(binary));
+
+        Map<String, String> statistics = cache.getStatistics();
+        assertEquals("1", statistics.get("client_cache_hits"));
+        assertEquals("2", statistics.get("client_cache_misses"));
+        assertEquals("1", statistics.get("client_cache_size"));
+    }
+
+    @Test
+    public void null_replies_are_cached_and_collections_copied() {
+        ClientSideCache cache = trackedCache(100, null);
+        ClientSideCache.CacheKey missing =
+                ClientSideCache.keyOf(RequestType.Get, new Object[] {"missing"}, true);
+        cache.fill(missing, null, cache.startFill());
+        assertNull(cache.get(missing));
+
+        ClientSideCache.CacheKey hash =
+                ClientSideCache.keyOf(RequestType.HGetAll, new Object[] {"hash"}, true);
+        Map<String, String> reply = new HashMap<>();
+        reply.put("field", "value");
+        cache.fill(hash, reply, cache.startFill());
+        reply.clear();
+
+        Object cached = cache.get(hash);
+        assertEquals(1, ((Map<?, ?>) cached).size());
+        assertNotSame(cached, cache.get(hash));
+    }
+
+    @Test
+    public void invalidation_drops_every_reply_of_the_key() {
+        ClientSideCache cache = trackedCache(100, null);
+        ClientSideCache.CacheKey first =
+                ClientSideCache.keyOf(RequestType.HGet, new Object[] {"h", "a"}, true);
+        ClientSideCache.CacheKey second =
+                ClientSideCache.keyOf(RequestType.HGet, new Object[] {"h", "b"}, true);
+        cache.fill(first, "1", cache.startFill());
+        cache.fill(second, "2", cache.startFill());
+
+        cache.invalidate(new byte[][] {"h".getBytes(StandardCharsets.UTF_8)});
+        assertSame(ClientSideCache.MISS, cache.get(first));
+        assertSame(ClientSideCache.MISS, cache.get(second));
+        assertEquals("1", cache.getStatistics().get("client_cache_invalidations"));
+    }
+
+    @Test
+    public void reply_sent_before_invalidation_is_not_cached() {
+        ClientSideCache cache = trackedCache(100, null);
+        ClientSideCache.CacheKey key = ClientSideCache.keyOf(RequestType.Get, new Object[] {"k"}, true);
+        long stamp = cache.startFill();
+        cache.invalidate(new byte[][] {"k".getBytes(StandardCharsets.UTF_8)});
+
+        cache.fill(key, "stale", stamp);
+        assertSame(ClientSideCache.MISS, cache.get(key));
+    }
+
+    @Test
+    @SneakyThrows
+    public void expired_replies_are_dropped() {
+        ClientSideCache cache = trackedCache(100, 20L);
+        ClientSideCache.CacheKey key = ClientSideCache.keyOf(RequestType.Get, new Object[] {"k"}, true);
+        cache.fill(key, "value", cache.startFill());
+        assertEquals("value", cache.get(key));
+
+        Thread.sleep(50);
+        assertSame(ClientSideCache.MISS, cache.get(key));
+        assertEquals("1", cache.getStatistics().get("client_cache_expirations"));
+    }
+
+    @Test
+    public void size_stays_bounded_and_frequent_keys_survive() {
+        ClientSideCache cache = trackedCache(100, null);
+        ClientSideCache.CacheKey hot =
+                ClientSideCache.keyOf(RequestType.Get, new Object[] {"hot"}, true);
+        cache.fill(hot, "hot", cache.startFill());
+        for (int i = 0; i < 10; i++) {
+            cache.get(hot);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            ClientSideCache.CacheKey key =
+                    ClientSideCache.keyOf(RequestType.Get, new Object[] {"k" + i}, true);
+            cache.get(key);
+            cache.fill(key, "v", cache.startFill());
+        }
+
+        Map<String, String> statistics = cache.getStatistics();
+        assertEquals("100", statistics.get("client_cache_size"));
+        assertEquals("901", statistics.get("client_cache_evictions"));
+        assertEquals("hot", cache.get(hot));
+    }
+
+    @Test
+    public void disconnection_flushes_and_enables_tracking_again() {
+        AtomicInteger enables = new AtomicInteger();
+        CompletableFuture<Object> reenabled = new CompletableFuture<>();
+        ClientSideCache cache = new ClientSideCache(100, null);
+        cache
+                .enableTracking(
+                        () ->
+                                enables.incrementAndGet() == 1
+                                        ? CompletableFuture.completedFuture(null)
+                                        : reenabled)
+                .join();
+        ClientSideCache.CacheKey key = ClientSideCache.keyOf(RequestType.Get, new Object[] {"k"}, true);
+        cache.fill(key, "value", cache.startFill());
+
+        cache.onDisconnect();
+        assertEquals(2, enables.get());
+        assertSame(ClientSideCache.MISS, cache.get(key));
+        // Not cached until tracking is back
+        assertEquals(ClientSideCache.NO_FILL, cache.startFill());
+
+        reenabled.complete("OK");
+        cache.fill(key, "value", cache.startFill());
+        assertEquals("value", cache.get(key));
+    }
+
+    private static ClientSideCache trackedCache(int maxEntries, Long entryTtlMillis) {
+        ClientSideCache cache = new ClientSideCache(maxEntries, entryTtlMillis);
+        cache.enableTracking(() -> CompletableFuture.completedFuture(null)).join();
+        return cache;
+    }
+}
@@ -0,0 +1,199 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.internal;
+
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import command_request.CommandRequestOuterClass.RequestType;
+import glide.api.models.configuration.RequestRoutingConfiguration.ByAddressRoute;
+import glide.api.models.configuration.RequestRoutingConfiguration.Route;
+import glide.api.models.configuration.RequestRoutingConfiguration.SimpleMultiNodeRoute;
+import glide.api.models.configuration.RequestRoutingConfiguration.SlotIdRoute;
+import glide.api.models.configuration.RequestRoutingConfiguration.SlotKeyRoute;
+import glide.api.models.configuration.RequestRoutingConfiguration.SlotType;
+import glide.api.models.exceptions.RequestException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class CommandEncoderTest {
+
+    private static final byte NO_FLAGS = 0;
+
+    @Test
+    public void encode_without_route() {
+        ByteBuffer buffer =
+                CommandEncoder.encode(
+                        RequestType.Set, new Object[] {"key", gs("value"), new byte[] {1, 2}}, null, NO_FLAGS);
+
+        assertTrue(buffer.isDirect());
+        assertEquals(ByteOrder.nativeOrder(), buffer.order());
+        assertEquals(0, buffer.position());
+        assertEquals(RequestType.Set.getNumber(), buffer.getInt());
+        assertEquals(0, buffer.get());
+        assertEquals(CommandEncoder.ROUTE_NONE, buffer.get());
+        assertEquals(3, buffer.getInt());
+        assertArrayEquals("key".getBytes(StandardCharsets.UTF_8), readSlice(buffer));
+        assertArrayEquals("value".getBytes(StandardCharsets.UTF_8), readSlice(buffer));
+        assertArrayEquals(new byte[] {1, 2}, readSlice(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void encode_string_as_utf8() {
+        // 2-byte, 3-byte and surrogate-pair characters, plus an unpaired surrogate
+        String value = "é€😀\uD800x";
+        ByteBuffer buffer =
+                CommandEncoder.encode(RequestType.Get, new Object[] {value}, null, NO_FLAGS);
+
+        skipHeader(buffer, CommandEncoder.ROUTE_NONE);
+        assertEquals(1, buffer.getInt());
+        assertArrayEquals(value.getBytes(StandardCharsets.UTF_8), readSlice(buffer));
+    }
+
+    @Test
+    public void encode_routes() {
+        ByteBuffer buffer = encodePing(SimpleMultiNodeRoute.ALL_PRIMARIES, CommandEncoder.ROUTE_SIMPLE);
+        assertEquals(SimpleMultiNodeRoute.ALL_PRIMARIES.getOrdinal(), buffer.get());
+
+        buffer = encodePing(new SlotIdRoute(1234, SlotType.REPLICA), CommandEncoder.ROUTE_SLOT_ID);
+        assertEquals(SlotType.REPLICA.ordinal(), buffer.get());
+        assertEquals(1234, buffer.getInt());
+
+        buffer = encodePing(new SlotKeyRoute("abc", SlotType.PRIMARY), CommandEncoder.ROUTE_SLOT_KEY);
+        assertEquals(SlotType.PRIMARY.ordinal(), buffer.get());
+        assertArrayEquals("abc".getBytes(StandardCharsets.UTF_8), readSlice(buffer));
+
+        buffer = encodePing(new ByAddressRoute("localhost", 6379), CommandEncoder.ROUTE_BY_ADDRESS);
+        assertEquals(6379, buffer.getInt());
+        assertArrayEquals("localhost".getBytes(StandardCharsets.UTF_8), readSlice(buffer));
+
+        assertEquals(0, buffer.getInt());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void encode_compress_flag() {
+        ByteBuffer buffer =
+                CommandEncoder.encode(
+                        RequestType.Set, new Object[] {"key", "value"}, null, CommandEncoder.FLAG_COMPRESS);
+        buffer.getInt();
+        assertEquals(CommandEncoder.FLAG_COMPRESS, buffer.get());
+
+        buffer =
+                CommandEncoder.encode(
+                        RequestType.Get,
+                        new Object[] {"key"},
+                        null,
+                        (byte) (CommandEncoder.FLAG_COMPRESS | CommandEncoder.FLAG_LEASE_BUFFER));
+        buffer.getInt();
+        assertEquals(CommandEncoder.FLAG_COMPRESS | CommandEncoder.FLAG_LEASE_BUFFER, buffer.get());
+    }
+
+    @Test
+    public void encode_grows_and_reuses_buffer() {
+        byte[] large = new byte[CommandEncoder.INITIAL_CAPACITY * 2];
+        ByteBuffer grown =
+                CommandEncoder.encode(RequestType.Set, new Object[] {"k", large}, null, NO_FLAGS);
+        assertTrue(grown.capacity() > CommandEncoder.INITIAL_CAPACITY);
+
+        ByteBuffer reused = CommandEncoder.encode(RequestType.Get, new Object[] {"k"}, null, NO_FLAGS);
+        assertSame(grown, reused);
+        assertEquals(RequestType.Get.getNumber(), reused.getInt());
+    }
+
+    @Test
+    public void encode_large_direct_buffers_by_reference() {
+        ByteBuffer large = ByteBuffer.allocateDirect(CommandEncoder.EXTERNAL_ARGUMENT_THRESHOLD + 8);
+        large.position(8);
+        ByteBuffer buffer =
+                CommandEncoder.encode(RequestType.Set, new Object[] {"k", large}, null, NO_FLAGS);
+        skipHeader(buffer, CommandEncoder.ROUTE_NONE);
+        assertEquals(2, buffer.getInt());
+        assertArrayEquals("k".getBytes(StandardCharsets.UTF_8), readSlice(buffer));
+        assertEquals(CommandEncoder.EXTERNAL_ARGUMENT, buffer.getInt());
+        assertEquals(1, buffer.getInt());
+        assertFalse(buffer.hasRemaining());
+
+        ByteBuffer[] externals = CommandEncoder.takeExternalArguments();
+        assertEquals(1, externals.length);
+        assertEquals(CommandEncoder.EXTERNAL_ARGUMENT_THRESHOLD, externals[0].remaining());
+        assertEquals(8, large.position());
+        assertNull(CommandEncoder.takeExternalArguments());
+    }
+
+    @Test
+    public void encode_small_and_heap_buffers_inline() {
+        ByteBuffer first = ByteBuffer.allocateDirect(2).put((byte) 1).put((byte) 2);
+        first.flip();
+        ByteBuffer second = ByteBuffer.wrap(new byte[CommandEncoder.EXTERNAL_ARGUMENT_THRESHOLD]);
+        ByteBuffer buffer =
+                CommandEncoder.encode(
+                        RequestType.Set, new Object[] {"k", new ByteBuffer[] {first, second}}, null, NO_FLAGS);
+        skipHeader(buffer, CommandEncoder.ROUTE_NONE);
+        assertEquals(2, buffer.getInt());
+        readSlice(buffer);
+        byte[] value = readSlice(buffer);
+        assertEquals(CommandEncoder.EXTERNAL_ARGUMENT_THRESHOLD + 2, value.length);
+        assertEquals(2, value[1]);
+        assertEquals(0, first.position());
+        assertNull(CommandEncoder.takeExternalArguments());
+    }
+
+    @Test
+    public void encode_float_vectors_as_little_endian() {
+        float[] vector = {1.5f, -2f, Float.MIN_VALUE};
+        FloatBuffer slice = FloatBuffer.wrap(new float[] {0f, 3.25f, 0f}, 1, 1);
+        ByteBuffer buffer =
+                CommandEncoder.encode(RequestType.HSet, new Object[] {"k", vector, slice}, null, NO_FLAGS);
+
+        skipHeader(buffer, CommandEncoder.ROUTE_NONE);
+        assertEquals(3, buffer.getInt());
+        readSlice(buffer);
+        ByteBuffer encoded = ByteBuffer.wrap(readSlice(buffer)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(12, encoded.remaining());
+        for (float value : vector) {
+            assertEquals(value, encoded.getFloat());
+        }
+        byte[] sliced = readSlice(buffer);
+        assertEquals(3.25f, ByteBuffer.wrap(sliced).order(ByteOrder.LITTLE_ENDIAN).getFloat());
+        assertEquals(4, sliced.length);
+        assertEquals(1, slice.position());
+    }
+
+    @Test
+    public void encode_rejects_null_argument_and_unknown_route() {
+        assertThrows(
+                NullPointerException.class,
+                () -> CommandEncoder.encode(RequestType.Get, new Object[] {null}, null, NO_FLAGS));
+        assertThrows(
+                RequestException.class,
+                () -> CommandEncoder.encode(RequestType.Ping, new Object[0], new Route() {}, NO_FLAGS));
+    }
+
+    private static ByteBuffer encodePing(Route route, byte routeKind) {
+        ByteBuffer buffer = CommandEncoder.encode(RequestType.Ping, new Object[0], route, NO_FLAGS);
+        skipHeader(buffer, routeKind);
+        return buffer;
+    }
+
+    private static void skipHeader(ByteBuffer buffer, byte routeKind) {
+        buffer.getInt();
+        buffer.get();
+        assertEquals(routeKind, buffer.get());
+    }
+
+    private static byte[] readSlice(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
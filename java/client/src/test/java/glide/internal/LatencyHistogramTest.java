@@ -0,0 +1,62 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.models.metrics.LatencySnapshot;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void reports_percentiles_within_one_percent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(100_000, snapshot.getCount());
+        assertEquals(100_000_000L, snapshot.getMax());
+        assertEquals(50_000_500, snapshot.getMean(), 1);
+        for (double percentile : new double[] {1, 50, 90, 99, 99.9}) {
+            double expected = percentile * 1_000_000;
+            double actual = snapshot.getValueAtPercentile(percentile);
+            assertTrue(
+                    Math.abs(actual - expected) <= expected / 64,
+                    percentile + ": expected " + expected + " but was " + actual);
+        }
+        assertEquals(100_000_000L, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void buckets_are_contiguous() {
+        int previous = LatencySnapshot.bucketOf(0);
+        for (long value = 1; value <= LatencyHistogram.MAX_VALUE; value += 1 + value / 256) {
+            int bucket = LatencySnapshot.bucketOf(value);
+            assertTrue(bucket == previous || bucket == previous + 1, "gap at " + value);
+            previous = bucket;
+        }
+        assertEquals(
+                LatencySnapshot.bucketCount(LatencyHistogram.MAX_VALUE) - 1,
+                LatencySnapshot.bucketOf(LatencyHistogram.MAX_VALUE));
+    }
+
+    @Test
+    public void reset_clears_the_histogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.record(Long.MAX_VALUE);
+
+        LatencySnapshot snapshot = histogram.snapshotAndReset();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(42, snapshot.getValueAtPercentile(50));
+        assertEquals(LatencyHistogram.MAX_VALUE, snapshot.getMax());
+
+        LatencySnapshot empty = histogram.snapshot();
+        assertEquals(0, empty.getCount());
+        assertEquals(0, empty.getMax());
+        assertEquals(0, empty.getValueAtPercentile(99));
+    }
+}
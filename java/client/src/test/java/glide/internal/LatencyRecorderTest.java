@@ -0,0 +1,104 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.internal;
+
+import static command_request.CommandRequestOuterClass.RequestType.Get;
+import static command_request.CommandRequestOuterClass.RequestType.Ping;
+import static glide.api.models.configuration.RequestRoutingConfiguration.SimpleMultiNodeRoute.ALL_PRIMARIES;
+import static glide.api.models.configuration.RequestRoutingConfiguration.SimpleSingleNodeRoute.RANDOM;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import glide.api.models.configuration.RequestRoutingConfiguration.ByAddressRoute;
+import glide.api.models.configuration.RequestRoutingConfiguration.SlotIdRoute;
+import glide.api.models.configuration.RequestRoutingConfiguration.SlotKeyRoute;
+import glide.api.models.configuration.RequestRoutingConfiguration.SlotType;
+import glide.api.models.exceptions.RequestException;
+import glide.api.models.metrics.LatencyMetrics;
+import glide.api.models.metrics.LatencyPhase;
+import glide.api.models.metrics.LatencySnapshot;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class LatencyRecorderTest {
+
+    @Test
+    public void keys_routes_by_kind() {
+        assertEquals(LatencyRecorder.DEFAULT_ROUTE, LatencyRecorder.routeKey(null));
+        assertEquals("ALL_PRIMARIES", LatencyRecorder.routeKey(ALL_PRIMARIES));
+        assertEquals("RANDOM", LatencyRecorder.routeKey(RANDOM));
+        assertEquals(
+                LatencyRecorder.SLOT_ROUTE,
+                LatencyRecorder.routeKey(new SlotIdRoute(42, SlotType.PRIMARY)));
+        assertEquals(
+                LatencyRecorder.SLOT_ROUTE,
+                LatencyRecorder.routeKey(new SlotKeyRoute("key", SlotType.REPLICA)));
+        assertEquals("node:6379", LatencyRecorder.routeKey(new ByAddressRoute("node", 6379)));
+    }
+
+    @Test
+    public void records_each_phase_by_command_and_route() throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long start = System.nanoTime();
+
+        assertEquals("OK", recorder.timed(Get, null, start, start, result -> result).apply("OK"));
+        recorder.record(Ping, ALL_PRIMARIES, 1_000, 2_000, 3_000, 6_000);
+
+        LatencyMetrics metrics = recorder.snapshot(false);
+        assertEquals(2, metrics.getByCommand().size());
+        Map<LatencyPhase, LatencySnapshot> ping = metrics.getByCommand().get("Ping");
+        assertEquals(1_000, ping.get(LatencyPhase.SUBMIT).getMax());
+        assertEquals(2_000, ping.get(LatencyPhase.NATIVE).getMax());
+        assertEquals(3_000, ping.get(LatencyPhase.CALLBACK).getMax());
+        assertEquals(6_000, ping.get(LatencyPhase.TOTAL).getMax());
+        assertEquals(
+                1,
+                metrics.getByRoute().get(LatencyRecorder.DEFAULT_ROUTE).get(LatencyPhase.TOTAL).getCount());
+        assertEquals(1, metrics.getByRoute().get("ALL_PRIMARIES").get(LatencyPhase.TOTAL).getCount());
+    }
+
+    @Test
+    public void records_failed_commands() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long start = System.nanoTime();
+
+        // The reply could not be converted
+        assertThrows(
+                RequestException.class,
+                () ->
+                        recorder
+                                .timed(
+                                        Get,
+                                        null,
+                                        start,
+                                        start,
+                                        result -> {
+                                            throw new RequestException("bad reply");
+                                        })
+                                .apply("OK"));
+        // No reply at all, such as a timeout
+        recorder.failed(Get, null, start, start);
+
+        Map<LatencyPhase, LatencySnapshot> get = recorder.snapshot(false).getByCommand().get("Get");
+        assertEquals(2, get.get(LatencyPhase.TOTAL).getCount());
+        assertEquals(2, get.get(LatencyPhase.NATIVE).getCount());
+        assertEquals(1, get.get(LatencyPhase.CALLBACK).getCount());
+    }
+
+    @Test
+    public void snapshot_resets_only_when_asked() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(Get, null, 1, 2, 3, 6);
+
+        assertEquals(1, totalOfGet(recorder.snapshot(false)));
+        assertEquals(1, totalOfGet(recorder.snapshot(true)));
+        LatencyMetrics reset = recorder.snapshot(false);
+        assertEquals(0, totalOfGet(reset));
+        // The command and route stay listed, with empty histograms
+        assertTrue(reset.getByRoute().containsKey(LatencyRecorder.DEFAULT_ROUTE));
+    }
+
+    private static long totalOfGet(LatencyMetrics metrics) {
+        return metrics.getByCommand().get("Get").get(LatencyPhase.TOTAL).getCount();
+    }
+}
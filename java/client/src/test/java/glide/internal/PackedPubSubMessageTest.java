@@ -0,0 +1,24 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.internal;
+
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import glide.api.models.PubSubMessage;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class PackedPubSubMessageTest {
+
+    @Test
+    public void slices_parts_out_of_the_batch() {
+        byte[] batch = "newshellonews*hi".getBytes(StandardCharsets.UTF_8);
+        PubSubMessage exact = new PackedPubSubMessage(batch, 0, 4, 4, 9);
+        PubSubMessage pattern = new PackedPubSubMessage(batch, 9, 13, 14, 16);
+
+        assertEquals(new PubSubMessage(gs("hello"), gs("news")), exact);
+        assertEquals(new PubSubMessage(gs("hi"), gs("news"), gs("*")), pattern);
+        assertEquals("(hi, channel = news, pattern = *)", pattern.toString());
+        assertEquals(exact.hashCode(), new PubSubMessage(gs("hello"), gs("news")).hashCode());
+    }
+}
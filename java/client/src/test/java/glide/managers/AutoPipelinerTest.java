@@ -0,0 +1,204 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.managers;
+
+import static command_request.CommandRequestOuterClass.RequestType.Get;
+import static command_request.CommandRequestOuterClass.RequestType.Set;
+import static glide.api.models.GlideString.gs;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import command_request.CommandRequestOuterClass.RequestType;
+import glide.api.models.configuration.AutoPipeliningConfiguration;
+import glide.internal.GlideCoreClient;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+public class AutoPipelinerTest {
+
+    private final List<AutoPipeliner.Batch> sent = new CopyOnWriteArrayList<>();
+
+    /** Replies to each command with its first argument. */
+    private void reply(AutoPipeliner.Batch batch) {
+        sent.add(batch);
+        for (AutoPipeliner.PendingCommand command : batch.commands) {
+            command.future.complete(command.arguments[0]);
+        }
+    }
+
+    @Test
+    public void sends_a_full_batch_at_once() throws Exception {
+        AutoPipeliner pipeliner = new AutoPipeliner(3, TimeUnit.SECONDS.toMicros(60), this::reply);
+
+        CompletableFuture<Object> first = pipeliner.submit(Get, new String[] {"a"}, true);
+        CompletableFuture<Object> second = pipeliner.submit(Set, new String[] {"b", "1"}, true);
+        assertFalse(first.isDone());
+        CompletableFuture<Object> third = pipeliner.submit(Get, new String[] {"c"}, true);
+
+        assertEquals(1, sent.size());
+        assertEquals(3, sent.get(0).commands.size());
+        assertEquals("a", first.get());
+        assertEquals("b", second.get());
+        assertEquals("c", third.get());
+    }
+
+    @Test
+    public void sends_a_partial_batch_once_its_window_elapses() throws Exception {
+        AutoPipeliner pipeliner = new AutoPipeliner(100, 1_000, this::reply);
+
+        CompletableFuture<Object> first = pipeliner.submit(Get, new String[] {"a"}, true);
+        CompletableFuture<Object> second = pipeliner.submit(Get, new String[] {"b"}, true);
+
+        assertEquals("a", first.get(10, TimeUnit.SECONDS));
+        assertEquals("b", second.get(10, TimeUnit.SECONDS));
+        assertEquals(1, sent.size());
+    }
+
+    @Test
+    public void keeps_replies_of_one_kind_per_batch_in_order() throws Exception {
+        AutoPipeliner pipeliner = new AutoPipeliner(100, TimeUnit.SECONDS.toMicros(60), this::reply);
+
+        pipeliner.submit(Set, new String[] {"a", "1"}, true);
+        CompletableFuture<Object> binary = pipeliner.submit(Get, new Object[] {gs("a")}, false);
+
+        // The binary command closes the UTF-8 batch before it
+        assertEquals(1, sent.size());
+        assertTrue(sent.get(0).expectUtf8Response);
+        assertFalse(binary.isDone());
+    }
+
+    @Test
+    public void holds_only_string_arguments() {
+        assertTrue(AutoPipeliner.canHold(Set, new Object[] {"a", gs("b")}, true));
+        assertFalse(AutoPipeliner.canHold(Set, new Object[] {"a", ByteBuffer.allocate(1)}, true));
+    }
+
+    @Test
+    public void holds_only_plain_keyed_commands() {
+        assertTrue(AutoPipeliner.canHold(Get, new String[] {"a"}, true));
+        assertTrue(AutoPipeliner.canHold(RequestType.HSet, new String[] {"h", "f", "v"}, true));
+        // Subscriptions and connection state go through the native handling of single commands
+        assertFalse(
+                AutoPipeliner.canHold(RequestType.SubscribeBlocking, new String[] {"c", "0"}, true));
+        assertFalse(
+                AutoPipeliner.canHold(RequestType.PSubscribeBlocking, new String[] {"c*", "0"}, true));
+        assertFalse(
+                AutoPipeliner.canHold(RequestType.SSubscribeBlocking, new String[] {"c", "0"}, true));
+        assertFalse(AutoPipeliner.canHold(RequestType.Select, new String[] {"1"}, true));
+        assertFalse(AutoPipeliner.canHold(RequestType.ClientSetName, new String[] {"name"}, true));
+        assertFalse(AutoPipeliner.canHold(RequestType.CustomCommand, new String[] {"GET", "a"}, true));
+        // Reads may go to replicas, which batches do not
+        assertFalse(AutoPipeliner.canHold(Get, new String[] {"a"}, false));
+        assertTrue(AutoPipeliner.canHold(Set, new String[] {"a", "1"}, false));
+    }
+
+    @Test
+    public void sends_other_commands_after_the_held_ones() throws Exception {
+        List<String> order = new CopyOnWriteArrayList<>();
+        AutoPipeliner pipeliner =
+                new AutoPipeliner(
+                        100,
+                        TimeUnit.SECONDS.toMicros(60),
+                        batch -> {
+                            order.add("batch");
+                            reply(batch);
+                        });
+
+        CompletableFuture<Object> held = pipeliner.submit(Get, new String[] {"a"}, true);
+        CompletableFuture<Object> direct =
+                pipeliner.sendInOrder(
+                        () -> {
+                            order.add("direct");
+                            return CompletableFuture.completedFuture("b");
+                        });
+
+        assertEquals(Arrays.asList("batch", "direct"), order);
+        assertEquals("a", held.get());
+        assertEquals("b", direct.get());
+    }
+
+    @Test
+    public void sends_outside_of_the_lock() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AutoPipeliner pipeliner =
+                new AutoPipeliner(
+                        1,
+                        0,
+                        batch -> {
+                            if ("a".equals(batch.commands.get(0).arguments[0])) {
+                                sending.countDown();
+                                try {
+                                    release.await();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            }
+                            reply(batch);
+                        });
+
+        Thread first = new Thread(() -> pipeliner.submit(Get, new String[] {"a"}, true));
+        first.start();
+        assertTrue(sending.await(10, TimeUnit.SECONDS));
+
+        // Not blocked by the send in progress: the command waits in the outbox for that thread
+        CompletableFuture<Object> second = pipeliner.submit(Get, new String[] {"b"}, true);
+        assertFalse(second.isDone());
+
+        release.countDown();
+        first.join(TimeUnit.SECONDS.toMillis(10));
+        assertEquals("b", second.get(10, TimeUnit.SECONDS));
+        assertEquals("a", sent.get(0).commands.get(0).arguments[0]);
+        assertEquals("b", sent.get(1).commands.get(0).arguments[0]);
+    }
+
+    @Test
+    public void holds_commands_of_a_client_with_compression() throws Exception {
+        GlideCoreClient coreClient = mock(GlideCoreClient.class);
+        when(coreClient.isConnected()).thenReturn(true);
+        when(coreClient.executeBatchAsync(any(), anyBoolean(), anyBoolean(), any()))
+                .thenReturn(CompletableFuture.completedFuture(new Object[] {"1", "2"}));
+        when(coreClient.executeEncodedCommandAsync(any(), any(), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture("OK"));
+        CommandManager commandManager =
+                new CommandManager(
+                        coreClient,
+                        CommandManager.Options.builder()
+                                .compressedRequestTypes(EnumSet.of(RequestType.Set))
+                                .autoPipelining(
+                                        AutoPipeliningConfiguration.builder()
+                                                .maxBatchSize(3)
+                                                .windowMicros(TimeUnit.SECONDS.toMicros(60))
+                                                .build())
+                                .build());
+
+        CompletableFuture<Object> first =
+                commandManager.submitNewCommand(Get, new String[] {"a"}, response -> response);
+        CompletableFuture<Object> second =
+                commandManager.submitNewCommand(Get, new String[] {"b"}, response -> response);
+        CompletableFuture<Object> set =
+                commandManager.submitNewCommand(Set, new String[] {"c", "3"}, response -> response);
+
+        // The held GETs are sent, with their values decompressed, before the compressed SET
+        InOrder inOrder = inOrder(coreClient);
+        inOrder.verify(coreClient).executeBatchAsync(any(), eq(true), eq(true), any());
+        inOrder.verify(coreClient).executeEncodedCommandAsync(any(), any(), eq(true));
+        assertEquals("1", first.get(10, TimeUnit.SECONDS));
+        assertEquals("2", second.get(10, TimeUnit.SECONDS));
+        assertEquals("OK", set.get(10, TimeUnit.SECONDS));
+    }
+}
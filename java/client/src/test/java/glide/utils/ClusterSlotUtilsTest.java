@@ -0,0 +1,28 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class ClusterSlotUtilsTest {
+
+    @Test
+    public void computes_slots_of_keys() {
+        assertEquals(12182, ClusterSlotUtils.getSlot("foo"));
+        assertEquals(5061, ClusterSlotUtils.getSlot("bar"));
+        // CRC16 check value of "123456789" is 0x31C3
+        assertEquals(0x31C3 % ClusterSlotUtils.SLOT_COUNT, ClusterSlotUtils.getSlot("123456789"));
+    }
+
+    @Test
+    public void hashes_only_the_hash_tag() {
+        assertEquals(
+                ClusterSlotUtils.getSlot("user1000"), ClusterSlotUtils.getSlot("{user1000}.following"));
+        assertEquals(
+                ClusterSlotUtils.getSlot("{user1000}.followers"),
+                ClusterSlotUtils.getSlot("{user1000}.following"));
+        // Only the first '}' after the first '{' closes the tag
+        assertEquals(ClusterSlotUtils.getSlot("foo{bar}{zap}"), ClusterSlotUtils.getSlot("bar"));
+    }
+}
@@ -0,0 +1,72 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package glide.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import glide.api.models.commands.scan.ScoredMember;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class ScanStreamUtilsTest {
+
+    @Test
+    public void streams_all_pages_and_requests_next_page_ahead() {
+        List<String> requested = new ArrayList<>();
+        List<String> members =
+                ScanStreamUtils.stream(
+                                cursor -> {
+                                    requested.add(cursor);
+                                    switch (cursor) {
+                                        case "0":
+                                            return page("7", "a", "1", "b", "2");
+                                        case "7":
+                                            return page("9");
+                                        default:
+                                            return page("0", "c", "inf");
+                                    }
+                                },
+                                elements -> ScanStreamUtils.decodeScoredMembers(elements, String.class, false))
+                        .limit(1)
+                        .map(ScoredMember::getMember)
+                        .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("a"), members);
+        // The second page was requested while the first one was consumed
+        assertEquals(Arrays.asList("0", "7"), requested);
+
+        List<ScoredMember<String>> all =
+                ScanStreamUtils.stream(
+                                cursor ->
+                                        cursor.equals("0") ? page("7", "a", "1", "b", "-inf") : page("0", "c", "inf"),
+                                elements -> ScanStreamUtils.decodeScoredMembers(elements, String.class, false))
+                        .collect(Collectors.toList());
+        assertEquals(
+                Arrays.asList(
+                        new ScoredMember<>("a", 1.0),
+                        new ScoredMember<>("b", Double.NEGATIVE_INFINITY),
+                        new ScoredMember<>("c", Double.POSITIVE_INFINITY)),
+                all);
+    }
+
+    @Test
+    public void decodes_fields_without_values() {
+        assertEquals(
+                null,
+                ScanStreamUtils.decodePairs(new Object[] {"f1", "f2"}, String.class, true)
+                        .get(1)
+                        .getValue());
+        assertEquals(
+                "v1",
+                ScanStreamUtils.decodePairs(new Object[] {"f1", "v1"}, String.class, false)
+                        .get(0)
+                        .getValue());
+    }
+
+    private static CompletableFuture<Object[]> page(String cursor, Object... elements) {
+        return CompletableFuture.completedFuture(new Object[] {cursor, elements});
+    }
+}
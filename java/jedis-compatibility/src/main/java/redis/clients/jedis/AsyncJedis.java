@@ -0,0 +1,577 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package redis.clients.jedis;
+
+import static glide.api.models.GlideString.gs;
+
+import glide.api.BaseClient;
+import glide.api.models.GlideString;
+import glide.api.models.commands.SetOptions;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.SetParams;
+
+/**
+ * Asynchronous companion of {@link UnifiedJedis}, returned by {@link UnifiedJedis#async()}.
+ *
+ * <p>Commands take the same arguments and produce the same values as their {@link UnifiedJedis}
+ * counterparts, but return a {@link CompletableFuture} instead of blocking the calling thread.
+ * Commands are sent on the GLIDE client of the wrapper, which multiplexes them on its connections,
+ * so many commands can be in flight without a thread each. A failed command completes its future
+ * with a {@link JedisException}, the same exception its synchronous counterpart throws.
+ *
+ * <p>The companion does not own the client: closing the {@link UnifiedJedis} closes both.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * try (JedisPooled jedis = new JedisPooled("localhost", 6379)) {
+ *     AsyncJedis async = jedis.async();
+ *     CompletableFuture<String> value =
+ *             async.set("key", "value").thenCompose(ok -> async.get("key"));
+ *     value.thenAccept(System.out::println);
+ * }
+ * }</pre>
+ */
+public class AsyncJedis {
+
+    private final BaseClient baseClient;
+    private final Runnable checkNotClosed;
+
+    /**
+     * Creates an asynchronous view of a GLIDE client.
+     *
+     * @param baseClient the GLIDE client shared with the synchronous wrapper
+     * @param checkNotClosed throws if the synchronous wrapper has been closed
+     */
+    AsyncJedis(BaseClient baseClient, Runnable checkNotClosed) {
+        this.baseClient = baseClient;
+        this.checkNotClosed = checkNotClosed;
+    }
+
+    /**
+     * Submit a command, completing its future with a {@link JedisException} if it fails.
+     *
+     * @param operationName the name of the command, used in error messages
+     * @param command submits the command to the GLIDE client
+     */
+    private <T> CompletableFuture<T> execute(
+            String operationName, Supplier<CompletableFuture<T>> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            checkNotClosed.run();
+            command
+                    .get()
+                    .whenComplete(
+                            (value, error) -> {
+                                if (error == null) {
+                                    result.complete(value);
+                                } else {
+                                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                                    result.completeExceptionally(
+                                            new JedisException(operationName + " operation failed", cause));
+                                }
+                            });
+        } catch (JedisException e) {
+            result.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(new JedisException(operationName + " operation failed", e));
+        }
+        return result;
+    }
+
+    /** Submit a command and convert its value to the type returned by Jedis. */
+    private <R, T> CompletableFuture<T> execute(
+            String operationName, Supplier<CompletableFuture<R>> command, Function<R, T> converter) {
+        return execute(operationName, () -> command.get().thenApply(converter));
+    }
+
+    private static List<String> asList(String[] values) {
+        return values != null ? Arrays.asList(values) : null;
+    }
+
+    private static byte[] toBytes(GlideString value) {
+        return value != null ? value.getBytes() : null;
+    }
+
+    // ========== STRING COMMANDS ==========
+
+    /**
+     * Set the string value of a key.
+     *
+     * @param key the key
+     * @param value the value
+     * @return a future completed with "OK"
+     * @see UnifiedJedis#set(String, String)
+     */
+    public CompletableFuture<String> set(String key, String value) {
+        return execute("SET", () -> baseClient.set(key, value));
+    }
+
+    /**
+     * Set the string value of a key with parameters.
+     *
+     * @param key the key
+     * @param value the value
+     * @param params the SET parameters, or null
+     * @return a future completed with "OK", null if not set due to NX/XX conditions, or the old value
+     *     if the GET option is used
+     * @see UnifiedJedis#set(String, String, SetParams)
+     */
+    public CompletableFuture<String> set(String key, String value, SetParams params) {
+        if (params == null) {
+            return set(key, value);
+        }
+        return execute(
+                "SET",
+                () -> {
+                    SetOptions options = UnifiedJedis.convertSetParams(params, false);
+                    return baseClient.set(key, value, options);
+                });
+    }
+
+    /**
+     * Set the binary value of a key.
+     *
+     * @param key the key
+     * @param value the value
+     * @return a future completed with "OK"
+     */
+    public CompletableFuture<String> set(byte[] key, byte[] value) {
+        return execute("SET", () -> baseClient.set(gs(key), gs(value)));
+    }
+
+    /**
+     * Get the string value of a key.
+     *
+     * @param key the key
+     * @return a future completed with the value, or null if the key does not exist
+     * @see UnifiedJedis#get(String)
+     */
+    public CompletableFuture<String> get(String key) {
+        return execute("GET", () -> baseClient.get(key));
+    }
+
+    /**
+     * Get the binary value of a key.
+     *
+     * @param key the key
+     * @return a future completed with the value, or null if the key does not exist
+     */
+    public CompletableFuture<byte[]> get(byte[] key) {
+        return execute("GET", () -> baseClient.get(gs(key)), AsyncJedis::toBytes);
+    }
+
+    /**
+     * Get the value of a key and delete it.
+     *
+     * @param key the key
+     * @return a future completed with the value, or null if the key does not exist
+     */
+    public CompletableFuture<String> getDel(String key) {
+        return execute("GETDEL", () -> baseClient.getdel(key));
+    }
+
+    /**
+     * Set the value and the expiration in seconds of a key.
+     *
+     * @param key the key
+     * @param seconds the time to live in seconds
+     * @param value the value
+     * @return a future completed with "OK"
+     */
+    public CompletableFuture<String> setex(String key, long seconds, String value) {
+        return execute(
+                "SETEX",
+                () ->
+                        baseClient.set(
+                                key,
+                                value,
+                                SetOptions.builder().expiry(SetOptions.Expiry.Seconds(seconds)).build()));
+    }
+
+    /**
+     * Get the values of multiple keys.
+     *
+     * @param keys the keys
+     * @return a future completed with the values, null for keys which do not exist
+     * @see UnifiedJedis#mget(String...)
+     */
+    public CompletableFuture<List<String>> mget(String... keys) {
+        return execute("MGET", () -> baseClient.mget(keys), AsyncJedis::asList);
+    }
+
+    /**
+     * Set multiple keys to multiple values.
+     *
+     * @param keysvalues alternating keys and values (key1, value1, key2, value2, ...)
+     * @return a future completed with "OK"
+     * @throws IllegalArgumentException if the number of arguments is odd
+     * @see UnifiedJedis#mset(String...)
+     */
+    public CompletableFuture<String> mset(String... keysvalues) {
+        if (keysvalues.length % 2 != 0) {
+            throw new IllegalArgumentException("Wrong number of arguments for MSET");
+        }
+        Map<String, String> keyValueMap = new HashMap<>();
+        for (int i = 0; i < keysvalues.length; i += 2) {
+            keyValueMap.put(keysvalues[i], keysvalues[i + 1]);
+        }
+        return execute("MSET", () -> baseClient.mset(keyValueMap));
+    }
+
+    /**
+     * Increment the integer value of a key by one.
+     *
+     * @param key the key
+     * @return a future completed with the value after the increment
+     */
+    public CompletableFuture<Long> incr(String key) {
+        return execute("INCR", () -> baseClient.incr(key));
+    }
+
+    /**
+     * Increment the integer value of a key by the given amount.
+     *
+     * @param key the key
+     * @param increment the amount to increment by
+     * @return a future completed with the value after the increment
+     */
+    public CompletableFuture<Long> incrBy(String key, long increment) {
+        return execute("INCRBY", () -> baseClient.incrBy(key, increment));
+    }
+
+    /**
+     * Decrement the integer value of a key by one.
+     *
+     * @param key the key
+     * @return a future completed with the value after the decrement
+     */
+    public CompletableFuture<Long> decr(String key) {
+        return execute("DECR", () -> baseClient.decr(key));
+    }
+
+    /**
+     * Decrement the integer value of a key by the given amount.
+     *
+     * @param key the key
+     * @param decrement the amount to decrement by
+     * @return a future completed with the value after the decrement
+     */
+    public CompletableFuture<Long> decrBy(String key, long decrement) {
+        return execute("DECRBY", () -> baseClient.decrBy(key, decrement));
+    }
+
+    // ========== KEY COMMANDS ==========
+
+    /**
+     * Delete one or more keys.
+     *
+     * @param keys the keys to delete
+     * @return a future completed with the number of keys deleted
+     * @see UnifiedJedis#del(String...)
+     */
+    public CompletableFuture<Long> del(String... keys) {
+        return execute("DEL", () -> baseClient.del(keys));
+    }
+
+    /**
+     * Check if a key exists.
+     *
+     * @param key the key
+     * @return a future completed with true if the key exists
+     */
+    public CompletableFuture<Boolean> exists(String key) {
+        return execute("EXISTS", () -> baseClient.exists(new String[] {key}), count -> count > 0);
+    }
+
+    /**
+     * Count the given keys which exist.
+     *
+     * @param keys the keys
+     * @return a future completed with the number of existing keys
+     */
+    public CompletableFuture<Long> exists(String... keys) {
+        return execute("EXISTS", () -> baseClient.exists(keys));
+    }
+
+    /**
+     * Set a timeout on a key.
+     *
+     * @param key the key
+     * @param seconds the timeout in seconds
+     * @return a future completed with 1 if the timeout was set, 0 otherwise
+     */
+    public CompletableFuture<Long> expire(String key, long seconds) {
+        return execute("EXPIRE", () -> baseClient.expire(key, seconds), set -> set ? 1L : 0L);
+    }
+
+    /**
+     * Get the remaining time to live of a key.
+     *
+     * @param key the key
+     * @return a future completed with the time to live in seconds, -1 without timeout, -2 if the key
+     *     does not exist
+     */
+    public CompletableFuture<Long> ttl(String key) {
+        return execute("TTL", () -> baseClient.ttl(key));
+    }
+
+    // ========== HASH COMMANDS ==========
+
+    /**
+     * Set the value of a hash field.
+     *
+     * @param key the key of the hash
+     * @param field the field
+     * @param value the value
+     * @return a future completed with the number of fields added
+     */
+    public CompletableFuture<Long> hset(String key, String field, String value) {
+        Map<String, String> hash = new HashMap<>();
+        hash.put(field, value);
+        return hset(key, hash);
+    }
+
+    /**
+     * Set the values of hash fields.
+     *
+     * @param key the key of the hash
+     * @param hash the fields and their values
+     * @return a future completed with the number of fields added
+     */
+    public CompletableFuture<Long> hset(String key, Map<String, String> hash) {
+        return execute("HSET", () -> baseClient.hset(key, hash));
+    }
+
+    /**
+     * Get the value of a hash field.
+     *
+     * @param key the key of the hash
+     * @param field the field
+     * @return a future completed with the value, or null if the field does not exist
+     */
+    public CompletableFuture<String> hget(String key, String field) {
+        return execute("HGET", () -> baseClient.hget(key, field));
+    }
+
+    /**
+     * Get all the fields and values of a hash.
+     *
+     * @param key the key of the hash
+     * @return a future completed with the fields and their values
+     */
+    public CompletableFuture<Map<String, String>> hgetAll(String key) {
+        return execute("HGETALL", () -> baseClient.hgetall(key));
+    }
+
+    /**
+     * Delete hash fields.
+     *
+     * @param key the key of the hash
+     * @param fields the fields to delete
+     * @return a future completed with the number of fields removed
+     */
+    public CompletableFuture<Long> hdel(String key, String... fields) {
+        return execute("HDEL", () -> baseClient.hdel(key, fields));
+    }
+
+    /**
+     * Increment the integer value of a hash field.
+     *
+     * @param key the key of the hash
+     * @param field the field
+     * @param value the amount to increment by
+     * @return a future completed with the value after the increment
+     */
+    public CompletableFuture<Long> hincrBy(String key, String field, long value) {
+        return execute("HINCRBY", () -> baseClient.hincrBy(key, field, value));
+    }
+
+    // ========== LIST COMMANDS ==========
+
+    /**
+     * Prepend elements to a list.
+     *
+     * @param key the key of the list
+     * @param strings the elements to prepend
+     * @return a future completed with the length of the list
+     */
+    public CompletableFuture<Long> lpush(String key, String... strings) {
+        return execute("LPUSH", () -> baseClient.lpush(key, strings));
+    }
+
+    /**
+     * Append elements to a list.
+     *
+     * @param key the key of the list
+     * @param strings the elements to append
+     * @return a future completed with the length of the list
+     */
+    public CompletableFuture<Long> rpush(String key, String... strings) {
+        return execute("RPUSH", () -> baseClient.rpush(key, strings));
+    }
+
+    /**
+     * Remove and get the first element of a list.
+     *
+     * @param key the key of the list
+     * @return a future completed with the element, or null if the list is empty
+     */
+    public CompletableFuture<String> lpop(String key) {
+        return execute("LPOP", () -> baseClient.lpop(key));
+    }
+
+    /**
+     * Remove and get the last element of a list.
+     *
+     * @param key the key of the list
+     * @return a future completed with the element, or null if the list is empty
+     */
+    public CompletableFuture<String> rpop(String key) {
+        return execute("RPOP", () -> baseClient.rpop(key));
+    }
+
+    /**
+     * Get a range of elements of a list.
+     *
+     * @param key the key of the list
+     * @param start the start index
+     * @param stop the stop index
+     * @return a future completed with the elements in the range
+     */
+    public CompletableFuture<List<String>> lrange(String key, long start, long stop) {
+        return execute("LRANGE", () -> baseClient.lrange(key, start, stop), AsyncJedis::asList);
+    }
+
+    /**
+     * Get the length of a list.
+     *
+     * @param key the key of the list
+     * @return a future completed with the length of the list
+     */
+    public CompletableFuture<Long> llen(String key) {
+        return execute("LLEN", () -> baseClient.llen(key));
+    }
+
+    // ========== SET COMMANDS ==========
+
+    /**
+     * Add members to a set.
+     *
+     * @param key the key of the set
+     * @param members the members to add
+     * @return a future completed with the number of members added
+     */
+    public CompletableFuture<Long> sadd(String key, String... members) {
+        return execute("SADD", () -> baseClient.sadd(key, members));
+    }
+
+    /**
+     * Remove members from a set.
+     *
+     * @param key the key of the set
+     * @param members the members to remove
+     * @return a future completed with the number of members removed
+     */
+    public CompletableFuture<Long> srem(String key, String... members) {
+        return execute("SREM", () -> baseClient.srem(key, members));
+    }
+
+    /**
+     * Get all the members of a set.
+     *
+     * @param key the key of the set
+     * @return a future completed with the members
+     */
+    public CompletableFuture<Set<String>> smembers(String key) {
+        return execute("SMEMBERS", () -> baseClient.smembers(key));
+    }
+
+    /**
+     * Check if a value is a member of a set.
+     *
+     * @param key the key of the set
+     * @param member the value
+     * @return a future completed with true if the value is a member
+     */
+    public CompletableFuture<Boolean> sismember(String key, String member) {
+        return execute("SISMEMBER", () -> baseClient.sismember(key, member));
+    }
+
+    /**
+     * Get the number of members of a set.
+     *
+     * @param key the key of the set
+     * @return a future completed with the number of members
+     */
+    public CompletableFuture<Long> scard(String key) {
+        return execute("SCARD", () -> baseClient.scard(key));
+    }
+
+    // ========== SORTED SET COMMANDS ==========
+
+    /**
+     * Add a member to a sorted set, or update its score.
+     *
+     * @param key the key of the sorted set
+     * @param score the score
+     * @param member the member
+     * @return a future completed with the number of members added
+     */
+    public CompletableFuture<Long> zadd(String key, double score, String member) {
+        Map<String, Double> scoreMembers = new HashMap<>();
+        scoreMembers.put(member, score);
+        return zadd(key, scoreMembers);
+    }
+
+    /**
+     * Add members to a sorted set, or update their scores.
+     *
+     * @param key the key of the sorted set
+     * @param scoreMembers the members and their scores
+     * @return a future completed with the number of members added
+     */
+    public CompletableFuture<Long> zadd(String key, Map<String, Double> scoreMembers) {
+        return execute("ZADD", () -> baseClient.zadd(key, scoreMembers));
+    }
+
+    /**
+     * Get the score of a member of a sorted set.
+     *
+     * @param key the key of the sorted set
+     * @param member the member
+     * @return a future completed with the score, or null if the member does not exist
+     */
+    public CompletableFuture<Double> zscore(String key, String member) {
+        return execute("ZSCORE", () -> baseClient.zscore(key, member));
+    }
+
+    /**
+     * Remove members from a sorted set.
+     *
+     * @param key the key of the sorted set
+     * @param members the members to remove
+     * @return a future completed with the number of members removed
+     */
+    public CompletableFuture<Long> zrem(String key, String... members) {
+        return execute("ZREM", () -> baseClient.zrem(key, members));
+    }
+
+    /**
+     * Get the number of members of a sorted set.
+     *
+     * @param key the key of the sorted set
+     * @return a future completed with the number of members
+     */
+    public CompletableFuture<Long> zcard(String key) {
+        return execute("ZCARD", () -> baseClient.zcard(key));
+    }
+}
@@ -0,0 +1,42 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package redis.clients.jedis;
+
+import glide.api.GlideClusterClient;
+import glide.api.models.ClusterBatch;
+
+/**
+ * A pipeline of commands sent to a cluster, backed by a non-atomic GLIDE {@link ClusterBatch}. The
+ * commands are routed by key, so they may span hash slots: GLIDE sends one pipeline per node.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * ClusterPipeline p = jedisCluster.pipelined();
+ * Response<String> r1 = p.set("key1", "value");
+ * Response<String> r2 = p.get("key2");
+ * p.sync();
+ * String value = r2.get(); // Retrieve the actual value after sync()
+ * }</pre>
+ *
+ * @see PipelineBase
+ */
+public class ClusterPipeline extends PipelineBase<ClusterBatch> {
+    private final GlideClusterClient glideClusterClient;
+
+    /**
+     * Creates a new pipeline for a cluster.
+     *
+     * <p>This constructor is called internally by {@link JedisCluster#pipelined()}.
+     *
+     * @param glideClusterClient the GLIDE cluster client
+     */
+    public ClusterPipeline(GlideClusterClient glideClusterClient) {
+        super(() -> new ClusterBatch(false)); // false = non-atomic (pipeline)
+        this.glideClusterClient = glideClusterClient;
+    }
+
+    @Override
+    protected Object[] execute(ClusterBatch batch) throws Exception {
+        return glideClusterClient.exec(batch, false).get();
+    }
+}
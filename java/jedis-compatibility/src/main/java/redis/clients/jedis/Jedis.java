@@ -1367,6 +1367,28 @@ public final class Jedis implements Closeable {
         return new Transaction(this);
     }
 
+    /**
+     * Starts a pipeline. Commands queued on the returned Pipeline are sent together, without
+     * atomicity, when {@link Pipeline#sync()} is called.
+     *
+     * <p>Example usage:
+     *
+     * <pre>{@code
+     * Pipeline p = jedis.pipelined();
+     * for (int i = 0; i < 1000; i++) {
+     *     p.set("key" + i, "value" + i);
+     * }
+     * p.sync();
+     * }</pre>
+     *
+     * @return a Pipeline object for queuing commands
+     */
+    public Pipeline pipelined() {
+        checkNotClosed();
+        ensureInitialized();
+        return new Pipeline(this);
+    }
+
     /**
      * Delete one or more keys.
      *
@@ -187,6 +187,17 @@ public class JedisCluster extends UnifiedJedis {
         return nodeMap;
     }
 
+    /**
+     * Starts a pipeline. Commands queued on the returned ClusterPipeline are sent together, one
+     * pipeline per node, when {@link ClusterPipeline#sync()} is called.
+     *
+     * @return a ClusterPipeline object for queuing commands
+     */
+    public ClusterPipeline pipelined() {
+        checkNotClosed();
+        return new ClusterPipeline(glideClusterClient);
+    }
+
     /**
      * Returns the connection for one of the 16,384 slots.
      *
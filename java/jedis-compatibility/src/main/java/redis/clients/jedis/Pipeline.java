@@ -0,0 +1,40 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package redis.clients.jedis;
+
+import glide.api.models.Batch;
+
+/**
+ * A pipeline of commands sent to a standalone server, backed by a non-atomic GLIDE {@link Batch}.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * Pipeline p = jedis.pipelined();
+ * Response<String> r1 = p.set("key", "value");
+ * Response<String> r2 = p.get("key");
+ * p.sync();
+ * String value = r2.get(); // Retrieve the actual value after sync()
+ * }</pre>
+ *
+ * @see PipelineBase
+ */
+public class Pipeline extends PipelineBase<Batch> {
+    private final Jedis jedis;
+
+    /**
+     * Creates a new pipeline associated with a Jedis instance.
+     *
+     * <p>This constructor is called internally by {@link Jedis#pipelined()}.
+     *
+     * @param jedis the Jedis instance to associate with this pipeline
+     */
+    public Pipeline(Jedis jedis) {
+        super(() -> new Batch(false)); // false = non-atomic (pipeline)
+        this.jedis = jedis;
+    }
+
+    @Override
+    protected Object[] execute(Batch batch) throws Exception {
+        return jedis.getGlideClient().exec(batch, false).get();
+    }
+}
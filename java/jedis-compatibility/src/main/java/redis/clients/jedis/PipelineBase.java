@@ -0,0 +1,418 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package redis.clients.jedis;
+
+import glide.api.models.BaseBatch;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Supplier;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * Base class of {@link Pipeline} and {@link ClusterPipeline}, backed by a non-atomic GLIDE batch.
+ *
+ * <p>Commands are queued locally and sent together when {@link #sync()} is called, in a single
+ * round trip per node. Each command returns a {@link Response} which is filled by {@link #sync()}.
+ * Unlike a {@link Transaction}, commands are not atomic, and a failing command does not fail the
+ * others: its error is thrown by its {@link Response#get()}.
+ *
+ * @param <B> The type of the GLIDE batch.
+ */
+public abstract class PipelineBase<B extends BaseBatch<B>> implements Closeable {
+
+    /** Batch replies hold arrays as <code>Object[]</code>. */
+    private static final Builder<List<String>> STRING_ARRAY_AS_LIST =
+            new Builder<List<String>>() {
+                @Override
+                public List<String> build(Object data) {
+                    Object[] elements = (Object[]) data;
+                    return Arrays.asList(Arrays.copyOf(elements, elements.length, String[].class));
+                }
+            };
+
+    private static final Builder<Boolean> LONG_AS_BOOLEAN =
+            new Builder<Boolean>() {
+                @Override
+                public Boolean build(Object data) {
+                    return data instanceof Long ? (Long) data > 0 : null;
+                }
+            };
+
+    private static final Builder<Long> BOOLEAN_AS_LONG =
+            new Builder<Long>() {
+                @Override
+                public Long build(Object data) {
+                    return data instanceof Boolean ? ((Boolean) data ? 1L : 0L) : null;
+                }
+            };
+
+    private final Supplier<B> batchFactory;
+    private final Queue<Response<?>> pipelinedResponses = new LinkedList<>();
+    private B batch;
+
+    /**
+     * Creates a new pipeline.
+     *
+     * @param batchFactory creates an empty non-atomic batch, for each {@link #sync()}
+     */
+    protected PipelineBase(Supplier<B> batchFactory) {
+        this.batchFactory = batchFactory;
+        this.batch = batchFactory.get();
+    }
+
+    /**
+     * Sends the queued commands as one batch and waits for their replies.
+     *
+     * @param batch the batch of queued commands
+     * @return the reply of each command, in order, a server error being its reply
+     * @throws Exception if the batch cannot be sent
+     */
+    protected abstract Object[] execute(B batch) throws Exception;
+
+    /**
+     * Sends all the queued commands and fills their {@link Response} objects. The pipeline can be
+     * used again afterwards.
+     */
+    public void sync() {
+        if (pipelinedResponses.isEmpty()) {
+            return;
+        }
+        fillResponses();
+    }
+
+    /**
+     * Sends all the queued commands, fills their {@link Response} objects and returns their replies.
+     *
+     * @return the reply of each command, in order, or the {@link JedisDataException} of a failed
+     *     command
+     */
+    public List<Object> syncAndReturnAll() {
+        if (pipelinedResponses.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Response<?>> responses = fillResponses();
+        List<Object> formatted = new ArrayList<>(responses.size());
+        for (Response<?> response : responses) {
+            try {
+                formatted.add(response.get());
+            } catch (JedisDataException e) {
+                formatted.add(e);
+            }
+        }
+        return formatted;
+    }
+
+    /** Sends all the queued commands, like {@link #sync()}. */
+    @Override
+    public void close() {
+        sync();
+    }
+
+    private List<Response<?>> fillResponses() {
+        List<Response<?>> responses = new ArrayList<>(pipelinedResponses);
+        B sent = batch;
+        pipelinedResponses.clear();
+        batch = batchFactory.get();
+
+        Object[] results;
+        try {
+            results = execute(sent);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JedisConnectionException("Pipeline interrupted", e);
+        } catch (Exception e) {
+            throw new JedisException("Failed to execute pipeline", e);
+        }
+
+        for (int i = 0; i < responses.size(); i++) {
+            Object result = results != null && i < results.length ? results[i] : null;
+            if (result instanceof Exception) {
+                Exception error = (Exception) result;
+                result = new JedisDataException(error.getMessage(), error);
+            }
+            responses.get(i).set(result);
+        }
+        return responses;
+    }
+
+    /**
+     * Queues a command in the pipeline and returns a Response for deferred access.
+     *
+     * @param <T> the response type
+     * @param builder the builder to convert raw response data
+     * @param command adds the command to the batch
+     * @return a Response object that will contain the result after sync()
+     */
+    protected <T> Response<T> appendCommand(Builder<T> builder, Runnable command) {
+        command.run();
+        Response<T> response = new Response<>(builder);
+        pipelinedResponses.add(response);
+        return response;
+    }
+
+    /**
+     * Returns the number of commands queued since the last {@link #sync()}.
+     *
+     * @return the number of queued commands
+     */
+    public int size() {
+        return pipelinedResponses.size();
+    }
+
+    /**
+     * Set the string value of a key.
+     *
+     * @param key the key
+     * @param value the value
+     * @return a Response containing "OK"
+     */
+    public Response<String> set(String key, String value) {
+        return appendCommand(BuilderFactory.STRING, () -> batch.set(key, value));
+    }
+
+    /**
+     * Get the value of a key.
+     *
+     * @param key the key
+     * @return a Response containing the value, or null if the key does not exist
+     */
+    public Response<String> get(String key) {
+        return appendCommand(BuilderFactory.STRING, () -> batch.get(key));
+    }
+
+    /**
+     * Delete one or more keys.
+     *
+     * @param keys the keys to delete
+     * @return a Response containing the number of keys deleted
+     */
+    public Response<Long> del(String... keys) {
+        return appendCommand(BuilderFactory.LONG, () -> batch.del(keys));
+    }
+
+    /**
+     * Check if a key exists.
+     *
+     * @param key the key
+     * @return a Response containing true if the key exists
+     */
+    public Response<Boolean> exists(String key) {
+        return appendCommand(LONG_AS_BOOLEAN, () -> batch.exists(new String[] {key}));
+    }
+
+    /**
+     * Count the given keys which exist.
+     *
+     * @param keys the keys
+     * @return a Response containing the number of existing keys
+     */
+    public Response<Long> exists(String... keys) {
+        return appendCommand(BuilderFactory.LONG, () -> batch.exists(keys));
+    }
+
+    /**
+     * Set a timeout on a key.
+     *
+     * @param key the key
+     * @param seconds the timeout in seconds
+     * @return a Response containing 1 if the timeout was set, 0 otherwise
+     */
+    public Response<Long> expire(String key, long seconds) {
+        return appendCommand(BOOLEAN_AS_LONG, () -> batch.expire(key, seconds));
+    }
+
+    /**
+     * Get the remaining time to live of a key.
+     *
+     * @param key the key
+     * @return a Response containing the time to live in seconds, -1 without timeout, -2 if the key
+     *     does not exist
+     */
+    public Response<Long> ttl(String key) {
+        return appendCommand(BuilderFactory.LONG, () -> batch.ttl(key));
+    }
+
+    /**
+     * Increment the integer value of a key by one.
+     *
+     * @param key the key
+     * @return a Response containing the value after the increment
+     */
+    public Response<Long> incr(String key) {
+        return appendCommand(BuilderFactory.LONG, () -> batch.incr(key));
+    }
+
+    /**
+     * Increment the integer value of a key by the given amount.
+     *
+     * @param key the key
+     * @param increment the amount to increment by
+     * @return a Response containing the value after the increment
+     */
+    public Response<Long> incrBy(String key, long increment) {
+        return appendCommand(BuilderFactory.LONG, () -> batch.incrBy(key, increment));
+    }
+
+    /**
+     * Set the value of a hash field.
+     *
+     * @param key the key of the hash
+     * @param field the field
+     * @param value the value
+     * @return a Response containing the number of fields added
+     */
+    public Response<Long> hset(String key, String field, String value) {
+        return hset(key, Collections.singletonMap(field, value));
+    }
+
+    /**
+     * Set the values of hash fields.
+     *
+     * @param key the key of the hash
+     * @param hash the fields and their values
+     * @return a Response containing the number of fields added
+     */
+    public Response<Long> hset(String key, Map<String, String> hash) {
+        return appendCommand(BuilderFactory.LONG, () -> batch.hset(key, hash));
+    }
+
+    /**
+     * Get the value of a hash field.
+     *
+     * @param key the key of the hash
+     * @param field the field
+     * @return a Response containing the value, or null if the field does not exist
+     */
+    public Response<String> hget(String key, String field) {
+        return appendCommand(BuilderFactory.STRING, () -> batch.hget(key, field));
+    }
+
+    /**
+     * Get all the fields and values of a hash.
+     *
+     * @param key the key of the hash
+     * @return a Response containing the fields and their values
+     */
+    public Response<Map<String, String>> hgetAll(String key) {
+        return appendCommand(BuilderFactory.STRING_MAP, () -> batch.hgetall(key));
+    }
+
+    /**
+     * Delete hash fields.
+     *
+     * @param key the key of the hash
+     * @param fields the fields to delete
+     * @return a Response containing the number of fields removed
+     */
+    public Response<Long> hdel(String key, String... fields) {
+        return appendCommand(BuilderFactory.LONG, () -> batch.hdel(key, fields));
+    }
+
+    /**
+     * Prepend elements to a list.
+     *
+     * @param key the key of the list
+     * @param elements the elements to prepend
+     * @return a Response containing the length of the list
+     */
+    public Response<Long> lpush(String key, String... elements) {
+        return appendCommand(BuilderFactory.LONG, () -> batch.lpush(key, elements));
+    }
+
+    /**
+     * Append elements to a list.
+     *
+     * @param key the key of the list
+     * @param elements the elements to append
+     * @return a Response containing the length of the list
+     */
+    public Response<Long> rpush(String key, String... elements) {
+        return appendCommand(BuilderFactory.LONG, () -> batch.rpush(key, elements));
+    }
+
+    /**
+     * Get a range of elements of a list.
+     *
+     * @param key the key of the list
+     * @param start the start index
+     * @param stop the stop index
+     * @return a Response containing the elements in the range
+     */
+    public Response<List<String>> lrange(String key, long start, long stop) {
+        return appendCommand(STRING_ARRAY_AS_LIST, () -> batch.lrange(key, start, stop));
+    }
+
+    /**
+     * Add members to a set.
+     *
+     * @param key the key of the set
+     * @param members the members to add
+     * @return a Response containing the number of members added
+     */
+    public Response<Long> sadd(String key, String... members) {
+        return appendCommand(BuilderFactory.LONG, () -> batch.sadd(key, members));
+    }
+
+    /**
+     * Remove members from a set.
+     *
+     * @param key the key of the set
+     * @param members the members to remove
+     * @return a Response containing the number of members removed
+     */
+    public Response<Long> srem(String key, String... members) {
+        return appendCommand(BuilderFactory.LONG, () -> batch.srem(key, members));
+    }
+
+    /**
+     * Get all the members of a set.
+     *
+     * @param key the key of the set
+     * @return a Response containing the members
+     */
+    public Response<Set<String>> smembers(String key) {
+        return appendCommand(BuilderFactory.STRING_SET, () -> batch.smembers(key));
+    }
+
+    /**
+     * Add a member to a sorted set, or update its score.
+     *
+     * @param key the key of the sorted set
+     * @param score the score
+     * @param member the member
+     * @return a Response containing the number of members added
+     */
+    public Response<Long> zadd(String key, double score, String member) {
+        return zadd(key, Collections.singletonMap(member, score));
+    }
+
+    /**
+     * Add members to a sorted set, or update their scores.
+     *
+     * @param key the key of the sorted set
+     * @param scoreMembers the members and their scores
+     * @return a Response containing the number of members added
+     */
+    public Response<Long> zadd(String key, Map<String, Double> scoreMembers) {
+        return appendCommand(BuilderFactory.LONG, () -> batch.zadd(key, scoreMembers));
+    }
+
+    /**
+     * Get the score of a member of a sorted set.
+     *
+     * @param key the key of the sorted set
+     * @param member the member
+     * @return a Response containing the score, or null if the member does not exist
+     */
+    public Response<Double> zscore(String key, String member) {
+        return appendCommand(BuilderFactory.DOUBLE, () -> batch.zscore(key, member));
+    }
+}
@@ -429,6 +429,18 @@ public class UnifiedJedis implements Closeable {
         }
     }
 
+    /**
+     * Returns the asynchronous companion of this wrapper, which sends the same commands on the same
+     * GLIDE client without blocking the calling thread.
+     *
+     * @return an {@link AsyncJedis} sharing this wrapper's client
+     * @throws JedisException if the client has been closed
+     */
+    public AsyncJedis async() {
+        checkNotClosed();
+        return new AsyncJedis(baseClient, this::checkNotClosed);
+    }
+
     // ========== BASIC OPERATIONS ==========
 
     /**
@@ -806,7 +818,7 @@ public class UnifiedJedis implements Closeable {
         }
     }
 
-    private SetOptions convertSetParams(SetParams params, boolean forceReturnOldValue) {
+    static SetOptions convertSetParams(SetParams params, boolean forceReturnOldValue) {
         SetOptions.SetOptionsBuilder builder = SetOptions.builder();
 
         // Handle existence conditions (NX/XX)
@@ -0,0 +1,45 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package redis.clients.jedis;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * Unit tests for {@link AsyncJedis}. These tests verify API contracts without creating actual
+ * connections.
+ */
+public class AsyncJedisTest {
+
+    @Test
+    public void testFailsWhenClosed() {
+        AsyncJedis async =
+                new AsyncJedis(
+                        null,
+                        () -> {
+                            throw new JedisException("UnifiedJedis has been closed");
+                        });
+
+        CompletableFuture<String> get = async.get("key");
+
+        ExecutionException error = assertThrows(ExecutionException.class, get::get);
+        assertInstanceOf(JedisException.class, error.getCause());
+        assertEquals("UnifiedJedis has been closed", error.getCause().getMessage());
+    }
+
+    @Test
+    public void testRejectsOddMsetArguments() {
+        AsyncJedis async = new AsyncJedis(null, () -> {});
+        assertThrows(IllegalArgumentException.class, () -> async.mset("key1", "value1", "key2"));
+    }
+
+    @Test
+    public void testAsyncMethodsReturnFutures() throws NoSuchMethodException {
+        assertEquals(
+                CompletableFuture.class, AsyncJedis.class.getMethod("get", String.class).getReturnType());
+        assertEquals(AsyncJedis.class, UnifiedJedis.class.getMethod("async").getReturnType());
+    }
+}
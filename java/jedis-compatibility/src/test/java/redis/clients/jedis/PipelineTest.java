@@ -0,0 +1,70 @@
+/** Copyright Valkey GLIDE Project Contributors - SPDX Identifier: Apache-2.0 */
+package redis.clients.jedis;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import glide.api.models.Batch;
+import glide.api.models.exceptions.RequestException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/** Unit tests for {@link PipelineBase}, replying to batches without a connection. */
+public class PipelineTest {
+
+    /** A pipeline replying with the given results to each batch. */
+    private static PipelineBase<Batch> pipeline(Object[]... replies) {
+        return new PipelineBase<Batch>(() -> new Batch(false)) {
+            private int sent = 0;
+
+            @Override
+            protected Object[] execute(Batch batch) {
+                return replies[sent++];
+            }
+        };
+    }
+
+    @Test
+    public void testResponsesFilledOnSync() {
+        PipelineBase<Batch> p =
+                pipeline(new Object[] {"OK", "value", 2L, true, new Object[] {"a", "b"}});
+        Response<String> set = p.set("key", "value");
+        Response<String> get = p.get("key");
+        Response<Long> del = p.del("key", "other");
+        Response<Long> expire = p.expire("key", 10);
+        Response<List<String>> range = p.lrange("list", 0, -1);
+        assertEquals(5, p.size());
+        assertThrows(JedisDataException.class, get::get);
+
+        p.sync();
+
+        assertEquals(0, p.size());
+        assertEquals("OK", set.get());
+        assertEquals("value", get.get());
+        assertEquals(2L, del.get());
+        assertEquals(1L, expire.get());
+        assertEquals(Arrays.asList("a", "b"), range.get());
+    }
+
+    @Test
+    public void testFailedCommandDoesNotFailOthers() {
+        PipelineBase<Batch> p =
+                pipeline(new Object[] {new RequestException("WRONGTYPE"), 1L}, new Object[] {"OK"});
+        Response<Long> incr = p.incr("hash");
+        Response<Long> sadd = p.sadd("set", "member");
+
+        List<Object> all = p.syncAndReturnAll();
+
+        assertInstanceOf(JedisDataException.class, all.get(0));
+        assertEquals(1L, all.get(1));
+        JedisDataException error = assertThrows(JedisDataException.class, incr::get);
+        assertEquals("WRONGTYPE", error.getMessage());
+        assertEquals(1L, sadd.get());
+
+        // The pipeline can be used again after sync()
+        Response<String> set = p.set("key", "value");
+        p.close();
+        assertEquals("OK", set.get());
+    }
+}
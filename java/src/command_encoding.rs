@@ -0,0 +1,298 @@
+//! Compact binary encoding for single commands sent from Java.
+//!
+//! Single commands are the hot path of the client, so instead of a protobuf `CommandRequest`
+//! the Java side (`glide.internal.CommandEncoder`) writes the request into a reusable direct
+//! ByteBuffer using the layout below. All integers use the platform's native byte order since
+//! both sides run in the same process.
+//!
+//! ```text
+//! u32 request_type   numeric value of the protobuf RequestType
+//! u8  flags          FLAG_* bits
+//! u8  route_kind     ROUTE_* constant, followed by the route payload:
+//!                      simple:   u8 SimpleRoutes value
+//!                      slot id:  u8 SlotTypes value, i32 slot id
+//!                      slot key: u8 SlotTypes value, u32 length, key bytes
+//!                      address:  i32 port, u32 length, host bytes
+//! u32 arg_count      followed by arg_count arguments, each either
+//!                      inline:   u32 length, arg bytes
+//!                      external: u32 EXTERNAL_ARG, u32 segment count
+//! ```
+//!
+//! External arguments are large direct ByteBuffers passed next to the request instead of being
+//! copied into it. Their segments are the next buffers of the request's external buffer list,
+//! concatenated.
+//!
+//! Batches, scripts and cluster scan still go through [`crate::protobuf_bridge`].
+
+use anyhow::{Result, anyhow};
+use glide_core::command_request::{RequestType as ProtobufRequestType, SimpleRoutes, SlotTypes};
+use glide_core::compression::{
+    CommandCompressionBehavior, CompressionManager, CompressionResult,
+    process_command_args_for_compression,
+};
+use glide_core::request_type::RequestType;
+use protobuf::{Enum, EnumOrUnknown};
+use redis::Cmd;
+use redis::cluster_routing::{
+    MultipleNodeRoutingInfo, ResponsePolicy, Routable, Route, RoutingInfo, SingleNodeRoutingInfo,
+    SlotAddr,
+};
+use std::borrow::Cow;
+
+use crate::jni_client::ResultMode;
+
+const ROUTE_NONE: u8 = 0;
+const ROUTE_SIMPLE: u8 = 1;
+const ROUTE_SLOT_ID: u8 = 2;
+const ROUTE_SLOT_KEY: u8 = 3;
+const ROUTE_BY_ADDRESS: u8 = 4;
+
+/// Compress the command's value if the client has compression enabled.
+const FLAG_COMPRESS: u8 = 1;
+/// Hand a bulk string reply to Java as a leased native buffer instead of a copy.
+const FLAG_LEASE_BUFFER: u8 = 2;
+/// Return an array reply as a `double[]`.
+const FLAG_DOUBLE_ARRAY: u8 = 4;
+/// Return an array reply as a `long[]`.
+const FLAG_LONG_ARRAY: u8 = 8;
+/// Return an array reply as a `boolean[]`.
+const FLAG_BOOLEAN_ARRAY: u8 = 16;
+/// Trace the command in a new root span.
+const FLAG_TRACE: u8 = 32;
+
+/// Length marking an argument passed in external buffers.
+const EXTERNAL_ARG: u32 = u32::MAX;
+
+/// A decoded single command, ready to be sent to glide-core.
+pub struct EncodedCommand {
+    pub cmd: Cmd,
+    pub routing: Option<RoutingInfo>,
+    pub root_span_ptr: Option<u64>,
+    /// How the reply is converted, if the request asks for a specific shape rather than the
+    /// client's string encoding.
+    pub result_mode: Option<ResultMode>,
+    /// Arguments held back from `cmd` until the client's compression is applied to them.
+    compressible_args: Option<(RequestType, Vec<Vec<u8>>)>,
+}
+
+impl EncodedCommand {
+    /// Append the arguments held back for compression to the command, compressing them with the
+    /// client's compression manager if it has one.
+    pub fn apply_compression(
+        &mut self,
+        compression_manager: Option<&CompressionManager>,
+    ) -> CompressionResult<()> {
+        if let Some((request_type, mut args)) = self.compressible_args.take() {
+            process_command_args_for_compression(&mut args, request_type, compression_manager)?;
+            for arg in &args {
+                self.cmd.arg(arg);
+            }
+        }
+        Ok(())
+    }
+}
+
+struct Reader<'a> {
+    bytes: &'a [u8],
+    pos: usize,
+}
+
+impl<'a> Reader<'a> {
+    fn take(&mut self, len: usize) -> Result<&'a [u8]> {
+        let end = self
+            .pos
+            .checked_add(len)
+            .filter(|end| *end <= self.bytes.len())
+            .ok_or_else(|| anyhow!("Truncated command request at offset {}", self.pos))?;
+        let slice = &self.bytes[self.pos..end];
+        self.pos = end;
+        Ok(slice)
+    }
+
+    fn read_u8(&mut self) -> Result<u8> {
+        Ok(self.take(1)?[0])
+    }
+
+    fn read_u32(&mut self) -> Result<u32> {
+        Ok(u32::from_ne_bytes(self.take(4)?.try_into()?))
+    }
+
+    fn read_i32(&mut self) -> Result<i32> {
+        Ok(i32::from_ne_bytes(self.take(4)?.try_into()?))
+    }
+
+    fn read_slice(&mut self) -> Result<&'a [u8]> {
+        let len = self.read_u32()? as usize;
+        self.take(len)
+    }
+}
+
+/// Decode a command written by `glide.internal.CommandEncoder`, with the external buffers it
+/// references.
+///
+/// All arguments are copied into the returned [`Cmd`], so the caller's buffers can be reused
+/// as soon as this function returns.
+pub fn decode_command(bytes: &[u8], external_args: &[&[u8]]) -> Result<EncodedCommand> {
+    let mut reader = Reader { bytes, pos: 0 };
+
+    let raw_request_type = reader.read_u32()?;
+    let request_type: RequestType =
+        EnumOrUnknown::<ProtobufRequestType>::from_i32(raw_request_type as i32).into();
+    let Some(mut cmd) = request_type.get_command() else {
+        return Err(anyhow!(
+            "Received invalid request type: {:?}",
+            raw_request_type
+        ));
+    };
+
+    let flags = reader.read_u8()?;
+    let compress = flags & FLAG_COMPRESS != 0
+        && request_type.compression_behavior() == CommandCompressionBehavior::CompressValues;
+
+    let route_kind = reader.read_u8()?;
+    let route = decode_route(route_kind, &mut reader)?;
+
+    let arg_count = reader.read_u32()?;
+    let mut compressible_args = Vec::new();
+    let mut next_external = 0;
+    for _ in 0..arg_count {
+        let len = reader.read_u32()?;
+        let arg: Cow<[u8]> = if len == EXTERNAL_ARG {
+            let segment_count = reader.read_u32()? as usize;
+            let segments = next_external
+                .checked_add(segment_count)
+                .and_then(|end| external_args.get(next_external..end))
+                .ok_or_else(|| anyhow!("Command request references missing external buffers"))?;
+            next_external += segment_count;
+            match segments {
+                [segment] => Cow::Borrowed(*segment),
+                _ => Cow::Owned(segments.concat()),
+            }
+        } else {
+            Cow::Borrowed(reader.take(len as usize)?)
+        };
+        if compress {
+            compressible_args.push(arg.into_owned());
+        } else {
+            cmd.arg(&*arg);
+        }
+    }
+
+    if cmd.args_iter().next().is_none() {
+        return Err(anyhow!(
+            "Received command without a command name or arguments"
+        ));
+    }
+
+    // Routes only depend on the command name, which is already in `cmd`
+    let routing = route.map(|route| route.into_routing_info(&cmd));
+    // Start the span last, so that a request failing to decode has none to close
+    let root_span_ptr = (flags & FLAG_TRACE != 0).then(|| new_root_span(raw_request_type));
+    Ok(EncodedCommand {
+        cmd,
+        routing,
+        root_span_ptr,
+        result_mode: result_mode(flags),
+        compressible_args: compress.then_some((request_type, compressible_args)),
+    })
+}
+
+/// Start the root span of a command sampled by Java, named after its request type. The span is
+/// leaked like those created by `createLeakedOtelSpan`, and released the same way once the command
+/// completes.
+fn new_root_span(raw_request_type: u32) -> u64 {
+    let name = match ProtobufRequestType::from_i32(raw_request_type as i32) {
+        Some(request_type) => format!("{request_type:?}"),
+        None => "Command".to_string(),
+    };
+    let span = glide_core::GlideOpenTelemetry::new_span(&name);
+    std::sync::Arc::into_raw(std::sync::Arc::new(span)) as u64
+}
+
+/// The reply conversion asked for by the request flags, if any.
+fn result_mode(flags: u8) -> Option<ResultMode> {
+    if flags & FLAG_LEASE_BUFFER != 0 {
+        Some(ResultMode::LeasedBuffer)
+    } else if flags & FLAG_DOUBLE_ARRAY != 0 {
+        Some(ResultMode::DoubleArray)
+    } else if flags & FLAG_LONG_ARRAY != 0 {
+        Some(ResultMode::LongArray)
+    } else if flags & FLAG_BOOLEAN_ARRAY != 0 {
+        Some(ResultMode::BooleanArray)
+    } else {
+        None
+    }
+}
+
+/// Route read from the request. Multi-node routes need the command to pick a response policy,
+/// which is only complete once all arguments are read.
+enum DecodedRoute {
+    MultiNode(MultipleNodeRoutingInfo),
+    SingleNode(SingleNodeRoutingInfo),
+}
+
+impl DecodedRoute {
+    fn into_routing_info(self, cmd: &Cmd) -> RoutingInfo {
+        match self {
+            DecodedRoute::MultiNode(route) => RoutingInfo::MultiNode((
+                route,
+                cmd.command()
+                    .and_then(|name| ResponsePolicy::for_command(&name)),
+            )),
+            DecodedRoute::SingleNode(route) => RoutingInfo::SingleNode(route),
+        }
+    }
+}
+
+fn decode_route(route_kind: u8, reader: &mut Reader) -> Result<Option<DecodedRoute>> {
+    let route = match route_kind {
+        ROUTE_NONE => return Ok(None),
+        ROUTE_SIMPLE => {
+            let raw = reader.read_u8()?;
+            match SimpleRoutes::from_i32(raw as i32) {
+                Some(SimpleRoutes::AllNodes) => {
+                    DecodedRoute::MultiNode(MultipleNodeRoutingInfo::AllNodes)
+                }
+                Some(SimpleRoutes::AllPrimaries) => {
+                    DecodedRoute::MultiNode(MultipleNodeRoutingInfo::AllMasters)
+                }
+                Some(SimpleRoutes::Random) => {
+                    DecodedRoute::SingleNode(SingleNodeRoutingInfo::Random)
+                }
+                None => return Err(anyhow!("Invalid simple route: {raw}")),
+            }
+        }
+        ROUTE_SLOT_ID => {
+            let slot_addr = decode_slot_addr(reader.read_u8()?)?;
+            let slot_id = reader.read_i32()?;
+            let slot = u16::try_from(slot_id).map_err(|_| anyhow!("Invalid slot id: {slot_id}"))?;
+            DecodedRoute::SingleNode(SingleNodeRoutingInfo::SpecificNode(Route::new(
+                slot, slot_addr,
+            )))
+        }
+        ROUTE_SLOT_KEY => {
+            let slot_addr = decode_slot_addr(reader.read_u8()?)?;
+            let slot_key = reader.read_slice()?;
+            DecodedRoute::SingleNode(SingleNodeRoutingInfo::SpecificNode(Route::new(
+                redis::cluster_topology::get_slot(slot_key),
+                slot_addr,
+            )))
+        }
+        ROUTE_BY_ADDRESS => {
+            let port = reader.read_i32()?;
+            let port = u16::try_from(port).map_err(|_| anyhow!("Invalid port: {port}"))?;
+            let host = std::str::from_utf8(reader.read_slice()?)?.to_string();
+            DecodedRoute::SingleNode(SingleNodeRoutingInfo::ByAddress { host, port })
+        }
+        other => return Err(anyhow!("Unknown route type: {other}")),
+    };
+    Ok(Some(route))
+}
+
+fn decode_slot_addr(raw: u8) -> Result<SlotAddr> {
+    match SlotTypes::from_i32(raw as i32) {
+        Some(SlotTypes::Primary) => Ok(SlotAddr::Master),
+        Some(SlotTypes::Replica) => Ok(SlotAddr::ReplicaRequired),
+        None => Err(anyhow!("Received unexpected slot id type: {raw}")),
+    }
+}
@@ -10,13 +10,14 @@ use jni::JNIEnv;
 use jni::JavaVM;
 use jni::objects::{GlobalRef, JClass, JObject, JStaticMethodID, JValue};
 use jni::signature;
-use jni::sys::{JNI_VERSION_1_8, jint, jlong, jstring};
+use jni::sys::{JNI_VERSION_1_8, jboolean, jint, jlong, jstring};
 use parking_lot::Mutex;
 use redis::{RedisError as ServerError, Value as ServerValue};
 use std::ffi::c_void;
 use std::sync::Arc;
-use std::sync::mpsc::{Sender, channel};
+use std::sync::mpsc::{Receiver, RecvTimeoutError, Sender, TryRecvError, channel};
 use std::thread;
+use std::time::{Duration, Instant};
 use tokio::runtime::Runtime;
 
 #[unsafe(no_mangle)]
@@ -25,7 +26,7 @@ pub extern "system" fn JNI_OnLoad(vm: JavaVM, _reserved: *mut c_void) -> jint {
     let _ = JVM.set(Arc::new(vm));
 
     // Pre-cache MethodCache and JavaValueConversionCache with correct classloader context
-    // GlideCoreClientCache and RegistryMethodCache will be cached automatically later
+    // GlideCoreClientCache will be cached automatically later
     if let Some(jvm) = JVM.get()
         && let Ok(mut env) = jvm.get_env()
     {
@@ -56,7 +57,6 @@ pub extern "system" fn JNI_OnUnload(_vm: *const JavaVM, _reserved: *const c_void
 }
 
 // Type aliases for complex types
-type PushMessageTuple = (Vec<u8>, Vec<u8>, Option<Vec<u8>>);
 type CallbackResult = Result<ServerValue, ServerError>;
 
 // Runtime and JVM statics
@@ -66,6 +66,7 @@ static RUNTIME: std::sync::OnceLock<Runtime> = std::sync::OnceLock::new();
 // Defaults for runtime and callback workers
 const DEFAULT_RUNTIME_WORKER_THREADS: usize = 1;
 const DEFAULT_CALLBACK_WORKER_THREADS: usize = 2;
+pub const DEFAULT_CALLBACK_BATCH_SIZE: usize = 64;
 
 // =========================
 // Native buffer registry
@@ -187,24 +188,13 @@ pub async fn ensure_client_for_handle(handle_id: u64) -> Result<GlideClient> {
         // Always setup push channel for push message support
         // This enables dynamic subscriptions to work,
         // even when no initial subscriptions are configured
-        let (tx, mut rx) = tokio::sync::mpsc::unbounded_channel::<redis::PushInfo>();
+        let (tx, rx) = tokio::sync::mpsc::unbounded_channel::<redis::PushInfo>();
 
         let client = create_glide_client(cfg, Some(tx)).await?;
         table.insert(handle_id, client.clone());
 
-        // Always spawn push notification handler
-        let jvm_arc = JVM.get().cloned();
-        let handle_for_java = handle_id as jlong;
-        get_runtime().spawn(async move {
-            while let Some(push) = rx.recv().await {
-                if let Some(jvm) = jvm_arc.as_ref()
-                    && let Ok(mut env) = jvm.attach_current_thread_as_daemon()
-                {
-                    // Handle push notification callback to Java
-                    handle_push_notification(&mut env, handle_for_java, push);
-                }
-            }
-        });
+        // Forward pushes to Java; the forwarding thread starts with the first push
+        spawn_push_forwarder(handle_id as jlong, rx);
 
         return Ok(table.get(&handle_id).unwrap().value().clone());
     }
@@ -212,77 +202,230 @@ pub async fn ensure_client_for_handle(handle_id: u64) -> Result<GlideClient> {
     Err(anyhow::anyhow!("Client not found in handle_table"))
 }
 
-pub(crate) fn handle_push_notification(env: &mut JNIEnv, handle_id: jlong, push: redis::PushInfo) {
-    use redis::{PushKind, Value};
+/// The most PubSub messages forwarded to Java in one upcall.
+const PUSH_BATCH_MAX_MESSAGES: usize = 256;
 
-    let as_bytes = |v: &Value| -> Option<Vec<u8>> {
-        match v {
-            Value::BulkString(b) => Some(b.clone()),
-            _ => None,
+/// Forward a batch once its packed bytes reach this size, even if more pushes are waiting.
+const PUSH_BATCH_MAX_BYTES: usize = 1 << 20;
+
+/// Deliver the push notifications of a client to Java, on a thread of its own.
+///
+/// Most clients never receive a push, so the thread is only started with the first one; until
+/// then a runtime task waits on `rx`.
+///
+/// Java may block while its pubsub queue is full (`QueueOverflowPolicy.BLOCK`), which must not
+/// stall a runtime worker; pushes wait in `rx` meanwhile. glide-core's push channel is unbounded,
+/// so they pile up in native memory for as long as Java blocks. PubSub messages already waiting in
+/// `rx` are forwarded together in a single upcall, see [`PushBatch`].
+pub(crate) fn spawn_push_forwarder(
+    handle_id: jlong,
+    mut rx: tokio::sync::mpsc::UnboundedReceiver<redis::PushInfo>,
+) {
+    get_runtime().spawn(async move {
+        if let Some(first) = rx.recv().await {
+            start_push_thread(handle_id, first, rx);
         }
-    };
+    });
+}
 
-    let mapped: Option<PushMessageTuple> = match push.kind {
-        PushKind::Message | PushKind::SMessage => {
-            if push.data.len() >= 2 {
-                let channel = as_bytes(&push.data[0]).unwrap_or_default();
-                let message = as_bytes(&push.data[1]).unwrap_or_default();
-                Some((message, channel, None))
-            } else {
-                None
+fn start_push_thread(
+    handle_id: jlong,
+    first: redis::PushInfo,
+    mut rx: tokio::sync::mpsc::UnboundedReceiver<redis::PushInfo>,
+) {
+    let jvm_arc = JVM.get().cloned();
+    let spawned = thread::Builder::new()
+        .name("glide-push".to_string())
+        .spawn(move || {
+            let mut batch = PushBatch::default();
+            let mut pending = Some(first);
+            while let Some(first) = pending.take().or_else(|| rx.blocking_recv()) {
+                let Some(mut env) = jvm_arc
+                    .as_ref()
+                    .and_then(|jvm| jvm.attach_current_thread_as_daemon().ok())
+                else {
+                    continue;
+                };
+                let mut next = Some(first);
+                while let Some(push) = next {
+                    if !batch.add(&push) {
+                        // Keep the order of messages and invalidations
+                        batch.flush(&mut env, handle_id);
+                        handle_push_notification(&mut env, handle_id, push);
+                    } else if batch.is_full() {
+                        batch.flush(&mut env, handle_id);
+                    }
+                    next = rx.try_recv().ok();
+                }
+                batch.flush(&mut env, handle_id);
             }
-        }
-        PushKind::PMessage => {
-            if push.data.len() >= 3 {
-                let pattern = as_bytes(&push.data[0]).unwrap_or_default();
-                let channel = as_bytes(&push.data[1]).unwrap_or_default();
-                let message = as_bytes(&push.data[2]).unwrap_or_default();
-                Some((message, channel, Some(pattern)))
-            } else {
-                None
+        });
+    if let Err(e) = spawned {
+        log::error!("Failed to start push forwarder: {e}");
+    }
+}
+
+/// PubSub messages packed for one `GlideCoreClient.onNativePushBatch` upcall.
+///
+/// The channel, pattern (empty if none) and payload of each message follow each other in `bytes`,
+/// and `ends` holds the offset where each of them ends, three per message. Java slices the parts
+/// out of the single array only when they are read.
+#[derive(Default)]
+struct PushBatch {
+    bytes: Vec<u8>,
+    ends: Vec<i32>,
+}
+
+impl PushBatch {
+    /// Append `push` if it is a PubSub message, or return false.
+    fn add(&mut self, push: &redis::PushInfo) -> bool {
+        use redis::{PushKind, Value};
+
+        let (channel, pattern, message) = match (&push.kind, push.data.as_slice()) {
+            (PushKind::Message | PushKind::SMessage, [channel, message, ..]) => {
+                (channel, None, message)
             }
+            (PushKind::PMessage, [pattern, channel, message, ..]) => {
+                (channel, Some(pattern), message)
+            }
+            _ => return false,
+        };
+        for part in [Some(channel), pattern, Some(message)] {
+            if let Some(Value::BulkString(b)) = part {
+                self.bytes.extend_from_slice(b);
+            }
+            self.ends.push(self.bytes.len() as i32);
         }
-        _ => None,
-    };
-
-    if let Some((m, c, p)) = mapped {
-        let _ = env.push_local_frame(16);
-        let jm = env.byte_array_from_slice(&m).ok();
-        let jc = env.byte_array_from_slice(&c).ok();
-        let jp = p.as_ref().and_then(|pp| env.byte_array_from_slice(pp).ok());
+        true
+    }
 
-        if let (Some(jm), Some(jc)) = (jm, jc) {
-            let jm_obj: JObject = jm.into();
-            let jc_obj: JObject = jc.into();
-            let jp_obj: JObject = jp.map(Into::into).unwrap_or(JObject::null());
+    fn is_full(&self) -> bool {
+        self.ends.len() >= 3 * PUSH_BATCH_MAX_MESSAGES || self.bytes.len() >= PUSH_BATCH_MAX_BYTES
+    }
 
-            if let Ok(cache) = get_glide_core_client_cache_safe(env) {
+    /// Hand the batch to Java, if not empty, and clear it.
+    fn flush(&mut self, env: &mut JNIEnv, handle_id: jlong) {
+        if self.ends.is_empty() {
+            return;
+        }
+        if let Ok(cache) = get_glide_core_client_cache_safe(env)
+            && env.push_local_frame(4).is_ok()
+        {
+            if let Ok(jbytes) = env.byte_array_from_slice(&self.bytes)
+                && let Ok(jends) = env.new_int_array(self.ends.len() as i32)
+                && env.set_int_array_region(&jends, 0, &self.ends).is_ok()
+            {
+                let jbytes_obj: JObject = jbytes.into();
+                let jends_obj: JObject = jends.into();
                 unsafe {
                     let _ = env.call_static_method_unchecked(
                         &cache.class,
-                        cache.on_native_push,
+                        cache.on_native_push_batch,
                         signature::ReturnType::Primitive(signature::Primitive::Void),
                         &[
                             JValue::Long(handle_id).as_jni(),
-                            JValue::Object(&jm_obj).as_jni(),
-                            JValue::Object(&jc_obj).as_jni(),
-                            JValue::Object(&jp_obj).as_jni(),
+                            JValue::Object(&jbytes_obj).as_jni(),
+                            JValue::Object(&jends_obj).as_jni(),
                         ],
                     );
                 }
             }
+            let _ = unsafe { env.pop_local_frame(&JObject::null()) };
         }
+        self.bytes.clear();
+        self.ends.clear();
+    }
+}
 
-        let _ = unsafe { env.pop_local_frame(&JObject::null()) };
+pub(crate) fn handle_push_notification(env: &mut JNIEnv, handle_id: jlong, push: redis::PushInfo) {
+    use redis::{PushKind, Value};
+
+    let as_bytes = |v: &Value| -> Option<Vec<u8>> {
+        match v {
+            Value::BulkString(b) => Some(b.clone()),
+            _ => None,
+        }
+    };
+
+    match push.kind {
+        PushKind::Invalidate => {
+            // A nil (or missing) key list means the server flushed every tracked key
+            let keys: Option<Vec<Vec<u8>>> = match push.data.first() {
+                Some(Value::Array(keys)) => Some(keys.iter().filter_map(as_bytes).collect()),
+                _ => None,
+            };
+            notify_invalidation(env, handle_id, keys, false);
+        }
+        PushKind::Disconnection => {
+            notify_invalidation(env, handle_id, None, true);
+        }
+        _ => {
+            let mut batch = PushBatch::default();
+            if batch.add(&push) {
+                batch.flush(env, handle_id);
+            }
+        }
     }
 }
 
+/// Forward a client-side cache invalidation to Java. `keys` of `None` invalidates everything.
+fn notify_invalidation(
+    env: &mut JNIEnv,
+    handle_id: jlong,
+    keys: Option<Vec<Vec<u8>>>,
+    disconnected: bool,
+) {
+    let Ok(cache) = get_glide_core_client_cache_safe(env) else {
+        return;
+    };
+    if env.push_local_frame(16).is_err() {
+        return;
+    }
+
+    let jkeys: Option<JObject> = match keys {
+        Some(keys) => (|| -> Option<JObject> {
+            let array = env
+                .new_object_array(keys.len() as i32, "[B", JObject::null())
+                .ok()?;
+            for (i, key) in keys.iter().enumerate() {
+                let jkey = env.byte_array_from_slice(key).ok()?;
+                env.set_object_array_element(&array, i as i32, &jkey).ok()?;
+                let _ = env.delete_local_ref(jkey);
+            }
+            Some(array.into())
+        })(),
+        None => Some(JObject::null()),
+    };
+
+    if let Some(jkeys) = jkeys {
+        unsafe {
+            let _ = env.call_static_method_unchecked(
+                &cache.class,
+                cache.on_native_invalidate,
+                signature::ReturnType::Primitive(signature::Primitive::Void),
+                &[
+                    JValue::Long(handle_id).as_jni(),
+                    JValue::Object(&jkeys).as_jni(),
+                    JValue::Bool(disconnected as u8).as_jni(),
+                ],
+            );
+        }
+    }
+    if env.exception_check().unwrap_or(false) {
+        let _ = env.exception_clear();
+    }
+
+    let _ = unsafe { env.pop_local_frame(&JObject::null()) };
+}
+
 /// Cache of required Java method IDs.
 #[derive(Clone)]
 pub(crate) struct MethodCache {
     async_handle_table_class: GlobalRef,
     complete_callback_method: JStaticMethodID,
+    complete_callbacks_method: JStaticMethodID,
     complete_error_with_code_method: JStaticMethodID,
+    object_class: GlobalRef,
 }
 
 static METHOD_CACHE: std::sync::OnceLock<Mutex<Option<MethodCache>>> = std::sync::OnceLock::new();
@@ -310,6 +453,10 @@ pub(crate) fn get_method_cache(env: &mut JNIEnv) -> Result<MethodCache> {
         .get_static_method_id(&class, "completeCallback", "(JLjava/lang/Object;)Z")
         .map_err(|e| anyhow::anyhow!("Failed to get completeCallback method ID: {e}"))?;
 
+    let complete_callbacks_method = env
+        .get_static_method_id(&class, "completeCallbacks", "([J[Ljava/lang/Object;)I")
+        .map_err(|e| anyhow::anyhow!("Failed to get completeCallbacks method ID: {e}"))?;
+
     let complete_error_with_code_method = env
         .get_static_method_id(
             &class,
@@ -320,10 +467,17 @@ pub(crate) fn get_method_cache(env: &mut JNIEnv) -> Result<MethodCache> {
             anyhow::anyhow!("Failed to get completeCallbackWithErrorCode method ID: {e}")
         })?;
 
+    let object_class = env
+        .find_class("java/lang/Object")
+        .and_then(|class| env.new_global_ref(class))
+        .map_err(|e| anyhow::anyhow!("Failed to find Object class: {e}"))?;
+
     let method_cache = MethodCache {
         async_handle_table_class: global_class,
         complete_callback_method,
+        complete_callbacks_method,
         complete_error_with_code_method,
+        object_class,
     };
 
     // Store in cache
@@ -335,13 +489,48 @@ pub(crate) fn get_method_cache(env: &mut JNIEnv) -> Result<MethodCache> {
     Ok(method_cache)
 }
 
+/// How a reply is converted into a Java object.
+#[derive(Clone, Copy, Debug, PartialEq, Eq)]
+pub enum ResultMode {
+    /// Strings are decoded as UTF-8.
+    Utf8,
+    /// Strings are returned as bytes.
+    Binary,
+    /// A bulk string is returned as a `BufferLease` over native memory, which Java releases
+    /// explicitly. Other replies are converted as in `Binary` mode.
+    LeasedBuffer,
+    /// An array reply is returned as a `double[]`, nil elements becoming NaN.
+    DoubleArray,
+    /// An array of integers is returned as a `long[]`.
+    LongArray,
+    /// An array of booleans, or of 0/1 integers as sent by RESP2, is returned as a `boolean[]`.
+    BooleanArray,
+}
+
 /// Callback job type handled by dedicated callback workers
-type CallbackJob = (Arc<JavaVM>, jlong, CallbackResult, bool);
+type CallbackJob = (Arc<JavaVM>, jlong, CallbackResult, ResultMode);
+
+/// Sizing and CPU pinning of the callback workers. Fixed once the workers have started.
+#[derive(Clone, Debug, PartialEq, Eq)]
+pub struct CallbackWorkerConfig {
+    /// Number of worker threads.
+    pub threads: usize,
+    /// CPUs to pin workers to; worker `i` runs on `cpus[i % cpus.len()]`. Empty disables pinning.
+    pub cpus: Vec<usize>,
+    /// Maximum number of results a worker completes with a single upcall into Java.
+    pub max_batch_size: usize,
+    /// How long a worker waits for more results before completing a partial batch. Zero only
+    /// batches results that are already queued, adding no latency.
+    pub batch_window: Duration,
+}
+
+static CALLBACK_WORKER_CONFIG: std::sync::OnceLock<CallbackWorkerConfig> =
+    std::sync::OnceLock::new();
 
-/// Global unbounded callback queue sender
-static CALLBACK_SENDER: std::sync::OnceLock<Sender<CallbackJob>> = std::sync::OnceLock::new();
+/// One unbounded queue per worker; each worker owns its receiver, so dispatch takes no lock.
+static CALLBACK_SENDERS: std::sync::OnceLock<Vec<Sender<CallbackJob>>> = std::sync::OnceLock::new();
 
-fn get_callback_worker_threads() -> usize {
+pub fn default_callback_worker_threads() -> usize {
     if let Ok(val) = std::env::var("GLIDE_CALLBACK_WORKER_THREADS") {
         val.parse::<usize>()
             .unwrap_or(DEFAULT_CALLBACK_WORKER_THREADS)
@@ -351,43 +540,207 @@ fn get_callback_worker_threads() -> usize {
     }
 }
 
-pub fn init_callback_workers() -> &'static Sender<CallbackJob> {
-    CALLBACK_SENDER.get_or_init(|| {
-        let (tx, rx) = channel::<CallbackJob>();
-        let rx = Arc::new(std::sync::Mutex::new(rx));
-        let worker_threads = get_callback_worker_threads();
-
-        for i in 0..worker_threads {
-            let rx_clone = Arc::clone(&rx);
-            thread::Builder::new()
-                .name(format!("glide-jni-callback-{i}"))
-                .spawn(move || {
-                    loop {
-                        let job_opt = {
-                            let guard = rx_clone.lock().unwrap();
-                            guard.recv().ok()
-                        };
-                        let Some((jvm, callback_id, result, binary_mode)) = job_opt else {
-                            break;
-                        };
-
-                        // Process callback on this dedicated thread
-                        process_callback_job(jvm, callback_id, result, binary_mode);
-                    }
-                })
-                .expect("Failed to spawn callback worker thread");
-        }
+/// Configure the callback workers before they start.
+///
+/// Workers are shared by all clients in the process, so only the first configuration applies.
+/// Returns false if the workers already run (or are configured to run) with a different one.
+pub fn configure_callback_workers(config: CallbackWorkerConfig) -> bool {
+    *CALLBACK_WORKER_CONFIG.get_or_init(|| config.clone()) == config
+}
 
-        tx
+fn callback_worker_config() -> &'static CallbackWorkerConfig {
+    CALLBACK_WORKER_CONFIG.get_or_init(|| CallbackWorkerConfig {
+        threads: default_callback_worker_threads(),
+        cpus: Vec::new(),
+        max_batch_size: DEFAULT_CALLBACK_BATCH_SIZE,
+        batch_window: Duration::ZERO,
     })
 }
 
+pub fn init_callback_workers() -> &'static [Sender<CallbackJob>] {
+    CALLBACK_SENDERS.get_or_init(|| {
+        let config = callback_worker_config();
+        (0..config.threads.max(1))
+            .map(|i| {
+                let (tx, rx) = channel::<CallbackJob>();
+                let cpu = (!config.cpus.is_empty()).then(|| config.cpus[i % config.cpus.len()]);
+                let max_batch_size = config.max_batch_size.max(1);
+                let batch_window = config.batch_window;
+                thread::Builder::new()
+                    .name(format!("glide-jni-callback-{i}"))
+                    .spawn(move || {
+                        if let Some(cpu) = cpu {
+                            pin_current_thread(cpu);
+                        }
+                        let mut batch = Vec::with_capacity(max_batch_size);
+                        while let Ok(job) = rx.recv() {
+                            batch.push(job);
+                            fill_callback_batch(&rx, &mut batch, max_batch_size, batch_window);
+                            // Process callbacks on this dedicated thread
+                            process_callback_batch(&mut batch);
+                        }
+                    })
+                    .expect("Failed to spawn callback worker thread");
+                tx
+            })
+            .collect()
+    })
+}
+
+#[cfg(target_os = "linux")]
+fn pin_current_thread(cpu: usize) {
+    unsafe extern "C" {
+        fn sched_setaffinity(pid: i32, cpusetsize: usize, mask: *const u64) -> i32;
+    }
+    // Matches glibc's cpu_set_t (1024 CPUs)
+    const MASK_WORDS: usize = 16;
+    if cpu >= MASK_WORDS * 64 {
+        log::warn!("Cannot pin callback worker to CPU {cpu}: CPU index out of range");
+        return;
+    }
+    let mut mask = [0u64; MASK_WORDS];
+    mask[cpu / 64] |= 1 << (cpu % 64);
+    // pid 0 applies the mask to the calling thread
+    if unsafe { sched_setaffinity(0, std::mem::size_of_val(&mask), mask.as_ptr()) } != 0 {
+        log::warn!(
+            "Failed to pin callback worker to CPU {cpu}: {}",
+            std::io::Error::last_os_error()
+        );
+    }
+}
+
+#[cfg(not(target_os = "linux"))]
+fn pin_current_thread(cpu: usize) {
+    log::warn!("Pinning callback workers is only supported on Linux, ignoring CPU {cpu}");
+}
+
+/// Add queued jobs to the batch, waiting up to `window` for more to arrive.
+fn fill_callback_batch(
+    rx: &Receiver<CallbackJob>,
+    batch: &mut Vec<CallbackJob>,
+    max_batch_size: usize,
+    window: Duration,
+) {
+    let deadline = (!window.is_zero()).then(|| Instant::now() + window);
+    while batch.len() < max_batch_size {
+        match rx.try_recv() {
+            Ok(job) => batch.push(job),
+            Err(TryRecvError::Disconnected) => return,
+            Err(TryRecvError::Empty) => {
+                let Some(deadline) = deadline else {
+                    return;
+                };
+                let remaining = deadline.saturating_duration_since(Instant::now());
+                match rx.recv_timeout(remaining) {
+                    Ok(job) => batch.push(job),
+                    Err(RecvTimeoutError::Timeout) | Err(RecvTimeoutError::Disconnected) => return,
+                }
+            }
+        }
+    }
+}
+
+/// Complete a batch of jobs, delivering successful results with a single upcall.
+///
+/// Errors are rare and completed one by one; results converted before an error are flushed first
+/// so callbacks still complete in queue order.
+fn process_callback_batch(batch: &mut Vec<CallbackJob>) {
+    if batch.len() == 1 {
+        if let Some((jvm, callback_id, result, mode)) = batch.pop() {
+            process_callback_job(jvm, callback_id, result, mode);
+        }
+        return;
+    }
+    let Some(jvm) = batch.first().map(|(jvm, ..)| jvm.clone()) else {
+        return;
+    };
+
+    let mut env = match jvm.attach_current_thread_as_daemon() {
+        Ok(env) => env,
+        Err(e) => {
+            log::error!("JNI environment attachment failed: {e}");
+            batch.clear();
+            return;
+        }
+    };
+
+    let _ = env.push_local_frame(2 * batch.len() as i32 + 16);
+    let mut ids: Vec<jlong> = Vec::with_capacity(batch.len());
+    let mut results: Vec<JObject> = Vec::with_capacity(batch.len());
+    let mut leases: Vec<Option<u64>> = Vec::with_capacity(batch.len());
+
+    for (_, callback_id, result, mode) in batch.drain(..) {
+        if take_timed_out_callback(callback_id) {
+            continue;
+        }
+        let (error_code, error_msg) = match result {
+            Ok(server_value) => {
+                match convert_result(&mut env, server_value, mode) {
+                    Ok((java_result, lease)) => {
+                        ids.push(callback_id);
+                        results.push(java_result);
+                        leases.push(lease);
+                        continue;
+                    }
+                    Err(e) => (0, format!("Response conversion failed: {e}")),
+                }
+            }
+            Err(server_err) => (error_type(&server_err) as i32, error_message(&server_err)),
+        };
+        flush_java_callbacks(&mut env, &mut ids, &mut results, &mut leases);
+        let _ =
+            complete_java_callback_with_error_code(&mut env, callback_id, error_code, &error_msg);
+    }
+    flush_java_callbacks(&mut env, &mut ids, &mut results, &mut leases);
+
+    let _ = unsafe { env.pop_local_frame(&JObject::null()) };
+}
+
+/// Complete the collected results, skipping those that timed out while being converted.
+fn flush_java_callbacks(
+    env: &mut JNIEnv,
+    ids: &mut Vec<jlong>,
+    results: &mut Vec<JObject>,
+    leases: &mut Vec<Option<u64>>,
+) {
+    // Compact in place, keeping the remaining results in order
+    let mut kept = 0;
+    for index in 0..ids.len() {
+        if take_timed_out_callback(ids[index]) {
+            // Nobody will close the lease of a dropped result
+            if let Some(id) = leases[index] {
+                free_native_buffer(id);
+            }
+        } else {
+            ids.swap(kept, index);
+            results.swap(kept, index);
+            kept += 1;
+        }
+    }
+    ids.truncate(kept);
+    results.truncate(kept);
+    leases.clear();
+    match ids.len() {
+        0 => {}
+        1 => {
+            let _ = complete_java_callback(env, ids[0], &results[0]);
+        }
+        _ => {
+            if let Err(e) = complete_java_callbacks(env, ids, results) {
+                log::error!("Failed to complete callback batch: {e}");
+            }
+        }
+    }
+    ids.clear();
+    results.clear();
+}
+
 /// Drop callbacks that already timed out on the Java side.
 fn process_callback_job(
     jvm: Arc<JavaVM>,
     callback_id: jlong,
     result: CallbackResult,
-    binary_mode: bool,
+    mode: ResultMode,
 ) {
     if take_timed_out_callback(callback_id) {
         return;
@@ -398,19 +751,18 @@ fn process_callback_job(
             Ok(server_value) => {
                 let _ = env.push_local_frame(16);
 
-                let java_result = if should_use_direct_buffer(&server_value) {
-                    create_direct_byte_buffer(&mut env, server_value, !binary_mode)
-                } else {
-                    crate::resp_value_to_java(&mut env, server_value, !binary_mode)
-                };
+                let java_result = convert_result(&mut env, server_value, mode);
 
                 if take_timed_out_callback(callback_id) {
+                    if let Ok((_, Some(id))) = java_result {
+                        free_native_buffer(id);
+                    }
                     let _ = unsafe { env.pop_local_frame(&JObject::null()) };
                     return;
                 }
 
                 match java_result {
-                    Ok(java_result) => {
+                    Ok((java_result, _)) => {
                         let _ = complete_java_callback(&mut env, callback_id, &java_result);
                     }
                     Err(e) => {
@@ -448,14 +800,39 @@ fn process_callback_job(
 }
 
 /// Enqueue callback job to dedicated workers.
+///
+/// Jobs are sharded by client handle, so the callbacks of one client are completed in order by
+/// the same worker.
 pub fn complete_callback(
     jvm: Arc<JavaVM>,
+    handle_id: u64,
     callback_id: jlong,
     result: CallbackResult,
     binary_mode: bool,
 ) {
-    let sender = init_callback_workers();
-    if let Err(e) = sender.send((jvm, callback_id, result, binary_mode)) {
+    let mode = if binary_mode {
+        ResultMode::Binary
+    } else {
+        ResultMode::Utf8
+    };
+    complete_callback_with_mode(jvm, handle_id, callback_id, result, mode);
+}
+
+/// Enqueue callback job to dedicated workers, converting the result as `mode` says.
+///
+/// Jobs are spread by client so that each client's replies complete in order. A Java continuation
+/// that blocks on the worker therefore stalls every later reply of that client; clients configured
+/// with a completion executor hand the futures over to it in `AsyncRegistry` instead.
+pub fn complete_callback_with_mode(
+    jvm: Arc<JavaVM>,
+    handle_id: u64,
+    callback_id: jlong,
+    result: CallbackResult,
+    mode: ResultMode,
+) {
+    let senders = init_callback_workers();
+    let sender = &senders[(handle_id % senders.len() as u64) as usize];
+    if let Err(e) = sender.send((jvm, callback_id, result, mode)) {
         log::error!("Callback queue send failed: {e}");
     }
 }
@@ -483,6 +860,36 @@ pub fn complete_java_callback(
     Ok(())
 }
 
+/// Complete many Java CompletableFutures with a single upcall using cached method IDs.
+pub fn complete_java_callbacks(
+    env: &mut JNIEnv,
+    callback_ids: &[jlong],
+    results: &[JObject],
+) -> Result<()> {
+    let method_cache = get_method_cache(env)?;
+    let length = callback_ids.len() as i32;
+    let id_array = env.new_long_array(length)?;
+    env.set_long_array_region(&id_array, 0, callback_ids)?;
+    let result_array = env.new_object_array(length, &method_cache.object_class, JObject::null())?;
+    for (index, result) in results.iter().enumerate() {
+        env.set_object_array_element(&result_array, index as i32, result)?;
+    }
+
+    unsafe {
+        env.call_static_method_unchecked(
+            &method_cache.async_handle_table_class,
+            method_cache.complete_callbacks_method,
+            jni::signature::ReturnType::Primitive(jni::signature::Primitive::Int),
+            &[
+                JValue::Object(&id_array).as_jni(),
+                JValue::Object(&result_array).as_jni(),
+            ],
+        )
+    }?;
+
+    Ok(())
+}
+
 /// Complete Java CompletableFuture with error code and message using cached method IDs.
 pub fn complete_java_callback_with_error_code(
     env: &mut JNIEnv,
@@ -509,6 +916,129 @@ pub fn complete_java_callback_with_error_code(
     Ok(())
 }
 
+/// Convert a reply into a Java object, also returning the id of the native buffer it leases.
+fn convert_result<'local>(
+    env: &mut JNIEnv<'local>,
+    value: ServerValue,
+    mode: ResultMode,
+) -> Result<(JObject<'local>, Option<u64>), crate::errors::FFIError> {
+    if let Some(array) = convert_primitive_array(env, &value, mode)? {
+        return Ok((array, None));
+    }
+    if mode == ResultMode::LeasedBuffer
+        && let redis::Value::BulkString(data) = value
+    {
+        let (lease, id) = create_buffer_lease(env, data)?;
+        return Ok((lease, Some(id)));
+    }
+    let encoding_utf8 = mode == ResultMode::Utf8;
+    let java_result = if should_use_direct_buffer(&value) {
+        create_direct_byte_buffer(env, value, encoding_utf8)?
+    } else {
+        crate::resp_value_to_java(env, value, encoding_utf8)?
+    };
+    Ok((java_result, None))
+}
+
+/// Convert an array reply into the primitive Java array `mode` asks for, filled with a single JNI
+/// call instead of one upcall per boxed element. Returns `None` for other modes and for replies
+/// that are not arrays, which are converted as usual.
+fn convert_primitive_array<'local>(
+    env: &mut JNIEnv<'local>,
+    value: &ServerValue,
+    mode: ResultMode,
+) -> Result<Option<JObject<'local>>, crate::errors::FFIError> {
+    let redis::Value::Array(elements) = value else {
+        return Ok(None);
+    };
+    let length = elements.len() as jint;
+    let unexpected = || {
+        crate::errors::FFIError::UnexpectedReply(format!(
+            "Reply cannot be converted to a primitive array ({mode:?})"
+        ))
+    };
+    let array: JObject = match mode {
+        ResultMode::DoubleArray => {
+            let values = elements
+                .iter()
+                .map(|element| match element {
+                    redis::Value::Nil => Some(f64::NAN),
+                    redis::Value::Double(value) => Some(*value),
+                    redis::Value::Int(value) => Some(*value as f64),
+                    redis::Value::BulkString(bytes) => {
+                        std::str::from_utf8(bytes).ok()?.parse::<f64>().ok()
+                    }
+                    redis::Value::SimpleString(text) => text.parse::<f64>().ok(),
+                    _ => None,
+                })
+                .collect::<Option<Vec<f64>>>()
+                .ok_or_else(unexpected)?;
+            let array = env.new_double_array(length)?;
+            env.set_double_array_region(&array, 0, &values)?;
+            array.into()
+        }
+        ResultMode::LongArray => {
+            let values = elements
+                .iter()
+                .map(|element| match element {
+                    redis::Value::Int(value) => Some(*value),
+                    _ => None,
+                })
+                .collect::<Option<Vec<jlong>>>()
+                .ok_or_else(unexpected)?;
+            let array = env.new_long_array(length)?;
+            env.set_long_array_region(&array, 0, &values)?;
+            array.into()
+        }
+        ResultMode::BooleanArray => {
+            let values = elements
+                .iter()
+                .map(|element| match element {
+                    redis::Value::Boolean(value) => Some(*value as jboolean),
+                    redis::Value::Int(value) => Some((*value != 0) as jboolean),
+                    _ => None,
+                })
+                .collect::<Option<Vec<jboolean>>>()
+                .ok_or_else(unexpected)?;
+            let array = env.new_boolean_array(length)?;
+            env.set_boolean_array_region(&array, 0, &values)?;
+            array.into()
+        }
+        ResultMode::Utf8 | ResultMode::Binary | ResultMode::LeasedBuffer => return Ok(None),
+    };
+    Ok(Some(array))
+}
+
+/// Wrap bytes into a `BufferLease` over a DirectByteBuffer. Unlike [`create_direct_byte_buffer`],
+/// no cleaner is registered: the memory is freed when Java closes the lease.
+fn create_buffer_lease<'local>(
+    env: &mut JNIEnv<'local>,
+    data: Vec<u8>,
+) -> Result<(JObject<'local>, u64), crate::errors::FFIError> {
+    let (id, ptr, len) = register_native_buffer(data);
+    let lease = (|| -> Result<JObject<'local>, crate::errors::FFIError> {
+        let cache = get_glide_core_client_cache_safe(env)
+            .map_err(|_e| jni::errors::Error::JNIEnvMethodNotFound("GlideCoreClient cache"))?;
+        let buffer: JObject = unsafe { env.new_direct_byte_buffer(ptr.cast(), len)? }.into();
+        let lease = unsafe {
+            env.call_static_method_unchecked(
+                &cache.class,
+                cache.new_native_buffer_lease,
+                signature::ReturnType::Object,
+                &[
+                    JValue::Object(&buffer).as_jni(),
+                    JValue::Long(id as jlong).as_jni(),
+                ],
+            )?
+        };
+        Ok(lease.l()?)
+    })();
+    if lease.is_err() {
+        free_native_buffer(id);
+    }
+    lease.map(|lease| (lease, id))
+}
+
 /// Check if response should use DirectByteBuffer based on size threshold (16KB)
 fn should_use_direct_buffer(value: &ServerValue) -> bool {
     const THRESHOLD: usize = 16 * 1024; // 16KB threshold
@@ -820,19 +1350,28 @@ pub extern "system" fn Java_glide_internal_GlideCoreClient_onNativeInit(
     // Cache GlideCoreClient class and method IDs with correct classloader context.
     // The 'class' parameter is GlideCoreClient, already loaded by the application classloader.
     if let Ok(global) = env.new_global_ref(&class)
-        && let (Ok(on_native_push), Ok(register_cleaner)) = (
-            env.get_static_method_id(&class, "onNativePush", "(J[B[B[B)V"),
+        && let (
+            Ok(on_native_push_batch),
+            Ok(on_native_invalidate),
+            Ok(register_cleaner),
+            Ok(new_native_buffer_lease),
+        ) = (
+            env.get_static_method_id(&class, "onNativePushBatch", ON_NATIVE_PUSH_BATCH_SIG),
+            env.get_static_method_id(&class, "onNativeInvalidate", "(J[[BZ)V"),
             env.get_static_method_id(
                 &class,
                 "registerNativeBufferCleaner",
                 "(Ljava/nio/ByteBuffer;J)V",
             ),
+            env.get_static_method_id(&class, "newNativeBufferLease", NEW_NATIVE_BUFFER_LEASE_SIG),
         )
     {
         let cache = GlideCoreClientCache {
             class: global,
-            on_native_push,
+            on_native_push_batch,
+            on_native_invalidate,
             register_native_buffer_cleaner: register_cleaner,
+            new_native_buffer_lease,
         };
         let cache_mutex = GLIDE_CORE_CLIENT_CACHE.get_or_init(|| Mutex::new(None));
         *cache_mutex.lock() = Some(cache);
@@ -853,10 +1392,16 @@ pub extern "system" fn Java_glide_internal_GlideCoreClient_freeNativeBuffer(
 #[derive(Clone)]
 struct GlideCoreClientCache {
     class: GlobalRef,
-    on_native_push: JStaticMethodID,
+    on_native_push_batch: JStaticMethodID,
+    on_native_invalidate: JStaticMethodID,
     register_native_buffer_cleaner: JStaticMethodID,
+    new_native_buffer_lease: JStaticMethodID,
 }
 
+const ON_NATIVE_PUSH_BATCH_SIG: &str = "(J[B[I)V";
+
+const NEW_NATIVE_BUFFER_LEASE_SIG: &str = "(Ljava/nio/ByteBuffer;J)Lglide/api/models/BufferLease;";
+
 static GLIDE_CORE_CLIENT_CACHE: std::sync::OnceLock<Mutex<Option<GlideCoreClientCache>>> =
     std::sync::OnceLock::new();
 
@@ -878,17 +1423,24 @@ fn get_glide_core_client_cache_safe(env: &mut JNIEnv) -> Result<GlideCoreClientC
     // Fallback: try to initialize dynamically using the provided env
     let class = env.find_class("glide/internal/GlideCoreClient")?;
     let global = env.new_global_ref(&class)?;
-    let on_native_push = env.get_static_method_id(&class, "onNativePush", "(J[B[B[B)V")?;
+    let on_native_push_batch =
+        env.get_static_method_id(&class, "onNativePushBatch", ON_NATIVE_PUSH_BATCH_SIG)?;
+    let on_native_invalidate =
+        env.get_static_method_id(&class, "onNativeInvalidate", "(J[[BZ)V")?;
     let register_cleaner = env.get_static_method_id(
         &class,
         "registerNativeBufferCleaner",
         "(Ljava/nio/ByteBuffer;J)V",
     )?;
+    let new_native_buffer_lease =
+        env.get_static_method_id(&class, "newNativeBufferLease", NEW_NATIVE_BUFFER_LEASE_SIG)?;
 
     let cache = GlideCoreClientCache {
         class: global,
-        on_native_push,
+        on_native_push_batch,
+        on_native_invalidate,
         register_native_buffer_cleaner: register_cleaner,
+        new_native_buffer_lease,
     };
 
     let mut guard = cache_mutex.lock();
@@ -19,7 +19,8 @@ use protobuf::Message;
 use jni::JNIEnv;
 use jni::errors::Error as JniError;
 use jni::objects::{
-    GlobalRef, JByteArray, JClass, JMethodID, JObject, JObjectArray, JStaticMethodID, JString,
+    GlobalRef, JByteArray, JByteBuffer, JClass, JIntArray, JMethodID, JObject, JObjectArray,
+    JStaticMethodID, JString,
 };
 use jni::sys::{jint, jlong};
 use parking_lot::Mutex;
@@ -27,6 +28,7 @@ use redis::Value;
 use std::str::FromStr;
 use std::sync::{Arc, OnceLock};
 
+mod command_encoding;
 mod errors;
 mod jni_client;
 mod linked_hashmap;
@@ -36,240 +38,114 @@ use errors::{FFIError, handle_errors, handle_panics};
 use jni_client::*;
 use protobuf_bridge::*;
 
-#[derive(Clone)]
-pub struct RegistryMethodCache {
-    class: GlobalRef,
-    retrieve_method: JStaticMethodID,
-}
-
-static REGISTRY_METHOD_CACHE: OnceLock<Mutex<Option<RegistryMethodCache>>> = OnceLock::new();
-
-fn get_registry_method_cache(env: &mut JNIEnv) -> Result<&'static RegistryMethodCache, FFIError> {
-    let cache_mutex = REGISTRY_METHOD_CACHE.get_or_init(|| Mutex::new(None));
-    {
-        let guard = cache_mutex.lock();
-        if let Some(ref cache) = *guard {
-            return Ok(unsafe {
-                std::mem::transmute::<&RegistryMethodCache, &RegistryMethodCache>(cache)
-            });
+/// End a root OpenTelemetry span created by Java and release the reference leaked to native code.
+fn end_root_span(root_span_ptr: u64) {
+    match unsafe { glide_core::GlideOpenTelemetry::span_from_pointer(root_span_ptr) } {
+        Ok(span) => {
+            span.end();
+            unsafe {
+                std::sync::Arc::from_raw(root_span_ptr as *const glide_core::GlideSpan);
+            }
         }
-    }
-
-    let class = env.find_class("glide/managers/JniResponseRegistry")?;
-    let global_class = env.new_global_ref(&class)?;
-    let method = env.get_static_method_id(&class, "retrieveAndRemove", "(J)Ljava/lang/Object;")?;
-
-    let cache = RegistryMethodCache {
-        class: global_class,
-        retrieve_method: method,
-    };
-
-    // If another thread initialized concurrently, prefer the existing value.
-    {
-        let mut guard = cache_mutex.lock();
-        if guard.is_none() {
-            *guard = Some(cache);
+        Err(err) => {
+            log::warn!(
+                "Failed to finalize OpenTelemetry span: pointer={}, error={}",
+                root_span_ptr,
+                err
+            );
         }
     }
-
-    let guard = cache_mutex.lock();
-    let cache_ref = guard
-        .as_ref()
-        .expect("RegistryMethodCache should be initialized");
-    Ok(unsafe { std::mem::transmute::<&RegistryMethodCache, &RegistryMethodCache>(cache_ref) })
 }
 
-/// Get registry method cache using correct classloader context
-fn get_registry_method_cache_safe(
-    fallback_env: &mut JNIEnv,
-) -> Result<&'static RegistryMethodCache, FFIError> {
-    // Try cached JVM env first
-    if let Some(cached_jvm) = jni_client::JVM.get()
-        && let Ok(mut cached_env) = cached_jvm.get_env()
-    {
-        return get_registry_method_cache(&mut cached_env);
+/// Resolve the direct buffers referenced by an encoded request.
+///
+/// The slices borrow Java memory: they are only valid during the JNI call that received the
+/// buffers, which Java keeps reachable until the call returns.
+fn external_argument_slices<'a>(
+    env: &mut JNIEnv,
+    buffers: &JObjectArray,
+) -> anyhow::Result<Vec<&'a [u8]>> {
+    if buffers.is_null() {
+        return Ok(Vec::new());
     }
-    // Otherwise fallback to provided env
-    get_registry_method_cache(fallback_env)
+    let count = env.get_array_length(buffers)?;
+    let mut slices = Vec::with_capacity(count as usize);
+    for index in 0..count {
+        let buffer = JByteBuffer::from(env.get_object_array_element(buffers, index)?);
+        let capacity = env.get_direct_buffer_capacity(&buffer)?;
+        let slice: &'a [u8] = if capacity == 0 {
+            &[]
+        } else {
+            let address = env.get_direct_buffer_address(&buffer)?;
+            unsafe { std::slice::from_raw_parts(address, capacity) }
+        };
+        env.delete_local_ref(buffer)?;
+        slices.push(slice);
+    }
+    Ok(slices)
 }
 
-// Internal helper: execute a parsed CommandRequest and complete Java callback
-async fn execute_command_request_and_complete(
+// Internal helper: execute a decoded single command and complete Java callback
+async fn execute_encoded_command_and_complete(
     handle_id: u64,
-    command_request: protobuf_bridge::CommandRequest,
+    mut command: command_encoding::EncodedCommand,
     callback_id: jlong,
     jvm: std::sync::Arc<jni::JavaVM>,
     expect_utf8: bool,
 ) {
-    let result: Result<redis::Value, redis::RedisError> = async {
-        let mut client = jni_client::ensure_client_for_handle(handle_id)
-            .await
-            .map_err(|e| {
-                redis::RedisError::from((
-                    redis::ErrorKind::ClientError,
-                    "Client not found",
-                    e.to_string(),
-                ))
-            })?;
-
-        let root_span_ptr_opt = command_request.root_span_ptr;
-        match &command_request.command {
-            Some(protobuf_bridge::command_request::Command::SingleCommand(command)) => {
-                let mut cmd = protobuf_bridge::create_valkey_command(command).map_err(|e| {
-                    redis::RedisError::from((
+    let root_span_ptr = command.root_span_ptr;
+    let result_mode = command.result_mode;
+
+    let result: Result<redis::Value, redis::RedisError> =
+        match jni_client::ensure_client_for_handle(handle_id).await {
+            Ok(mut client) => {
+                match command.apply_compression(client.compression_manager().as_deref()) {
+                    Ok(()) => client.send_command(&mut command.cmd, command.routing).await,
+                    Err(e) => Err(redis::RedisError::from((
                         redis::ErrorKind::ClientError,
-                        "Failed to create command",
+                        "Compression failed",
                         e.to_string(),
-                    ))
-                })?;
-
-                // Compute routing
-                let route_box = command_request.route.0;
-                let routing = if let Some(route_box) = route_box {
-                    protobuf_bridge::get_route(*route_box, Some(&cmd)).map_err(|e| {
-                        redis::RedisError::from((
-                            redis::ErrorKind::ClientError,
-                            "Routing error",
-                            e.to_string(),
-                        ))
-                    })?
-                } else {
-                    None
-                };
-
-                let exec = client.send_command(&mut cmd, routing).await;
-
-                if let Some(root_span_ptr) = root_span_ptr_opt
-                    && root_span_ptr != 0
-                {
-                    match unsafe {
-                        glide_core::GlideOpenTelemetry::span_from_pointer(root_span_ptr)
-                    } {
-                        Ok(span) => {
-                            span.end();
-                            unsafe {
-                                std::sync::Arc::from_raw(
-                                    root_span_ptr as *const glide_core::GlideSpan,
-                                );
-                            }
-                        }
-                        Err(err) => {
-                            log::warn!(
-                                "Failed to finalize OpenTelemetry span: pointer={}, error={}",
-                                root_span_ptr,
-                                err
-                            );
-                        }
-                    }
+                    ))),
                 }
-                exec
             }
-            Some(protobuf_bridge::command_request::Command::Batch(batch)) => {
-                // Build pipeline
-                let mut pipeline = redis::Pipeline::with_capacity(batch.commands.len());
-                if batch.is_atomic {
-                    pipeline.atomic();
-                }
-                for c in &batch.commands {
-                    let valkey_cmd = protobuf_bridge::create_valkey_command(c).map_err(|e| {
-                        redis::RedisError::from((
-                            redis::ErrorKind::ClientError,
-                            "Failed to create batch command",
-                            e.to_string(),
-                        ))
-                    })?;
-                    pipeline.add_command(valkey_cmd);
-                }
-
-                // Routing for batch
-                let route_box = command_request.route.0;
-                let routing = if let Some(route_box) = route_box {
-                    protobuf_bridge::get_route(*route_box, None).map_err(|e| {
-                        redis::RedisError::from((
-                            redis::ErrorKind::ClientError,
-                            "Routing error",
-                            e.to_string(),
-                        ))
-                    })?
-                } else {
-                    None
-                };
+            Err(e) => Err(redis::RedisError::from((
+                redis::ErrorKind::ClientError,
+                "Client not found",
+                e.to_string(),
+            ))),
+        };
 
-                // Child span as per previous behavior
-                let mut send_batch_span: Option<glide_core::GlideSpan> = None;
-                if let Some(root_span_ptr) = root_span_ptr_opt
-                    && root_span_ptr != 0
-                    && let Ok(root_span) =
-                        unsafe { glide_core::GlideOpenTelemetry::span_from_pointer(root_span_ptr) }
-                    && let Ok(child) = root_span.add_span("send_batch")
-                {
-                    send_batch_span = Some(child);
-                }
+    if let Some(root_span_ptr) = root_span_ptr {
+        end_root_span(root_span_ptr);
+    }
 
-                let exec_res = if batch.is_atomic {
-                    client
-                        .send_transaction(
-                            &pipeline,
-                            routing,
-                            batch.timeout,
-                            batch.raise_on_error.unwrap_or(true),
-                        )
-                        .await
-                } else {
-                    client
-                        .send_pipeline(
-                            &pipeline,
-                            routing,
-                            batch.raise_on_error.unwrap_or(true),
-                            batch.timeout,
-                            redis::PipelineRetryStrategy {
-                                retry_server_error: batch.retry_server_error.unwrap_or(false),
-                                retry_connection_error: batch
-                                    .retry_connection_error
-                                    .unwrap_or(false),
-                            },
-                        )
-                        .await
-                };
+    let mode = result_mode.unwrap_or(if expect_utf8 {
+        jni_client::ResultMode::Utf8
+    } else {
+        jni_client::ResultMode::Binary
+    });
+    jni_client::complete_callback_with_mode(jvm, handle_id, callback_id, result, mode);
+}
 
-                if let Some(child) = send_batch_span.as_ref() {
-                    child.end();
-                }
-                if let Some(root_span_ptr) = root_span_ptr_opt
-                    && root_span_ptr != 0
-                {
-                    match unsafe {
-                        glide_core::GlideOpenTelemetry::span_from_pointer(root_span_ptr)
-                    } {
-                        Ok(root_span) => {
-                            root_span.end();
-                            unsafe {
-                                std::sync::Arc::from_raw(
-                                    root_span_ptr as *const glide_core::GlideSpan,
-                                );
-                            }
-                        }
-                        Err(err) => {
-                            log::warn!(
-                                "Failed to finalize OpenTelemetry span: pointer={}, error={}",
-                                root_span_ptr,
-                                err
-                            );
-                        }
-                    }
-                }
-                exec_res
-            }
-            _ => Err(redis::RedisError::from((
-                redis::ErrorKind::ClientError,
-                "Unsupported command type",
-            ))),
+/// Decompress the values in a batch reply, as glide-core's socket listener does. Compressed values
+/// are recognized by their header, so replies of commands that don't compress pass unchanged.
+fn decompress_batch_response(
+    value: Value,
+    compression_manager: Option<&glide_core::compression::CompressionManager>,
+) -> Value {
+    let Some(manager) = compression_manager.filter(|manager| manager.is_enabled()) else {
+        return value;
+    };
+    let decompress = |value: Value| match value {
+        Value::BulkString(bytes) if glide_core::compression::has_magic_header(&bytes) => {
+            Value::BulkString(manager.try_decompress_value(&bytes))
         }
+        other => other,
+    };
+    match value {
+        Value::Array(values) => Value::Array(values.into_iter().map(decompress).collect()),
+        other => decompress(other),
     }
-    .await;
-
-    let binary_mode = !expect_utf8;
-    jni_client::complete_callback(jvm, callback_id, result, binary_mode);
 }
 
 /// Configuration for OpenTelemetry integration in the Java client.
@@ -616,102 +492,6 @@ pub extern "system" fn Java_glide_ffi_resolvers_GlideValueResolver_getMaxRequest
     MAX_REQUEST_ARGS_LENGTH_IN_BYTES as jlong
 }
 
-/// Convert a Valkey Value pointer to a Java object with UTF-8 string encoding.
-///
-/// This function is meant to be invoked by Java using JNI.
-///
-/// * `env`     - The JNI environment.
-/// * `_class`  - The class object. Not used.
-/// * `pointer` - A pointer to a Valkey Value object.
-#[unsafe(no_mangle)]
-pub extern "system" fn Java_glide_ffi_resolvers_GlideValueResolver_valueFromPointer<'local>(
-    mut env: JNIEnv<'local>,
-    _class: JClass<'local>,
-    pointer: jlong,
-) -> JObject<'local> {
-    handle_panics(
-        move || {
-            fn value_from_pointer<'a>(
-                env: &mut JNIEnv<'a>,
-                pointer: jlong,
-            ) -> Result<JObject<'a>, FFIError> {
-                if pointer == 0 {
-                    return Ok(JObject::null());
-                }
-
-                let cache = get_registry_method_cache_safe(env)?;
-                let class_j = to_local_jclass(env, &cache.class)?;
-                let result = unsafe {
-                    env.call_static_method_unchecked(
-                        class_j,
-                        cache.retrieve_method,
-                        jni::signature::ReturnType::Object,
-                        &[jni::sys::jvalue { j: pointer }],
-                    )
-                }?;
-
-                match result {
-                    jni::objects::JValueGen::Object(obj) => Ok(obj),
-                    _ => Ok(JObject::null()),
-                }
-            }
-            let result = value_from_pointer(&mut env, pointer);
-            handle_errors(&mut env, result)
-        },
-        "valueFromPointer",
-    )
-    .unwrap_or(JObject::null())
-}
-
-/// Convert a Redis Value pointer to a Java object with binary (byte[]) encoding.
-///
-/// This function is meant to be invoked by Java using JNI.
-///
-/// * `env`     - The JNI environment.
-/// * `_class`  - The class object. Not used.
-/// * `pointer` - A pointer to a Valkey Value object.
-#[unsafe(no_mangle)]
-pub extern "system" fn Java_glide_ffi_resolvers_GlideValueResolver_valueFromPointerBinary<
-    'local,
->(
-    mut env: JNIEnv<'local>,
-    _class: JClass<'local>,
-    pointer: jlong,
-) -> JObject<'local> {
-    handle_panics(
-        move || {
-            fn value_from_pointer_binary<'a>(
-                env: &mut JNIEnv<'a>,
-                pointer: jlong,
-            ) -> Result<JObject<'a>, FFIError> {
-                if pointer == 0 {
-                    return Ok(JObject::null());
-                }
-
-                let cache = get_registry_method_cache_safe(env)?;
-                let class_j = to_local_jclass(env, &cache.class)?;
-                let result = unsafe {
-                    env.call_static_method_unchecked(
-                        class_j,
-                        cache.retrieve_method,
-                        jni::signature::ReturnType::Object,
-                        &[jni::sys::jvalue { j: pointer }],
-                    )
-                }?;
-
-                match result {
-                    jni::objects::JValueGen::Object(obj) => Ok(obj),
-                    _ => Ok(JObject::null()),
-                }
-            }
-            let result = value_from_pointer_binary(&mut env, pointer);
-            handle_errors(&mut env, result)
-        },
-        "valueFromPointerBinary",
-    )
-    .unwrap_or(JObject::null())
-}
-
 #[unsafe(no_mangle)]
 pub extern "system" fn Java_glide_ffi_resolvers_ScriptResolver_storeScript<'local>(
     mut env: JNIEnv<'local>,
@@ -821,6 +601,57 @@ pub extern "system" fn Java_glide_ffi_resolvers_LoggerResolver_logInternal<'loca
     .unwrap_or(())
 }
 
+/// Logs a batch of records queued by the asynchronous Java log appender, in one JNI call.
+///
+/// * `levels`          - The level of each record.
+/// * `log_identifiers` - The identifier of each record.
+/// * `messages`        - The message of each record.
+/// * `count`           - The number of records, the arrays may be longer.
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_glide_ffi_resolvers_LoggerResolver_logBatchInternal<'local>(
+    mut env: JNIEnv<'local>,
+    _class: JClass<'local>,
+    levels: JIntArray<'local>,
+    log_identifiers: JObjectArray<'local>,
+    messages: JObjectArray<'local>,
+    count: jint,
+) {
+    handle_panics(
+        move || {
+            fn log_batch_internal(
+                env: &mut JNIEnv<'_>,
+                levels: JIntArray<'_>,
+                log_identifiers: JObjectArray<'_>,
+                messages: JObjectArray<'_>,
+                count: jint,
+            ) -> Result<(), FFIError> {
+                let mut level_values = vec![0; count.max(0) as usize];
+                env.get_int_array_region(&levels, 0, &mut level_values)?;
+
+                for (index, level) in level_values.into_iter().enumerate() {
+                    // Release each element right away: a batch holds more than the local frame
+                    let index = index as i32;
+                    let log_identifier =
+                        JString::from(env.get_object_array_element(&log_identifiers, index)?);
+                    let identifier: String = env.get_string(&log_identifier)?.into();
+                    env.delete_local_ref(log_identifier)?;
+
+                    let message = JString::from(env.get_object_array_element(&messages, index)?);
+                    let text: String = env.get_string(&message)?.into();
+                    env.delete_local_ref(message)?;
+
+                    logger_core::log(Level(level).try_into()?, identifier, text);
+                }
+                Ok(())
+            }
+            let result = log_batch_internal(&mut env, levels, log_identifiers, messages, count);
+            handle_errors(&mut env, result)
+        },
+        "logBatchInternal",
+    )
+    .unwrap_or(())
+}
+
 #[unsafe(no_mangle)]
 pub extern "system" fn Java_glide_ffi_resolvers_LoggerResolver_initInternal<'local>(
     mut env: JNIEnv<'local>,
@@ -1343,19 +1174,8 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_createClient(
                     // Store in handle table
                     handle_table.insert(safe_handle, client);
 
-                    // Always spawn push forwarder to deliver pushes to Java
-                    let jvm_arc = jni_client::JVM.get().cloned();
-                    let handle_for_java = safe_handle as jlong;
-                    get_runtime().spawn(async move {
-                        let mut rx = rx;
-                        while let Some(push) = rx.recv().await {
-                            if let Some(jvm) = jvm_arc.as_ref()
-                                && let Ok(mut env) = jvm.attach_current_thread_as_daemon()
-                            {
-                                handle_push_notification(&mut env, handle_for_java, push);
-                            }
-                        }
-                    });
+                    // Forward pushes to Java; the forwarding thread starts with the first push
+                    jni_client::spawn_push_forwarder(safe_handle as jlong, rx);
 
                     Some(safe_handle as jlong)
                 }
@@ -1370,63 +1190,82 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_createClient(
     .unwrap_or(0)
 }
 
-/// Execute Valkey command asynchronously using protobuf with FFI-imported routing.
+/// Execute a single command encoded by `glide.internal.CommandEncoder`.
+///
+/// The request is decoded (and its arguments copied) before this function returns, so Java is free
+/// to reuse the buffer for the next command.
 #[unsafe(no_mangle)]
-pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeCommandAsync(
-    env: JNIEnv,
+pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeEncodedCommandAsync(
+    mut env: JNIEnv,
     _class: JClass,
     client_ptr: jlong,
-    request_bytes: JByteArray,
+    request: JByteBuffer,
+    length: jint,
+    external_args: JObjectArray,
+    expect_utf8: jni::sys::jboolean,
     callback_id: jlong,
 ) {
     handle_panics(
         move || {
-            let raw_bytes = match env.convert_byte_array(&request_bytes) {
-                Ok(b) => b,
-                Err(e) => {
-                    log::error!("Failed to read command bytes: {e}");
+            let jvm = match env.get_java_vm() {
+                Ok(jvm) => Arc::new(jvm),
+                Err(_) => {
+                    log::error!("JVM error in executeEncodedCommandAsync");
                     return Some(());
                 }
             };
+            let binary_mode = expect_utf8 == 0;
 
-            if raw_bytes.is_empty() {
-                log::error!("Empty command request bytes");
-                return Some(());
-            }
-
-            // Parse actual protobuf CommandRequest using existing glide-core logic
-            let command_request = match protobuf_bridge::parse_command_request(&raw_bytes) {
-                Ok(r) => r,
-                Err(e) => {
-                    log::error!("Failed to parse protobuf command request: {e}");
+            let address = match env.get_direct_buffer_address(&request) {
+                Ok(address) if !address.is_null() && length > 0 => address,
+                _ => {
+                    jni_client::complete_callback(
+                        jvm,
+                        client_ptr as u64,
+                        callback_id,
+                        Err(redis::RedisError::from((
+                            redis::ErrorKind::ClientError,
+                            "Invalid command request buffer",
+                        ))),
+                        binary_mode,
+                    );
                     return Some(());
                 }
             };
+            let bytes = unsafe { std::slice::from_raw_parts(address, length as usize) };
 
-            let handle_id = client_ptr as u64;
-
-            // Get JVM for callback completion
-            let jvm = match env.get_java_vm() {
-                Ok(jvm) => Arc::new(jvm),
-                Err(_) => {
-                    log::error!("JVM error in executeCommandAsync");
+            let command = match external_argument_slices(&mut env, &external_args)
+                .and_then(|external_args| command_encoding::decode_command(bytes, &external_args))
+            {
+                Ok(command) => command,
+                Err(e) => {
+                    jni_client::complete_callback(
+                        jvm,
+                        client_ptr as u64,
+                        callback_id,
+                        Err(redis::RedisError::from((
+                            redis::ErrorKind::ClientError,
+                            "Failed to create command",
+                            e.to_string(),
+                        ))),
+                        binary_mode,
+                    );
                     return Some(());
                 }
             };
-            // Spawn unified async executor
-            let runtime = get_runtime();
-            let expect_utf8 = true; // executeCommandAsync expects UTF-8 decoding
-            runtime.spawn(execute_command_request_and_complete(
+
+            let handle_id = client_ptr as u64;
+            get_runtime().spawn(execute_encoded_command_and_complete(
                 handle_id,
-                command_request,
+                command,
                 callback_id,
                 jvm,
-                expect_utf8,
+                !binary_mode,
             ));
 
             Some(())
         },
-        "executeCommandAsync",
+        "executeEncodedCommandAsync",
     )
     .unwrap_or(())
 }
@@ -1554,6 +1393,63 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_markTimedOut(
     jni_client::mark_callback_timed_out(callback_id);
 }
 
+/// Size the callback worker pool, optionally pin its threads to CPUs, and set how results are
+/// batched into upcalls. Non-positive sizes select the defaults.
+///
+/// Must be called before the first client is created to take effect. Returns false if the workers
+/// are already configured differently.
+#[unsafe(no_mangle)]
+pub extern "system" fn Java_glide_internal_GlideNativeBridge_configureCallbackWorkers(
+    env: JNIEnv,
+    _class: JClass,
+    threads: jint,
+    cpus: JIntArray,
+    max_batch_size: jint,
+    batch_window_micros: jint,
+) -> jni::sys::jboolean {
+    handle_panics(
+        move || {
+            let cpus: Vec<usize> = if cpus.is_null() {
+                Vec::new()
+            } else {
+                let length = match env.get_array_length(&cpus) {
+                    Ok(length) => length as usize,
+                    Err(e) => {
+                        log::error!("Failed to read callback worker CPUs: {e}");
+                        return Some(0);
+                    }
+                };
+                let mut values = vec![0 as jint; length];
+                if let Err(e) = env.get_int_array_region(&cpus, 0, &mut values) {
+                    log::error!("Failed to read callback worker CPUs: {e}");
+                    return Some(0);
+                }
+                values.into_iter().map(|cpu| cpu.max(0) as usize).collect()
+            };
+            let threads = if threads > 0 {
+                threads as usize
+            } else {
+                jni_client::default_callback_worker_threads()
+            };
+            let max_batch_size = if max_batch_size > 0 {
+                max_batch_size as usize
+            } else {
+                jni_client::DEFAULT_CALLBACK_BATCH_SIZE
+            };
+            let batch_window = std::time::Duration::from_micros(batch_window_micros.max(0) as u64);
+            let applied = jni_client::configure_callback_workers(jni_client::CallbackWorkerConfig {
+                threads,
+                cpus,
+                max_batch_size,
+                batch_window,
+            });
+            Some(applied as jni::sys::jboolean)
+        },
+        "configureCallbackWorkers",
+    )
+    .unwrap_or(0)
+}
+
 /// Execute a batch (pipeline/transaction) asynchronously using FFI-imported logic
 #[unsafe(no_mangle)]
 pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeBatchAsync(
@@ -1562,6 +1458,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeBatchAsync(
     client_ptr: jlong,
     batch_request_bytes: JByteArray,
     expect_utf8: jni::sys::jboolean,
+    compress_values: jni::sys::jboolean,
     callback_id: jlong,
 ) {
     handle_panics(
@@ -1634,9 +1531,13 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeBatchAsync(
                                 pipeline.atomic();
                             }
 
-                            // Add commands to pipeline using existing bridge logic
+                            // Add commands to pipeline using existing bridge logic, compressing
+                            // values like single commands do if the client opted in
+                            let compression_manager = client.compression_manager();
+                            let compress_with =
+                                compression_manager.as_deref().filter(|_| compress_values != 0);
                             for cmd in &batch.commands {
-                                match protobuf_bridge::create_valkey_command(cmd) {
+                                match protobuf_bridge::create_valkey_command(cmd, compress_with) {
                                     Ok(valkey_cmd) => pipeline.add_command(valkey_cmd),
                                     Err(e) => {
                                         return Err(redis::RedisError::from((
@@ -1715,12 +1616,14 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeBatchAsync(
                                     }
                                 }
                             }
-                            exec_res
+                            exec_res.map(|value| {
+                                decompress_batch_response(value, compression_manager.as_deref())
+                            })
                         }
                         .await;
 
                         let binary_mode = expect_utf8 == 0;
-                        complete_callback(jvm, callback_id, result, binary_mode);
+                        complete_callback(jvm, handle_id, callback_id, result, binary_mode);
                     }
                     Err(err) => {
                         let error = Err(redis::RedisError::from((
@@ -1729,7 +1632,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeBatchAsync(
                             err.to_string(),
                         )));
                         let binary_mode = expect_utf8 == 0;
-                        complete_callback(jvm, callback_id, error, binary_mode);
+                        complete_callback(jvm, handle_id, callback_id, error, binary_mode);
                     }
                 }
             });
@@ -1741,65 +1644,6 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeBatchAsync(
     .unwrap_or(())
 }
 
-/// Execute a binary command asynchronously
-#[unsafe(no_mangle)]
-pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeBinaryCommandAsync(
-    env: JNIEnv,
-    _class: JClass,
-    client_ptr: jlong,
-    request_bytes: JByteArray,
-    callback_id: jlong,
-) {
-    handle_panics(
-        move || {
-            let raw_bytes = match env.convert_byte_array(&request_bytes) {
-                Ok(b) => b,
-                Err(e) => {
-                    log::error!("Failed to read binary command bytes: {e}");
-                    return Some(());
-                }
-            };
-
-            if raw_bytes.is_empty() {
-                log::error!("Empty binary command request bytes");
-                return Some(());
-            }
-
-            // Parse protobuf CommandRequest using existing bridge logic
-            let command_request = match protobuf_bridge::parse_command_request(&raw_bytes) {
-                Ok(r) => r,
-                Err(e) => {
-                    log::error!("Failed to parse binary protobuf command request: {e}");
-                    return Some(());
-                }
-            };
-
-            let handle_id = client_ptr as u64;
-            let jvm = match env.get_java_vm() {
-                Ok(jvm) => Arc::new(jvm),
-                Err(_) => {
-                    log::error!("JVM error in executeBinaryCommandAsync");
-                    return Some(());
-                }
-            };
-            // Spawn unified async executor
-            let runtime = get_runtime();
-            let expect_utf8 = false; // binary entrypoint expects binary decoding
-            runtime.spawn(execute_command_request_and_complete(
-                handle_id,
-                command_request,
-                callback_id,
-                jvm,
-                expect_utf8,
-            ));
-
-            Some(())
-        },
-        "executeBinaryCommandAsync",
-    )
-    .unwrap_or(())
-}
-
 /// Execute a script asynchronously using FFI-imported logic
 #[unsafe(no_mangle)]
 pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeScriptAsync(
@@ -1832,6 +1676,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeScriptAsync(
                     log::error!("Failed to read script hash: {e}");
                     complete_callback(
                         jvm,
+                        handle_id as u64,
                         callback_id,
                         Err(redis::RedisError::from((
                             redis::ErrorKind::ClientError,
@@ -1872,6 +1717,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeScriptAsync(
                     log::error!("Failed to extract script keys: {e}");
                     complete_callback(
                         jvm,
+                        handle_id as u64,
                         callback_id,
                         Err(redis::RedisError::from((
                             redis::ErrorKind::ClientError,
@@ -1912,6 +1758,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeScriptAsync(
                     log::error!("Failed to extract script args: {e}");
                     complete_callback(
                         jvm,
+                        handle_id as u64,
                         callback_id,
                         Err(redis::RedisError::from((
                             redis::ErrorKind::ClientError,
@@ -2004,6 +1851,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeScriptAsync(
                                 Err(e) => {
                                     complete_callback(
                                         jvm,
+                                        client_handle_id,
                                         callback_id,
                                         Err(redis::RedisError::from((
                                             redis::ErrorKind::ClientError,
@@ -2031,6 +1879,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeScriptAsync(
                                 Err(e) => {
                                     complete_callback(
                                         jvm,
+                                        client_handle_id,
                                         callback_id,
                                         Err(redis::RedisError::from((
                                             redis::ErrorKind::ClientError,
@@ -2061,7 +1910,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeScriptAsync(
                             });
 
                         let binary_mode = expect_utf8 == 0;
-                        complete_callback(jvm, callback_id, result, binary_mode);
+                        complete_callback(jvm, client_handle_id, callback_id, result, binary_mode);
                     }
                     Err(err) => {
                         let error = Err(redis::RedisError::from((
@@ -2070,7 +1919,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeScriptAsync(
                             err.to_string(),
                         )));
                         let binary_mode = expect_utf8 == 0;
-                        complete_callback(jvm, callback_id, error, binary_mode);
+                        complete_callback(jvm, client_handle_id, callback_id, error, binary_mode);
                     }
                 }
             });
@@ -2124,7 +1973,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_updateConnectionPas
                                 ))
                             });
 
-                        complete_callback(jvm, callback_id, result, false);
+                        complete_callback(jvm, handle_id, callback_id, result, false);
                     }
                     Err(err) => {
                         let error = Err(redis::RedisError::from((
@@ -2132,7 +1981,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_updateConnectionPas
                             "Client not found",
                             err.to_string(),
                         )));
-                        complete_callback(jvm, callback_id, error, false);
+                        complete_callback(jvm, handle_id, callback_id, error, false);
                     }
                 }
             });
@@ -2180,7 +2029,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_refreshIamToken(
                                     e.to_string(),
                                 ))
                             });
-                        complete_callback(jvm, callback_id, result, false);
+                        complete_callback(jvm, handle_id, callback_id, result, false);
                     }
                     Err(err) => {
                         let error = Err(redis::RedisError::from((
@@ -2188,7 +2037,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_refreshIamToken(
                             "Client not found",
                             err.to_string(),
                         )));
-                        complete_callback(jvm, callback_id, error, false);
+                        complete_callback(jvm, handle_id, callback_id, error, false);
                     }
                 }
             });
@@ -2234,6 +2083,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeClusterScanA
                         log::error!("Failed to read cursor ID: {e}");
                         complete_callback(
                             jvm,
+                            client_ptr as u64,
                             callback_id,
                             Err(redis::RedisError::from((
                                 redis::ErrorKind::ClientError,
@@ -2257,6 +2107,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeClusterScanA
                         log::error!("Failed to read match pattern: {e}");
                         complete_callback(
                             jvm,
+                            client_ptr as u64,
                             callback_id,
                             Err(redis::RedisError::from((
                                 redis::ErrorKind::ClientError,
@@ -2280,6 +2131,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeClusterScanA
                         log::error!("Failed to read object type: {e}");
                         complete_callback(
                             jvm,
+                            client_ptr as u64,
                             callback_id,
                             Err(redis::RedisError::from((
                                 redis::ErrorKind::ClientError,
@@ -2315,6 +2167,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeClusterScanA
                                 Err(e) => {
                                     complete_callback(
                                         jvm,
+                                        client_handle_id,
                                         callback_id,
                                         Err(redis::RedisError::from((
                                             redis::ErrorKind::ClientError,
@@ -2356,7 +2209,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeClusterScanA
 
                         // binary_mode = !expect_utf8
                         let binary_mode = expect_utf8 == 0;
-                        complete_callback(jvm, callback_id, result, binary_mode);
+                        complete_callback(jvm, client_handle_id, callback_id, result, binary_mode);
                     }
                     Err(err) => {
                         let error = Err(redis::RedisError::from((
@@ -2365,7 +2218,7 @@ pub extern "system" fn Java_glide_internal_GlideNativeBridge_executeClusterScanA
                             err.to_string(),
                         )));
                         let binary_mode = expect_utf8 == 0;
-                        complete_callback(jvm, callback_id, error, binary_mode);
+                        complete_callback(jvm, client_handle_id, callback_id, error, binary_mode);
                     }
                 }
             });
@@ -2519,10 +2372,6 @@ pub(crate) fn cleanup_global_caches() {
     if let Some(cache_mutex) = JAVA_VALUE_CONVERSION_CACHE.get() {
         *cache_mutex.lock() = None;
     }
-
-    if let Some(cache_mutex) = REGISTRY_METHOD_CACHE.get() {
-        *cache_mutex.lock() = None;
-    }
 }
 
 fn to_local_jclass<'a>(env: &mut JNIEnv<'a>, global: &GlobalRef) -> Result<JClass<'a>, FFIError> {
@@ -9,6 +9,9 @@ use redis::cluster_routing::{ResponsePolicy, Routable};
 use redis::{Cmd, RedisError, RedisResult};
 
 // Reuse existing protobuf types from glide-core (no wrapper types needed)
+use glide_core::compression::{
+    CommandCompressionBehavior, CompressionManager, process_command_args_for_compression,
+};
 use glide_core::command_request::SimpleRoutes;
 use glide_core::command_request::SlotTypes;
 pub use glide_core::command_request::{Command, CommandRequest, Routes, command_request};
@@ -20,8 +23,13 @@ pub fn parse_command_request(bytes: &[u8]) -> Result<CommandRequest> {
 }
 
 /// Since socket_listener functions are private, we'll need to access the core request_type logic
-/// This reuses the same pattern as socket_listener but makes it accessible for JNI
-pub fn create_valkey_command(command: &Command) -> Result<redis::Cmd> {
+/// This reuses the same pattern as socket_listener but makes it accessible for JNI. Values of
+/// commands that compress them (e.g. SET) are compressed with `compression_manager`, like
+/// socket_listener does for batch commands.
+pub fn create_valkey_command(
+    command: &Command,
+    compression_manager: Option<&CompressionManager>,
+) -> Result<redis::Cmd> {
     // Get the command using the same logic as socket_listener
     let request_type: glide_core::request_type::RequestType = command.request_type.into();
     let Some(mut cmd) = request_type.get_command() else {
@@ -34,15 +42,21 @@ pub fn create_valkey_command(command: &Command) -> Result<redis::Cmd> {
     // Add arguments using the same logic as socket_listener
     match &command.args {
         Some(glide_core::command_request::command::Args::ArgsArray(args_vec)) => {
-            for arg in args_vec.args.iter() {
-                cmd.arg(arg.as_ref());
-            }
+            add_args(
+                &mut cmd,
+                args_vec.args.iter().map(|arg| &arg[..]),
+                request_type,
+                compression_manager,
+            )?;
         }
         Some(glide_core::command_request::command::Args::ArgsVecPointer(pointer)) => {
             let res = unsafe { *Box::from_raw(*pointer as *mut Vec<bytes::Bytes>) };
-            for arg in res {
-                cmd.arg(arg.as_ref());
-            }
+            add_args(
+                &mut cmd,
+                res.iter().map(|arg| &arg[..]),
+                request_type,
+                compression_manager,
+            )?;
         }
         None => {
             return Err(anyhow!(
@@ -64,6 +78,30 @@ pub fn create_valkey_command(command: &Command) -> Result<redis::Cmd> {
     Ok(cmd)
 }
 
+/// Append `args` to `cmd`, compressing them first if the request type compresses its values.
+fn add_args<'a>(
+    cmd: &mut Cmd,
+    args: impl Iterator<Item = &'a [u8]>,
+    request_type: glide_core::request_type::RequestType,
+    compression_manager: Option<&CompressionManager>,
+) -> Result<()> {
+    let compress = compression_manager.is_some_and(|manager| manager.is_enabled())
+        && request_type.compression_behavior() == CommandCompressionBehavior::CompressValues;
+    if !compress {
+        for arg in args {
+            cmd.arg(arg);
+        }
+        return Ok(());
+    }
+    let mut owned: Vec<Vec<u8>> = args.map(<[u8]>::to_vec).collect();
+    process_command_args_for_compression(&mut owned, request_type, compression_manager)
+        .map_err(|e| anyhow!("Failed to compress batch command arguments: {}", e))?;
+    for arg in &owned {
+        cmd.arg(arg.as_slice());
+    }
+    Ok(())
+}
+
 fn get_slot_addr(slot_type: &protobuf::EnumOrUnknown<SlotTypes>) -> Result<SlotAddr, RedisError> {
     slot_type
         .enum_value()